@@ -9,6 +9,8 @@ import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -17,26 +19,35 @@ import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableConstructor;
 import org.joda.beans.gen.PropertyDefinition;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
+import com.opengamma.strata.collect.ArgChecker;
+
 /**
  * A holiday calendar implementation that combines two other calendars.
  * <p>
  * This immutable implementation of {@link HolidayCalendar} stores two underlying calendars.
  * A date is a holiday if either calendar defines it as a holiday.
  * <p>
- * This implementation is intended for short-lived queries.
- * To combine two calendars for the long-term, such as in a static constant,
- * see {@link ImmutableHolidayCalendar#combined(ImmutableHolidayCalendar, ImmutableHolidayCalendar)}.
+ * When both underlying calendars are immutable, or are themselves combined immutable calendars,
+ * they are fused into a single {@link ImmutableHolidayCalendar} using
+ * {@link ImmutableHolidayCalendar#combined(ImmutableHolidayCalendar, ImmutableHolidayCalendar)}.
+ * The fused calendar is cached by identifier, and is used to answer all queries.
  */
 @BeanDefinition(builderScope = "private", constructorScope = "package")
 final class CombinedHolidayCalendar
     implements HolidayCalendar, ImmutableBean, Serializable {
 
+  /**
+   * The cache of fused calendars, keyed by the combined identifier.
+   */
+  private static final ConcurrentMap<HolidayCalendarId, FusedCalendar> FUSED_CACHE = new ConcurrentHashMap<>();
+
   /**
    * The first underlying calendar.
    */
@@ -47,6 +58,58 @@ final class CombinedHolidayCalendar
    */
   @PropertyDefinition(validate = "notNull")
   private final HolidayCalendar calendar2;
+  /**
+   * The fused calendar, null if the underlying calendars cannot be fused.
+   */
+  private final transient ImmutableHolidayCalendar fused;  // derived
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance.
+   * 
+   * @param calendar1  the first underlying calendar
+   * @param calendar2  the second underlying calendar
+   */
+  @ImmutableConstructor
+  CombinedHolidayCalendar(HolidayCalendar calendar1, HolidayCalendar calendar2) {
+    this.calendar1 = ArgChecker.notNull(calendar1, "calendar1");
+    this.calendar2 = ArgChecker.notNull(calendar2, "calendar2");
+    this.fused = fuse(calendar1, calendar2);
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new CombinedHolidayCalendar(calendar1, calendar2);
+  }
+
+  // fuses the calendars if possible, using the cache
+  private static ImmutableHolidayCalendar fuse(HolidayCalendar calendar1, HolidayCalendar calendar2) {
+    ImmutableHolidayCalendar fusable1 = fusable(calendar1);
+    ImmutableHolidayCalendar fusable2 = fusable(calendar2);
+    if (fusable1 == null || fusable2 == null) {
+      return null;
+    }
+    HolidayCalendarId id = fusable1.getId().combinedWith(fusable2.getId());
+    FusedCalendar cached = FUSED_CACHE.get(id);
+    if (cached != null && cached.matches(fusable1, fusable2)) {
+      return cached.fused;
+    }
+    // the cache is checked by identity, as calendars with the same identifier may have different holidays
+    FusedCalendar created = new FusedCalendar(fusable1, fusable2, ImmutableHolidayCalendar.combined(fusable1, fusable2));
+    FUSED_CACHE.put(id, created);
+    return created.fused;
+  }
+
+  // the form of the calendar that can be fused, null if not possible
+  private static ImmutableHolidayCalendar fusable(HolidayCalendar calendar) {
+    if (calendar instanceof ImmutableHolidayCalendar) {
+      return (ImmutableHolidayCalendar) calendar;
+    }
+    if (calendar instanceof CombinedHolidayCalendar) {
+      return ((CombinedHolidayCalendar) calendar).fused;
+    }
+    return null;
+  }
 
   //-------------------------------------------------------------------------
   @Override
@@ -56,14 +119,75 @@ final class CombinedHolidayCalendar
 
   @Override
   public boolean isHoliday(LocalDate date) {
+    if (fused != null) {
+      return fused.isHoliday(date);
+    }
     return calendar1.isHoliday(date) || calendar2.isHoliday(date);
   }
 
+  @Override
+  public LocalDate shift(LocalDate date, int amount) {
+    return fused != null ? fused.shift(date, amount) : HolidayCalendar.super.shift(date, amount);
+  }
+
+  @Override
+  public LocalDate next(LocalDate date) {
+    return fused != null ? fused.next(date) : HolidayCalendar.super.next(date);
+  }
+
+  @Override
+  public LocalDate previous(LocalDate date) {
+    return fused != null ? fused.previous(date) : HolidayCalendar.super.previous(date);
+  }
+
+  @Override
+  public LocalDate nextSameOrLastInMonth(LocalDate date) {
+    return fused != null ? fused.nextSameOrLastInMonth(date) : HolidayCalendar.super.nextSameOrLastInMonth(date);
+  }
+
+  @Override
+  public boolean isLastBusinessDayOfMonth(LocalDate date) {
+    return fused != null ? fused.isLastBusinessDayOfMonth(date) : HolidayCalendar.super.isLastBusinessDayOfMonth(date);
+  }
+
+  @Override
+  public LocalDate lastBusinessDayOfMonth(LocalDate date) {
+    return fused != null ? fused.lastBusinessDayOfMonth(date) : HolidayCalendar.super.lastBusinessDayOfMonth(date);
+  }
+
+  @Override
+  public int daysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+    return fused != null ?
+        fused.daysBetween(startInclusive, endExclusive) :
+        HolidayCalendar.super.daysBetween(startInclusive, endExclusive);
+  }
+
   @Override
   public String toString() {
     return "HolidayCalendar[" + getName() + ']';
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * A fused calendar, with the calendars it was created from.
+   */
+  private static final class FusedCalendar {
+    private final ImmutableHolidayCalendar source1;
+    private final ImmutableHolidayCalendar source2;
+    private final ImmutableHolidayCalendar fused;
+
+    private FusedCalendar(ImmutableHolidayCalendar source1, ImmutableHolidayCalendar source2, ImmutableHolidayCalendar fused) {
+      this.source1 = source1;
+      this.source2 = source2;
+      this.fused = fused;
+    }
+
+    // checks if the fused calendar was created from the specified calendars, in either order
+    private boolean matches(ImmutableHolidayCalendar calendar1, ImmutableHolidayCalendar calendar2) {
+      return (source1 == calendar1 && source2 == calendar2) || (source1 == calendar2 && source2 == calendar1);
+    }
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   /**
    * The meta-bean for {@code CombinedHolidayCalendar}.
@@ -82,20 +206,6 @@ final class CombinedHolidayCalendar
    */
   private static final long serialVersionUID = 1L;
 
-  /**
-   * Creates an instance.
-   * @param calendar1  the value of the property, not null
-   * @param calendar2  the value of the property, not null
-   */
-  CombinedHolidayCalendar(
-      HolidayCalendar calendar1,
-      HolidayCalendar calendar2) {
-    JodaBeanUtils.notNull(calendar1, "calendar1");
-    JodaBeanUtils.notNull(calendar2, "calendar2");
-    this.calendar1 = calendar1;
-    this.calendar2 = calendar2;
-  }
-
   @Override
   public CombinedHolidayCalendar.Meta metaBean() {
     return CombinedHolidayCalendar.Meta.INSTANCE;
@@ -27,6 +27,7 @@ import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableConstructor;
 import org.joda.beans.gen.PropertyDefinition;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
@@ -80,6 +81,10 @@ public final class ImmutableHolidayCalendar
    * The serialization version id.
    */
   private static final long serialVersionUID = 2L;
+  /**
+   * The shift amount above which the cumulative business day count is used.
+   */
+  private static final int SHIFT_BY_COUNT_THRESHOLD = 16;
 
   /**
    * The identifier, such as 'GBLO'.
@@ -106,6 +111,13 @@ public final class ImmutableHolidayCalendar
    */
   @PropertyDefinition(validate = "notNull", get = "")
   private final int[] lookup;
+  /**
+   * The cumulative business day count, where each item is the number of business days
+   * in the lookup table before the matching month.
+   * There is one more item than in the lookup table, which is the total number of business days.
+   * This allows counting and large shifts without looping around the months.
+   */
+  private final transient int[] businessDayCounts;  // derived
 
   //-------------------------------------------------------------------------
   /**
@@ -190,6 +202,8 @@ public final class ImmutableHolidayCalendar
    * <p>
    * This combines the two input calendars.
    * It is intended for up-front occasional use rather than continuous use, as it can be relatively slow.
+   * A {@linkplain HolidayCalendar#combinedWith(HolidayCalendar) combined calendar} of immutable calendars
+   * uses this method internally, caching the result.
    * 
    * @param cal1  the first calendar
    * @param cal2  the second calendar
@@ -217,24 +231,37 @@ public final class ImmutableHolidayCalendar
       return of(newId, newHolidays, newWeekends, newWorkingDays);
     }
 
-    // merge calendars using bitwise operations
-    // figure out which has the lower start year and use that as the base
-    boolean cal1Lower = cal1.startYear <= cal2.startYear;
-    int[] lookup1 = cal1Lower ? cal1.lookup : cal2.lookup;
-    int[] lookup2 = cal1Lower ? cal2.lookup : cal1.lookup;
-    int newStartYear = cal1Lower ? cal1.startYear : cal2.startYear;
-    int otherStartYear = cal1Lower ? cal2.startYear : cal1.startYear;
-    // copy base array and map data from the other on top
-    int newSize = Math.max(lookup1.length, lookup2.length + (otherStartYear - newStartYear) * 12);
-    int offset = (otherStartYear - newStartYear) * 12;
-    int[] newLookup = Arrays.copyOf(lookup1, newSize);
-    for (int i = 0; i < lookup2.length; i++) {
-      newLookup[i + offset] &= lookup2[i]; // use & because 1 = business day (not holiday)
+    // merge calendars using bitwise operations over the union of the two ranges
+    // outside its own range, each calendar only has weekends, which must be merged too
+    int newStartYear = Math.min(cal1.startYear, cal2.startYear);
+    int newEndYear = Math.max(endYear1, endYear2);
+    int[] newLookup = new int[(newEndYear - newStartYear) * 12];
+    for (int i = 0; i < newLookup.length; i++) {
+      int year = newStartYear + i / 12;
+      int month = i % 12 + 1;
+      newLookup[i] = cal1.monthData(year, month) & cal2.monthData(year, month); // use & because 1 = business day
     }
     int newWeekends = cal1.weekends | cal2.weekends; // use | because 1 = weekend day
     return new ImmutableHolidayCalendar(newId, newWeekends, newStartYear, newLookup, false);
   }
 
+  // the lookup data for the month, using the weekends if the month is not in the lookup table
+  private int monthData(int year, int month) {
+    int index = (year - startYear) * 12 + month - 1;
+    if (index >= 0 && index < lookup.length) {
+      return lookup[index];
+    }
+    LocalDate firstOfMonth = LocalDate.of(year, month, 1);
+    int firstDow = firstOfMonth.getDayOfWeek().ordinal();
+    int monthData = 0;
+    for (int dom0 = 0; dom0 < firstOfMonth.lengthOfMonth(); dom0++) {
+      if ((weekends & (1 << ((firstDow + dom0) % 7))) == 0) {
+        monthData |= 1 << dom0;
+      }
+    }
+    return monthData;
+  }
+
   // creates an instance calculating the supported range
   static ImmutableHolidayCalendar of(
       HolidayCalendarId id,
@@ -333,12 +360,33 @@ public final class ImmutableHolidayCalendar
   }
 
   //-------------------------------------------------------------------------
+  // creates an instance, cloning the lookup
+  @ImmutableConstructor
+  private ImmutableHolidayCalendar(HolidayCalendarId id, int weekends, int startYear, int[] lookup) {
+    this(id, weekends, startYear, ArgChecker.notNull(lookup, "lookup").clone(), false);
+  }
+
   // creates an instance, not cloning the lookup
   ImmutableHolidayCalendar(HolidayCalendarId id, int weekendDays, int startYear, int[] lookup, boolean flag) {
     this.id = ArgChecker.notNull(id, "id");
     this.weekends = weekendDays;
     this.startYear = startYear;
     this.lookup = ArgChecker.notNull(lookup, "lookup");
+    this.businessDayCounts = buildBusinessDayCounts(lookup);
+  }
+
+  // create the cumulative business day count
+  private static int[] buildBusinessDayCounts(int[] lookup) {
+    int[] counts = new int[lookup.length + 1];
+    for (int i = 0; i < lookup.length; i++) {
+      counts[i + 1] = counts[i] + Integer.bitCount(lookup[i]);
+    }
+    return counts;
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new ImmutableHolidayCalendar(id, weekends, startYear, lookup, false);
   }
 
   //-------------------------------------------------------------------------
@@ -418,7 +466,9 @@ public final class ImmutableHolidayCalendar
   @Override
   public LocalDate shift(LocalDate date, int amount) {
     try {
-      if (amount > 0) {
+      if (amount > SHIFT_BY_COUNT_THRESHOLD || amount < -SHIFT_BY_COUNT_THRESHOLD) {
+        return shiftByCount(date, amount);
+      } else if (amount > 0) {
         // day-of-month: minus one for zero-based day-of-month, plus one to start from next day
         return shiftNext(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), amount);
       } else if (amount < 0) {
@@ -432,6 +482,40 @@ public final class ImmutableHolidayCalendar
     }
   }
 
+  // shift using the cumulative business day count, avoiding a loop over each business day
+  private LocalDate shiftByCount(LocalDate date, int amount) {
+    int index = (date.getYear() - startYear) * 12 + date.getMonthValue() - 1;
+    int dom = date.getDayOfMonth();
+    // find the zero-based position of the target business day in the lookup table
+    int target = businessDaysBefore(index, dom) + amount;
+    if (amount > 0) {
+      // adjust by the input date, which is counted only if it is a business day
+      target += ((lookup[index] >>> (dom - 1)) & 1) - 1;
+    }
+    int total = businessDayCounts[lookup.length];
+    if (target < 0 || target >= total) {
+      return shiftOutOfRange(date, amount);
+    }
+    // binary search for the last month starting at or before the target
+    // months without business days share a count with the next month, thus taking the last one is necessary
+    int low = 0;
+    int high = lookup.length - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (businessDayCounts[mid] <= target) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    // clear the lowest business days in the month until the target is the lowest
+    int monthData = lookup[low];
+    for (int i = target - businessDayCounts[low]; i > 0; i--) {
+      monthData &= monthData - 1;
+    }
+    return LocalDate.of(startYear + low / 12, low % 12 + 1, Integer.numberOfTrailingZeros(monthData) + 1);
+  }
+
   // pulled out to aid hotspot inlining
   private LocalDate shiftOutOfRange(LocalDate date, int amount) {
     if (date.getYear() >= 0 && date.getYear() < 10000) {
@@ -613,30 +697,23 @@ public final class ImmutableHolidayCalendar
       // find data for start and end month
       int startIndex = (startInclusive.getYear() - startYear) * 12 + startInclusive.getMonthValue() - 1;
       int endIndex = (endExclusive.getYear() - startYear) * 12 + endExclusive.getMonthValue() - 1;
-      
-      // count of first month = ones after day of month inclusive
-      // e.g 4th day of month - want holidays from index 3 inclusive
-      int start = Integer.bitCount(lookup[startIndex] >>> (startInclusive.getDayOfMonth() - 1));
-      // count of last month = ones before day of month exclusive == total for month - ones after end inclusive
-      int missingEnd = Integer.bitCount(lookup[endIndex] >>> (endExclusive.getDayOfMonth() - 1));
-      if (startIndex == endIndex) {
-        // same month - return holidays up to end exclusive 
-        return start - missingEnd;
-      }
-      
-      int end = Integer.bitCount(lookup[endIndex]) - missingEnd;
-      // otherwise add start and end month counts, and sum months between
-      int count = start + end;
-      for (int i = startIndex + 1; i < endIndex; i++) {
-        count += Integer.bitCount(lookup[i]);
-      }
-      return count;
+      // difference in the count of business days before each date
+      return businessDaysBefore(endIndex, endExclusive.getDayOfMonth()) -
+          businessDaysBefore(startIndex, startInclusive.getDayOfMonth());
 
     } catch (ArrayIndexOutOfBoundsException ex) {
       return daysBetweenOutOfRange(startInclusive, endExclusive);
     }
   }
 
+  // the number of business days in the lookup table before the one-based day-of-month in the month at the index
+  // throws ArrayIndexOutOfBoundsException if the month is not in the lookup table
+  private int businessDaysBefore(int index, int dom) {
+    // count of month = ones before day of month exclusive
+    // e.g 4th day of month - want business days from index 0 to 2 inclusive
+    return businessDayCounts[index] + Integer.bitCount(lookup[index] & ((1 << (dom - 1)) - 1));
+  }
+
   // pulled out to aid hotspot inlining
   private int daysBetweenOutOfRange(LocalDate startInclusive, LocalDate endExclusive) {
     if (startInclusive.getYear() >= 0 && startInclusive.getYear() < 10000 &&
@@ -689,19 +766,6 @@ public final class ImmutableHolidayCalendar
     MetaBean.register(ImmutableHolidayCalendar.Meta.INSTANCE);
   }
 
-  private ImmutableHolidayCalendar(
-      HolidayCalendarId id,
-      int weekends,
-      int startYear,
-      int[] lookup) {
-    JodaBeanUtils.notNull(id, "id");
-    JodaBeanUtils.notNull(lookup, "lookup");
-    this.id = id;
-    this.weekends = weekends;
-    this.startYear = startYear;
-    this.lookup = lookup.clone();
-  }
-
   @Override
   public ImmutableHolidayCalendar.Meta metaBean() {
     return ImmutableHolidayCalendar.Meta.INSTANCE;
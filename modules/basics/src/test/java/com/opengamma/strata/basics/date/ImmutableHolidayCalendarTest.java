@@ -31,6 +31,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.collect.io.ResourceLocator;
 
 /**
@@ -473,6 +474,18 @@ public class ImmutableHolidayCalendarTest {
     assertThat(test.isHoliday(WED_2018_07_18)).isEqualTo(false);
   }
 
+  @Test
+  public void test_combined_differentEndYear() {
+    Iterable<LocalDate> holidays1 = Arrays.asList(MON_2014_07_14);
+    ImmutableHolidayCalendar base1 = ImmutableHolidayCalendar.of(TEST_ID, holidays1, SATURDAY, SUNDAY);
+    Iterable<LocalDate> holidays2 = Arrays.asList(TUE_2014_07_15, TUE_2018_07_17);
+    ImmutableHolidayCalendar base2 = ImmutableHolidayCalendar.of(TEST_ID2, holidays2, FRIDAY, SATURDAY);
+    HolidayCalendar test = ImmutableHolidayCalendar.combined(base1, base2);
+    for (LocalDate date = date(2013, 1, 1); date.isBefore(date(2020, 1, 1)); date = date.plusDays(1)) {
+      assertThat(test.isHoliday(date)).as(date.toString()).isEqualTo(base1.isHoliday(date) || base2.isHoliday(date));
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_isBusinessDay_outOfRange() {
@@ -573,6 +586,31 @@ public class ImmutableHolidayCalendarTest {
     assertThatIllegalArgumentException().isThrownBy(() -> HOLCAL_MON_WED.shift(LocalDate.MAX.minusDays(1), 1));
   }
 
+  @Test
+  public void test_shift_large() {
+    HolidayCalendar test = HolidayCalendarIds.GBLO.resolve(ReferenceData.standard());
+    Random random = new Random(1);
+    for (int i = 0; i < 2000; i++) {
+      LocalDate date = date(1965, 1, 1).plusDays(random.nextInt(365 * 140));
+      int amount = (random.nextBoolean() ? 1 : -1) * (17 + random.nextInt(3000));
+      assertThat(test.shift(date, amount)).as(date + " " + amount).isEqualTo(shiftByWalk(test, date, amount));
+    }
+    // holidays are only known from 1950 to 2099 for GBLO
+    assertThat(test.shift(date(2099, 12, 1), 30)).isEqualTo(shiftByWalk(test, date(2099, 12, 1), 30));
+    assertThat(test.shift(date(1950, 1, 20), -30)).isEqualTo(shiftByWalk(test, date(1950, 1, 20), -30));
+  }
+
+  // shifts a day at a time
+  private static LocalDate shiftByWalk(HolidayCalendar calendar, LocalDate date, int amount) {
+    LocalDate result = date;
+    for (int i = 0; i < Math.abs(amount); i++) {
+      do {
+        result = result.plusDays(Integer.signum(amount));
+      } while (calendar.isHoliday(result));
+    }
+    return result;
+  }
+
   @ParameterizedTest
   @MethodSource("data_shift")
   public void test_adjustBy(LocalDate date, int amount, LocalDate expected) {
@@ -878,6 +916,18 @@ public class ImmutableHolidayCalendarTest {
     assertThat(HOLCAL_MON_WED.daysBetween(start, end)).isEqualTo(expected);
   }
 
+  @Test
+  public void test_daysBetween_large() {
+    HolidayCalendar test = HolidayCalendarIds.GBLO.resolve(ReferenceData.standard());
+    Random random = new Random(1);
+    for (int i = 0; i < 500; i++) {
+      LocalDate start = date(1945, 1, 1).plusDays(random.nextInt(365 * 160));
+      LocalDate end = start.plusDays(random.nextInt(365 * 10));
+      long expected = LocalDateUtils.stream(start, end).filter(test::isBusinessDay).count();
+      assertThat(test.daysBetween(start, end)).as(start + " " + end).isEqualTo(expected);
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_combinedWith() {
@@ -902,6 +952,44 @@ public class ImmutableHolidayCalendarTest {
     assertThat(test.isHoliday(MON_2014_07_21)).isEqualTo(false);
   }
 
+  @Test
+  public void test_combinedWith_fused() {
+    ReferenceData refData = ReferenceData.standard();
+    HolidayCalendar gblo = HolidayCalendarIds.GBLO.resolve(refData);
+    HolidayCalendar usny = HolidayCalendarIds.USNY.resolve(refData);
+    HolidayCalendar euta = HolidayCalendarIds.EUTA.resolve(refData);
+    HolidayCalendar test = HolidayCalendarId.of("GBLO+USNY+EUTA").resolve(refData);
+    assertThat(test).isInstanceOf(CombinedHolidayCalendar.class);
+    assertThat(test).isEqualTo(euta.combinedWith(gblo).combinedWith(usny));
+    HolidayCalendar expected = new HolidayCalendar() {
+      @Override
+      public boolean isHoliday(LocalDate date) {
+        return gblo.isHoliday(date) || usny.isHoliday(date) || euta.isHoliday(date);
+      }
+
+      @Override
+      public HolidayCalendarId getId() {
+        return test.getId();
+      }
+    };
+    for (LocalDate date = date(1945, 1, 1); date.isBefore(date(2105, 1, 1)); date = date.plusDays(1)) {
+      assertThat(test.isHoliday(date)).as(date.toString()).isEqualTo(expected.isHoliday(date));
+    }
+    Random random = new Random(1);
+    for (int i = 0; i < 500; i++) {
+      LocalDate date = date(1945, 1, 1).plusDays(random.nextInt(365 * 160));
+      int amount = random.nextInt(100) - 50;
+      assertThat(test.shift(date, amount)).isEqualTo(expected.shift(date, amount));
+      assertThat(test.next(date)).isEqualTo(expected.next(date));
+      assertThat(test.previous(date)).isEqualTo(expected.previous(date));
+      assertThat(test.nextSameOrLastInMonth(date)).isEqualTo(expected.nextSameOrLastInMonth(date));
+      assertThat(test.isLastBusinessDayOfMonth(date)).isEqualTo(expected.isLastBusinessDayOfMonth(date));
+      assertThat(test.lastBusinessDayOfMonth(date)).isEqualTo(expected.lastBusinessDayOfMonth(date));
+      assertThat(test.daysBetween(date, date.plusDays(amount + 50))).isEqualTo(expected.daysBetween(date, date.plusDays(amount + 50)));
+    }
+    assertSerialization(test);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_combineWith_same() {
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmarks;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+import static com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.ImmutableMarketDataBuilder;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveNode;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.curve.node.FixedIborSwapCurveNode;
+import com.opengamma.strata.market.curve.node.FixedOvernightSwapCurveNode;
+import com.opengamma.strata.market.curve.node.FraCurveNode;
+import com.opengamma.strata.market.curve.node.IborFixingDepositCurveNode;
+import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.Trade;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.deposit.type.IborFixingDepositTemplate;
+import com.opengamma.strata.product.fra.type.FraConventions;
+import com.opengamma.strata.product.fra.type.FraTemplate;
+import com.opengamma.strata.product.swap.type.FixedIborSwapTemplate;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapTemplate;
+
+/**
+ * Shared market data, curve definitions and trades used by the benchmarks.
+ * <p>
+ * The data is synthetic but representative: a two curve USD setup, calibrated to OIS
+ * and LIBOR 3M instruments, and a portfolio of fixed-float swaps and FRAs.
+ * All randomness is seeded so that every run uses identical inputs.
+ */
+public final class BenchmarkData {
+
+  /**
+   * The valuation date.
+   */
+  public static final LocalDate VAL_DATE = LocalDate.of(2015, 7, 21);
+  /**
+   * The reference data.
+   */
+  public static final ReferenceData REF_DATA = ReferenceData.standard();
+  /**
+   * The curve group name.
+   */
+  public static final CurveGroupName CURVE_GROUP_NAME = CurveGroupName.of("USD-DSCON-LIBOR3M");
+  /**
+   * The discounting and Fed Fund curve name.
+   */
+  public static final CurveName DSCON_CURVE_NAME = CurveName.of("USD-DSCON-OIS");
+  /**
+   * The LIBOR 3M curve name.
+   */
+  public static final CurveName FWD3_CURVE_NAME = CurveName.of("USD-LIBOR3M-FRAIRS");
+  /**
+   * The identifier of the discounting curve in scenario market data.
+   */
+  public static final CurveId DSCON_CURVE_ID = CurveId.of(CURVE_GROUP_NAME, DSCON_CURVE_NAME);
+  /**
+   * The identifier of the LIBOR 3M curve in scenario market data.
+   */
+  public static final CurveId FWD3_CURVE_ID = CurveId.of(CURVE_GROUP_NAME, FWD3_CURVE_NAME);
+  /**
+   * The market data lookup, linking currencies and indices to curves.
+   */
+  public static final RatesMarketDataLookup RATES_LOOKUP = RatesMarketDataLookup.of(
+      ImmutableMap.of(USD, DSCON_CURVE_ID),
+      ImmutableMap.of(USD_FED_FUND, DSCON_CURVE_ID, USD_LIBOR_3M, FWD3_CURVE_ID));
+
+  private static final String SCHEME = "BENCHMARK";
+  private static final String[] DSC_IDS = {
+      "OIS1M", "OIS2M", "OIS3M", "OIS6M", "OIS9M", "OIS1Y", "OIS18M", "OIS2Y",
+      "OIS3Y", "OIS4Y", "OIS5Y", "OIS6Y", "OIS7Y", "OIS8Y", "OIS9Y", "OIS10Y"};
+  private static final double[] DSC_QUOTES = {
+      0.00072000, 0.00082000, 0.00093000, 0.00090000, 0.00105000, 0.00118500, 0.00318650, 0.00318650,
+      0.00704000, 0.01121500, 0.01515000, 0.01845500, 0.02111000, 0.02332000, 0.02513500, 0.02668500};
+  private static final Period[] DSC_TENORS = {
+      Period.ofMonths(1), Period.ofMonths(2), Period.ofMonths(3), Period.ofMonths(6), Period.ofMonths(9),
+      Period.ofYears(1), Period.ofMonths(18), Period.ofYears(2), Period.ofYears(3), Period.ofYears(4),
+      Period.ofYears(5), Period.ofYears(6), Period.ofYears(7), Period.ofYears(8), Period.ofYears(9),
+      Period.ofYears(10)};
+  private static final String[] FWD3_IDS = {
+      "Fixing", "FRA3Mx6M", "FRA6Mx9M", "IRS1Y", "IRS2Y", "IRS3Y", "IRS4Y", "IRS5Y",
+      "IRS7Y", "IRS10Y", "IRS12Y", "IRS15Y", "IRS20Y", "IRS25Y", "IRS30Y"};
+  private static final double[] FWD3_QUOTES = {
+      0.00236600, 0.00258250, 0.00296050, 0.00294300, 0.00503000, 0.00939150, 0.01380800, 0.01732000,
+      0.02396200, 0.02930000, 0.03195000, 0.03423500, 0.03615500, 0.03696850, 0.03734500};
+  private static final Period[] FWD3_FRA_TENORS = {Period.ofMonths(3), Period.ofMonths(6)};
+  private static final Period[] FWD3_IRS_TENORS = {
+      Period.ofYears(1), Period.ofYears(2), Period.ofYears(3), Period.ofYears(4), Period.ofYears(5),
+      Period.ofYears(7), Period.ofYears(10), Period.ofYears(12), Period.ofYears(15), Period.ofYears(20),
+      Period.ofYears(25), Period.ofYears(30)};
+
+  /**
+   * Restricted constructor.
+   */
+  private BenchmarkData() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the curve group definition, using the specified interpolator for both curves.
+   *
+   * @param interpolator  the interpolator
+   * @return the curve group definition
+   */
+  public static RatesCurveGroupDefinition curveGroupDefinition(CurveInterpolator interpolator) {
+    List<CurveNode> dscNodes = new ArrayList<>();
+    for (int i = 0; i < DSC_IDS.length; i++) {
+      dscNodes.add(FixedOvernightSwapCurveNode.of(
+          FixedOvernightSwapTemplate.of(Period.ZERO, Tenor.of(DSC_TENORS[i]), USD_FIXED_1Y_FED_FUND_OIS),
+          quoteId(DSC_IDS[i])));
+    }
+    List<CurveNode> fwdNodes = new ArrayList<>();
+    fwdNodes.add(IborFixingDepositCurveNode.of(IborFixingDepositTemplate.of(USD_LIBOR_3M), quoteId(FWD3_IDS[0])));
+    for (int i = 0; i < FWD3_FRA_TENORS.length; i++) {
+      fwdNodes.add(FraCurveNode.of(FraTemplate.of(FWD3_FRA_TENORS[i], USD_LIBOR_3M), quoteId(FWD3_IDS[i + 1])));
+    }
+    for (int i = 0; i < FWD3_IRS_TENORS.length; i++) {
+      fwdNodes.add(FixedIborSwapCurveNode.of(
+          FixedIborSwapTemplate.of(Period.ZERO, Tenor.of(FWD3_IRS_TENORS[i]), USD_FIXED_6M_LIBOR_3M),
+          quoteId(FWD3_IDS[i + 1 + FWD3_FRA_TENORS.length])));
+    }
+    return RatesCurveGroupDefinition.builder()
+        .name(CURVE_GROUP_NAME)
+        .addCurve(curveDefinition(DSCON_CURVE_NAME, interpolator, dscNodes), USD, USD_FED_FUND)
+        .addForwardCurve(curveDefinition(FWD3_CURVE_NAME, interpolator, fwdNodes), USD_LIBOR_3M)
+        .build();
+  }
+
+  /**
+   * Obtains the curve group definition, using linear interpolation.
+   *
+   * @return the curve group definition
+   */
+  public static RatesCurveGroupDefinition curveGroupDefinition() {
+    return curveGroupDefinition(CurveInterpolators.LINEAR);
+  }
+
+  // creates a curve definition
+  private static InterpolatedNodalCurveDefinition curveDefinition(
+      CurveName name,
+      CurveInterpolator interpolator,
+      List<CurveNode> nodes) {
+
+    return InterpolatedNodalCurveDefinition.builder()
+        .name(name)
+        .xValueType(ValueType.YEAR_FRACTION)
+        .yValueType(ValueType.ZERO_RATE)
+        .dayCount(ACT_365F)
+        .interpolator(interpolator)
+        .extrapolatorLeft(CurveExtrapolators.FLAT)
+        .extrapolatorRight(CurveExtrapolators.FLAT)
+        .nodes(nodes)
+        .build();
+  }
+
+  /**
+   * Obtains the market quotes and fixings used to calibrate the curve group.
+   *
+   * @return the market data
+   */
+  public static ImmutableMarketData quotes() {
+    ImmutableMarketDataBuilder builder = ImmutableMarketData.builder(VAL_DATE);
+    for (int i = 0; i < DSC_IDS.length; i++) {
+      builder.addValue(quoteId(DSC_IDS[i]), DSC_QUOTES[i]);
+    }
+    for (int i = 0; i < FWD3_IDS.length; i++) {
+      builder.addValue(quoteId(FWD3_IDS[i]), FWD3_QUOTES[i]);
+    }
+    builder.addTimeSeries(IndexQuoteId.of(USD_LIBOR_3M), fixings());
+    return builder.build();
+  }
+
+  /**
+   * Obtains the calibrated rates provider.
+   *
+   * @return the rates provider
+   */
+  public static ImmutableRatesProvider ratesProvider() {
+    return RatesCurveCalibrator.standard().calibrate(curveGroupDefinition(), quotes(), REF_DATA);
+  }
+
+  // LIBOR 3M fixings covering the fixing of any trade started in the past
+  private static LocalDateDoubleTimeSeries fixings() {
+    HolidayCalendar calendar = REF_DATA.getValue(USD_LIBOR_3M.getFixingCalendar());
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    for (LocalDate date = VAL_DATE.minusYears(1); !date.isAfter(VAL_DATE); date = calendar.next(date)) {
+      builder.put(date, 0.0025);
+    }
+    return builder.build();
+  }
+
+  private static QuoteId quoteId(String id) {
+    return QuoteId.of(StandardId.of(SCHEME, id));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates a synthetic portfolio of swaps and FRAs.
+   * <p>
+   * Nine in ten trades are fixed vs LIBOR 3M swaps with a maturity between 1 and 30 years,
+   * the remainder are FRAs. Trade start dates are spread over the past year and the next year.
+   *
+   * @param size  the number of trades
+   * @return the trades
+   */
+  public static List<Trade> portfolio(int size) {
+    Random random = new Random(42);
+    List<Trade> trades = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      StandardId id = StandardId.of(SCHEME, "T" + i);
+      BuySell buySell = random.nextBoolean() ? BuySell.BUY : BuySell.SELL;
+      double notional = 1_000_000d * (1 + random.nextInt(100));
+      if (i % 10 == 9) {
+        Period periodToStart = Period.ofMonths(1 + random.nextInt(12));
+        double fixedRate = 0.001 + 0.02 * random.nextDouble();
+        trades.add(FraConventions.of(USD_LIBOR_3M)
+            .createTrade(VAL_DATE, periodToStart, buySell, notional, fixedRate, REF_DATA)
+            .withInfo(TradeInfo.builder().id(id).tradeDate(VAL_DATE).build()));
+      } else {
+        LocalDate start = VAL_DATE.plusDays(random.nextInt(730) - 365);
+        LocalDate end = start.plusYears(1 + random.nextInt(30));
+        double fixedRate = 0.005 + 0.03 * random.nextDouble();
+        TradeInfo info = TradeInfo.builder().id(id).tradeDate(start.isBefore(VAL_DATE) ? start : VAL_DATE).build();
+        trades.add(USD_FIXED_6M_LIBOR_3M.toTrade(info, start, end, buySell, notional, fixedRate));
+      }
+    }
+    return trades;
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmarks;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.benchmarks.BenchmarkData.DSCON_CURVE_ID;
+import static com.opengamma.strata.benchmarks.BenchmarkData.FWD3_CURVE_ID;
+import static com.opengamma.strata.benchmarks.BenchmarkData.RATES_LOOKUP;
+import static com.opengamma.strata.benchmarks.BenchmarkData.REF_DATA;
+import static com.opengamma.strata.benchmarks.BenchmarkData.VAL_DATE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.CalculationRunner;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.NodalCurve;
+import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * End-to-end benchmark for the calculation runner.
+ * <p>
+ * Calculates present value, par rate and PV01 for a synthetic portfolio of swaps and FRAs
+ * using {@link CalculationRunner#calculateMultiScenario}. Each scenario applies a parallel
+ * shift to the calibrated benchmark curves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CalculationRunnerBenchmark {
+
+  private static final List<Column> COLUMNS = ImmutableList.of(
+      Column.of(Measures.PRESENT_VALUE),
+      Column.of(Measures.PAR_RATE),
+      Column.of(Measures.PV01_CALIBRATED_SUM));
+
+  /**
+   * The number of trades in the portfolio.
+   */
+  @Param({"10000"})
+  public int tradeCount;  // CSIGNORE: JMH injects parameters into public fields
+  /**
+   * The number of scenarios.
+   */
+  @Param({"1", "10"})
+  public int scenarioCount;  // CSIGNORE: JMH injects parameters into public fields
+  /**
+   * The calculation runner, either 'multiThreaded' or 'workStealing'.
+   */
+  @Param({"multiThreaded", "workStealing"})
+  public String runnerType;  // CSIGNORE: JMH injects parameters into public fields
+
+  private List<Trade> trades;
+  private CalculationRules rules;
+  private ImmutableScenarioMarketData marketData;
+  private CalculationRunner runner;
+
+  /**
+   * Sets up the trades, market data and runner.
+   */
+  @Setup
+  public void setup() {
+    trades = BenchmarkData.portfolio(tradeCount);
+    rules = CalculationRules.of(StandardComponents.calculationFunctions(), RATES_LOOKUP);
+    ImmutableRatesProvider provider = BenchmarkData.ratesProvider();
+    NodalCurve discountCurve = (NodalCurve) provider.getDiscountCurves().get(USD);
+    NodalCurve forwardCurve = (NodalCurve) provider.getIndexCurves().get(USD_LIBOR_3M);
+    List<Curve> discountCurves = new ArrayList<>(scenarioCount);
+    List<Curve> forwardCurves = new ArrayList<>(scenarioCount);
+    for (int i = 0; i < scenarioCount; i++) {
+      double shift = i * 0.0001;
+      discountCurves.add(discountCurve.withYValues(discountCurve.getYValues().plus(shift)));
+      forwardCurves.add(forwardCurve.withYValues(forwardCurve.getYValues().plus(shift)));
+    }
+    marketData = ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addScenarioValue(DSCON_CURVE_ID, discountCurves)
+        .addScenarioValue(FWD3_CURVE_ID, forwardCurves)
+        .addTimeSeries(IndexQuoteId.of(USD_LIBOR_3M), provider.getTimeSeries().get(USD_LIBOR_3M))
+        .build();
+    runner = runnerType.equals("workStealing") ?
+        CalculationRunner.ofWorkStealing() :
+        CalculationRunner.ofMultiThreaded();
+  }
+
+  /**
+   * Shuts down the runner.
+   */
+  @TearDown
+  public void tearDown() {
+    runner.close();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Benchmarks the calculation of the portfolio over all scenarios.
+   *
+   * @return the results
+   */
+  @Benchmark
+  public Results calculateMultiScenario() {
+    return runner.calculateMultiScenario(rules, trades, COLUMNS, marketData, REF_DATA);
+  }
+
+}
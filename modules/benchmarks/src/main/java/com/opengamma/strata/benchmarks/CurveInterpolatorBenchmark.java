@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+
+/**
+ * Benchmarks for the standard curve interpolators.
+ * <p>
+ * Each interpolator is bound to a 20 node curve of positive values, then queried at
+ * {@value #POINTS} points spread over the curve, as happens when pricing the cash flows of a swap.
+ * Times are reported per query point.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurveInterpolatorBenchmark {
+
+  /**
+   * The number of query points per invocation.
+   */
+  static final int POINTS = 120;
+  private static final DoubleArray X_VALUES = DoubleArray.of(
+      0.08, 0.17, 0.25, 0.5, 0.75, 1, 1.5, 2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 15, 20, 30);
+  private static final DoubleArray Y_VALUES = DoubleArray.of(
+      0.0010, 0.0011, 0.0012, 0.0013, 0.0015, 0.0017, 0.0030, 0.0045, 0.0070, 0.0110,
+      0.0150, 0.0180, 0.0210, 0.0230, 0.0250, 0.0265, 0.0280, 0.0300, 0.0315, 0.0320);
+
+  /**
+   * The name of the curve interpolator.
+   */
+  @Param({
+      "Linear",
+      "LogLinear",
+      "SquareLinear",
+      "DoubleQuadratic",
+      "TimeSquare",
+      "LogNaturalSplineMonotoneCubic",
+      "LogNaturalSplineDiscountFactor",
+      "NaturalCubicSpline",
+      "NaturalSpline",
+      "NaturalSplineNonnegativityCubic",
+      "ProductNaturalSpline",
+      "ProductNaturalSplineMonotoneCubic",
+      "ProductLinear",
+      "StepUpper",
+      "PiecewiseCubicHermiteMonotonicity"})
+  public String interpolator;  // CSIGNORE: JMH injects parameters into public fields
+
+  private CurveInterpolator curveInterpolator;
+  private BoundCurveInterpolator bound;
+  private final double[] queries = new double[POINTS];
+  private DoubleArray queryArray;
+
+  /**
+   * Binds the interpolator and creates the query points.
+   */
+  @Setup
+  public void setup() {
+    curveInterpolator = CurveInterpolator.of(interpolator);
+    bound = curveInterpolator.bind(X_VALUES, Y_VALUES, CurveExtrapolators.FLAT, CurveExtrapolators.FLAT);
+    for (int i = 0; i < POINTS; i++) {
+      queries[i] = 0.1 + i * 0.25;
+    }
+    queryArray = DoubleArray.copyOf(queries);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Benchmarks binding the interpolator to the curve data.
+   *
+   * @return the bound interpolator
+   */
+  @Benchmark
+  public BoundCurveInterpolator bind() {
+    return curveInterpolator.bind(X_VALUES, Y_VALUES, CurveExtrapolators.FLAT, CurveExtrapolators.FLAT);
+  }
+
+  /**
+   * Benchmarks interpolation.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(POINTS)
+  public void interpolate(Blackhole blackhole) {
+    for (double x : queries) {
+      blackhole.consume(bound.interpolate(x));
+    }
+  }
+
+  /**
+   * Benchmarks interpolation of all the query points at once.
+   *
+   * @return the interpolated values
+   */
+  @Benchmark
+  @OperationsPerInvocation(POINTS)
+  public DoubleArray interpolateArray() {
+    return bound.interpolate(queryArray);
+  }
+
+  /**
+   * Benchmarks the first derivative.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(POINTS)
+  public void firstDerivative(Blackhole blackhole) {
+    for (double x : queries) {
+      blackhole.consume(bound.firstDerivative(x));
+    }
+  }
+
+  /**
+   * Benchmarks the parameter sensitivity.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(POINTS)
+  public void parameterSensitivity(Blackhole blackhole) {
+    for (double x : queries) {
+      blackhole.consume(bound.parameterSensitivity(x));
+    }
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmarks;
+
+import static com.opengamma.strata.benchmarks.BenchmarkData.REF_DATA;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.date.HolidayCalendarId;
+
+/**
+ * Benchmarks for {@link HolidayCalendar}.
+ * <p>
+ * The single calendars are resolved as {@code ImmutableHolidayCalendar}, while the
+ * combined identifier exercises the combined calendar path.
+ * Each invocation queries {@value #DATES} dates spread over ten years, times are reported per date.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HolidayCalendarBenchmark {
+
+  /**
+   * The number of dates queried per invocation.
+   */
+  static final int DATES = 365;
+
+  /**
+   * The holiday calendar identifier.
+   */
+  @Param({"GBLO", "USNY", "GBLO+USNY+EUTA"})
+  public String calendarId;  // CSIGNORE: JMH injects parameters into public fields
+  /**
+   * The number of business days to shift by.
+   */
+  @Param({"2", "250"})
+  public int shiftAmount;  // CSIGNORE: JMH injects parameters into public fields
+
+  private HolidayCalendar calendar;
+  private final LocalDate[] dates = new LocalDate[DATES];
+
+  /**
+   * Resolves the calendar and creates the query dates.
+   */
+  @Setup
+  public void setup() {
+    calendar = HolidayCalendarId.of(calendarId).resolve(REF_DATA);
+    LocalDate base = LocalDate.of(2020, 1, 1);
+    for (int i = 0; i < DATES; i++) {
+      dates[i] = base.plusDays(i * 10L);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Benchmarks checking for a holiday.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(DATES)
+  public void isHoliday(Blackhole blackhole) {
+    for (LocalDate date : dates) {
+      blackhole.consume(calendar.isHoliday(date));
+    }
+  }
+
+  /**
+   * Benchmarks finding the next business day.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(DATES)
+  public void next(Blackhole blackhole) {
+    for (LocalDate date : dates) {
+      blackhole.consume(calendar.next(date));
+    }
+  }
+
+  /**
+   * Benchmarks shifting by a number of business days.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(DATES)
+  public void shift(Blackhole blackhole) {
+    for (LocalDate date : dates) {
+      blackhole.consume(calendar.shift(date, shiftAmount));
+    }
+  }
+
+  /**
+   * Benchmarks counting business days, over a range of roughly {@code shiftAmount} business days.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(DATES)
+  public void daysBetween(Blackhole blackhole) {
+    long calendarDays = shiftAmount * 7L / 5;
+    for (LocalDate date : dates) {
+      blackhole.consume(calendar.daysBetween(date, date.plusDays(calendarDays)));
+    }
+  }
+
+}
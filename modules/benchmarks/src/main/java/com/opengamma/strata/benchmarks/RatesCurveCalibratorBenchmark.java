@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmarks;
+
+import static com.opengamma.strata.benchmarks.BenchmarkData.REF_DATA;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * Benchmarks for {@link RatesCurveCalibrator}.
+ * <p>
+ * Calibrates the two curve USD benchmark group, 16 OIS nodes and 15 LIBOR 3M nodes,
+ * including the Jacobian matrices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RatesCurveCalibratorBenchmark {
+
+  private static final RatesCurveCalibrator CALIBRATOR = RatesCurveCalibrator.standard();
+
+  /**
+   * The name of the curve interpolator.
+   */
+  @Param({"Linear", "NaturalSpline", "PiecewiseCubicHermiteMonotonicity"})
+  public String interpolator;  // CSIGNORE: JMH injects parameters into public fields
+
+  private RatesCurveGroupDefinition definition;
+  private ImmutableMarketData quotes;
+
+  /**
+   * Sets up the curve definitions and quotes.
+   */
+  @Setup
+  public void setup() {
+    definition = BenchmarkData.curveGroupDefinition(CurveInterpolator.of(interpolator));
+    quotes = BenchmarkData.quotes();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Benchmarks calibration of the curve group.
+   *
+   * @return the calibrated rates provider
+   */
+  @Benchmark
+  public ImmutableRatesProvider calibrate() {
+    return CALIBRATOR.calibrate(definition, quotes, REF_DATA);
+  }
+
+}
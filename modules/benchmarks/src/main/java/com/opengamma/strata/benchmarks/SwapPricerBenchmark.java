@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmarks;
+
+import static com.opengamma.strata.benchmarks.BenchmarkData.REF_DATA;
+import static com.opengamma.strata.benchmarks.BenchmarkData.VAL_DATE;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+
+/**
+ * Benchmarks for {@link DiscountingSwapProductPricer}.
+ * <p>
+ * Prices a spot starting fixed vs LIBOR 3M swap against the calibrated benchmark curves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwapPricerBenchmark {
+
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+
+  /**
+   * The tenor of the swap.
+   */
+  @Param({"2Y", "10Y", "30Y"})
+  public String tenor;  // CSIGNORE: JMH injects parameters into public fields
+
+  private ImmutableRatesProvider provider;
+  private ResolvedSwap swap;
+
+  /**
+   * Sets up the curves and the swap.
+   */
+  @Setup
+  public void setup() {
+    provider = BenchmarkData.ratesProvider();
+    swap = USD_FIXED_6M_LIBOR_3M
+        .createTrade(VAL_DATE, Tenor.parse(tenor), BuySell.BUY, 100_000_000d, 0.02, REF_DATA)
+        .getProduct()
+        .resolve(REF_DATA);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Benchmarks the present value.
+   *
+   * @return the present value
+   */
+  @Benchmark
+  public MultiCurrencyAmount presentValue() {
+    return PRICER.presentValue(swap, provider);
+  }
+
+  /**
+   * Benchmarks the point sensitivity of the present value.
+   *
+   * @return the point sensitivities
+   */
+  @Benchmark
+  public PointSensitivities presentValueSensitivity() {
+    return PRICER.presentValueSensitivity(swap, provider).build();
+  }
+
+  /**
+   * Benchmarks the parameter sensitivity of the present value, as used for bucketed PV01.
+   *
+   * @return the parameter sensitivities
+   */
+  @Benchmark
+  public CurrencyParameterSensitivities presentValueParameterSensitivity() {
+    return provider.parameterSensitivity(PRICER.presentValueSensitivity(swap, provider).build());
+  }
+
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * JMH benchmarks for the performance critical parts of Strata.
+ * <p>
+ * The benchmarks cover swap pricing, curve calibration, curve interpolation,
+ * holiday calendars and the calculation runner.
+ * All benchmarks share the synthetic data defined in
+ * {@link com.opengamma.strata.benchmarks.BenchmarkData BenchmarkData}.
+ */
+package com.opengamma.strata.benchmarks;
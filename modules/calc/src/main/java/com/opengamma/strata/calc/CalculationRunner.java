@@ -54,6 +54,26 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.ofMultiThreaded();
   }
 
+  /**
+   * Creates a work-stealing calculation runner capable of performing calculations.
+   * <p>
+   * This factory creates a fork-join pool basing the parallelism on the number of available processors.
+   * Calculations with the same function and parameters are grouped and executed in batches,
+   * with idle threads stealing batches from busy ones.
+   * See {@link CalculationTaskRunner#ofWorkStealing()} for more details.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationRunner runner = CalculationRunner.ofWorkStealing()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @return the calculation runner
+   */
+  public static CalculationRunner ofWorkStealing() {
+    return DefaultCalculationRunner.ofWorkStealing();
+  }
+
   /**
    * Creates a calculation runner capable of performing calculations, specifying the executor.
    * <p>
@@ -66,6 +86,22 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation runner capable of performing calculations, specifying the executor and batch size.
+   * <p>
+   * Calculations with the same function and parameters are executed together in batches no larger
+   * than the specified size. See {@link CalculationTaskRunner#of(ExecutorService, int)} for more details.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param batchSize  the maximum number of tasks to execute as a single unit of work, one or greater
+   * @return the calculation runner
+   */
+  public static CalculationRunner of(ExecutorService executor, int batchSize) {
+    return DefaultCalculationRunner.of(executor, batchSize);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
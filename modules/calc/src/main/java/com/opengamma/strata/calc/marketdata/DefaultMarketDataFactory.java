@@ -14,10 +14,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.collect.MapStream;
+import com.opengamma.strata.collect.Unchecked;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketData;
@@ -30,6 +34,12 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default market data factory.
  * <p>
  * This uses two providers, one for observable data and one for time-series.
+ * <p>
+ * Market data is built level by level, starting from the leaves of the dependency tree.
+ * The non-observable values within a level do not depend on each other, thus if an executor
+ * is provided they are built concurrently using it.
+ * The calling thread builds any value the executor has not yet started, thus the build completes
+ * even if the executor is saturated, for example by market data functions using the same executor.
  */
 final class DefaultMarketDataFactory implements MarketDataFactory {
 
@@ -42,6 +52,9 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /** Executor used to build the non-observable values within a level concurrently, null to build serially. */
+  private final Executor executor;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,12 +65,33 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
-  @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
       List<MarketDataFunction<?, ?>> functions) {
 
+    this(observableDataProvider, timeSeriesProvider, null, functions);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * specifying the executor used to build market data.
+   * <p>
+   * The market data functions are used to build the market data.
+   * The non-observable values within each level of the dependency tree are built concurrently
+   * using the executor. It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param executor  the executor used to build market data, null to build serially
+   * @param functions  the functions that create the market data
+   */
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
+      List<MarketDataFunction<?, ?>> functions) {
+
     this.observableDataProvider = observableDataProvider;
     this.timeSeriesProvider = timeSeriesProvider;
 
@@ -67,6 +101,7 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
 
     functions.stream().forEach(builder -> builderMap.put(builder.getMarketDataIdType(), builder));
     this.functions = ImmutableMap.copyOf(builderMap);
+    this.executor = executor;
   }
 
   //-------------------------------------------------------------------------
@@ -206,14 +241,16 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * Builds items of non-observable market data using a market data function.
    *
    * @param id  ID of the market data that should be built
+   * @param marketDataFunction  the function that builds the market data
    * @param marketDataConfig  configuration specifying how the market data should be built
    * @param suppliedData  existing set of market data that contains any data required to build the values
    * @param refData  the reference data, used to resolve trades
    * @return a result containing the market data or details of why it wasn't built
    */
   @SuppressWarnings({"unchecked", "rawtypes"})
-  private Result<MarketDataBox<?>> buildNonObservableData(
+  private static Result<MarketDataBox<?>> buildNonObservableData(
       MarketDataId id,
+      MarketDataFunction marketDataFunction,
       MarketDataConfig marketDataConfig,
       BuiltScenarioMarketData suppliedData,
       ReferenceData refData) {
@@ -223,26 +260,64 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     // In this class a mixture of functions with different types are stored in a map. This loses the type
     // parameter information. When the functions are extracted from the map and used it's impossible to
     // convince the compiler the operations are safe, although the logic guarantees it.
+    return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
+  }
 
+  /**
+   * Finds the market data function that builds the market data for an ID.
+   *
+   * @param id  ID of the market data that should be built
+   * @return the function
+   * @throws IllegalStateException if there is no function for the type of the ID
+   */
+  @SuppressWarnings("unchecked")
+  private MarketDataFunction<?, ?> marketDataFunction(MarketDataId<?> id) {
     // This cast removes a spurious warning
     Class<? extends MarketDataId<?>> idClass = (Class<? extends MarketDataId<?>>) id.getClass();
-    MarketDataFunction marketDataFunction = functions.get(idClass);
+    MarketDataFunction<?, ?> marketDataFunction = functions.get(idClass);
 
     if (marketDataFunction == null) {
       throw new IllegalStateException("No market data function available for market data ID of type " + idClass.getName());
     }
-    return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
+    return marketDataFunction;
   }
 
-  @SuppressWarnings("unchecked")
   private Map<MarketDataId<?>, Result<MarketDataBox<?>>> buildNonObservableData(
       Set<? extends MarketDataId<?>> ids,
       MarketDataConfig marketDataConfig,
       BuiltScenarioMarketData marketData,
       ReferenceData refData) {
 
-    return ids.stream()
-        .collect(toImmutableMap(id -> id, id -> buildNonObservableData(id, marketDataConfig, marketData, refData)));
+    if (executor == null || ids.size() < 2) {
+      return ids.stream()
+          .collect(toImmutableMap(
+              id -> id,
+              id -> buildNonObservableData(id, marketDataFunction(id), marketDataConfig, marketData, refData)));
+    }
+    // The values within a level are independent of each other, so they can be built concurrently.
+    // The functions are found before submitting so that a missing function fails in the calling thread.
+    // Any exception thrown by a function is captured in the result
+    Map<MarketDataId<?>, FutureTask<Result<MarketDataBox<?>>>> futures = ids.stream()
+        .collect(toImmutableMap(id -> id, id -> {
+          MarketDataFunction<?, ?> function = marketDataFunction(id);
+          return new FutureTask<>(() -> buildNonObservableData(id, function, marketDataConfig, marketData, refData));
+        }));
+    futures.values().forEach(executor::execute);
+    return MapStream.of(futures).mapValues(DefaultMarketDataFactory::await).toMap();
+  }
+
+  // waits for the value, building it on this thread if the executor has not yet started it
+  // this ensures progress even if the executor is busy, for example with functions using the same executor
+  private static Result<MarketDataBox<?>> await(FutureTask<Result<MarketDataBox<?>>> future) {
+    future.run();
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while building market data", ex);
+    } catch (ExecutionException ex) {
+      throw Unchecked.propagate(ex.getCause());
+    }
   }
 
   /**
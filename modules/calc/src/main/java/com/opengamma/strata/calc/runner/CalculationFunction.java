@@ -5,6 +5,9 @@
  */
 package com.opengamma.strata.calc.runner;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -37,6 +40,8 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  *  - the market data requirements for performing the calculation
  * <li>{@link #calculate(CalculationTarget, Set, CalculationParameters, ScenarioMarketData, ReferenceData)}
  *  - perform the calculation
+ * <li>{@link #calculateBatch(List, Set, CalculationParameters, ScenarioMarketData, ReferenceData)}
+ *  - optionally, perform the calculation for many targets at once
  * </ul>
  * <p>
  * If any of the calculated values contain any currency amounts and implement {@link ScenarioFxConvertible}
@@ -145,4 +150,37 @@ public interface CalculationFunction<T extends CalculationTarget> {
       ScenarioMarketData marketData,
       ReferenceData refData);
 
+  /**
+   * Calculates values of multiple measures for a batch of targets using multiple sets of market data.
+   * <p>
+   * This is used by the calculation runner when the same measures are requested for many targets
+   * with the same parameters. Implementations may override this method to share work between targets,
+   * such as querying the market data or building a rates provider once per scenario for the whole batch.
+   * The rules are the same as for {@link #calculate(CalculationTarget, Set, CalculationParameters,
+   * ScenarioMarketData, ReferenceData) calculate}.
+   * <p>
+   * The returned list must contain one map for each target, in the same order as the targets.
+   * If an exception is thrown, the calculation runner will calculate each target individually.
+   * <p>
+   * The default implementation invokes {@code calculate} for each target.
+   *
+   * @param targets  the targets of the calculation
+   * @param measures  the set of measures to calculate
+   * @param parameters  the parameters that affect how the calculation is performed
+   * @param marketData  the multi-scenario market data to be used in the calculation
+   * @param refData  the reference data to be used in the calculation
+   * @return the read-only list of maps of calculated values, one for each target
+   */
+  public default List<Map<Measure, Result<?>>> calculateBatch(
+      List<? extends T> targets,
+      Set<Measure> measures,
+      CalculationParameters parameters,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    return targets.stream()
+        .map(target -> calculate(target, measures, parameters, marketData, refData))
+        .collect(toImmutableList());
+  }
+
 }
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.calc.runner;
 
+import java.time.Duration;
 import java.util.List;
 
 import com.opengamma.strata.basics.CalculationTarget;
@@ -50,6 +51,24 @@ public interface CalculationListener {
    */
   public abstract void resultReceived(CalculationTarget target, CalculationResult result);
 
+  /**
+   * Invoked when a batch of calculations using a single function completes.
+   * <p>
+   * Calculation runners may execute calculations using the same function together in batches.
+   * This method reports the time taken by each batch, allowing the time spent in each function to be monitored.
+   * <p>
+   * It is guaranteed that {@link #calculationsStarted(List, List)} will be called before
+   * this method and that this method will never be called after {@link #calculationsComplete()}.
+   * It is called before the results of the batch are passed to {@link #resultReceived}.
+   *
+   * @param function  the function used by every calculation in the batch
+   * @param taskCount  the number of calculation tasks in the batch, each of which is for a single target
+   * @param duration  the elapsed time taken to perform the calculations
+   */
+  public default void batchComplete(CalculationFunction<?> function, int taskCount, Duration duration) {
+    // Default implementation does nothing
+  }
+
   /**
    * Invoked when all calculations have completed.
    * <p>
@@ -203,23 +203,110 @@ public final class CalculationTask implements ImmutableBean {
    * @param refData  the reference data
    * @return results of the calculation, one for every scenario in the market data
    */
-  @SuppressWarnings("unchecked")
   public CalculationResults execute(ScenarioMarketData marketData, ReferenceData refData) {
     // calculate the results
     Map<Measure, Result<?>> results = calculate(marketData, refData);
+    return createResults(results, fxProvider(marketData), refData);
+  }
+
+  /**
+   * Executes a batch of tasks, performing calculations for each target using multiple sets of market data.
+   * <p>
+   * If every task in the batch has the same function, parameters and measures, the function is invoked
+   * once for the whole batch using
+   * {@link CalculationFunction#calculateBatch(List, Set, CalculationParameters, ScenarioMarketData, ReferenceData)}.
+   * Otherwise, or if the batch calculation throws an exception, each task is executed individually.
+   *
+   * @param tasks  the tasks to execute
+   * @param marketData  the market data used in the calculation
+   * @param refData  the reference data
+   * @return results of the calculation, one for each task in the same order as the tasks
+   */
+  public static List<CalculationResults> executeBatch(
+      List<CalculationTask> tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    if (tasks.size() == 1 || !isSameCalculation(tasks)) {
+      return tasks.stream()
+          .map(task -> task.execute(marketData, refData))
+          .collect(toImmutableList());
+    }
+    List<Map<Measure, Result<?>>> batchResults = calculateBatch(tasks, marketData, refData);
+    ScenarioFxRateProvider fxProvider = tasks.get(0).fxProvider(marketData);
+    ImmutableList.Builder<CalculationResults> builder = ImmutableList.builder();
+    for (int i = 0; i < tasks.size(); i++) {
+      builder.add(tasks.get(i).createResults(batchResults.get(i), fxProvider, refData));
+    }
+    return builder.build();
+  }
 
-    // get a suitable FX provider
-    ScenarioFxRateProvider fxProvider = parameters.findParameter(FxRateLookup.class)
+  // checks if the tasks all have the same function, parameters and measures
+  private static boolean isSameCalculation(List<CalculationTask> tasks) {
+    CalculationTask first = tasks.get(0);
+    Set<Measure> measures = first.getMeasures();
+    for (CalculationTask task : tasks) {
+      if (task.function != first.function ||
+          !task.parameters.equals(first.parameters) ||
+          !task.getMeasures().equals(measures)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // calculates the results of a batch, falling back to calculating each task individually if the batch fails
+  private static List<Map<Measure, Result<?>>> calculateBatch(
+      List<CalculationTask> tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    CalculationTask first = tasks.get(0);
+    Set<Measure> requestedMeasures = first.getMeasures();
+    Set<Measure> supportedMeasures = first.function.supportedMeasures();
+    Set<Measure> measures = Sets.intersection(requestedMeasures, supportedMeasures);
+    if (!measures.isEmpty()) {
+      try {
+        List<CalculationTarget> targets = tasks.stream().map(CalculationTask::getTarget).collect(toImmutableList());
+        List<Map<Measure, Result<?>>> maps =
+            first.function.calculateBatch(targets, measures, first.parameters, marketData, refData);
+        if (maps.size() == tasks.size()) {
+          ImmutableList.Builder<Map<Measure, Result<?>>> builder = ImmutableList.builder();
+          for (int i = 0; i < tasks.size(); i++) {
+            Map<Measure, Result<?>> map = maps.get(i);
+            // check if result does not contain all requested measures
+            builder.add(map.keySet().containsAll(requestedMeasures) ?
+                map :
+                tasks.get(i).handleMissing(requestedMeasures, supportedMeasures, map));
+          }
+          return builder.build();
+        }
+      } catch (RuntimeException ex) {
+        // calculate individually so that the failure is reported against the correct target
+      }
+    }
+    return tasks.stream()
+        .map(task -> task.calculate(marketData, refData))
+        .collect(toImmutableList());
+  }
+
+  // get a suitable FX provider
+  private ScenarioFxRateProvider fxProvider(ScenarioMarketData marketData) {
+    return parameters.findParameter(FxRateLookup.class)
         .map(lookup -> LookupScenarioFxRateProvider.of(marketData, lookup))
         .orElse(ScenarioFxRateProvider.of(marketData));
+  }
+
+  // convert the results, using a normal loop for better stack traces
+  private CalculationResults createResults(
+      Map<Measure, Result<?>> results,
+      ScenarioFxRateProvider fxProvider,
+      ReferenceData refData) {
 
-    // convert the results, using a normal loop for better stack traces
     ImmutableList.Builder<CalculationResult> resultBuilder = ImmutableList.builder();
     for (CalculationTaskCell cell : cells) {
       resultBuilder.add(cell.createResult(this, target, results, fxProvider, refData));
     }
-
-    // return the result
     return CalculationResults.of(target, resultBuilder.build());
   }
 
@@ -7,6 +7,7 @@ package com.opengamma.strata.calc.runner;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.CalculationRules;
@@ -50,6 +51,11 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  */
 public interface CalculationTaskRunner extends AutoCloseable {
 
+  /**
+   * The default maximum number of tasks executed as a single unit of work by a work-stealing runner.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 16;
+
   /**
    * Creates a standard multi-threaded calculation task runner capable of performing calculations.
    * <p>
@@ -67,6 +73,28 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.ofMultiThreaded();
   }
 
+  /**
+   * Creates a work-stealing calculation task runner capable of performing calculations.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the parallelism on the number of available processors.
+   * Tasks with the same function and parameters are grouped, as they run the same code against the same
+   * market data, and each group is split into batches of up to {@link #DEFAULT_BATCH_SIZE} tasks.
+   * Threads that run out of work steal batches from other threads.
+   * The time taken by each batch is reported to {@link CalculationListener#batchComplete}.
+   * <p>
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationTaskRunner runner = CalculationTaskRunner.ofWorkStealing()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofWorkStealing() {
+    return DefaultCalculationTaskRunner.ofWorkStealing();
+  }
+
   /**
    * Creates a calculation task runner capable of performing calculations, specifying the executor.
    * <p>
@@ -79,6 +107,23 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor and batch size.
+   * <p>
+   * Tasks with the same function and parameters are executed together in batches no larger than the
+   * specified size, with each batch submitted to the executor as a single unit of work.
+   * If the executor is a {@link ForkJoinPool}, the batches are formed by recursive splitting.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param batchSize  the maximum number of tasks to execute as a single unit of work, one or greater
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner of(ExecutorService executor, int batchSize) {
+    return DefaultCalculationTaskRunner.of(executor, batchSize);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
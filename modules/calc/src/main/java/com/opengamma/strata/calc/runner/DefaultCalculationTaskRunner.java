@@ -7,21 +7,30 @@ package com.opengamma.strata.calc.runner;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ThreadFactory;
-import java.util.function.Consumer;
-import java.util.function.Supplier;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -30,6 +39,12 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default calculation task runner.
  * <p>
  * This uses a single instance of {@link ExecutorService}.
+ * <p>
+ * Tasks are grouped by function and parameters, which together determine the code that is run
+ * and the market data that is used. Each group is split into batches which are executed as a single
+ * unit of work, reducing the overhead of scheduling and keeping related calculations together.
+ * When the executor is a {@link ForkJoinPool}, each group is split recursively allowing idle
+ * threads to steal work from busy ones.
  */
 final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
@@ -38,6 +53,11 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * This will typically be multi-threaded, but single or direct executors also work.
    */
   private final ExecutorService executor;
+  /**
+   * The maximum number of tasks executed as a single unit of work.
+   * A value of one submits each task to the executor individually.
+   */
+  private final int batchSize;
 
   //-------------------------------------------------------------------------
   /**
@@ -54,7 +74,20 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner ofMultiThreaded() {
-    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()));
+    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()), 1);
+  }
+
+  /**
+   * Creates a work-stealing calculation task runner capable of performing calculations.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the parallelism on the number of available processors.
+   * Tasks are executed in batches, see {@link CalculationTaskRunner#ofWorkStealing()}.
+   *
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofWorkStealing() {
+    return new DefaultCalculationTaskRunner(
+        createForkJoinPool(Runtime.getRuntime().availableProcessors()), CalculationTaskRunner.DEFAULT_BATCH_SIZE);
   }
 
   /**
@@ -66,7 +99,20 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner of(ExecutorService executor) {
-    return new DefaultCalculationTaskRunner(executor);
+    return new DefaultCalculationTaskRunner(executor, 1);
+  }
+
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor and batch size.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param batchSize  the maximum number of tasks to execute as a single unit of work
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner of(ExecutorService executor, int batchSize) {
+    return new DefaultCalculationTaskRunner(executor, batchSize);
   }
 
   // create an executor with daemon threads
@@ -82,14 +128,27 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return Executors.newFixedThreadPool(effectiveThreads, threadFactory);
   }
 
+  // create a fork-join pool, which always uses daemon threads
+  private static ForkJoinPool createForkJoinPool(int parallelism) {
+    ForkJoinWorkerThreadFactory threadFactory = pool -> {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName("CalculationTaskRunner-" + t.getName());
+      return t;
+    };
+    // async mode processes externally submitted work in FIFO order, which suits event-style tasks
+    return new ForkJoinPool(parallelism, threadFactory, null, true);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the executor to use.
    *
    * @param executor  the executor that is used to perform the calculations
+   * @param batchSize  the maximum number of tasks to execute as a single unit of work
    */
-  private DefaultCalculationTaskRunner(ExecutorService executor) {
+  private DefaultCalculationTaskRunner(ExecutorService executor, int batchSize) {
     this.executor = ArgChecker.notNull(executor, "executor");
+    this.batchSize = ArgChecker.notNegativeOrZero(batchSize, "batchSize");
   }
 
   //-------------------------------------------------------------------------
@@ -177,24 +236,92 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     // the listener is invoked via this wrapper
     // the wrapper ensures thread-safety for the listener
     // it also calls the listener with single CalculationResult cells, not CalculationResults
-    Consumer<CalculationResults> consumer =
-        new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
+    ListenerWrapper consumer = new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
+
+    // run each group of tasks using the executor
+    for (List<CalculationTask> group : groupTasks(taskList)) {
+      if (executor instanceof ForkJoinPool) {
+        BatchAction action = new BatchAction(group, 0, group.size(), batchSize, marketData, refData, consumer);
+        ((ForkJoinPool) executor).execute(action);
+      } else {
+        for (int start = 0; start < group.size(); start += batchSize) {
+          List<CalculationTask> batch = group.subList(start, Math.min(start + batchSize, group.size()));
+          CompletableFuture.runAsync(() -> runBatch(batch, marketData, refData, consumer), executor);
+        }
+      }
+    }
+  }
 
-    // run each task using the executor
-    taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+  // groups the tasks by function and parameters, retaining the order of the tasks
+  // tasks in the same group run the same code and typically use the same market data
+  private static Iterable<List<CalculationTask>> groupTasks(List<CalculationTask> tasks) {
+    Map<Pair<CalculationFunction<?>, CalculationParameters>, List<CalculationTask>> groups = new LinkedHashMap<>();
+    for (CalculationTask task : tasks) {
+      groups.computeIfAbsent(Pair.of(task.getFunction(), task.getParameters()), key -> new ArrayList<>()).add(task);
+    }
+    return groups.values();
   }
 
-  // submits a task to the executor to be run
-  private void runTask(
-      CalculationTask task,
+  // executes a batch of tasks sharing the same function, passing the timing and results to the consumer
+  // tasks with the same measures are calculated in a single call to the function
+  // the timing is passed first as the listener cannot be invoked once the last result has been received
+  private static void runBatch(
+      List<CalculationTask> batch,
       ScenarioMarketData marketData,
       ReferenceData refData,
-      Consumer<CalculationResults> consumer) {
+      ListenerWrapper consumer) {
 
-    // the task is executed, with the result passed to the consumer
-    // the consumer wraps the listener to ensure thread-safety
-    Supplier<CalculationResults> taskExecutor = () -> task.execute(marketData, refData);
-    CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
+    long start = System.nanoTime();
+    List<CalculationResults> results = executeBatch(batch, marketData, refData);
+    Duration duration = Duration.ofNanos(System.nanoTime() - start);
+    consumer.batchComplete(batch.get(0).getFunction(), batch.size(), duration);
+    results.forEach(consumer);
+  }
+
+  // executes the batch, falling back to executing each task individually if the batch throws
+  // a result must be delivered for every task, otherwise the listener would never be completed
+  private static List<CalculationResults> executeBatch(
+      List<CalculationTask> batch,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    try {
+      return CalculationTask.executeBatch(batch, marketData, refData);
+    } catch (Throwable ex) {
+      if (batch.size() == 1) {
+        return ImmutableList.of(failureResults(batch.get(0), ex));
+      }
+      return batch.stream()
+          .map(task -> executeTask(task, marketData, refData))
+          .collect(toImmutableList());
+    }
+  }
+
+  // executes a single task, converting any exception to a failure result
+  private static CalculationResults executeTask(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    try {
+      return task.execute(marketData, refData);
+    } catch (Throwable ex) {
+      return failureResults(task, ex);
+    }
+  }
+
+  // the results of a task that threw an exception, one failure for each cell
+  private static CalculationResults failureResults(CalculationTask task, Throwable ex) {
+    Result<?> failure = Result.failure(
+        FailureReason.CALCULATION_FAILED,
+        ex,
+        "Error when executing calculation task for target '{}': {}",
+        task.getTarget(),
+        ex.getMessage());
+    List<CalculationResult> cells = task.getCells().stream()
+        .map(cell -> CalculationResult.of(cell.getRowIndex(), cell.getColumnIndex(), failure))
+        .collect(toImmutableList());
+    return CalculationResults.of(task.getTarget(), cells);
   }
 
   //-------------------------------------------------------------------------
@@ -204,6 +331,54 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
   }
 
   //-------------------------------------------------------------------------
+  /**
+   * Fork-join action that executes part of a group of tasks.
+   * <p>
+   * The range is split in two until it is no larger than the batch size,
+   * allowing idle threads in the pool to steal the unprocessed halves.
+   */
+  private static final class BatchAction extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<CalculationTask> group;
+    private final int start;
+    private final int end;
+    private final int batchSize;
+    private final transient ScenarioMarketData marketData;
+    private final transient ReferenceData refData;
+    private final transient ListenerWrapper consumer;
+
+    private BatchAction(
+        List<CalculationTask> group,
+        int start,
+        int end,
+        int batchSize,
+        ScenarioMarketData marketData,
+        ReferenceData refData,
+        ListenerWrapper consumer) {
+
+      this.group = group;
+      this.start = start;
+      this.end = end;
+      this.batchSize = batchSize;
+      this.marketData = marketData;
+      this.refData = refData;
+      this.consumer = consumer;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= batchSize) {
+        runBatch(group.subList(start, end), marketData, refData, consumer);
+      } else {
+        int middle = (start + end) >>> 1;
+        invokeAll(
+            new BatchAction(group, start, middle, batchSize, marketData, refData, consumer),
+            new BatchAction(group, middle, end, batchSize, marketData, refData, consumer));
+      }
+    }
+  }
 
   //-------------------------------------------------------------------------
   /**
@@ -232,6 +407,11 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       delegate.resultReceived(target, unwrappedCalculationResult);
     }
 
+    @Override
+    public void batchComplete(CalculationFunction<?> function, int taskCount, Duration duration) {
+      delegate.batchComplete(function, taskCount, duration);
+    }
+
     @Override
     public void calculationsComplete() {
       delegate.calculationsComplete();
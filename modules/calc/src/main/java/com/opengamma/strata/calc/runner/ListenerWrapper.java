@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.calc.runner;
 
+import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
@@ -43,7 +44,10 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
   /** Protects the queue and the executing flag. */
   private final Lock lock = new ReentrantLock();
 
-  /** This lock is never contended; it is used to guarantee the listener state is visible to all threads. */
+  /**
+   * This lock is used to guarantee the listener state is visible to all threads.
+   * It is only contended when batch timings are delivered.
+   */
   private final Lock listenerLock = new ReentrantLock();
 
   /** The total number of tasks to be executed. */
@@ -85,6 +89,31 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Delivers the timing of a batch of calculations to the listener.
+   * <p>
+   * This method can be invoked concurrently by multiple threads.
+   * It must be invoked before the results of the batch are passed to {@link #accept},
+   * ensuring the listener is not invoked after the calculations are complete.
+   *
+   * @param function  the function used by the batch
+   * @param taskCount  the number of tasks in the batch
+   * @param duration  the time taken to execute the batch
+   */
+  void batchComplete(CalculationFunction<?> function, int taskCount, Duration duration) {
+    // the listener lock is only held briefly by the thread delivering results
+    // acquiring it here ensures the listener is never invoked concurrently
+    listenerLock.lock();
+    try {
+      listener.batchComplete(function, taskCount, duration);
+    } catch (RuntimeException e) {
+      log.warn("Exception invoking listener.batchComplete", e);
+    } finally {
+      listenerLock.unlock();
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Accepts a calculation result and delivers it to the listener
@@ -133,8 +162,8 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
 
     // Loop until the nextResult and all the results from the queue have been delivered
     for (;;) {
-      // The logic above means this lock is never contended; the executing flag means
-      // only one thread will ever be in this loop at any given time.
+      // The executing flag means only one thread will ever be in this loop at any given time.
+      // The lock is otherwise only acquired briefly when delivering batch timings.
       // This lock is required to ensure any state changes in the listener are visible to all threads
       listenerLock.lock();
       try {
@@ -13,8 +13,11 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -214,6 +217,80 @@ public class DefaultMarketDataFactoryTest {
     assertThat(marketDataB2).isEqualTo(expectedB2);
   }
 
+  /**
+   * Tests building market data that depends on other market data, building each level concurrently.
+   */
+  @Test
+  public void buildDataFromOtherData_executor() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"), new TestIdB("3"))
+        .build();
+
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.builder().put(date(2011, 3, 8), 1).build();
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.builder().put(date(2011, 3, 8), 2).build();
+    LocalDateDoubleTimeSeries timeSeries3 = LocalDateDoubleTimeSeries.builder().put(date(2011, 3, 8), 3).build();
+    TimeSeriesProvider timeSeriesProvider = new TestTimeSeriesProvider(ImmutableMap.of(
+        new TestIdA("1"), timeSeries1,
+        new TestIdA("2"), timeSeries2,
+        new TestIdA("3"), timeSeries3));
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      MarketDataFactory factory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          timeSeriesProvider,
+          executor,
+          ImmutableList.of(new TestMarketDataFunctionB(), new TestMarketDataFunctionC()));
+
+      MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+      BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+
+      assertThat(marketData.getValueFailures()).isEmpty();
+      assertThat(marketData.getTimeSeriesFailures()).isEmpty();
+      assertThat(marketData.getValue(new TestIdB("1")))
+          .isEqualTo(new TestMarketDataB(1, new TestMarketDataC(timeSeries1)));
+      assertThat(marketData.getValue(new TestIdB("2")))
+          .isEqualTo(new TestMarketDataB(2, new TestMarketDataC(timeSeries2)));
+      assertThat(marketData.getValue(new TestIdB("3")))
+          .isEqualTo(new TestMarketDataB(3, new TestMarketDataC(timeSeries3)));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests building market data using an executor that never starts the tasks, as if it were saturated.
+   * The calling thread builds the values itself rather than waiting forever.
+   */
+  @Test
+  @Timeout(5)
+  public void buildDataFromOtherData_saturatedExecutor() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"))
+        .build();
+
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.builder().put(date(2011, 3, 8), 1).build();
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.builder().put(date(2011, 3, 8), 2).build();
+    TimeSeriesProvider timeSeriesProvider = new TestTimeSeriesProvider(ImmutableMap.of(
+        new TestIdA("1"), timeSeries1,
+        new TestIdA("2"), timeSeries2));
+
+    MarketDataFactory factory = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        timeSeriesProvider,
+        task -> { },
+        ImmutableList.of(new TestMarketDataFunctionB(), new TestMarketDataFunctionC()));
+
+    MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+    BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+
+    assertThat(marketData.getValueFailures()).isEmpty();
+    assertThat(marketData.getValue(new TestIdB("1")))
+        .isEqualTo(new TestMarketDataB(1, new TestMarketDataC(timeSeries1)));
+    assertThat(marketData.getValue(new TestIdB("2")))
+        .isEqualTo(new TestMarketDataB(2, new TestMarketDataC(timeSeries2)));
+  }
+
   /**
    * Tests building market data that depends on other market data that is supplied by the user.
    *
@@ -306,6 +383,34 @@ public class DefaultMarketDataFactoryTest {
         .withMessageStartingWith("No market data function available for market data ID of type");
   }
 
+  /**
+   * Tests an exception is thrown when there is no builder for an ID type when building concurrently.
+   */
+  @Test
+  public void noMarketDataBuilderAvailable_executor() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"))
+        .build();
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      MarketDataFactory factory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          new TestTimeSeriesProvider(ImmutableMap.of()),
+          executor,
+          ImmutableList.of(new TestMarketDataFunctionB()));
+
+      BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8)).build();
+      assertThatIllegalStateException()
+          .isThrownBy(
+              () -> factory.createMultiScenario(
+                  requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA, ScenarioDefinition.empty()))
+          .withMessageStartingWith("No market data function available for market data ID of type");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   /**
    * Tests building a result and keeping the intermediate values.
    */
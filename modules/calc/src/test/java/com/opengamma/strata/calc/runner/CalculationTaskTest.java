@@ -441,6 +441,81 @@ public class CalculationTaskTest {
   /**
    * Tests that requirements are added for the FX rates needed to convert the results into the reporting currency.
    */
+  //-------------------------------------------------------------------------
+  @Test
+  public void executeBatch() {
+    BatchFunction fn = new BatchFunction(false);
+    CalculationTask task0 = CalculationTask.of(TARGET, fn, CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, ReportingCurrency.NONE));
+    CalculationTask task1 = CalculationTask.of(TARGET, fn, CalculationTaskCell.of(1, 0, TestingMeasures.PRESENT_VALUE, ReportingCurrency.NONE));
+    ScenarioMarketData marketData = ScenarioMarketData.empty();
+
+    List<CalculationResults> results = CalculationTask.executeBatch(ImmutableList.of(task0, task1), marketData, REF_DATA);
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).getCells().get(0).getRowIndex()).isEqualTo(0);
+    assertThat(results.get(0).getCells().get(0).getResult()).hasValue(ScenarioArray.of("batch"));
+    assertThat(results.get(1).getCells().get(0).getRowIndex()).isEqualTo(1);
+    assertThat(results.get(1).getCells().get(0).getResult()).hasValue(ScenarioArray.of("batch"));
+  }
+
+  @Test
+  public void executeBatch_singleTask() {
+    BatchFunction fn = new BatchFunction(false);
+    CalculationTask task = CalculationTask.of(TARGET, fn, CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, ReportingCurrency.NONE));
+
+    List<CalculationResults> results = CalculationTask.executeBatch(ImmutableList.of(task), ScenarioMarketData.empty(), REF_DATA);
+    assertThat(results.get(0).getCells().get(0).getResult()).hasValue(ScenarioArray.of("single"));
+  }
+
+  @Test
+  public void executeBatch_differentMeasures() {
+    BatchFunction fn = new BatchFunction(false);
+    CalculationTask task0 = CalculationTask.of(TARGET, fn, CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, ReportingCurrency.NONE));
+    CalculationTask task1 = CalculationTask.of(TARGET, fn, CalculationTaskCell.of(1, 0, TestingMeasures.PAR_RATE, ReportingCurrency.NONE));
+
+    List<CalculationResults> results =
+        CalculationTask.executeBatch(ImmutableList.of(task0, task1), ScenarioMarketData.empty(), REF_DATA);
+    assertThat(results.get(0).getCells().get(0).getResult()).hasValue(ScenarioArray.of("single"));
+    assertThat(results.get(1).getCells().get(0).getResult()).isFailure(FailureReason.UNSUPPORTED);
+  }
+
+  @Test
+  public void executeBatch_exception() {
+    BatchFunction fn = new BatchFunction(true);
+    CalculationTask task0 = CalculationTask.of(TARGET, fn, CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, ReportingCurrency.NONE));
+    CalculationTask task1 = CalculationTask.of(TARGET, fn, CalculationTaskCell.of(1, 0, TestingMeasures.PRESENT_VALUE, ReportingCurrency.NONE));
+
+    List<CalculationResults> results =
+        CalculationTask.executeBatch(ImmutableList.of(task0, task1), ScenarioMarketData.empty(), REF_DATA);
+    assertThat(results.get(0).getCells().get(0).getResult()).hasValue(ScenarioArray.of("single"));
+    assertThat(results.get(1).getCells().get(0).getResult()).hasValue(ScenarioArray.of("single"));
+  }
+
+  @Test
+  public void executeBatch_missingMeasure() {
+    MeasureCheckFunction fn = new MeasureCheckFunction(ImmutableSet.of(TestingMeasures.PRESENT_VALUE), Optional.of("123"));
+    CalculationTask task0 = CalculationTask.of(
+        TARGET,
+        fn,
+        CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD),
+        CalculationTaskCell.of(0, 1, TestingMeasures.PRESENT_VALUE_MULTI_CCY, REPORTING_CURRENCY_USD));
+    CalculationTask task1 = CalculationTask.of(
+        TARGET,
+        fn,
+        CalculationTaskCell.of(1, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD),
+        CalculationTaskCell.of(1, 1, TestingMeasures.PRESENT_VALUE_MULTI_CCY, REPORTING_CURRENCY_USD));
+
+    List<CalculationResults> results =
+        CalculationTask.executeBatch(ImmutableList.of(task0, task1), ScenarioMarketData.empty(), REF_DATA);
+    for (CalculationResults result : results) {
+      assertThat(result.getCells().get(0).getResult()).isSuccess();
+      assertThat(result.getCells().get(1).getResult())
+          .isFailure(FailureReason.CALCULATION_FAILED)
+          .hasFailureMessageMatching(
+              "Function 'MeasureCheckFunction' did not return requested measure 'PresentValueMultiCurrency' for ID '123'");
+    }
+  }
+
+  //-------------------------------------------------------------------------
   @Test
   public void fxConversionRequirements() {
     OutputCurrenciesFunction fn = new OutputCurrenciesFunction();
@@ -677,6 +752,72 @@ public class CalculationTaskTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Function that returns different values when invoked individually and as a batch.
+   */
+  private static final class BatchFunction implements CalculationFunction<TestTarget> {
+
+    private final boolean batchFails;
+
+    private BatchFunction(boolean batchFails) {
+      this.batchFails = batchFails;
+    }
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(TestingMeasures.PRESENT_VALUE);
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of("single")));
+    }
+
+    @Override
+    public List<Map<Measure, Result<?>>> calculateBatch(
+        List<? extends TestTarget> targets,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      if (batchFails) {
+        throw new IllegalStateException("batch");
+      }
+      return targets.stream()
+          .map(target -> ImmutableMap.<Measure, Result<?>>of(
+              TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of("batch"))))
+          .collect(toImmutableList());
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Function that returns a value from a Supplier.
@@ -11,14 +11,19 @@ import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -157,6 +162,100 @@ public class DefaultCalculationTaskRunnerTest {
     assertThat(results.getColumns().get(0).getMeasure()).isEqualTo(TestingMeasures.PRESENT_VALUE);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void batchedDirectExecutor() {
+    // using the direct executor means there is no need to close/shutdown the runner
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), 2);
+    assertBatchedResults(test, 2);
+  }
+
+  @Test
+  @Timeout(5)
+  public void batchedForkJoinPool() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      CalculationTaskRunner test = CalculationTaskRunner.of(pool, 2);
+      assertBatchedResults(test, 2);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  @Timeout(5)
+  public void workStealing() {
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofWorkStealing()) {
+      assertBatchedResults(test, CalculationTaskRunner.DEFAULT_BATCH_SIZE);
+    }
+  }
+
+  @Test
+  @Timeout(5)
+  public void batchThrows() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try (CalculationTaskRunner workStealing = CalculationTaskRunner.ofWorkStealing()) {
+      CalculationTaskRunner test = CalculationTaskRunner.of(executor, 3);
+      for (CalculationTaskRunner runner : ImmutableList.of(test, workStealing)) {
+        // the batch method throws an error, the tasks are then executed individually
+        Results results = runner.calculate(
+            throwingBatchTasks(new ThrowingBatchFunction(false)), MarketData.empty(VAL_DATE), REF_DATA);
+        for (int row = 0; row < 8; row++) {
+          assertThat(results.get(row, 0)).hasValue("foo");
+        }
+        // the individual calculations also throw an error, a failure is returned for each task
+        Results failures = runner.calculate(
+            throwingBatchTasks(new ThrowingBatchFunction(true)), MarketData.empty(VAL_DATE), REF_DATA);
+        for (int row = 0; row < 8; row++) {
+          assertThat(failures.get(row, 0))
+              .isFailure(FailureReason.CALCULATION_FAILED)
+              .hasFailureMessageMatching(".*Calculation failed.*");
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // eight tasks using the same function
+  private static CalculationTasks throwingBatchTasks(ThrowingBatchFunction fn) {
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int row = 0; row < 8; row++) {
+      CalculationTaskCell cell = CalculationTaskCell.of(row, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(TARGET, fn, cell));
+    }
+    return CalculationTasks.of(taskBuilder.build(), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+  }
+
+  @Test
+  public void batchSizeInvalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), 0));
+  }
+
+  // runs five tasks using one function interleaved with three tasks using another
+  private static void assertBatchedResults(CalculationTaskRunner test, int batchSize) {
+    ScenarioResultFunction fn1 = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, ScenarioArray.of("foo"));
+    ScenarioResultFunction fn2 = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, ScenarioArray.of("bar"));
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int row = 0; row < 8; row++) {
+      CalculationTaskCell cell = CalculationTaskCell.of(row, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(TARGET, row % 3 == 1 ? fn2 : fn1, cell));
+    }
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(taskBuilder.build(), ImmutableList.of(column));
+
+    TimingListener listener = new TimingListener();
+    test.calculateAsync(tasks, MarketData.empty(VAL_DATE), REF_DATA, listener);
+    Results results = listener.delegate.result();
+    for (int row = 0; row < 8; row++) {
+      assertThat(results.get(row, 0)).hasValue(row % 3 == 1 ? "bar" : "foo");
+    }
+    assertThat(listener.taskCounts).containsOnly(entry(fn1, 5), entry(fn2, 3));
+    assertThat(listener.maxBatchSize).isLessThanOrEqualTo(batchSize);
+    assertThat(listener.completeBeforeTiming).isFalse();
+  }
+
   //-------------------------------------------------------------------------
   private static final class ScenarioResultFunction implements CalculationFunction<TestTarget> {
 
@@ -221,6 +320,40 @@ public class DefaultCalculationTaskRunnerTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  private static final class TimingListener implements CalculationListener {
+
+    private final ResultsListener delegate = new ResultsListener();
+    private final Map<CalculationFunction<?>, Integer> taskCounts = new HashMap<>();
+    private int maxBatchSize;
+    private boolean complete;
+    private boolean completeBeforeTiming;
+
+    @Override
+    public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+      delegate.calculationsStarted(targets, columns);
+    }
+
+    @Override
+    public void batchComplete(CalculationFunction<?> function, int taskCount, Duration duration) {
+      taskCounts.merge(function, taskCount, Integer::sum);
+      maxBatchSize = Math.max(maxBatchSize, taskCount);
+      completeBeforeTiming |= complete;
+      assertThat(duration.isNegative()).isFalse();
+    }
+
+    @Override
+    public void resultReceived(CalculationTarget target, CalculationResult result) {
+      delegate.resultReceived(target, result);
+    }
+
+    @Override
+    public void calculationsComplete() {
+      complete = true;
+      delegate.calculationsComplete();
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   @Timeout(5)
@@ -312,6 +445,66 @@ public class DefaultCalculationTaskRunnerTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  private static final class ThrowingBatchFunction implements CalculationFunction<TestTarget> {
+
+    private final boolean failIndividually;
+
+    private ThrowingBatchFunction(boolean failIndividually) {
+      this.failIndividually = failIndividually;
+    }
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(TestingMeasures.PRESENT_VALUE);
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      if (failIndividually) {
+        throw new AssertionError("Calculation failed");
+      }
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of("foo")));
+    }
+
+    @Override
+    public List<Map<Measure, Result<?>>> calculateBatch(
+        List<? extends TestTarget> targets,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      throw new AssertionError("Batch failed");
+    }
+  }
+
   //-------------------------------------------------------------------------
   public static final class HangingFunction implements CalculationFunction<TestTarget> {
 
@@ -0,0 +1,423 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.convert.StringConvert;
+import org.joda.convert.StringConverter;
+
+import com.google.common.io.ByteSource;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Compact binary codec for immutable beans that contain large amounts of numeric data.
+ * <p>
+ * This is intended for round-tripping large object graphs, such as calibrated curve groups
+ * or scenario market data, between processes.
+ * <p>
+ * The bean structure is written using the referencing Joda-Bean binary format, which writes
+ * each type name once and each repeated immutable bean, such as shared metadata, once.
+ * Every {@code double[]} in the graph, including that within {@link DoubleArray}, is written
+ * as a raw IEEE-754 block in a separate columnar section, rather than as decimal text.
+ * Identical arrays, such as the x-values of a curve in many scenarios, are only written once.
+ * The output may optionally be compressed using gzip.
+ * <p>
+ * Uncompressed output can be read from a file using memory-mapping, see {@link #read(Path, Class)}.
+ * <p>
+ * The format is intended for transport between processes that share the same version of the code.
+ * It is not intended for long-term storage.
+ */
+public final class BeanBinaryCodec {
+
+  /**
+   * The header that identifies the format.
+   */
+  private static final int HEADER = 0x53424243;  // SBBC
+  /**
+   * The version of the format.
+   */
+  private static final int VERSION = 1;
+  /**
+   * The flag indicating that the body is compressed.
+   */
+  private static final int FLAG_COMPRESSED = 1;
+  /**
+   * The number of bytes before the body.
+   */
+  private static final int PREAMBLE_SIZE = 9;
+  /**
+   * The default size of each mapped window when reading a file.
+   */
+  private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+  /**
+   * The size of the buffer used when reading and writing blocks as a stream.
+   */
+  private static final int BUFFER_SIZE = 8192;
+
+  // creates the serializer, which writes each double[] as a reference to one of the blocks
+  private static JodaBeanSer serializer(DoubleBlocks blocks) {
+    StringConvert convert = StringConvert.create();
+    convert.register(double[].class, new StringConverter<double[]>() {
+      @Override
+      public String convertToString(double[] array) {
+        return Integer.toString(blocks.add(array));
+      }
+
+      @Override
+      public double[] convertFromString(Class<? extends double[]> cls, String str) {
+        return blocks.get(Integer.parseInt(str));
+      }
+    });
+    return JodaBeanSer.COMPACT.withConverter(convert);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Encodes the bean, without compression.
+   *
+   * @param bean  the bean to encode
+   * @return the encoded bytes
+   * @throws RuntimeException if the bean cannot be encoded
+   */
+  public static ArrayByteSource encode(ImmutableBean bean) {
+    return encode(bean, false);
+  }
+
+  /**
+   * Encodes the bean, optionally compressing the output.
+   * <p>
+   * Compressed output is smaller, but cannot be memory-mapped when read.
+   * Uncompressed output is limited to 2Gb, as it is held in a single byte array.
+   *
+   * @param bean  the bean to encode
+   * @param compress  whether to compress the output
+   * @return the encoded bytes
+   * @throws IllegalArgumentException if the uncompressed output would be larger than 2Gb
+   * @throws RuntimeException if the bean cannot be encoded
+   */
+  public static ArrayByteSource encode(ImmutableBean bean, boolean compress) {
+    ArgChecker.notNull(bean, "bean");
+    DoubleBlocks blocks = new DoubleBlocks();
+    byte[] beanBytes = serializer(blocks).binWriterReferencing().write(bean);
+    // the preamble, the block count, the block lengths, the blocks, the bean size and the bean
+    long size = PREAMBLE_SIZE + 4L + 4L * blocks.arrays.size() + 8L * blocks.totalSize() + 4L + beanBytes.length;
+    if (!compress && size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(Messages.format(
+          "Bean is too large to encode without compression, {} bytes exceeds the maximum of {}", size, Integer.MAX_VALUE));
+    }
+    try {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream((int) Math.min(size, Integer.MAX_VALUE));
+      DataOutputStream out = new DataOutputStream(baos);
+      out.writeInt(HEADER);
+      out.writeInt(VERSION);
+      out.writeByte(compress ? FLAG_COMPRESSED : 0);
+      out.flush();
+      if (compress) {
+        try (OutputStream gzip = new GZIPOutputStream(baos)) {
+          writeBody(new DataOutputStream(gzip), blocks, beanBytes);
+        }
+      } else {
+        writeBody(out, blocks, beanBytes);
+      }
+      out.flush();
+      return ArrayByteSource.ofUnsafe(baos.toByteArray());
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  // writes the blocks, then the bean
+  private static void writeBody(DataOutputStream out, DoubleBlocks blocks, byte[] beanBytes) throws IOException {
+    out.writeInt(blocks.arrays.size());
+    for (double[] array : blocks.arrays) {
+      out.writeInt(array.length);
+    }
+    ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE);
+    for (double[] array : blocks.arrays) {
+      for (double value : array) {
+        if (!buf.hasRemaining()) {
+          out.write(buf.array(), 0, buf.position());
+          buf.clear();
+        }
+        buf.putDouble(value);
+      }
+    }
+    out.write(buf.array(), 0, buf.position());
+    out.writeInt(beanBytes.length);
+    out.write(beanBytes);
+    out.flush();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Decodes a bean.
+   *
+   * @param <T>  the type of the bean
+   * @param source  the encoded bytes
+   * @param type  the expected type of the bean
+   * @return the decoded bean
+   * @throws IllegalArgumentException if the bytes are not in the expected format
+   * @throws UncheckedIOException if an IO error occurs
+   * @throws RuntimeException if the bean cannot be decoded
+   */
+  public static <T> T decode(ByteSource source, Class<T> type) {
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(type, "type");
+    try (InputStream in = source.openBufferedStream()) {
+      DataInputStream data = new DataInputStream(in);
+      byte[] preamble = new byte[PREAMBLE_SIZE];
+      data.readFully(preamble);
+      boolean compressed = readPreamble(ByteBuffer.wrap(preamble));
+      if (compressed) {
+        data = new DataInputStream(new GZIPInputStream(in));
+      }
+      int[] lengths = new int[checkSize(data.readInt())];
+      for (int i = 0; i < lengths.length; i++) {
+        lengths[i] = checkSize(data.readInt());
+      }
+      DoubleBlocks blocks = new DoubleBlocks();
+      byte[] bytes = new byte[BUFFER_SIZE];
+      ByteBuffer buf = ByteBuffer.wrap(bytes);
+      for (int length : lengths) {
+        double[] array = new double[length];
+        for (int offset = 0; offset < length;) {
+          int count = Math.min(BUFFER_SIZE / 8, length - offset);
+          data.readFully(bytes, 0, count * 8);
+          buf.clear();
+          buf.asDoubleBuffer().get(array, offset, count);
+          offset += count;
+        }
+        blocks.arrays.add(array);
+      }
+      byte[] beanBytes = new byte[checkSize(data.readInt())];
+      data.readFully(beanBytes);
+      return decodeBean(blocks, beanBytes, type);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * Reads a bean from a file.
+   * <p>
+   * An uncompressed file is memory-mapped, with each block of numeric data copied directly into a {@code double[]}.
+   * The file is mapped in windows, allowing files larger than 2Gb to be read.
+   * A compressed file is read as a stream.
+   *
+   * @param <T>  the type of the bean
+   * @param file  the file to read
+   * @param type  the expected type of the bean
+   * @return the decoded bean
+   * @throws IllegalArgumentException if the file is not in the expected format
+   * @throws UncheckedIOException if an IO error occurs
+   * @throws RuntimeException if the bean cannot be decoded
+   */
+  public static <T> T read(Path file, Class<T> type) {
+    return read(file, type, DEFAULT_WINDOW_SIZE);
+  }
+
+  // reads a bean from a file, mapping windows of the specified size
+  static <T> T read(Path file, Class<T> type, int windowSize) {
+    ArgChecker.notNull(file, "file");
+    ArgChecker.notNull(type, "type");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedInput input = new MappedInput(channel, windowSize);
+      if (readPreamble(input.window(PREAMBLE_SIZE))) {
+        return decode(FileByteSource.of(file.toFile()), type);
+      }
+      int[] lengths = new int[checkSize(input.readInt())];
+      for (int i = 0; i < lengths.length; i++) {
+        lengths[i] = checkSize(input.readInt());
+      }
+      DoubleBlocks blocks = new DoubleBlocks();
+      for (int length : lengths) {
+        double[] array = new double[length];
+        input.readDoubles(array);
+        blocks.arrays.add(array);
+      }
+      byte[] beanBytes = new byte[checkSize(input.readInt())];
+      input.readBytes(beanBytes);
+      return decodeBean(blocks, beanBytes, type);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  // reads the preamble, returning true if the body is compressed
+  private static boolean readPreamble(ByteBuffer buffer) {
+    int header = buffer.getInt();
+    int version = buffer.getInt();
+    int flags = buffer.get();
+    if (header != HEADER) {
+      throw new IllegalArgumentException("Invalid binary bean format, header not found");
+    }
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Invalid binary bean format, unsupported version " + version);
+    }
+    return (flags & FLAG_COMPRESSED) != 0;
+  }
+
+  // checks that a count or length read from the input is not negative
+  private static int checkSize(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("Invalid binary bean format, negative size " + size);
+    }
+    return size;
+  }
+
+  // decodes the bean using the blocks
+  private static <T> T decodeBean(DoubleBlocks blocks, byte[] beanBytes, Class<T> type) {
+    return serializer(blocks).binReader().read(new ByteArrayInputStream(beanBytes), type);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Restricted constructor.
+   */
+  private BeanBinaryCodec() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The blocks of numeric data.
+   */
+  private static final class DoubleBlocks {
+    // the arrays, in block order
+    private final List<double[]> arrays = new ArrayList<>();
+    // the index of each array when writing, used to write identical arrays once
+    private final Map<DoubleArray, Integer> indices = new HashMap<>();
+    // whether each block has been returned when reading
+    private final BitSet used = new BitSet();
+
+    // adds an array, returning the block index
+    // the array is not copied, as it is only held while the bean is written
+    private int add(double[] array) {
+      DoubleArray key = DoubleArray.ofUnsafe(array);
+      Integer index = indices.get(key);
+      if (index == null) {
+        index = arrays.size();
+        arrays.add(array);
+        indices.put(key, index);
+      }
+      return index;
+    }
+
+    // gets an array by block index, copying if the block is referenced more than once
+    private double[] get(int index) {
+      if (index < 0 || index >= arrays.size()) {
+        throw new IllegalArgumentException("Invalid binary bean format, unknown block " + index);
+      }
+      double[] array = arrays.get(index);
+      if (used.get(index)) {
+        return array.clone();
+      }
+      used.set(index);
+      return array;
+    }
+
+    // the total number of values
+    private long totalSize() {
+      long total = 0;
+      for (double[] array : arrays) {
+        total += array.length;
+      }
+      return total;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Input that memory-maps a file in windows, allowing files larger than 2Gb to be read.
+   */
+  private static final class MappedInput {
+    // the file channel
+    private final FileChannel channel;
+    // the size of the file
+    private final long fileSize;
+    // the size of each mapped window
+    private final int windowSize;
+    // the current mapped window
+    private ByteBuffer buffer;
+    // the position in the file of the start of the current window
+    private long bufferStart;
+
+    private MappedInput(FileChannel channel, int windowSize) throws IOException {
+      this.channel = channel;
+      this.fileSize = channel.size();
+      this.windowSize = windowSize;
+      map(0, 0);
+    }
+
+    // maps the window starting at the specified position, which is at least the specified size
+    private void map(long position, int size) throws IOException {
+      long mappedSize = Math.min(Math.max(windowSize, size), fileSize - position);
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, mappedSize);
+      bufferStart = position;
+    }
+
+    // returns the current window, ensuring that the specified number of bytes are available
+    private ByteBuffer window(int size) throws IOException {
+      if (buffer.remaining() < size) {
+        long position = bufferStart + buffer.position();
+        if (fileSize - position < size) {
+          throw new IllegalArgumentException("Invalid binary bean format, file too short");
+        }
+        map(position, size);
+      }
+      return buffer;
+    }
+
+    // reads an int
+    private int readInt() throws IOException {
+      return window(4).getInt();
+    }
+
+    // reads the doubles, filling the array
+    private void readDoubles(double[] array) throws IOException {
+      for (int offset = 0; offset < array.length;) {
+        ByteBuffer window = window(8);
+        int count = Math.min(window.remaining() / 8, array.length - offset);
+        window.asDoubleBuffer().get(array, offset, count);
+        window.position(window.position() + count * 8);
+        offset += count;
+      }
+    }
+
+    // reads the bytes, filling the array
+    private void readBytes(byte[] array) throws IOException {
+      for (int offset = 0; offset < array.length;) {
+        ByteBuffer window = window(1);
+        int count = Math.min(window.remaining(), array.length - offset);
+        window.get(array, offset, count);
+        offset += count;
+      }
+    }
+  }
+
+}
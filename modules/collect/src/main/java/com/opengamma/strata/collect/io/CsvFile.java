@@ -334,6 +334,9 @@ public final class CsvFile {
     if (line.length() == 0 || line.startsWith("#") || (line.startsWith(";") && separator != ';')) {
       return ImmutableList.of();
     }
+    if (line.indexOf('"') < 0) {
+      return parseUnquotedLine(line, separator);
+    }
     ImmutableList.Builder<String> builder = ImmutableList.builder();
     String terminated = line + separator;
     // three modes of parsing - base, value and quote
@@ -392,6 +395,38 @@ public final class CsvFile {
     return fields;
   }
 
+  // parse a single line that contains no quotes
+  // this is the common case, where each field is the trimmed text between separators
+  // the result matches the general parser, but avoids copying the line and each field more than once
+  private static ImmutableList<String> parseUnquotedLine(String line, char separator) {
+    ImmutableList.Builder<String> builder = ImmutableList.builder();
+    boolean content = false;
+    int length = line.length();
+    int start = 0;
+    while (start <= length) {
+      int end = line.indexOf(separator, start);
+      if (end < 0) {
+        end = length;
+      }
+      int first = start;
+      int last = end;
+      while (first < last && line.charAt(first) <= ' ') {
+        first++;
+      }
+      while (last > first && line.charAt(last - 1) <= ' ') {
+        last--;
+      }
+      if (first == last) {
+        builder.add("");
+      } else {
+        builder.add(line.substring(first, last));
+        content = true;
+      }
+      start = end + 1;
+    }
+    return content ? builder.build() : ImmutableList.of();
+  }
+
   // determines whether there is any content on a line
   // this handles lines that contain separators but nothing else
   private static boolean hasContent(ImmutableList<String> fields) {
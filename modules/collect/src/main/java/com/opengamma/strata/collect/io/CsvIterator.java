@@ -6,9 +6,11 @@
 package com.opengamma.strata.collect.io;
 
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -38,6 +40,10 @@ import com.opengamma.strata.collect.Unchecked;
  * This class processes the CSV file row-by-row.
  * To load the entire CSV file into memory, use {@link CsvFile}.
  * <p>
+ * Large UTF-8 files on the local file system can be read using {@link #of(Path, boolean)}.
+ * This memory-maps the file and splits each line into fields at the byte level,
+ * avoiding the creation of an intermediate string for each line.
+ * <p>
  * This class must be used in a try-with-resources block to ensure that the underlying CSV file is closed:
  * <pre>
  *  try (CsvIterator csvIterator = CsvIterator.of(source, true)) {
@@ -62,13 +68,9 @@ import com.opengamma.strata.collect.Unchecked;
 public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow> {
 
   /**
-   * The buffered reader.
-   */
-  private final BufferedReader reader;
-  /**
-   * The separator
+   * The reader of fields.
    */
-  private final char separator;
+  private final FieldReader reader;
   /**
    * The header row, ordered as the headers appear in the file.
    */
@@ -89,6 +91,8 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
   //------------------------------------------------------------------------
   /**
    * Parses the specified source as a CSV file, using a comma as the separator.
+   * <p>
+   * A byte order mark at the start of the source is ignored.
    * 
    * @param source  the source to read as CSV
    * @param headerRow  whether the source has a header row, an empty source must still contain the header
@@ -105,6 +109,8 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
    * <p>
    * This overload allows the separator to be controlled.
    * For example, a tab-separated file is very similar to a CSV file, the only difference is the separator.
+   * <p>
+   * A byte order mark at the start of the source is ignored.
    * 
    * @param source  the source to read as CSV
    * @param headerRow  whether the source has a header row, an empty source must still contain the header
@@ -117,12 +123,13 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
     ArgChecker.notNull(source, "source");
     @SuppressWarnings("resource")
     BufferedReader reader = Unchecked.wrap(() -> source.openBufferedStream());
-    return create(reader, headerRow, separator);
+    return create(new LineFieldReader(reader, separator), headerRow);
   }
 
   /**
    * Parses the specified reader as a CSV file, using a comma as the separator.
    * <p>
+   * A byte order mark at the start of the reader is ignored.
    * The caller is responsible for closing the reader, such as by calling {@link #close()}.
    * 
    * @param reader  the file reader
@@ -141,6 +148,7 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
    * This overload allows the separator to be controlled.
    * For example, a tab-separated file is very similar to a CSV file, the only difference is the separator.
    * <p>
+   * A byte order mark at the start of the reader is ignored.
    * The caller is responsible for closing the reader, such as by calling {@link #close()}.
    * 
    * @param reader  the file reader
@@ -154,30 +162,66 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
     ArgChecker.notNull(reader, "reader");
     @SuppressWarnings("resource")
     BufferedReader breader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
-    return create(breader, headerRow, separator);
+    return create(new LineFieldReader(breader, separator), headerRow);
+  }
+
+  /**
+   * Parses the specified file as a CSV file, using a comma as the separator.
+   * <p>
+   * The file must be encoded in UTF-8 or ASCII, a byte order mark is ignored.
+   * The file is memory-mapped and split into fields at the byte level, which is suited to very large files.
+   * 
+   * @param file  the file to read as CSV
+   * @param headerRow  whether the file has a header row, an empty file must still contain the header
+   * @return the CSV file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static CsvIterator of(Path file, boolean headerRow) {
+    return of(file, headerRow, ',');
+  }
+
+  /**
+   * Parses the specified file as a CSV file where the separator is specified and might not be a comma.
+   * <p>
+   * The file must be encoded in UTF-8 or ASCII, a byte order mark is ignored.
+   * The file is memory-mapped and split into fields at the byte level, which is suited to very large files.
+   * The rows are identical to those that would be obtained by parsing the file as a {@link CharSource}.
+   * 
+   * @param file  the file to read as CSV
+   * @param headerRow  whether the file has a header row, an empty file must still contain the header
+   * @param separator  the separator used to separate each field, typically a comma, but a tab is sometimes used
+   * @return the CSV file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static CsvIterator of(Path file, boolean headerRow, char separator) {
+    ArgChecker.notNull(file, "file");
+    @SuppressWarnings("resource")
+    FieldReader reader = Unchecked.wrap(() -> MappedCsvReader.of(file, separator));
+    return create(reader, headerRow);
   }
 
   // create the iterator
-  private static CsvIterator create(BufferedReader breader, boolean headerRow, char separator) {
+  private static CsvIterator create(FieldReader reader, boolean headerRow) {
     try {
       if (!headerRow) {
-        return new CsvIterator(breader, separator, ImmutableList.of(), ImmutableMap.of(), 0);
+        return new CsvIterator(reader, ImmutableList.of(), ImmutableMap.of(), 0);
       }
-      String line = breader.readLine();
+      ImmutableList<String> headers = reader.readFields();
       int lineNumber = 1;
-      while (line != null) {
-        ImmutableList<String> headers = CsvFile.parseLine(line, separator);
+      while (headers != null) {
         if (!headers.isEmpty()) {
-          return new CsvIterator(breader, separator, headers, CsvFile.buildSearchHeaders(headers), lineNumber);
+          return new CsvIterator(reader, headers, CsvFile.buildSearchHeaders(headers), lineNumber);
         }
-        line = breader.readLine();
+        headers = reader.readFields();
         lineNumber++;
       }
       throw new IllegalArgumentException("Could not read header row from empty CSV file");
 
     } catch (RuntimeException ex) {
       try {
-        breader.close();
+        reader.close();
       } catch (IOException ex2) {
         ex.addSuppressed(ex2);
       }
@@ -185,7 +229,7 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
 
     } catch (IOException ex) {
       try {
-        breader.close();
+        reader.close();
       } catch (IOException ex2) {
         ex.addSuppressed(ex2);
       }
@@ -197,19 +241,17 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
   /**
    * Restricted constructor.
    * 
-   * @param reader  the buffered reader
+   * @param reader  the reader of fields
    * @param headers  the header row
    * @param searchHeaders  the search headers
    */
   private CsvIterator(
-      BufferedReader reader,
-      char separator,
+      FieldReader reader,
       ImmutableList<String> headers,
       ImmutableMap<String, Integer> searchHeaders,
       int currentLineNumber) {
 
     this.reader = reader;
-    this.separator = separator;
     this.headers = headers;
     this.searchHeaders = searchHeaders;
     this.currentLineNumber = currentLineNumber;
@@ -314,10 +356,9 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
     if (nextRow != null) {
       return true;
     } else {
-      String line = null;
-      while ((line = Unchecked.wrap(() -> reader.readLine())) != null) {
+      ImmutableList<String> fields = null;
+      while ((fields = Unchecked.wrap(() -> reader.readFields())) != null) {
         currentLineNumber++;
-        ImmutableList<String> fields = CsvFile.parseLine(line, separator);
         if (!fields.isEmpty()) {
           nextRow = new CsvRow(headers, searchHeaders, currentLineNumber, fields);
           return true;
@@ -447,4 +488,57 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
     return "CsvIterator" + headers.toString();
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Reader of the fields of each line in a CSV file.
+   */
+  abstract static class FieldReader implements Closeable {
+
+    /**
+     * Reads the fields of the next line.
+     * <p>
+     * An empty list is returned if the line is blank or a comment.
+     * 
+     * @return the fields of the next line, null if the end of file has been reached
+     * @throws IOException if an IO error occurs
+     */
+    abstract ImmutableList<String> readFields() throws IOException;
+  }
+
+  /**
+   * Reader of fields that parses each line from a {@code BufferedReader}.
+   * <p>
+   * A byte order mark at the start of the first line is ignored, matching {@link MappedCsvReader}.
+   */
+  private static final class LineFieldReader extends FieldReader {
+    private final BufferedReader reader;
+    private final char separator;
+    private boolean firstLine = true;
+
+    private LineFieldReader(BufferedReader reader, char separator) {
+      this.reader = reader;
+      this.separator = separator;
+    }
+
+    @Override
+    public ImmutableList<String> readFields() throws IOException {
+      String line = reader.readLine();
+      if (line == null) {
+        return null;
+      }
+      if (firstLine) {
+        firstLine = false;
+        if (line.startsWith("\uFEFF")) {
+          line = line.substring(1);
+        }
+      }
+      return CsvFile.parseLine(line, separator);
+    }
+
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+  }
+
 }
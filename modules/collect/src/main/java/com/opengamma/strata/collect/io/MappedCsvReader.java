@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Reader of CSV fields that tokenizes a memory-mapped UTF-8 file at the byte level.
+ * <p>
+ * Lines are located and split into fields directly in the mapped bytes.
+ * Each field is decoded to a {@code String} exactly once, without an intermediate line string.
+ * Lines containing quotes are decoded and passed to the standard lenient parser.
+ * <p>
+ * The file is mapped in windows, allowing files larger than 2Gb to be read.
+ * A UTF-8 byte order mark at the start of the file is ignored.
+ */
+final class MappedCsvReader extends CsvIterator.FieldReader {
+
+  /**
+   * The default size of each mapped window.
+   */
+  private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+  /**
+   * The maximum size of a single mapped window.
+   */
+  private static final long MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+  /**
+   * The file channel.
+   */
+  private final FileChannel channel;
+  /**
+   * The size of the file.
+   */
+  private final long fileSize;
+  /**
+   * The separator.
+   */
+  private final char separator;
+  /**
+   * The size of each mapped window.
+   */
+  private final int windowSize;
+  /**
+   * The current mapped window.
+   */
+  private ByteBuffer buffer;
+  /**
+   * The position in the file of the start of the current window.
+   */
+  private long bufferStart;
+  /**
+   * The bytes of the current line.
+   */
+  private byte[] line = new byte[256];
+
+  //-------------------------------------------------------------------------
+  /**
+   * Opens the specified file.
+   *
+   * @param file  the file to read
+   * @param separator  the separator
+   * @return the reader
+   * @throws IOException if an IO error occurs
+   */
+  static MappedCsvReader of(Path file, char separator) throws IOException {
+    return of(file, separator, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Opens the specified file, mapping windows of the specified size.
+   *
+   * @param file  the file to read
+   * @param separator  the separator
+   * @param windowSize  the size of each mapped window
+   * @return the reader
+   * @throws IOException if an IO error occurs
+   */
+  static MappedCsvReader of(Path file, char separator, int windowSize) throws IOException {
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      return new MappedCsvReader(channel, separator, windowSize);
+    } catch (IOException | RuntimeException ex) {
+      try {
+        channel.close();
+      } catch (IOException ex2) {
+        ex.addSuppressed(ex2);
+      }
+      throw ex;
+    }
+  }
+
+  // restricted constructor
+  private MappedCsvReader(FileChannel channel, char separator, int windowSize) throws IOException {
+    this.channel = channel;
+    this.fileSize = channel.size();
+    this.separator = separator;
+    this.windowSize = windowSize;
+    ByteBuffer bom = ByteBuffer.allocate(3);
+    channel.read(bom, 0);
+    boolean hasBom = bom.position() == 3 && bom.get(0) == (byte) 0xEF && bom.get(1) == (byte) 0xBB && bom.get(2) == (byte) 0xBF;
+    map(hasBom ? 3 : 0, windowSize);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public ImmutableList<String> readFields() throws IOException {
+    int length = readLine();
+    if (length < 0) {
+      return null;
+    }
+    return parseFields(length);
+  }
+
+  @Override
+  public void close() throws IOException {
+    // the mapping itself is released when the buffer is garbage collected
+    buffer = null;
+    channel.close();
+  }
+
+  //-------------------------------------------------------------------------
+  // maps a window of the file, starting at the specified position
+  private void map(long position, long size) throws IOException {
+    long mappedSize = Math.min(Math.min(size, fileSize - position), MAX_WINDOW_SIZE);
+    buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, mappedSize);
+    bufferStart = position;
+  }
+
+  // ensures that there are bytes available in the window, returning false at the end of the file
+  private boolean ensureAvailable() throws IOException {
+    if (buffer.hasRemaining()) {
+      return true;
+    }
+    long position = bufferStart + buffer.limit();
+    if (position >= fileSize) {
+      return false;
+    }
+    map(position, windowSize);
+    return true;
+  }
+
+  // reads the next line into the line array, returning the length, or -1 at the end of the file
+  // lines are terminated by LF, CR or CRLF, matching BufferedReader
+  private int readLine() throws IOException {
+    if (!ensureAvailable()) {
+      return -1;
+    }
+    int start = buffer.position();
+    int end = start;
+    int limit = buffer.limit();
+    while (true) {
+      while (end < limit) {
+        byte b = buffer.get(end);
+        if (b == '\n' || b == '\r') {
+          break;
+        }
+        end++;
+      }
+      if (end < limit || bufferStart + limit >= fileSize) {
+        break;
+      }
+      // the line continues beyond the window, so remap starting at the line
+      long lineStart = bufferStart + start;
+      long lineLength = end - start;
+      if (lineLength >= MAX_WINDOW_SIZE) {
+        throw new IllegalArgumentException("CSV file contains a line that is too long to be parsed");
+      }
+      map(lineStart, Math.max(windowSize, lineLength * 2));
+      start = 0;
+      end = (int) lineLength;
+      limit = buffer.limit();
+    }
+    int length = end - start;
+    if (length > line.length) {
+      line = new byte[Math.max(length, line.length * 2)];
+    }
+    buffer.position(start);
+    buffer.get(line, 0, length);
+    // skip the line terminator
+    if (buffer.hasRemaining() && buffer.get() == '\r' && ensureAvailable() && buffer.get(buffer.position()) == '\n') {
+      buffer.get();
+    }
+    return length;
+  }
+
+  // parses the current line into fields, matching CsvFile.parseLine()
+  private ImmutableList<String> parseFields(int length) {
+    if (length == 0 || line[0] == '#' || (line[0] == ';' && separator != ';')) {
+      return ImmutableList.of();
+    }
+    if (separator >= 0x80 || containsQuote(length)) {
+      return CsvFile.parseLine(new String(line, 0, length, UTF_8), separator);
+    }
+    // the separator is ASCII, and bytes in UTF-8 multi-byte sequences are never ASCII
+    // thus splitting and trimming on the bytes matches splitting and trimming on the decoded characters
+    ImmutableList.Builder<String> builder = ImmutableList.builder();
+    boolean content = false;
+    byte sep = (byte) separator;
+    int start = 0;
+    while (start <= length) {
+      int end = start;
+      while (end < length && line[end] != sep) {
+        end++;
+      }
+      int first = start;
+      int last = end;
+      while (first < last && (line[first] & 0xFF) <= ' ') {
+        first++;
+      }
+      while (last > first && (line[last - 1] & 0xFF) <= ' ') {
+        last--;
+      }
+      if (first == last) {
+        builder.add("");
+      } else {
+        builder.add(new String(line, first, last - first, UTF_8));
+        content = true;
+      }
+      start = end + 1;
+    }
+    return content ? builder.build() : ImmutableList.of();
+  }
+
+  // checks if the current line contains a quote
+  private boolean containsQuote(int length) {
+    for (int i = 0; i < length; i++) {
+      if (line[i] == '"') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
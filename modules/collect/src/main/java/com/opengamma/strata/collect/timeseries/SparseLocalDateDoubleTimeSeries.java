@@ -6,9 +6,12 @@
 package com.opengamma.strata.collect.timeseries;
 
 import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.OptionalDouble;
@@ -23,17 +26,15 @@ import java.util.stream.Stream;
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
 import org.joda.beans.ImmutableBean;
-import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
-import org.joda.beans.gen.BeanDefinition;
-import org.joda.beans.gen.ImmutableConstructor;
-import org.joda.beans.gen.PropertyDefinition;
-import org.joda.beans.impl.direct.DirectMetaBean;
-import org.joda.beans.impl.direct.DirectMetaProperty;
-import org.joda.beans.impl.direct.DirectMetaPropertyMap;
-import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+import org.joda.beans.PropertyStyle;
+import org.joda.beans.impl.BasicImmutableBeanBuilder;
+import org.joda.beans.impl.BasicMetaBean;
+import org.joda.beans.impl.BasicMetaProperty;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.primitives.Doubles;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
@@ -49,8 +50,10 @@ import com.opengamma.strata.collect.function.ObjDoublePredicate;
  * is likely to be a better choice for the data.
  * <p>
  * This implementation uses arrays internally.
+ * The dates are stored as epoch-days in an {@code int[]}, avoiding an object per date.
+ * Lookup is by binary search on the epoch-day, which does not create any {@code LocalDate} objects.
+ * The bean form exposes the dates as a {@code LocalDate[]} property.
  */
-@BeanDefinition(builderScope = "private", metaScope = "package")
 final class SparseLocalDateDoubleTimeSeries
     implements ImmutableBean, Serializable, LocalDateDoubleTimeSeries {
 
@@ -58,19 +61,26 @@ final class SparseLocalDateDoubleTimeSeries
    * An empty time-series.
    */
   static final LocalDateDoubleTimeSeries EMPTY =
-      new SparseLocalDateDoubleTimeSeries(new LocalDate[0], new double[0]);
+      new SparseLocalDateDoubleTimeSeries(new int[0], new double[0]);
 
   /**
-   * The dates in the series.
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 2L;
+
+  static {
+    MetaBean.register(Meta.INSTANCE);
+  }
+
+  /**
+   * The dates in the series, as epoch-days.
    * The dates are ordered from earliest to latest.
    */
-  @PropertyDefinition(get = "manual", validate = "notNull")
-  private final LocalDate[] dates;
+  private final int[] epochDays;
   /**
    * The values in the series.
    * The date for each value is at the matching array index.
    */
-  @PropertyDefinition(get = "manual", validate = "notNull")
   private final double[] values;
 
   //-------------------------------------------------------------------------
@@ -88,58 +98,69 @@ final class SparseLocalDateDoubleTimeSeries
     ArgChecker.noNulls(values, "values");
     LocalDate[] datesArray = dates.toArray(new LocalDate[dates.size()]);
     double[] valuesArray = Doubles.toArray(values);
-    validate(datesArray, valuesArray);
-    return createUnsafe(datesArray, valuesArray);
+    return of(datesArray, valuesArray);
   }
 
-  // creates time-series by directly assigning the input arrays
-  // must only be called when safe to do so
-  private static SparseLocalDateDoubleTimeSeries createUnsafe(LocalDate[] dates, double[] values) {
-    return new SparseLocalDateDoubleTimeSeries(dates, values, true);
-  }
-
-  // validates the arrays are same length and in order
-  private static void validate(LocalDate[] dates, double[] values) {
+  /**
+   * Obtains a time-series from matching arrays of dates and values, validating the arrays.
+   * <p>
+   * The two arrays must be the same size and the dates must be sorted from earliest to latest.
+   * The values array is cloned.
+   *
+   * @param dates  the dates
+   * @param values  the values
+   * @return the time-series
+   */
+  static SparseLocalDateDoubleTimeSeries of(LocalDate[] dates, double[] values) {
+    ArgChecker.noNulls(dates, "dates");
+    ArgChecker.notNull(values, "values");
     ArgChecker.isTrue(dates.length == values.length,
         "Arrays are of different sizes - dates: {}, values: {}", dates.length, values.length);
+    int[] epochDays = new int[dates.length];
     LocalDate maxDate = LocalDate.MIN;
-    for (LocalDate date : dates) {
+    for (int i = 0; i < dates.length; i++) {
+      LocalDate date = dates[i];
       ArgChecker.isTrue(date.isAfter(maxDate),
           "Dates must be in ascending order but: {} is not after: {}", date, maxDate);
       maxDate = date;
+      epochDays[i] = toStoredEpochDay(date);
     }
+    return new SparseLocalDateDoubleTimeSeries(epochDays, values.clone());
   }
 
-  //-------------------------------------------------------------------------
-  /**
-   * Creates an instance, validating the supplied arrays.
-   * <p>
-   * The arrays are cloned as this constructor is called from Joda-Beans.
-   *
-   * @param dates  the dates
-   * @param values  the values
-   */
-  @ImmutableConstructor
-  private SparseLocalDateDoubleTimeSeries(LocalDate[] dates, double[] values) {
-    ArgChecker.noNulls(dates, "dates");
-    ArgChecker.notNull(values, "values");
-    validate(dates, values);
-    this.dates = dates.clone();
-    this.values = values.clone();
+  // creates time-series by directly assigning the input arrays
+  // must only be called when safe to do so
+  private static SparseLocalDateDoubleTimeSeries createUnsafe(int[] epochDays, double[] values) {
+    return new SparseLocalDateDoubleTimeSeries(epochDays, values);
   }
 
+  // converts a date to an epoch-day for storage
+  // this covers over five million years either side of 1970, the extreme int values are reserved for searching
+  private static int toStoredEpochDay(LocalDate date) {
+    long epochDay = date.toEpochDay();
+    if (epochDay <= Integer.MIN_VALUE || epochDay >= Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(Messages.format("Date is too far from 1970 to be stored: {}", date));
+    }
+    return (int) epochDay;
+  }
+
+  // converts a date to an epoch-day for searching, such as LocalDate.MIN or LocalDate.MAX
+  // out of range dates are pinned to the extreme int values, which are never stored
+  private static int toSearchEpochDay(LocalDate date) {
+    return (int) Math.max(Math.min(date.toEpochDay(), Integer.MAX_VALUE), Integer.MIN_VALUE);
+  }
+
+  //-------------------------------------------------------------------------
   /**
    * Creates an instance without validating the supplied arrays.
+   * <p>
+   * Use {@link #of(LocalDate[], double[])} or {@link #createUnsafe(int[], double[])}.
    *
-   * @param dates  the dates
+   * @param epochDays  the dates, as epoch-days
    * @param values  the values
-   * @param trusted  flag to distinguish constructor
    */
-  private SparseLocalDateDoubleTimeSeries(LocalDate[] dates, double[] values, boolean trusted) {
-    // constructor exists to avoid clones where possible
-    // because Joda-Beans owns the main constructor, this one has a weird flag
-    // use createUnsafe() instead of calling this directly
-    this.dates = dates;
+  private SparseLocalDateDoubleTimeSeries(int[] epochDays, double[] values) {
+    this.epochDays = epochDays;
     this.values = values;
   }
 
@@ -150,7 +171,11 @@ final class SparseLocalDateDoubleTimeSeries
    * @return the value of the property, not null
    */
   private LocalDate[] getDates() {
-    return dates.clone();
+    LocalDate[] dates = new LocalDate[epochDays.length];
+    for (int i = 0; i < dates.length; i++) {
+      dates[i] = LocalDate.ofEpochDay(epochDays[i]);
+    }
+    return dates;
   }
 
   /**
@@ -165,12 +190,12 @@ final class SparseLocalDateDoubleTimeSeries
   //-------------------------------------------------------------------------
   @Override
   public int size() {
-    return dates.length;
+    return epochDays.length;
   }
 
   @Override
   public boolean isEmpty() {
-    return dates.length == 0;
+    return epochDays.length == 0;
   }
 
   @Override
@@ -185,7 +210,7 @@ final class SparseLocalDateDoubleTimeSeries
   }
 
   private int findDatePosition(LocalDate date) {
-    return Arrays.binarySearch(dates, date);
+    return Arrays.binarySearch(epochDays, toSearchEpochDay(date));
   }
 
   //-------------------------------------------------------------------------
@@ -194,7 +219,7 @@ final class SparseLocalDateDoubleTimeSeries
     if (isEmpty()) {
       throw new NoSuchElementException("Unable to return latest, time-series is empty");
     }
-    return dates[dates.length - 1];
+    return LocalDate.ofEpochDay(epochDays[epochDays.length - 1]);
   }
 
   @Override
@@ -219,14 +244,17 @@ final class SparseLocalDateDoubleTimeSeries
       return EMPTY;
     }
     // where in the array would start/end be (whether or not it's actually in the series)
-    int startPos = Arrays.binarySearch(dates, startInclusive);
+    int startPos = findDatePosition(startInclusive);
     startPos = startPos >= 0 ? startPos : -startPos - 1;
-    int endPos = Arrays.binarySearch(dates, endExclusive);
+    int endPos = findDatePosition(endExclusive);
     endPos = endPos >= 0 ? endPos : -endPos - 1;
     // create sub-series
-    LocalDate[] timesArray = Arrays.copyOfRange(dates, startPos, endPos);
+    if (startPos == 0 && endPos == size()) {
+      return this;
+    }
+    int[] epochDaysArray = Arrays.copyOfRange(epochDays, startPos, endPos);
     double[] valuesArray = Arrays.copyOfRange(values, startPos, endPos);
-    return createUnsafe(timesArray, valuesArray);
+    return createUnsafe(epochDaysArray, valuesArray);
   }
 
   @Override
@@ -237,9 +265,9 @@ final class SparseLocalDateDoubleTimeSeries
     } else if (numPoints >= size()) {
       return this;
     }
-    LocalDate[] datesArray = Arrays.copyOfRange(dates, 0, numPoints);
+    int[] epochDaysArray = Arrays.copyOfRange(epochDays, 0, numPoints);
     double[] valuesArray = Arrays.copyOfRange(values, 0, numPoints);
-    return createUnsafe(datesArray, valuesArray);
+    return createUnsafe(epochDaysArray, valuesArray);
   }
 
   @Override
@@ -250,20 +278,20 @@ final class SparseLocalDateDoubleTimeSeries
     } else if (numPoints >= size()) {
       return this;
     }
-    LocalDate[] datesArray = Arrays.copyOfRange(dates, size() - numPoints, size());
+    int[] epochDaysArray = Arrays.copyOfRange(epochDays, size() - numPoints, size());
     double[] valuesArray = Arrays.copyOfRange(values, size() - numPoints, size());
-    return createUnsafe(datesArray, valuesArray);
+    return createUnsafe(epochDaysArray, valuesArray);
   }
 
   //-------------------------------------------------------------------------
   @Override
   public Stream<LocalDateDoublePoint> stream() {
-    return IntStream.range(0, size()).mapToObj(i -> LocalDateDoublePoint.of(dates[i], values[i]));
+    return IntStream.range(0, size()).mapToObj(i -> LocalDateDoublePoint.of(LocalDate.ofEpochDay(epochDays[i]), values[i]));
   }
 
   @Override
   public Stream<LocalDate> dates() {
-    return Stream.of(dates);
+    return IntStream.of(epochDays).mapToObj(LocalDate::ofEpochDay);
   }
 
   @Override
@@ -276,46 +304,50 @@ final class SparseLocalDateDoubleTimeSeries
   public void forEach(ObjDoubleConsumer<LocalDate> action) {
     ArgChecker.notNull(action, "action");
     for (int i = 0; i < size(); i++) {
-      action.accept(dates[i], values[i]);
+      action.accept(LocalDate.ofEpochDay(epochDays[i]), values[i]);
     }
   }
 
   @Override
   public LocalDateDoubleTimeSeries mapDates(Function<? super LocalDate, ? extends LocalDate> mapper) {
     ArgChecker.notNull(mapper, "mapper");
-    LocalDate[] dates = Arrays.stream(this.dates).map(mapper).toArray(size -> new LocalDate[size]);
+    LocalDate[] dates = dates().map(mapper).toArray(size -> new LocalDate[size]);
     // Check the dates are still in ascending order after the mapping
     Arrays.stream(dates).reduce(this::checkAscending);
-    return createUnsafe(dates, values);
+    int[] mappedEpochDays = new int[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      mappedEpochDays[i] = toStoredEpochDay(dates[i]);
+    }
+    return createUnsafe(mappedEpochDays, values);
   }
 
   @Override
   public LocalDateDoubleTimeSeries mapValues(DoubleUnaryOperator mapper) {
     ArgChecker.notNull(mapper, "mapper");
-    return createUnsafe(dates, DoubleStream.of(values).map(mapper).toArray());
+    return createUnsafe(epochDays, DoubleStream.of(values).map(mapper).toArray());
   }
 
   @Override
   public LocalDateDoubleTimeSeries filter(ObjDoublePredicate<LocalDate> predicate) {
     ArgChecker.notNull(predicate, "predicate");
     // build up result in arrays keeping track of count of retained dates
-    LocalDate[] resDates = new LocalDate[size()];
+    int[] resEpochDays = new int[size()];
     double[] resValues = new double[size()];
     int resCount = 0;
     for (int i = 0; i < size(); i++) {
-      if (predicate.test(dates[i], values[i])) {
-        resDates[resCount] = dates[i];
+      if (predicate.test(LocalDate.ofEpochDay(epochDays[i]), values[i])) {
+        resEpochDays[resCount] = epochDays[i];
         resValues[resCount] = values[i];
         resCount++;
       }
     }
-    return createUnsafe(Arrays.copyOf(resDates, resCount), Arrays.copyOf(resValues, resCount));
+    return createUnsafe(Arrays.copyOf(resEpochDays, resCount), Arrays.copyOf(resValues, resCount));
   }
 
   //-------------------------------------------------------------------------
   @Override
   public LocalDateDoubleTimeSeriesBuilder toBuilder() {
-    return new LocalDateDoubleTimeSeriesBuilder(dates, values);
+    return new LocalDateDoubleTimeSeriesBuilder(getDates(), values);
   }
 
   //-------------------------------------------------------------------------
@@ -335,7 +367,7 @@ final class SparseLocalDateDoubleTimeSeries
     }
     if (obj instanceof SparseLocalDateDoubleTimeSeries) {
       SparseLocalDateDoubleTimeSeries other = (SparseLocalDateDoubleTimeSeries) obj;
-      return Arrays.equals(dates, other.dates) && Arrays.equals(values, other.values);
+      return Arrays.equals(epochDays, other.epochDays) && Arrays.equals(values, other.values);
     }
     return false;
   }
@@ -347,7 +379,7 @@ final class SparseLocalDateDoubleTimeSeries
    */
   @Override
   public int hashCode() {
-    return 31 * Arrays.hashCode(dates) + Arrays.hashCode(values);
+    return 31 * Arrays.hashCode(epochDays) + Arrays.hashCode(values);
   }
 
   /**
@@ -383,191 +415,170 @@ final class SparseLocalDateDoubleTimeSeries
             later));
   }
 
-  //------------------------- AUTOGENERATED START -------------------------
+  //-------------------------------------------------------------------------
   /**
    * The meta-bean for {@code SparseLocalDateDoubleTimeSeries}.
    * @return the meta-bean, not null
    */
-  public static SparseLocalDateDoubleTimeSeries.Meta meta() {
-    return SparseLocalDateDoubleTimeSeries.Meta.INSTANCE;
+  static Meta meta() {
+    return Meta.INSTANCE;
   }
 
-  static {
-    MetaBean.register(SparseLocalDateDoubleTimeSeries.Meta.INSTANCE);
+  @Override
+  public MetaBean metaBean() {
+    return Meta.INSTANCE;
   }
 
+  //-------------------------------------------------------------------------
   /**
-   * The serialization version id.
+   * Meta bean.
+   * <p>
+   * This is written manually as the bean exposes the dates as {@code LocalDate[]}
+   * while storing them as epoch-days.
    */
-  private static final long serialVersionUID = 1L;
+  static final class Meta extends BasicMetaBean {
 
-  @Override
-  public SparseLocalDateDoubleTimeSeries.Meta metaBean() {
-    return SparseLocalDateDoubleTimeSeries.Meta.INSTANCE;
-  }
+    private static final Meta INSTANCE = new Meta();
+    private static final MetaProperty<LocalDate[]> DATES = new BasicMetaProperty<LocalDate[]>("dates") {
 
-  //-----------------------------------------------------------------------
-  /**
-   * The meta-bean for {@code SparseLocalDateDoubleTimeSeries}.
-   */
-  static final class Meta extends DirectMetaBean {
-    /**
-     * The singleton instance of the meta-bean.
-     */
-    static final Meta INSTANCE = new Meta();
-
-    /**
-     * The meta-property for the {@code dates} property.
-     */
-    private final MetaProperty<LocalDate[]> dates = DirectMetaProperty.ofImmutable(
-        this, "dates", SparseLocalDateDoubleTimeSeries.class, LocalDate[].class);
-    /**
-     * The meta-property for the {@code values} property.
-     */
-    private final MetaProperty<double[]> values = DirectMetaProperty.ofImmutable(
-        this, "values", SparseLocalDateDoubleTimeSeries.class, double[].class);
-    /**
-     * The meta-properties.
-     */
-    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
-        this, null,
-        "dates",
-        "values");
-
-    /**
-     * Restricted constructor.
-     */
-    private Meta() {
-    }
+      @Override
+      public MetaBean metaBean() {
+        return INSTANCE;
+      }
 
-    @Override
-    protected MetaProperty<?> metaPropertyGet(String propertyName) {
-      switch (propertyName.hashCode()) {
-        case 95356549:  // dates
-          return dates;
-        case -823812830:  // values
-          return values;
+      @Override
+      public Class<?> declaringType() {
+        return SparseLocalDateDoubleTimeSeries.class;
       }
-      return super.metaPropertyGet(propertyName);
-    }
 
-    @Override
-    public BeanBuilder<? extends SparseLocalDateDoubleTimeSeries> builder() {
-      return new SparseLocalDateDoubleTimeSeries.Builder();
-    }
+      @Override
+      public Class<LocalDate[]> propertyType() {
+        return LocalDate[].class;
+      }
 
-    @Override
-    public Class<? extends SparseLocalDateDoubleTimeSeries> beanType() {
-      return SparseLocalDateDoubleTimeSeries.class;
-    }
+      @Override
+      public Type propertyGenericType() {
+        return LocalDate[].class;
+      }
 
-    @Override
-    public Map<String, MetaProperty<?>> metaPropertyMap() {
-      return metaPropertyMap$;
-    }
+      @Override
+      public PropertyStyle style() {
+        return PropertyStyle.IMMUTABLE;
+      }
 
-    //-----------------------------------------------------------------------
-    /**
-     * The meta-property for the {@code dates} property.
-     * @return the meta-property, not null
-     */
-    public MetaProperty<LocalDate[]> dates() {
-      return dates;
-    }
+      @Override
+      public List<Annotation> annotations() {
+        return ImmutableList.of();
+      }
 
-    /**
-     * The meta-property for the {@code values} property.
-     * @return the meta-property, not null
-     */
-    public MetaProperty<double[]> values() {
-      return values;
-    }
+      @Override
+      public LocalDate[] get(Bean bean) {
+        return ((SparseLocalDateDoubleTimeSeries) bean).getDates();
+      }
 
-    //-----------------------------------------------------------------------
-    @Override
-    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
-      switch (propertyName.hashCode()) {
-        case 95356549:  // dates
-          return ((SparseLocalDateDoubleTimeSeries) bean).getDates();
-        case -823812830:  // values
-          return ((SparseLocalDateDoubleTimeSeries) bean).getValues();
+      @Override
+      public void set(Bean bean, Object value) {
+        throw new UnsupportedOperationException("Property cannot be written: " + name());
       }
-      return super.propertyGet(bean, propertyName, quiet);
-    }
+    };
+    private static final MetaProperty<double[]> VALUES = new BasicMetaProperty<double[]>("values") {
 
-    @Override
-    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
-      metaProperty(propertyName);
-      if (quiet) {
-        return;
+      @Override
+      public MetaBean metaBean() {
+        return INSTANCE;
       }
-      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
-    }
 
-  }
+      @Override
+      public Class<?> declaringType() {
+        return SparseLocalDateDoubleTimeSeries.class;
+      }
 
-  //-----------------------------------------------------------------------
-  /**
-   * The bean-builder for {@code SparseLocalDateDoubleTimeSeries}.
-   */
-  private static final class Builder extends DirectPrivateBeanBuilder<SparseLocalDateDoubleTimeSeries> {
+      @Override
+      public Class<double[]> propertyType() {
+        return double[].class;
+      }
 
-    private LocalDate[] dates;
-    private double[] values;
+      @Override
+      public Type propertyGenericType() {
+        return double[].class;
+      }
 
-    /**
-     * Restricted constructor.
-     */
-    private Builder() {
-    }
+      @Override
+      public PropertyStyle style() {
+        return PropertyStyle.IMMUTABLE;
+      }
 
-    //-----------------------------------------------------------------------
-    @Override
-    public Object get(String propertyName) {
-      switch (propertyName.hashCode()) {
-        case 95356549:  // dates
-          return dates;
-        case -823812830:  // values
-          return values;
-        default:
-          throw new NoSuchElementException("Unknown property: " + propertyName);
+      @Override
+      public List<Annotation> annotations() {
+        return ImmutableList.of();
       }
+
+      @Override
+      public double[] get(Bean bean) {
+        return ((SparseLocalDateDoubleTimeSeries) bean).getValues();
+      }
+
+      @Override
+      public void set(Bean bean, Object value) {
+        throw new UnsupportedOperationException("Property cannot be written: " + name());
+      }
+    };
+    private static final ImmutableMap<String, MetaProperty<?>> MAP =
+        ImmutableMap.of("dates", DATES, "values", VALUES);
+
+    private Meta() {
     }
 
     @Override
-    public Builder set(String propertyName, Object newValue) {
-      switch (propertyName.hashCode()) {
-        case 95356549:  // dates
-          this.dates = (LocalDate[]) newValue;
-          break;
-        case -823812830:  // values
-          this.values = (double[]) newValue;
-          break;
-        default:
-          throw new NoSuchElementException("Unknown property: " + propertyName);
-      }
-      return this;
+    public boolean isBuildable() {
+      return true;
     }
 
     @Override
-    public SparseLocalDateDoubleTimeSeries build() {
-      return new SparseLocalDateDoubleTimeSeries(
-          dates,
-          values);
+    public BeanBuilder<SparseLocalDateDoubleTimeSeries> builder() {
+      return new BasicImmutableBeanBuilder<SparseLocalDateDoubleTimeSeries>(this) {
+        private LocalDate[] dates;
+        private double[] values;
+
+        @Override
+        public Object get(String propertyName) {
+          if (propertyName.equals(DATES.name())) {
+            return dates;
+          } else if (propertyName.equals(VALUES.name())) {
+            return values;
+          } else {
+            throw new NoSuchElementException("Unknown property: " + propertyName);
+          }
+        }
+
+        @Override
+        public BeanBuilder<SparseLocalDateDoubleTimeSeries> set(String propertyName, Object value) {
+          if (propertyName.equals(DATES.name())) {
+            this.dates = (LocalDate[]) value;
+          } else if (propertyName.equals(VALUES.name())) {
+            this.values = (double[]) value;
+          } else {
+            throw new NoSuchElementException("Unknown property: " + propertyName);
+          }
+          return this;
+        }
+
+        @Override
+        public SparseLocalDateDoubleTimeSeries build() {
+          return SparseLocalDateDoubleTimeSeries.of(dates, values);
+        }
+      };
     }
 
-    //-----------------------------------------------------------------------
     @Override
-    public String toString() {
-      StringBuilder buf = new StringBuilder(96);
-      buf.append("SparseLocalDateDoubleTimeSeries.Builder{");
-      buf.append("dates").append('=').append(JodaBeanUtils.toString(dates)).append(',').append(' ');
-      buf.append("values").append('=').append(JodaBeanUtils.toString(values));
-      buf.append('}');
-      return buf.toString();
+    public Class<? extends Bean> beanType() {
+      return SparseLocalDateDoubleTimeSeries.class;
     }
 
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return MAP;
+    }
   }
 
-  //-------------------------- AUTOGENERATED END --------------------------
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.ser.JodaBeanSer;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.result.ValueWithFailures;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+
+/**
+ * Test {@link BeanBinaryCodec}.
+ */
+public class BeanBinaryCodecTest {
+
+  private static final DoubleArray ARRAY = DoubleArray.of(1d, 0.123456789012345, -3e-5, Math.PI, Double.NaN, -0d);
+  private static final ImmutableBean SERIES = (ImmutableBean) LocalDateDoubleTimeSeries.builder()
+      .put(date(2026, 1, 2), 1.5)
+      .put(date(2026, 1, 5), 2.25)
+      .put(date(2026, 1, 6), Math.E)
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_roundTrip_doubleArray() {
+    ArrayByteSource bytes = BeanBinaryCodec.encode(ARRAY);
+    assertThat(BeanBinaryCodec.decode(bytes, DoubleArray.class)).isEqualTo(ARRAY);
+    assertThat(BeanBinaryCodec.decode(BeanBinaryCodec.encode(ARRAY, true), DoubleArray.class)).isEqualTo(ARRAY);
+  }
+
+  @Test
+  public void test_roundTrip_beans() {
+    DoubleMatrix matrix = DoubleMatrix.of(2, 2, 1d, 2d, 3d, 4d);
+    assertThat(BeanBinaryCodec.decode(BeanBinaryCodec.encode(matrix), DoubleMatrix.class)).isEqualTo(matrix);
+    assertThat(BeanBinaryCodec.decode(BeanBinaryCodec.encode(SERIES), LocalDateDoubleTimeSeries.class)).isEqualTo(SERIES);
+  }
+
+  @Test
+  public void test_roundTrip_sharedArrays() {
+    ImmutableList<DoubleArray> list = ImmutableList.of(ARRAY, DoubleArray.of(2d), ARRAY, ARRAY);
+    ValueWithFailures<ImmutableList<DoubleArray>> value = ValueWithFailures.of(list);
+    ArrayByteSource bytes = BeanBinaryCodec.encode(value);
+    @SuppressWarnings("unchecked")
+    ValueWithFailures<ImmutableList<DoubleArray>> decoded = BeanBinaryCodec.decode(bytes, ValueWithFailures.class);
+    assertThat(decoded.getValue()).isEqualTo(list);
+    // identical arrays are only stored once
+    ValueWithFailures<ImmutableList<DoubleArray>> single = ValueWithFailures.of(ImmutableList.of(ARRAY, DoubleArray.of(2d)));
+    assertThat(bytes.size()).isLessThan(BeanBinaryCodec.encode(single).size() + ARRAY.size() * 8);
+  }
+
+  @Test
+  public void test_smallerThanStandardBinary() {
+    DoubleArray large = DoubleArray.of(1000, i -> Math.sqrt(i + 0.1));
+    byte[] standard = JodaBeanSer.COMPACT.binWriter().write(large);
+    assertThat(BeanBinaryCodec.encode(large).size()).isLessThan(standard.length);
+  }
+
+  @Test
+  public void test_read_file() throws Exception {
+    Path file = Files.createTempFile("bean-binary-codec-test", ".bin");
+    try {
+      Files.write(file, BeanBinaryCodec.encode(SERIES).read());
+      assertThat(BeanBinaryCodec.read(file, LocalDateDoubleTimeSeries.class)).isEqualTo(SERIES);
+      Files.write(file, BeanBinaryCodec.encode(SERIES, true).read());
+      assertThat(BeanBinaryCodec.read(file, LocalDateDoubleTimeSeries.class)).isEqualTo(SERIES);
+      Files.write(file, new byte[] {1, 2, 3});
+      assertThatIllegalArgumentException().isThrownBy(() -> BeanBinaryCodec.read(file, LocalDateDoubleTimeSeries.class));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void test_read_file_windows() throws Exception {
+    DoubleArray large = DoubleArray.of(1000, i -> Math.sqrt(i + 0.1));
+    ValueWithFailures<ImmutableList<DoubleArray>> value = ValueWithFailures.of(ImmutableList.of(ARRAY, large, ARRAY));
+    byte[] bytes = BeanBinaryCodec.encode(value).read();
+    Path file = Files.createTempFile("bean-binary-codec-test", ".bin");
+    try {
+      Files.write(file, bytes);
+      // small windows, so that values and the bean span more than one window
+      for (int windowSize : new int[] {5, 16, 1001, bytes.length}) {
+        assertThat(BeanBinaryCodec.read(file, ValueWithFailures.class, windowSize)).isEqualTo(value);
+      }
+      Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> BeanBinaryCodec.read(file, ValueWithFailures.class, 16))
+          .withMessage("Invalid binary bean format, file too short");
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void test_decode_negativeSize() {
+    byte[] bytes = BeanBinaryCodec.encode(ARRAY).read();
+    ByteBuffer.wrap(bytes).putInt(9, -1);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BeanBinaryCodec.decode(ArrayByteSource.ofUnsafe(bytes), DoubleArray.class))
+        .withMessage("Invalid binary bean format, negative size -1");
+  }
+
+  @Test
+  public void test_decode_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BeanBinaryCodec.decode(ArrayByteSource.ofUtf8("Not a bean file"), DoubleArray.class))
+        .withMessage("Invalid binary bean format, header not found");
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    coverPrivateConstructor(BeanBinaryCodec.class);
+  }
+
+}
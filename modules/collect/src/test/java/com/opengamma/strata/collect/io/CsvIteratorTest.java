@@ -14,6 +14,7 @@ import java.io.File;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.regex.Pattern;
@@ -419,6 +420,109 @@ public class CsvIteratorTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of_path() throws Exception {
+    String csv = "" +
+        "\uFEFF# Comment\r\n" +
+        "h1, h2 ,h3\r\n" +
+        "r11,\t r12 ,\r" +
+        ";comment\n" +
+        " , ,\n" +
+        "\n" +
+        "\"q,1\", =\"q2\" ,r33\r\n" +
+        "caf\u00e9 , \u20ac1.5,\n" +
+        "r51,r52,r53";
+    assertPathMatchesCharSource(csv, true, ',');
+    assertPathMatchesCharSource(csv, false, ',');
+    assertPathMatchesCharSource(csv, false, ';');
+    assertPathMatchesCharSource(csv.replace(',', '\t'), true, '\t');
+    assertPathMatchesCharSource(CSV2, true, ',');
+    assertPathMatchesCharSource(CSV3, false, ',');
+    assertPathMatchesCharSource(CSV5GROUPED + "\r", true, ',');
+  }
+
+  @Test
+  public void test_of_bom() throws Exception {
+    String csv = "\uFEFFh1,h2\nr1,r2\n";
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(csv), true)) {
+      assertThat(csvFile.headers()).containsExactly("h1", "h2");
+      assertThat(csvFile.next().getField("h1")).isEqualTo("r1");
+    }
+    try (CsvIterator csvFile = CsvIterator.of(new StringReader(csv), true)) {
+      assertThat(csvFile.headers()).containsExactly("h1", "h2");
+    }
+    Path file = java.nio.file.Files.createTempFile("csv-iterator-test", ".csv");
+    try {
+      java.nio.file.Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+      try (CsvIterator csvFile = CsvIterator.of(file, true)) {
+        assertThat(csvFile.headers()).containsExactly("h1", "h2");
+        assertThat(csvFile.next().getField("h1")).isEqualTo("r1");
+      }
+      try (CsvIterator csvFile = CsvIterator.of(Files.asCharSource(file.toFile(), StandardCharsets.UTF_8), true)) {
+        assertThat(csvFile.headers()).containsExactly("h1", "h2");
+      }
+    } finally {
+      java.nio.file.Files.delete(file);
+    }
+    assertPathMatchesCharSource(csv, true, ',');
+    assertPathMatchesCharSource(csv, false, ',');
+  }
+
+  @Test
+  public void test_of_path_headers() throws Exception {
+    Path file = java.nio.file.Files.createTempFile("csv-iterator-test", ".csv");
+    try {
+      java.nio.file.Files.write(file, CSV4.getBytes(StandardCharsets.UTF_8));
+      try (CsvIterator csvFile = CsvIterator.of(file, true)) {
+        assertThat(csvFile.headers()).containsExactly("h1", "h2");
+        CsvRow row = csvFile.next();
+        assertThat(row.lineNumber()).isEqualTo(3);
+        assertThat(row.getField("h2")).isEqualTo("r2");
+        assertThat(csvFile.hasNext()).isFalse();
+      }
+    } finally {
+      java.nio.file.Files.delete(file);
+    }
+  }
+
+  @Test
+  public void test_of_path_empty() throws Exception {
+    Path file = java.nio.file.Files.createTempFile("csv-iterator-test", ".csv");
+    try {
+      try (CsvIterator csvFile = CsvIterator.of(file, false)) {
+        assertThat(csvFile.hasNext()).isFalse();
+      }
+      assertThatIllegalArgumentException().isThrownBy(() -> CsvIterator.of(file, true));
+    } finally {
+      java.nio.file.Files.delete(file);
+    }
+  }
+
+  @Test
+  public void test_of_path_ioException() {
+    assertThatExceptionOfType(UncheckedIOException.class)
+        .isThrownBy(() -> CsvIterator.of(new File("src/test/resources/not-a-file.csv").toPath(), false));
+  }
+
+  private static void assertPathMatchesCharSource(String csv, boolean headerRow, char separator) throws Exception {
+    Path file = java.nio.file.Files.createTempFile("csv-iterator-test", ".csv");
+    try {
+      java.nio.file.Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+      try (CsvIterator expected = CsvIterator.of(CharSource.wrap(csv), headerRow, separator);
+          CsvIterator test = CsvIterator.of(file, headerRow, separator)) {
+        assertThat(test.headers()).isEqualTo(expected.headers());
+        List<CsvRow> expectedRows = expected.asStream().collect(toList());
+        List<CsvRow> rows = test.asStream().collect(toList());
+        assertThat(rows).isEqualTo(expectedRows);
+        assertThat(rows.stream().map(CsvRow::lineNumber).collect(toList()))
+            .isEqualTo(expectedRows.stream().map(CsvRow::lineNumber).collect(toList()));
+      }
+    } finally {
+      java.nio.file.Files.delete(file);
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_toString() {
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Test {@link MappedCsvReader}.
+ */
+public class MappedCsvReaderTest {
+
+  private static final String CSV = "" +
+      "\uFEFFh1,h2,h3\r\n" +
+      "a-longer-value-than-the-window,b,c\r" +
+      "\r\n" +
+      "# comment\n" +
+      "\"quoted, value\",\u00e9\u00e9\u00e9\u00e9\u00e9,\u20ac\u20ac\u20ac\r\n" +
+      " x , y ,z\r";
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_readFields_smallWindows() throws Exception {
+    for (int windowSize = 1; windowSize < 20; windowSize++) {
+      assertThat(readAll(CSV, windowSize)).as("window " + windowSize).isEqualTo(expected(CSV.substring(1)));
+    }
+  }
+
+  @Test
+  public void test_readFields_empty() throws Exception {
+    assertThat(readAll("", 8)).isEmpty();
+    assertThat(readAll("\uFEFF", 8)).isEmpty();
+  }
+
+  //-------------------------------------------------------------------------
+  private static List<ImmutableList<String>> readAll(String csv, int windowSize) throws Exception {
+    Path file = Files.createTempFile("mapped-csv-reader-test", ".csv");
+    try {
+      Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+      List<ImmutableList<String>> result = new ArrayList<>();
+      try (MappedCsvReader reader = MappedCsvReader.of(file, ',', windowSize)) {
+        ImmutableList<String> fields;
+        while ((fields = reader.readFields()) != null) {
+          result.add(fields);
+        }
+      }
+      return result;
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static List<ImmutableList<String>> expected(String csv) throws Exception {
+    List<ImmutableList<String>> result = new ArrayList<>();
+    try (BufferedReader reader = new BufferedReader(new StringReader(csv))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        result.add(CsvFile.parseLine(line, ','));
+      }
+    }
+    return result;
+  }
+
+}
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.collect.timeseries;
 
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
 import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static java.util.stream.Collectors.toList;
@@ -299,6 +300,25 @@ public class SparseLocalDateDoubleTimeSeriesTest {
     assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> test.getLatestValue());
   }
 
+  @Test
+  public void test_extremeDates() {
+    LocalDate min = LocalDate.ofEpochDay(Integer.MIN_VALUE + 1);
+    LocalDate max = LocalDate.ofEpochDay(Integer.MAX_VALUE - 1);
+    LocalDateDoubleTimeSeries test = SparseLocalDateDoubleTimeSeries.of(dates(min, DATE_2011_01_01, max), values(1, 2, 3));
+    assertThat(test.get(min)).hasValue(1d);
+    assertThat(test.get(max)).hasValue(3d);
+    assertThat(test.get(LocalDate.MIN)).isEmpty();
+    assertThat(test.get(LocalDate.MAX)).isEmpty();
+    assertThat(test.getEarliestDate()).isEqualTo(min);
+    assertThat(test.getLatestDate()).isEqualTo(max);
+    assertThat(test.subSeries(LocalDate.MIN, DATE_2011_01_01).dates()).containsExactly(min);
+    assertThat(test.subSeries(DATE_2011_01_01, LocalDate.MAX).dates()).containsExactly(DATE_2011_01_01, max);
+    assertSerialization(test);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> SparseLocalDateDoubleTimeSeries.of(dates(LocalDate.MAX), values(1)))
+        .withMessageStartingWith("Date is too far from 1970 to be stored");
+  }
+
   //-------------------------------------------------------------------------
   public static Object[][] data_subSeries() {
     return new Object[][] {
@@ -6,6 +6,7 @@
 package com.opengamma.strata.data.scenario;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -100,6 +101,24 @@ public interface MarketDataBox<T> {
     return ScenarioMarketDataBox.of(scenarioValues);
   }
 
+  /**
+   * Obtains an instance containing a base value shared by most scenarios and overrides for the remainder.
+   * <p>
+   * This is a copy-on-write form of scenario value. Each scenario without an override uses the base value,
+   * thus the unchanged value is stored once rather than once per scenario.
+   * The box is equivalent to one created using {@link #ofScenarioValues(List)}
+   * where each scenario without an override contains the base value.
+   *
+   * @param <T> the type of the market data value used in each scenario
+   * @param baseValue  the market data value used in each scenario that has no override
+   * @param scenarioCount  the number of scenarios
+   * @param overrides  the market data values that differ from the base value, keyed by scenario index
+   * @return a box containing a scenario market data value with data for multiple scenarios
+   */
+  public static <T> MarketDataBox<T> ofSparseScenarioValues(T baseValue, int scenarioCount, Map<Integer, T> overrides) {
+    return SparseScenarioMarketDataBox.of(baseValue, scenarioCount, overrides);
+  }
+
   /**
    * Obtains an instance containing no market data.
    *
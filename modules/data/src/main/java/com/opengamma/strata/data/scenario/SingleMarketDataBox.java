@@ -103,7 +103,8 @@ final class SingleMarketDataBox<T>
     List<R> perturbedValues = IntStream.range(0, scenarioCount)
         .mapToObj(idx -> fn.apply(value, idx))
         .collect(toImmutableList());
-    return MarketDataBox.ofScenarioValues(perturbedValues);
+    // scenarios where the function returns the value unchanged share the single value
+    return SparseScenarioMarketDataBox.compact(value, perturbedValues);
   }
 
   @Override
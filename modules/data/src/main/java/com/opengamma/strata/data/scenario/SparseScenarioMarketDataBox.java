@@ -0,0 +1,570 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableValidator;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.function.ObjIntFunction;
+
+/**
+ * A market data box containing a base value shared by most scenarios and overrides for the remainder.
+ * <p>
+ * This is a copy-on-write form of scenario box. Scenarios that leave the market data unchanged
+ * share a single base value, thus only the scenarios that differ hold their own value.
+ * When a perturbation affects only a few scenarios, this avoids storing a copy of the
+ * unperturbed value for every other scenario.
+ *
+ * @param <T>  the type of data held in the box
+ */
+@BeanDefinition
+final class SparseScenarioMarketDataBox<T>
+    implements ImmutableBean, MarketDataBox<T>, Serializable {
+
+  /**
+   * The market data value used in each scenario that has no override.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final T baseValue;
+  /**
+   * The number of scenarios.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegativeOrZero")
+  private final int scenarioCount;
+  /**
+   * The market data values for the scenarios that differ from the base value, keyed by scenario index.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableMap<Integer, T> overrides;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from a base value and a map of overrides.
+   *
+   * @param <T> the type of the market data value
+   * @param baseValue  the market data value used in each scenario that has no override
+   * @param scenarioCount  the number of scenarios
+   * @param overrides  the market data values that differ from the base value, keyed by scenario index
+   * @return a market data box containing the values
+   */
+  public static <T> SparseScenarioMarketDataBox<T> of(T baseValue, int scenarioCount, Map<Integer, T> overrides) {
+    return new SparseScenarioMarketDataBox<>(baseValue, scenarioCount, ImmutableMap.copyOf(overrides));
+  }
+
+  /**
+   * Obtains a box containing the specified values, one for each scenario, sharing the base value.
+   * <p>
+   * Each value that is the same instance as the base value is not stored.
+   * If no value is the same instance as the base value, a standard scenario box is returned.
+   *
+   * @param <T> the type of the market data value
+   * @param baseValue  the base value, which must be an instance of the value type if any value is the same instance
+   * @param values  the market data values, one for each scenario
+   * @return a market data box containing the values
+   */
+  @SuppressWarnings("unchecked")
+  static <T> MarketDataBox<T> compact(Object baseValue, List<T> values) {
+    ImmutableMap.Builder<Integer, T> overrides = ImmutableMap.builder();
+    int overrideCount = 0;
+    for (int i = 0; i < values.size(); i++) {
+      T value = values.get(i);
+      if (value != baseValue) {
+        overrides.put(i, value);
+        overrideCount++;
+      }
+    }
+    if (overrideCount == values.size()) {
+      return MarketDataBox.ofScenarioValues(values);
+    }
+    // the cast is safe as at least one value is the base value
+    return new SparseScenarioMarketDataBox<>((T) baseValue, values.size(), overrides.build());
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    for (Integer scenarioIndex : overrides.keySet()) {
+      ArgChecker.inRange(scenarioIndex, 0, scenarioCount, "scenarioIndex");
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public T getSingleValue() {
+    throw new IllegalStateException("This box does not contain a single value");
+  }
+
+  @Override
+  public ScenarioArray<T> getScenarioValue() {
+    return ScenarioArray.of(scenarioCount, this::getValue);
+  }
+
+  @Override
+  public T getValue(int scenarioIndex) {
+    ArgChecker.inRange(scenarioIndex, 0, scenarioCount, "scenarioIndex");
+    T override = overrides.get(scenarioIndex);
+    return override != null ? override : baseValue;
+  }
+
+  @Override
+  public boolean isSingleValue() {
+    return false;
+  }
+
+  @Override
+  public Class<?> getMarketDataType() {
+    return baseValue.getClass();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public <R> MarketDataBox<R> map(Function<T, R> fn) {
+    ImmutableMap.Builder<Integer, R> mapped = ImmutableMap.builder();
+    overrides.forEach((scenarioIndex, value) -> mapped.put(scenarioIndex, fn.apply(value)));
+    return new SparseScenarioMarketDataBox<>(fn.apply(baseValue), scenarioCount, mapped.build());
+  }
+
+  @Override
+  public <R> MarketDataBox<R> mapWithIndex(int scenarioCount, ObjIntFunction<T, R> fn) {
+    if (scenarioCount != this.scenarioCount) {
+      throw new IllegalArgumentException(
+          Messages.format(
+              "Scenario count {} does not equal the scenario count of the value {}",
+              scenarioCount,
+              this.scenarioCount));
+    }
+    List<R> perturbedValues = new ArrayList<>(scenarioCount);
+    for (int i = 0; i < scenarioCount; i++) {
+      perturbedValues.add(fn.apply(getValue(i), i));
+    }
+    return compact(baseValue, perturbedValues);
+  }
+
+  @Override
+  public <U, R> MarketDataBox<R> combineWith(MarketDataBox<U> other, BiFunction<T, U, R> fn) {
+    if (other.isSingleValue()) {
+      U otherValue = other.getSingleValue();
+      return map(value -> fn.apply(value, otherValue));
+    }
+    if (other.getScenarioCount() != scenarioCount) {
+      String message = Messages.format(
+          "Scenario values must have the same number of scenarios. {} has {} scenarios, {} has {}",
+          this,
+          scenarioCount,
+          other,
+          other.getScenarioCount());
+      throw new IllegalArgumentException(message);
+    }
+    List<R> results = new ArrayList<>(scenarioCount);
+    for (int i = 0; i < scenarioCount; i++) {
+      results.add(fn.apply(getValue(i), other.getValue(i)));
+    }
+    return MarketDataBox.ofScenarioValues(results);
+  }
+
+  @Override
+  public Stream<T> stream() {
+    return IntStream.range(0, scenarioCount).mapToObj(this::getValue);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code SparseScenarioMarketDataBox}.
+   * @return the meta-bean, not null
+   */
+  @SuppressWarnings("rawtypes")
+  public static SparseScenarioMarketDataBox.Meta meta() {
+    return SparseScenarioMarketDataBox.Meta.INSTANCE;
+  }
+
+  /**
+   * The meta-bean for {@code SparseScenarioMarketDataBox}.
+   * @param <R>  the bean's generic type
+   * @param cls  the bean's generic type
+   * @return the meta-bean, not null
+   */
+  @SuppressWarnings("unchecked")
+  public static <R> SparseScenarioMarketDataBox.Meta<R> metaSparseScenarioMarketDataBox(Class<R> cls) {
+    return SparseScenarioMarketDataBox.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(SparseScenarioMarketDataBox.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Returns a builder used to create an instance of the bean.
+   * @param <T>  the type
+   * @return the builder, not null
+   */
+  static <T> SparseScenarioMarketDataBox.Builder<T> builder() {
+    return new SparseScenarioMarketDataBox.Builder<>();
+  }
+
+  private SparseScenarioMarketDataBox(
+      T baseValue,
+      int scenarioCount,
+      Map<Integer, T> overrides) {
+    JodaBeanUtils.notNull(baseValue, "baseValue");
+    ArgChecker.notNegativeOrZero(scenarioCount, "scenarioCount");
+    JodaBeanUtils.notNull(overrides, "overrides");
+    this.baseValue = baseValue;
+    this.scenarioCount = scenarioCount;
+    this.overrides = ImmutableMap.copyOf(overrides);
+    validate();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public SparseScenarioMarketDataBox.Meta<T> metaBean() {
+    return SparseScenarioMarketDataBox.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the market data value used in each scenario that has no override.
+   * @return the value of the property, not null
+   */
+  public T getBaseValue() {
+    return baseValue;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of scenarios.
+   * @return the value of the property
+   */
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the market data values for the scenarios that differ from the base value, keyed by scenario index.
+   * @return the value of the property, not null
+   */
+  public ImmutableMap<Integer, T> getOverrides() {
+    return overrides;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Returns a builder that allows this bean to be mutated.
+   * @return the mutable builder, not null
+   */
+  Builder<T> toBuilder() {
+    return new Builder<>(this);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      SparseScenarioMarketDataBox<?> other = (SparseScenarioMarketDataBox<?>) obj;
+      return JodaBeanUtils.equal(baseValue, other.baseValue) &&
+          (scenarioCount == other.scenarioCount) &&
+          JodaBeanUtils.equal(overrides, other.overrides);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(baseValue);
+    hash = hash * 31 + JodaBeanUtils.hashCode(scenarioCount);
+    hash = hash * 31 + JodaBeanUtils.hashCode(overrides);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("SparseScenarioMarketDataBox{");
+    buf.append("baseValue").append('=').append(JodaBeanUtils.toString(baseValue)).append(',').append(' ');
+    buf.append("scenarioCount").append('=').append(JodaBeanUtils.toString(scenarioCount)).append(',').append(' ');
+    buf.append("overrides").append('=').append(JodaBeanUtils.toString(overrides));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code SparseScenarioMarketDataBox}.
+   * @param <T>  the type
+   */
+  static final class Meta<T> extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    @SuppressWarnings("rawtypes")
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code baseValue} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<T> baseValue = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
+        this, "baseValue", SparseScenarioMarketDataBox.class, Object.class);
+    /**
+     * The meta-property for the {@code scenarioCount} property.
+     */
+    private final MetaProperty<Integer> scenarioCount = DirectMetaProperty.ofImmutable(
+        this, "scenarioCount", SparseScenarioMarketDataBox.class, Integer.TYPE);
+    /**
+     * The meta-property for the {@code overrides} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableMap<Integer, T>> overrides = DirectMetaProperty.ofImmutable(
+        this, "overrides", SparseScenarioMarketDataBox.class, (Class) ImmutableMap.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "baseValue",
+        "scenarioCount",
+        "overrides");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1825295072:  // baseValue
+          return baseValue;
+        case -1203198113:  // scenarioCount
+          return scenarioCount;
+        case -749969881:  // overrides
+          return overrides;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public SparseScenarioMarketDataBox.Builder<T> builder() {
+      return new SparseScenarioMarketDataBox.Builder<>();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    @Override
+    public Class<? extends SparseScenarioMarketDataBox<T>> beanType() {
+      return (Class) SparseScenarioMarketDataBox.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code baseValue} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<T> baseValue() {
+      return baseValue;
+    }
+
+    /**
+     * The meta-property for the {@code scenarioCount} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> scenarioCount() {
+      return scenarioCount;
+    }
+
+    /**
+     * The meta-property for the {@code overrides} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableMap<Integer, T>> overrides() {
+      return overrides;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -1825295072:  // baseValue
+          return ((SparseScenarioMarketDataBox<?>) bean).getBaseValue();
+        case -1203198113:  // scenarioCount
+          return ((SparseScenarioMarketDataBox<?>) bean).getScenarioCount();
+        case -749969881:  // overrides
+          return ((SparseScenarioMarketDataBox<?>) bean).getOverrides();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code SparseScenarioMarketDataBox}.
+   * @param <T>  the type
+   */
+  static final class Builder<T> extends DirectFieldsBeanBuilder<SparseScenarioMarketDataBox<T>> {
+
+    private T baseValue;
+    private int scenarioCount;
+    private Map<Integer, T> overrides = ImmutableMap.of();
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    /**
+     * Restricted copy constructor.
+     * @param beanToCopy  the bean to copy from, not null
+     */
+    private Builder(SparseScenarioMarketDataBox<T> beanToCopy) {
+      this.baseValue = beanToCopy.getBaseValue();
+      this.scenarioCount = beanToCopy.getScenarioCount();
+      this.overrides = beanToCopy.getOverrides();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1825295072:  // baseValue
+          return baseValue;
+        case -1203198113:  // scenarioCount
+          return scenarioCount;
+        case -749969881:  // overrides
+          return overrides;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Builder<T> set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -1825295072:  // baseValue
+          this.baseValue = (T) newValue;
+          break;
+        case -1203198113:  // scenarioCount
+          this.scenarioCount = (Integer) newValue;
+          break;
+        case -749969881:  // overrides
+          this.overrides = (Map<Integer, T>) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public Builder<T> set(MetaProperty<?> property, Object value) {
+      super.set(property, value);
+      return this;
+    }
+
+    @Override
+    public SparseScenarioMarketDataBox<T> build() {
+      return new SparseScenarioMarketDataBox<>(
+          baseValue,
+          scenarioCount,
+          overrides);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets the market data value used in each scenario that has no override.
+     * @param baseValue  the new value, not null
+     * @return this, for chaining, not null
+     */
+    public Builder<T> baseValue(T baseValue) {
+      JodaBeanUtils.notNull(baseValue, "baseValue");
+      this.baseValue = baseValue;
+      return this;
+    }
+
+    /**
+     * Sets the number of scenarios.
+     * @param scenarioCount  the new value
+     * @return this, for chaining, not null
+     */
+    public Builder<T> scenarioCount(int scenarioCount) {
+      ArgChecker.notNegativeOrZero(scenarioCount, "scenarioCount");
+      this.scenarioCount = scenarioCount;
+      return this;
+    }
+
+    /**
+     * Sets the market data values for the scenarios that differ from the base value, keyed by scenario index.
+     * @param overrides  the new value, not null
+     * @return this, for chaining, not null
+     */
+    public Builder<T> overrides(Map<Integer, T> overrides) {
+      JodaBeanUtils.notNull(overrides, "overrides");
+      this.overrides = overrides;
+      return this;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(128);
+      buf.append("SparseScenarioMarketDataBox.Builder{");
+      buf.append("baseValue").append('=').append(JodaBeanUtils.toString(baseValue)).append(',').append(' ');
+      buf.append("scenarioCount").append('=').append(JodaBeanUtils.toString(scenarioCount)).append(',').append(' ');
+      buf.append("overrides").append('=').append(JodaBeanUtils.toString(overrides));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -21,6 +21,8 @@ import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.io.ArrayByteSource;
+import com.opengamma.strata.collect.io.BeanBinaryCodec;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.FieldName;
 import com.opengamma.strata.data.FxRateId;
@@ -325,6 +327,23 @@ public class ImmutableScenarioMarketDataBuilderTest {
     assertThat(combinedData.getTimeSeries(TEST_ID3)).isEqualTo(timeSeries3);
   }
 
+  @Test
+  public void test_binaryCodec() {
+    FxRateId eurGbpId = FxRateId.of(Currency.EUR, Currency.GBP);
+    FxRateId eurUsdId = FxRateId.of(Currency.EUR, Currency.USD);
+    FxRate eurUsdRate = FxRate.of(Currency.EUR, Currency.USD, 1.1);
+    ImmutableScenarioMarketData marketData = ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addScenarioValue(eurGbpId, ImmutableList.of(
+            FxRate.of(Currency.EUR, Currency.GBP, 0.85),
+            FxRate.of(Currency.EUR, Currency.GBP, 0.86),
+            FxRate.of(Currency.EUR, Currency.GBP, 0.87)))
+        .addBox(eurUsdId, MarketDataBox.ofSparseScenarioValues(
+            eurUsdRate, 3, ImmutableMap.of(1, FxRate.of(Currency.EUR, Currency.USD, 1.2))))
+        .build();
+    ArrayByteSource bytes = BeanBinaryCodec.encode(marketData);
+    assertThat(BeanBinaryCodec.decode(bytes, ImmutableScenarioMarketData.class)).isEqualTo(marketData);
+  }
+
   //-------------------------------------------------------------------------
   private static final class TestId implements ObservableId {
 
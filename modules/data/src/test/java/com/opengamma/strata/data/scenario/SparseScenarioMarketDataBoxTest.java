@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Test {@link SparseScenarioMarketDataBox}.
+ */
+public class SparseScenarioMarketDataBoxTest {
+
+  private static final String BASE = "base";
+  private static final MarketDataBox<String> BOX =
+      MarketDataBox.ofSparseScenarioValues(BASE, 4, ImmutableMap.of(1, "one", 3, "three"));
+
+  @Test
+  public void isSingleOrScenarioValue() {
+    assertThat(BOX.isSingleValue()).isFalse();
+    assertThat(BOX.isScenarioValue()).isTrue();
+  }
+
+  @Test
+  public void getSingleValue() {
+    assertThatIllegalStateException()
+        .isThrownBy(BOX::getSingleValue)
+        .withMessage("This box does not contain a single value");
+  }
+
+  @Test
+  public void getValue() {
+    assertThat(BOX.getValue(0)).isSameAs(BASE);
+    assertThat(BOX.getValue(1)).isEqualTo("one");
+    assertThat(BOX.getValue(2)).isSameAs(BASE);
+    assertThat(BOX.getValue(3)).isEqualTo("three");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BOX.getValue(-1))
+        .withMessage("Expected 0 <= 'scenarioIndex' < 4, but found -1");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BOX.getValue(4))
+        .withMessage("Expected 0 <= 'scenarioIndex' < 4, but found 4");
+  }
+
+  @Test
+  public void of_invalidOverride() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> MarketDataBox.ofSparseScenarioValues(BASE, 2, ImmutableMap.of(2, "two")));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> MarketDataBox.ofSparseScenarioValues(BASE, 0, ImmutableMap.of()));
+  }
+
+  @Test
+  public void getScenarioValue() {
+    ScenarioArray<String> scenarioValue = BOX.getScenarioValue();
+    assertThat(scenarioValue.getScenarioCount()).isEqualTo(4);
+    assertThat(scenarioValue.stream().collect(toList())).containsExactly(BASE, "one", BASE, "three");
+  }
+
+  @Test
+  public void getScenarioCount() {
+    assertThat(BOX.getScenarioCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void map() {
+    MarketDataBox<Integer> result = BOX.map(String::length);
+    assertThat(result).isEqualTo(MarketDataBox.ofSparseScenarioValues(4, 4, ImmutableMap.of(1, 3, 3, 5)));
+  }
+
+  @Test
+  public void mapWithIndex() {
+    MarketDataBox<String> result = BOX.mapWithIndex(4, (v, idx) -> idx == 2 ? "two" : v);
+    assertThat(result).isEqualTo(
+        MarketDataBox.ofSparseScenarioValues(BASE, 4, ImmutableMap.of(1, "one", 2, "two", 3, "three")));
+    assertThat(result.getValue(0)).isSameAs(BASE);
+  }
+
+  @Test
+  public void mapWithIndex_allChanged() {
+    MarketDataBox<String> result = BOX.mapWithIndex(4, (v, idx) -> v + idx);
+    assertThat(result).isEqualTo(MarketDataBox.ofScenarioValues("base0", "one1", "base2", "three3"));
+  }
+
+  @Test
+  public void mapWithIndexWrongNumberOfScenarios() {
+    assertThatIllegalArgumentException().isThrownBy(() -> BOX.mapWithIndex(3, (v, idx) -> v));
+  }
+
+  /**
+   * Tests that a perturbation of a single value that leaves some scenarios unchanged shares the value.
+   */
+  @Test
+  public void mapWithIndex_fromSingleValue() {
+    MarketDataBox<String> box = MarketDataBox.ofSingleValue(BASE);
+    MarketDataBox<String> result = box.mapWithIndex(4, (v, idx) -> idx == 1 ? "one" : idx == 3 ? "three" : v);
+    assertThat(result).isEqualTo(BOX);
+    assertThat(result.getValue(2)).isSameAs(BASE);
+  }
+
+  @Test
+  public void combineWithSingleBox() {
+    MarketDataBox<String> result = BOX.combineWith(MarketDataBox.ofSingleValue("!"), (v1, v2) -> v1 + v2);
+    assertThat(result).isEqualTo(
+        MarketDataBox.ofSparseScenarioValues("base!", 4, ImmutableMap.of(1, "one!", 3, "three!")));
+  }
+
+  @Test
+  public void combineWithScenarioBox() {
+    MarketDataBox<String> otherBox = MarketDataBox.ofScenarioValues("a", "b", "c", "d");
+    MarketDataBox<String> result = BOX.combineWith(otherBox, (v1, v2) -> v1 + v2);
+    assertThat(result).isEqualTo(MarketDataBox.ofScenarioValues("basea", "oneb", "basec", "threed"));
+  }
+
+  @Test
+  public void combineWithScenarioBoxWithWrongNumberOfScenarios() {
+    MarketDataBox<String> otherBox = MarketDataBox.ofScenarioValues("a", "b");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BOX.combineWith(otherBox, (v1, v2) -> v1 + v2))
+        .withMessageStartingWith("Scenario values must have the same number of scenarios");
+  }
+
+  @Test
+  public void getMarketDataType() {
+    assertThat(BOX.getMarketDataType()).isEqualTo(String.class);
+  }
+
+  @Test
+  public void stream() {
+    List<String> list = BOX.stream().collect(toList());
+    assertThat(list).isEqualTo(ImmutableList.of(BASE, "one", BASE, "three"));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    SparseScenarioMarketDataBox<String> test = SparseScenarioMarketDataBox.of(BASE, 4, ImmutableMap.of(1, "one"));
+    coverImmutableBean(test);
+    SparseScenarioMarketDataBox<String> test2 = SparseScenarioMarketDataBox.of("other", 2, ImmutableMap.of());
+    coverBeanEquals(test, test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    assertSerialization(BOX);
+  }
+
+}
@@ -21,8 +21,14 @@ import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableMap;
@@ -38,6 +44,7 @@ import com.opengamma.strata.basics.date.HolidayCalendarId;
 import com.opengamma.strata.basics.date.HolidayCalendarIds;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Decimal;
+import com.opengamma.strata.collect.Unchecked;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.result.ParseFailureException;
 import com.opengamma.strata.collect.tuple.DoublesPair;
@@ -735,4 +742,32 @@ public final class CsvLoaderUtils {
   public static String formattedDouble(double value) {
     return Decimal.of(value).toString();
   }
+
+  //-------------------------------------------------------------------------
+  // runs the tasks on the executor, returning the results in the order of the tasks
+  // the calling thread runs any task that the executor has not yet started, thus a bounded executor cannot deadlock
+  // the exception of the first task to fail, in task order, is thrown and the remaining tasks are cancelled
+  static <T> List<T> runAll(List<? extends Callable<T>> tasks, Executor executor) {
+    List<FutureTask<T>> futures = new ArrayList<>(tasks.size());
+    for (Callable<T> task : tasks) {
+      FutureTask<T> future = new FutureTask<>(task);
+      futures.add(future);
+      executor.execute(future);
+    }
+    List<T> results = new ArrayList<>(futures.size());
+    try {
+      for (FutureTask<T> future : futures) {
+        future.run();
+        results.add(future.get());
+      }
+      return results;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while parsing CSV files", ex);
+    } catch (ExecutionException ex) {
+      throw Unchecked.propagate(ex.getCause());
+    } finally {
+      futures.forEach(future -> future.cancel(false));
+    }
+  }
 }
@@ -13,12 +13,16 @@ import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.basics.index.PriceIndex;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.io.CharSources;
 import com.opengamma.strata.collect.io.CsvFile;
@@ -104,11 +108,33 @@ public final class FixingSeriesCsvLoader {
    * @throws IllegalArgumentException if the files contain a duplicate entry
    */
   public static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> parse(Collection<CharSource> charSources) {
+    return parse(charSources, Runnable::run);
+  }
+
+  /**
+   * Parses one or more CSV format fixing series files, parsing the files in parallel.
+   * <p>
+   * Each file is parsed as a separate task on the executor, with the results merged in the order of the files.
+   * If the files contain a duplicate entry an exception will be thrown, as with {@link #parse(Collection)}.
+   * 
+   * @param charSources  the fixing series CSV character sources
+   * @param executor  the executor used to parse the files
+   * @return the loaded fixing series, mapped by {@linkplain ObservableId observable ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> parse(
+      Collection<CharSource> charSources,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
     // builder ensures keys can only be seen once
     try {
+      List<Callable<ImmutableMap<ObservableId, LocalDateDoubleTimeSeries>>> tasks = charSources.stream()
+          .map(charSource -> (Callable<ImmutableMap<ObservableId, LocalDateDoubleTimeSeries>>) () -> parseSingle(charSource))
+          .collect(toList());
       ImmutableMap.Builder<ObservableId, LocalDateDoubleTimeSeries> builder = ImmutableMap.builder();
-      for (CharSource charSource : charSources) {
-        builder.putAll(parseSingle(charSource));
+      for (ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> fileMap : CsvLoaderUtils.runAll(tasks, executor)) {
+        builder.putAll(fileMap);
       }
       return builder.build();
     } catch (ParseFailureException ex) {
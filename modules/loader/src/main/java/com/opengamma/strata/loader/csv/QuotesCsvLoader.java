@@ -11,15 +11,19 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.io.CharSources;
 import com.opengamma.strata.collect.io.CsvFile;
 import com.opengamma.strata.collect.io.CsvRow;
@@ -194,11 +198,46 @@ public final class QuotesCsvLoader {
       Predicate<LocalDate> datePredicate,
       Collection<CharSource> charSources) {
 
+    return parse(datePredicate, charSources, Runnable::run);
+  }
+
+  /**
+   * Parses one or more CSV format quote files, parsing the files in parallel.
+   * <p>
+   * A predicate is specified that is used to filter the dates that are returned.
+   * This could match a single date, a set of dates or all dates.
+   * <p>
+   * Each file is parsed as a separate task on the executor, with the results merged in the order of the files.
+   * The predicate must be safe to call from multiple threads.
+   * If the files contain a duplicate entry an exception will be thrown, as with {@link #parse(Predicate, Collection)}.
+   * 
+   * @param datePredicate  the predicate used to select the dates
+   * @param charSources  the CSV character sources
+   * @param executor  the executor used to parse the files
+   * @return the loaded quotes, mapped by {@link LocalDate} and {@linkplain QuoteId quote ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> parse(
+      Predicate<LocalDate> datePredicate,
+      Collection<CharSource> charSources,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
     try {
+      // each file is parsed into its own builders, which are merged in file order
+      List<Callable<Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>>>> tasks = charSources.stream()
+          .map(charSource -> (Callable<Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>>>) () -> {
+            Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> fileMap = new HashMap<>();
+            parseSingle(datePredicate, charSource, fileMap);
+            return fileMap;
+          })
+          .collect(toList());
       // builder ensures keys can only be seen once
       Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap = new HashMap<>();
-      for (CharSource charSource : charSources) {
-        parseSingle(datePredicate, charSource, mutableMap);
+      for (Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> fileMap : CsvLoaderUtils.runAll(tasks, executor)) {
+        for (Entry<LocalDate, Builder<QuoteId, Double>> entry : fileMap.entrySet()) {
+          mutableMap.computeIfAbsent(entry.getKey(), k -> ImmutableMap.builder()).putAll(entry.getValue().build());
+        }
       }
       ImmutableMap.Builder<LocalDate, ImmutableMap<QuoteId, Double>> builder = ImmutableMap.builder();
       for (Entry<LocalDate, Builder<QuoteId, Double>> entry : mutableMap.entrySet()) {
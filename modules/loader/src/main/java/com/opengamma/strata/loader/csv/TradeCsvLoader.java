@@ -19,15 +19,24 @@ import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 import java.time.ZoneId;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
@@ -35,6 +44,7 @@ import com.opengamma.strata.basics.StandardSchemes;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Guavate;
 import com.opengamma.strata.collect.MapStream;
+import com.opengamma.strata.collect.Unchecked;
 import com.opengamma.strata.collect.io.CharSources;
 import com.opengamma.strata.collect.io.CsvIterator;
 import com.opengamma.strata.collect.io.CsvRow;
@@ -208,6 +218,8 @@ public final class TradeCsvLoader {
   // default schemes
   private static final String DEFAULT_TRADE_SCHEME = StandardSchemes.OG_TRADE_SCHEME;
   private static final String DEFAULT_CPTY_SCHEME = StandardSchemes.OG_COUNTERPARTY;
+  // the maximum number of batches held in memory when parsing in batches
+  private static final int MAX_PENDING_BATCHES = 16;
 
   /**
    * The lookup of trade parsers.
@@ -388,38 +400,207 @@ public final class TradeCsvLoader {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Parses one or more CSV format trade files in batches, passing each batch to a consumer.
+   * <p>
+   * This is intended for very large files, where holding all the trades in memory is undesirable.
+   * The rows of each file are read on the calling thread and split into batches of approximately
+   * {@code batchSize} rows. A batch is never split within the rows of a single trade.
+   * Each batch of rows is parsed into trades using the executor.
+   * <p>
+   * The consumer is invoked on the calling thread, once per batch, in the order of the rows in the files.
+   * Failures are reported in the batch in which they occur, thus a file-level failure, such
+   * as a missing header, is reported as a batch containing no trades.
+   * If a file cannot be read part way through, the rows read so far are parsed and consumed,
+   * followed by a batch containing the failure.
+   * Exceptions thrown by the executor or the consumer are not captured, and are propagated to the caller.
+   * <p>
+   * No more than 16 batches are held in memory at any one time,
+   * thus memory use is bounded by the batch size rather than by the size of the files.
+   * The calling thread also parses batches while waiting, thus the executor may be one that
+   * is shared with the caller, or a direct executor to parse on the calling thread.
+   * When parsing in parallel, the {@link TradeCsvInfoResolver} must be thread-safe.
+   * <p>
+   * A type is specified to filter the trades.
+   * Trades that do not match the type are silently dropped.
+   * <p>
+   * CSV files sometimes contain a Unicode Byte Order Mark.
+   * Callers are responsible for handling this, such as by using {@link UnicodeBom}.
+   * 
+   * @param <T>  the trade type
+   * @param charSources  the CSV character sources
+   * @param tradeType  the trade type to return
+   * @param batchSize  the number of rows in each batch
+   * @param executor  the executor used to parse each batch
+   * @param consumer  the consumer of the parsed batches, all file errors are captured in the batches
+   */
+  public <T extends Trade> void parse(
+      Collection<CharSource> charSources,
+      Class<T> tradeType,
+      int batchSize,
+      Executor executor,
+      Consumer<ValueWithFailures<List<T>>> consumer) {
+
+    ArgChecker.notNull(charSources, "charSources");
+    ArgChecker.notNull(tradeType, "tradeType");
+    ArgChecker.notNegativeOrZero(batchSize, "batchSize");
+    ArgChecker.notNull(executor, "executor");
+    ArgChecker.notNull(consumer, "consumer");
+    Deque<FutureTask<ValueWithFailures<List<T>>>> pending = new ArrayDeque<>();
+    for (CharSource charSource : charSources) {
+      CsvIterator csvFile;
+      try {
+        csvFile = CsvIterator.of(charSource, true);
+      } catch (RuntimeException ex) {
+        submitBatch(pending, () -> parseFailure(charSource, ex), Runnable::run, consumer);
+        continue;
+      }
+      try (CsvIterator csv = csvFile) {
+        if (!csv.headers().contains(TRADE_TYPE_FIELD)) {
+          submitBatch(pending, () -> missingHeaderFailure(charSource), Runnable::run, consumer);
+          continue;
+        }
+        while (true) {
+          List<CsvRow> batch = new ArrayList<>(batchSize);
+          RuntimeException readFailure = readBatch(csv, batch, batchSize);
+          if (!batch.isEmpty()) {
+            submitBatch(pending, parseBatchTask(batch, charSource, tradeType), executor, consumer);
+          }
+          if (readFailure != null) {
+            submitBatch(pending, () -> parseFailure(charSource, readFailure), Runnable::run, consumer);
+            break;
+          }
+          if (batch.isEmpty()) {
+            break;
+          }
+        }
+      }
+    }
+    while (!pending.isEmpty()) {
+      consumer.accept(awaitBatch(pending.removeFirst()));
+    }
+  }
+
+  // reads the next batch of rows, returning the exception if the file could not be read
+  // a batch starts with a primary row and ends once the batch size is reached and the next row is a primary row
+  private static RuntimeException readBatch(CsvIterator csv, List<CsvRow> batch, int batchSize) {
+    try {
+      CsvRow primaryRow = null;
+      while (csv.hasNext()) {
+        CsvRow row = csv.next();
+        if (primaryRow == null || !isAdditionalRow(primaryRow, row)) {
+          primaryRow = row;
+        }
+        batch.add(row);
+        if (batch.size() >= batchSize && (!csv.hasNext() || !isAdditionalRow(primaryRow, csv.peek()))) {
+          return null;
+        }
+      }
+      return null;
+    } catch (RuntimeException ex) {
+      return ex;
+    }
+  }
+
+  // checks if the row is an additional row of the primary row, used to avoid splitting a trade between batches
+  // this ignores any override by the resolver, thus it may keep more rows together than necessary, but never fewer
+  private static boolean isAdditionalRow(CsvRow primaryRow, CsvRow row) {
+    String typeUpper = primaryRow.findField(TRADE_TYPE_FIELD).orElse("").toUpperCase(Locale.ENGLISH);
+    TradeCsvParserPlugin plugin = PLUGINS.get(typeUpper);
+    return plugin != null && plugin.isAdditionalRow(primaryRow, row);
+  }
+
+  // creates the task to parse a batch of rows
+  private <T extends Trade> Callable<ValueWithFailures<List<T>>> parseBatchTask(
+      List<CsvRow> batch,
+      CharSource charSource,
+      Class<T> tradeType) {
+
+    return () -> {
+      try {
+        return parseFile(Iterators.peekingIterator(batch.iterator()), charSource, tradeType);
+      } catch (RuntimeException ex) {
+        return parseFailure(charSource, ex);
+      }
+    };
+  }
+
+  // submits a batch, consuming the oldest batches in order once too many are pending
+  private static <T> void submitBatch(
+      Deque<FutureTask<ValueWithFailures<List<T>>>> pending,
+      Callable<ValueWithFailures<List<T>>> task,
+      Executor executor,
+      Consumer<ValueWithFailures<List<T>>> consumer) {
+
+    FutureTask<ValueWithFailures<List<T>>> future = new FutureTask<>(task);
+    pending.addLast(future);
+    executor.execute(future);
+    while (pending.size() > MAX_PENDING_BATCHES) {
+      consumer.accept(awaitBatch(pending.removeFirst()));
+    }
+  }
+
+  // waits for a batch, running it on this thread if the executor has not yet started it
+  private static <T> ValueWithFailures<List<T>> awaitBatch(FutureTask<ValueWithFailures<List<T>>> future) {
+    future.run();
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while parsing trade file", ex);
+    } catch (ExecutionException ex) {
+      throw Unchecked.propagate(ex.getCause());
+    }
+  }
+
+  // the failure when a file has no trade type header
+  private static <T> ValueWithFailures<List<T>> missingHeaderFailure(CharSource charSource) {
+    return ValueWithFailures.of(
+        ImmutableList.of(),
+        FailureItem.of(
+            FailureReason.PARSING,
+            "CSV trade file '{fileName}' does not contain '{header}' header",
+            CharSources.extractFileName(charSource),
+            TRADE_TYPE_FIELD));
+  }
+
+  // the failure when a file cannot be parsed
+  private static <T> ValueWithFailures<List<T>> parseFailure(CharSource charSource, RuntimeException ex) {
+    return ValueWithFailures.of(
+        ImmutableList.of(),
+        FailureItem.of(
+            FailureReason.PARSING,
+            ex,
+            "CSV trade file '{fileName}' could not be parsed: {exceptionMessage}",
+            CharSources.extractFileName(charSource),
+            ex.getMessage()));
+  }
+
   // loads a single CSV file, filtering by trade type
   private <T extends Trade> ValueWithFailures<List<T>> parseFile(CharSource charSource, Class<T> tradeType) {
     try (CsvIterator csv = CsvIterator.of(charSource, true)) {
       if (!csv.headers().contains(TRADE_TYPE_FIELD)) {
-        return ValueWithFailures.of(
-            ImmutableList.of(),
-            FailureItem.of(
-                FailureReason.PARSING,
-                "CSV trade file '{fileName}' does not contain '{header}' header",
-                CharSources.extractFileName(charSource),
-                TRADE_TYPE_FIELD));
+        return missingHeaderFailure(charSource);
       }
       return parseFile(csv, charSource, tradeType);
 
     } catch (RuntimeException ex) {
-      return ValueWithFailures.of(
-          ImmutableList.of(),
-          FailureItem.of(
-              FailureReason.PARSING,
-              ex,
-              "CSV trade file '{fileName}' could not be parsed: {exceptionMessage}",
-              CharSources.extractFileName(charSource),
-              ex.getMessage()));
+      return parseFailure(charSource, ex);
     }
   }
 
-  // loads a single CSV file
+  // loads the rows of a single CSV file, which may be a batch of rows from the file
   @SuppressWarnings("unchecked")
-  private <T extends Trade> ValueWithFailures<List<T>> parseFile(CsvIterator csv, CharSource charSource, Class<T> tradeType) {
+  private <T extends Trade> ValueWithFailures<List<T>> parseFile(
+      PeekingIterator<CsvRow> csv,
+      CharSource charSource,
+      Class<T> tradeType) {
+
     List<T> trades = new ArrayList<>();
     List<FailureItem> failures = new ArrayList<>();
-    for (CsvRow row : csv.asIterable()) {
+    while (csv.hasNext()) {
+      CsvRow row = csv.next();
       // handle mixed trade/position files
       Optional<String> tradeTypeOpt = row.findValue(TRADE_TYPE_FIELD).filter(str -> !str.equalsIgnoreCase("POSITION"));
       Optional<String> positionTypeOpt = row.findValue(POSITION_TYPE_FIELD).filter(str -> !str.equalsIgnoreCase("TRADE"));
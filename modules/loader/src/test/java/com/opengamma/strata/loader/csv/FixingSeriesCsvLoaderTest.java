@@ -11,6 +11,8 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
@@ -109,6 +111,27 @@ public class FixingSeriesCsvLoaderTest {
         .withMessageStartingWith("Error parsing CSV file 'fixings-invalid-date.csv': Unable to parse date from '1971-01-32',");
   }
 
+  @Test
+  public void test_parse_parallel() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Map<ObservableId, LocalDateDoubleTimeSeries> ts = FixingSeriesCsvLoader.parse(
+          ImmutableList.of(FIXING_SERIES_1.getCharSource(), FIXING_SERIES_2.getCharSource()), executor);
+      assertLibor3m6mSeries(ts);
+      assertThatExceptionOfType(ParseFailureException.class)
+          .isThrownBy(() -> FixingSeriesCsvLoader.parse(
+              ImmutableList.of(FIXING_SERIES_1.getCharSource(), FIXING_SERIES_1.getCharSource()), executor))
+          .withMessageStartingWith("Error parsing CSV files '[")
+          .withMessageContaining("Multiple entries with same key: ");
+      assertThatExceptionOfType(ParseFailureException.class)
+          .isThrownBy(() -> FixingSeriesCsvLoader.parse(
+              ImmutableList.of(FIXING_SERIES_1.getCharSource(), FIXING_SERIES_INVALID_DATE.getCharSource()), executor))
+          .withMessageStartingWith("Error parsing CSV file 'fixings-invalid-date.csv': Unable to parse date");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   //-------------------------------------------------------------------------
   private void assertLibor3m6mSeries(Map<ObservableId, LocalDateDoubleTimeSeries> ts) {
     assertThat(ts).hasSize(2);
@@ -13,6 +13,8 @@ import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
@@ -110,6 +112,40 @@ public class QuotesCsvLoaderTest {
     assertFile1Date2(map.get(DATE2));
   }
 
+  @Test
+  public void test_parse_parallel() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Map<LocalDate, ImmutableMap<QuoteId, Double>> map = QuotesCsvLoader.parse(
+          d -> true, ImmutableList.of(QUOTES_1.getCharSource(), QUOTES_2.getCharSource()), executor);
+      assertThat(map).isEqualTo(QuotesCsvLoader.loadAllDates(QUOTES_1, QUOTES_2));
+      assertFile1Date1(map.get(DATE1));
+      assertFile2Date1(map.get(DATE1));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void test_parse_parallel_invalid() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      assertThatExceptionOfType(ParseFailureException.class)
+          .isThrownBy(() -> QuotesCsvLoader.parse(
+              d -> true, ImmutableList.of(QUOTES_1.getCharSource(), QUOTES_1.getCharSource()), executor))
+          .withMessageStartingWith("Error parsing quotes CSV files: Multiple entries with same key");
+      assertThatExceptionOfType(ParseFailureException.class)
+          .isThrownBy(() -> QuotesCsvLoader.parse(
+              d -> true, ImmutableList.of(QUOTES_1.getCharSource(), QUOTES_INVALID_DUPLICATE.getCharSource()), executor));
+      assertThatExceptionOfType(ParseFailureException.class)
+          .isThrownBy(() -> QuotesCsvLoader.parse(
+              d -> true, ImmutableList.of(QUOTES_1.getCharSource(), QUOTES_INVALID_DATE.getCharSource()), executor))
+          .withMessageStartingWith("Error parsing CSV file 'quotes-invalid-date.csv': Unable to parse date");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   //-------------------------------------------------------------------------
   private void assertFile1Date1(Map<QuoteId, Double> map) {
     assertThat(map.containsKey(FGBL_MAR14)).isTrue();
@@ -31,15 +31,26 @@ import static com.opengamma.strata.product.common.BuySell.SELL;
 import static com.opengamma.strata.product.common.LongShort.SHORT;
 import static com.opengamma.strata.product.common.PayReceive.PAY;
 import static com.opengamma.strata.product.common.PayReceive.RECEIVE;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.joda.beans.test.BeanAssert.assertBeanEquals;
 
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Period;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -202,6 +213,107 @@ public class TradeCsvLoaderTest {
     assertThat(trades.getFailures().size()).as(trades.getFailures().toString()).isEqualTo(0);
   }
 
+  @Test
+  public void test_parse_batches() {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    CharSource noHeader = CharSource.wrap("Id,Foo\n1,2");
+    ResourceLocator mixed = ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/mixed-trades-positions.csv");
+    List<CharSource> sources = ImmutableList.of(FILE.getCharSource(), noHeader, mixed.getCharSource());
+    ValueWithFailures<List<Trade>> expected = test.parse(sources, Trade.class);
+    assertThat(expected.getValue()).isNotEmpty();
+    assertThat(expected.getFailures()).isNotEmpty();
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      for (int batchSize : new int[] {1, 3, 1000}) {
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Trade> trades = new ArrayList<>();
+        List<FailureItem> failures = new ArrayList<>();
+        test.parse(sources, Trade.class, batchSize, executor, batch -> {
+          batchSizes.add(batch.getValue().size());
+          trades.addAll(batch.getValue());
+          failures.addAll(batch.getFailures());
+        });
+        assertThat(trades).isEqualTo(expected.getValue());
+        assertThat(failures).extracting(FailureItem::getMessage)
+            .isEqualTo(expected.getFailures().stream().map(FailureItem::getMessage).collect(toList()));
+        assertThat(batchSizes.size()).isGreaterThan(batchSize == 1 ? expected.getValue().size() : 2);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void test_parse_batches_directExecutor() {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    List<CharSource> sources = ImmutableList.of(FILE.getCharSource());
+    List<Trade> trades = new ArrayList<>();
+    test.parse(sources, SwapTrade.class, 2, Runnable::run, batch -> {
+      assertThat(batch.getFailures()).isEmpty();
+      trades.addAll(batch.getValue());
+    });
+    assertThat(trades).isEqualTo(test.parse(sources, SwapTrade.class).getValue());
+  }
+
+  @Test
+  public void test_parse_batches_readFailure() throws IOException {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    String content = FILE.getCharSource().read();
+    // fails to read once all the content has been read
+    CharSource failing = new CharSource() {
+      @Override
+      public Reader openStream() {
+        return new FilterReader(new StringReader(content)) {
+          @Override
+          public int read(char[] buf, int off, int len) throws IOException {
+            int read = super.read(buf, off, len);
+            if (read < 0) {
+              throw new IOException("Broken");
+            }
+            return read;
+          }
+        };
+      }
+    };
+    List<Trade> trades = new ArrayList<>();
+    List<FailureItem> failures = new ArrayList<>();
+    test.parse(ImmutableList.of(failing), Trade.class, 1000, Runnable::run, batch -> {
+      trades.addAll(batch.getValue());
+      failures.addAll(batch.getFailures());
+    });
+    assertThat(trades).isEqualTo(test.parse(ImmutableList.of(FILE.getCharSource()), Trade.class).getValue());
+    assertThat(failures).hasSize(1);
+    assertThat(failures.get(0).getReason()).isEqualTo(FailureReason.PARSING);
+    assertThat(failures.get(0).getMessage()).contains("could not be parsed").contains("Broken");
+  }
+
+  @Test
+  public void test_parse_batches_consumerException() {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    List<CharSource> sources = ImmutableList.of(FILE.getCharSource(), FILE.getCharSource());
+    AtomicInteger consumed = new AtomicInteger();
+    assertThatIllegalStateException()
+        .isThrownBy(() -> test.parse(sources, Trade.class, 1, Runnable::run, batch -> {
+          consumed.incrementAndGet();
+          throw new IllegalStateException("Consumer failed");
+        }))
+        .withMessage("Consumer failed");
+    assertThat(consumed.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void test_parse_batches_rejectedExecution() {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    List<CharSource> sources = ImmutableList.of(FILE.getCharSource());
+    List<ValueWithFailures<List<Trade>>> batches = new ArrayList<>();
+    assertThatExceptionOfType(RejectedExecutionException.class)
+        .isThrownBy(() -> test.parse(sources, Trade.class, 1, task -> {
+          throw new RejectedExecutionException("Rejected");
+        }, batches::add));
+    assertThat(batches).isEmpty();
+  }
+
   @Test
   public void test_load_fx_forwards() {
     TradeCsvLoader standard = TradeCsvLoader.standard();
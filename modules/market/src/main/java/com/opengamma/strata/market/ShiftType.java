@@ -43,6 +43,11 @@ public enum ShiftType implements NamedEnum {
     public double computeShift(double baseValue, double shiftedValue) {
       return shiftedValue / baseValue - 1d;
     }
+
+    @Override
+    public boolean isNoShift(double shiftAmount) {
+      return shiftAmount == 0d;
+    }
   },
 
   /**
@@ -65,6 +70,11 @@ public enum ShiftType implements NamedEnum {
     public double computeShift(double baseValue, double shiftedValue) {
       return shiftedValue - baseValue;
     }
+
+    @Override
+    public boolean isNoShift(double shiftAmount) {
+      return shiftAmount == 0d;
+    }
   },
 
   /**
@@ -89,6 +99,11 @@ public enum ShiftType implements NamedEnum {
     public double computeShift(double baseValue, double shiftedValue) {
       return shiftedValue / baseValue;
     }
+
+    @Override
+    public boolean isNoShift(double shiftAmount) {
+      return shiftAmount == 1d;
+    }
   },
 
   /**
@@ -111,6 +126,11 @@ public enum ShiftType implements NamedEnum {
     public double computeShift(double baseValue, double shiftedValue) {
       return shiftedValue;
     }
+
+    @Override
+    public boolean isNoShift(double shiftAmount) {
+      return false;
+    }
   };
 
   // helper for name conversions
@@ -150,6 +170,17 @@ public enum ShiftType implements NamedEnum {
    */
   public abstract ValueAdjustment toValueAdjustment(double shiftAmount);
 
+  /**
+   * Checks if the shift amount leaves every value unchanged.
+   * <p>
+   * This is true for a relative or absolute shift of zero and a scaled shift of one.
+   * A fixed shift is never treated as leaving the value unchanged.
+   *
+   * @param shiftAmount  the shift to apply
+   * @return true if applying the shift does not change the value
+   */
+  public abstract boolean isNoShift(double shiftAmount);
+
   //-------------------------------------------------------------------------
   /**
    * Computes the shift amount using appropriate logic for the shift type.
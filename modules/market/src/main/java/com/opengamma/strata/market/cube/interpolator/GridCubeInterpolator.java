@@ -32,6 +32,7 @@ import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.surface.interpolator.BoundSurfaceInterpolator;
 import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
+import com.opengamma.strata.market.surface.interpolator.GridWeights;
 
 /**
  * A cube interpolator that is based on three curve interpolators.
@@ -265,6 +266,8 @@ public final class GridCubeInterpolator
     private final DoubleArray xValuesUnique;
     private final int paramSize;
     private final BoundSurfaceInterpolator[] yzInterpolators;
+    // the weights of the x-interpolation, null if the x-interpolation is not linear in the w-values
+    private final GridWeights xWeights;
 
     Bound(
         CurveInterpolator xInterpolator,
@@ -280,11 +283,20 @@ public final class GridCubeInterpolator
       this.xValuesUnique = xValuesUnique;
       this.paramSize = paramSize;
       this.yzInterpolators = yzInterpolators;
+      this.xWeights = GridWeights.of(xValuesUnique, xInterpolator, xExtrapolatorLeft, xExtrapolatorRight).orElse(null);
     }
 
     //-------------------------------------------------------------------------
     @Override
     public double interpolate(double x, double y, double z) {
+      if (xWeights != null) {
+        // the x-interpolation is a weighted sum of the w-value for each unique x
+        double wValue = 0d;
+        for (int i = 0; i < yzInterpolators.length; i++) {
+          wValue += xWeights.weight(i, x) * yzInterpolators[i].interpolate(y, z);
+        }
+        return wValue;
+      }
       // use each yz-interpolator to find the w-value for each unique x
       DoubleArray wValuesEffective = DoubleArray.of(yzInterpolators.length, i -> yzInterpolators[i].interpolate(y, z));
       // interpolate unique x-values against derived w-values
@@ -299,6 +311,10 @@ public final class GridCubeInterpolator
       for (int i = 0; i < uniqueX; i++) {
         yzSens[i] = yzInterpolators[i].parameterSensitivity(y, z);
       }
+      if (xWeights != null) {
+        // the sensitivity to the derived w-values is independent of the w-values
+        return project(xWeights.weights(x), yzSens);
+      }
       // use each yz-interpolator to find the w-value for each unique x
       DoubleArray wValuesEffective = DoubleArray.of(uniqueX, i -> yzInterpolators[i].interpolate(y, z));
       // find the sensitivity of the unique x-values against derived w-values
@@ -313,6 +329,21 @@ public final class GridCubeInterpolator
     @Override
     public ValueDerivatives firstPartialDerivatives(double x, double y, double z) {
       int uniqueX = yzInterpolators.length;
+      if (xWeights != null) {
+        double wValue = 0d;
+        double xDerivative = 0d;
+        double yDerivative = 0d;
+        double zDerivative = 0d;
+        for (int i = 0; i < uniqueX; i++) {
+          double weight = xWeights.weight(i, x);
+          ValueDerivatives yzDerivatives = yzInterpolators[i].firstPartialDerivatives(y, z);
+          wValue += weight * yzDerivatives.getValue();
+          xDerivative += xWeights.weightDerivative(i, x) * yzDerivatives.getValue();
+          yDerivative += weight * yzDerivatives.getDerivative(0);
+          zDerivative += weight * yzDerivatives.getDerivative(1);
+        }
+        return ValueDerivatives.of(wValue, DoubleArray.of(xDerivative, yDerivative, zDerivative));
+      }
       DoubleArray wValuesEffective = DoubleArray.of(uniqueX, i -> yzInterpolators[i].interpolate(y, z));
       double xDerivative =
           xInterpolator.bind(xValuesUnique, wValuesEffective, xExtrapolatorLeft, xExtrapolatorRight).firstDerivative(x);
@@ -97,6 +97,19 @@ public interface Curve extends ParameterizedData {
    */
   public abstract double yValue(double x);
 
+  /**
+   * Computes the y-values for the specified x-values.
+   * <p>
+   * This is equivalent to calling {@link #yValue(double)} for each x-value.
+   * Implementations may be more efficient when the x-values are sorted from low to high.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @return the values at the x-values
+   */
+  public default DoubleArray yValues(DoubleArray xValues) {
+    return xValues.map(this::yValue);
+  }
+
   /**
    * Computes the sensitivity of the y-value with respect to the curve parameters.
    * <p>
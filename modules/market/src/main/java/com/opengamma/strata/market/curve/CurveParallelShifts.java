@@ -39,6 +39,10 @@ import com.opengamma.strata.market.ShiftType;
  * <p>
  * For example, a relative shift of 0.1 (10%) multiplies each value on the curve by 1.1, and a shift of -0.2 (-20%)
  * multiplies the value by 0.8. So for relative shifts the shifted value is {@code (value x (1 + shift))}.
+ * <p>
+ * If the shift amount of a scenario leaves the values unchanged, such as an absolute or relative shift of zero,
+ * the curve is returned unchanged, rather than wrapped in a {@link ParallelShiftedCurve}.
+ * This allows the same curve instance to be shared between scenarios.
  */
 @BeanDefinition(builderScope = "private")
 public final class CurveParallelShifts
@@ -91,6 +95,10 @@ public final class CurveParallelShifts
 
   private Curve applyShift(Curve curve, int scenarioIndex) {
     double shiftAmount = shiftAmounts.get(scenarioIndex);
+    if (shiftType.isNoShift(shiftAmount)) {
+      // returning the same instance allows the curve to be shared between scenarios
+      return curve;
+    }
     log.debug("Applying {} parallel shift of {} to curve '{}'", shiftType, shiftAmount, curve.getName());
     return ParallelShiftedCurve.of(curve, shiftType, shiftAmount);
   }
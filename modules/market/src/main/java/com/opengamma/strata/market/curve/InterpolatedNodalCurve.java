@@ -243,6 +243,11 @@ public final class InterpolatedNodalCurve
     return boundInterpolator.interpolate(x);
   }
 
+  @Override
+  public DoubleArray yValues(DoubleArray xValues) {
+    return boundInterpolator.interpolate(xValues);
+  }
+
   @Override
   public UnitParameterSensitivity yValueParameterSensitivity(double x) {
     return createParameterSensitivity(boundInterpolator.parameterSensitivity(x));
@@ -27,6 +27,10 @@ public abstract class AbstractBoundCurveInterpolator
    * The right extrapolator.
    */
   private final BoundCurveExtrapolator extrapolatorRight;
+  /**
+   * The x-values of the nodes.
+   */
+  private final double[] nodeXValues;
   /**
    * The x-value of the first node.
    */
@@ -54,6 +58,7 @@ public abstract class AbstractBoundCurveInterpolator
     ArgChecker.isTrue(size > 1, "Curve node arrays must have at least two nodes");
     this.extrapolatorLeft = ExceptionCurveExtrapolator.INSTANCE;
     this.extrapolatorRight = ExceptionCurveExtrapolator.INSTANCE;
+    this.nodeXValues = xValues.toArrayUnsafe();
     this.firstXValue = xValues.get(0);
     this.lastXValue = xValues.get(size - 1);
     this.lastYValue = yValues.get(size - 1);
@@ -73,6 +78,7 @@ public abstract class AbstractBoundCurveInterpolator
 
     this.extrapolatorLeft = ArgChecker.notNull(extrapolatorLeft, "extrapolatorLeft");
     this.extrapolatorRight = ArgChecker.notNull(extrapolatorRight, "extrapolatorRight");
+    this.nodeXValues = base.nodeXValues;
     this.firstXValue = base.firstXValue;
     this.lastXValue = base.lastXValue;
     this.lastYValue = base.lastYValue;
@@ -101,6 +107,58 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract double doInterpolate(double xValue);
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The nodes are located by walking forward from the node found for the previous x-value,
+   * rather than by a binary search for each x-value. As such, this is most efficient when
+   * the x-values are sorted from low to high, although this is not required.
+   */
+  @Override
+  public DoubleArray interpolate(DoubleArray xValues) {
+    int size = xValues.size();
+    double[] result = new double[size];
+    int lowerIndex = 0;
+    for (int i = 0; i < size; i++) {
+      double xValue = xValues.get(i);
+      if (xValue < firstXValue) {
+        result[i] = extrapolatorLeft.leftExtrapolate(xValue);
+      } else if (xValue > lastXValue) {
+        result[i] = extrapolatorRight.rightExtrapolate(xValue);
+      } else if (xValue == lastXValue) {
+        result[i] = lastYValue;
+      } else {
+        if (xValue < nodeXValues[lowerIndex]) {
+          // x-values not sorted, restart from a binary search
+          lowerIndex = lowerBoundIndex(xValue, nodeXValues);
+        }
+        // x-value is less than the x-value of the last node, so this stops before the last node
+        while (nodeXValues[lowerIndex + 1] <= xValue) {
+          lowerIndex++;
+        }
+        result[i] = doInterpolate(xValue, lowerIndex);
+      }
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  /**
+   * Method for subclasses to calculate the interpolated value when the lower node is known.
+   * <p>
+   * Callers can assume that {@code xValue} is less than the x-value of the last node,
+   * and that {@code lowerIndex} is the result of {@link #lowerBoundIndex(double, double[])}.
+   * <p>
+   * The default implementation calls {@link #doInterpolate(double)}.
+   * Subclasses that search for the lower node should override this method to avoid the search.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node whose x-value is less than or equal to the x-value
+   * @return the interpolated y-value
+   */
+  protected double doInterpolate(double xValue, int lowerIndex) {
+    return doInterpolate(xValue);
+  }
+
   /**
    * Method for {@code InterpolatorCurveExtrapolator} to calculate the interpolated value.
    * <p>
@@ -223,8 +223,12 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
     //-------------------------------------------------------------------------
     @Override
     protected double doInterpolate(double xValue) {
+      return doInterpolate(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doInterpolate(double xValue, int low) {
       // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
-      int low = lowerBoundIndex(xValue, xValues);
       int high = low + 1;
       int n = dataSize - 1;
       if (low == n) {
@@ -109,6 +109,19 @@ public final class CurrencyParameterSensitivities
     return new CurrencyParameterSensitivitiesBuilder();
   }
 
+  /**
+   * Returns an accumulator that can be used to sum many sensitivities into an instance
+   * of {@code CurrencyParameterSensitivities}.
+   * <p>
+   * The accumulator sums the sensitivity arrays in place using market data name and currency as a key,
+   * matching the behavior of {@link #combinedWith(CurrencyParameterSensitivities)}.
+   *
+   * @return the accumulator
+   */
+  public static CurrencyParameterSensitivitiesAccumulator accumulator() {
+    return new CurrencyParameterSensitivitiesAccumulator();
+  }
+
   /**
    * Obtains an instance from a single sensitivity entry.
    * 
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+
+/**
+ * Mutable accumulator for {@code CurrencyParameterSensitivities}.
+ * <p>
+ * This holds one dense {@code double[]} of parameter buckets for each market data name and currency.
+ * Each sensitivity added is summed into the buckets in place, avoiding the creation of an
+ * intermediate {@link CurrencyParameterSensitivities} instance for every addition.
+ * It is intended for use when many point sensitivities are projected onto the same small set of curves.
+ * <p>
+ * As with {@link CurrencyParameterSensitivities#combinedWith(CurrencyParameterSensitivities)},
+ * the parameter metadata is not checked, thus the caller must ensure the sensitivities
+ * are compatible with the same metadata and parameter count.
+ * The metadata and parameter split are taken from the first sensitivity added for each key.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class CurrencyParameterSensitivitiesAccumulator {
+
+  /**
+   * The map of sensitivity data.
+   */
+  private final Map<Pair<MarketDataName<?>, Currency>, Buckets> data = new HashMap<>();
+
+  //-------------------------------------------------------------------------
+  // restricted constructor
+  CurrencyParameterSensitivitiesAccumulator() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds a unit sensitivity multiplied by an amount to the accumulator.
+   * <p>
+   * This is equivalent to adding {@code unitSensitivity.multipliedBy(currency, amount)},
+   * but the multiplied sensitivity is not created.
+   *
+   * @param unitSensitivity  the unit sensitivity, typically from a curve
+   * @param currency  the currency of the sensitivity
+   * @param amount  the amount to multiply the unit sensitivity by
+   * @return this, for chaining
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(
+      UnitParameterSensitivity unitSensitivity,
+      Currency currency,
+      double amount) {
+
+    Pair<MarketDataName<?>, Currency> key = Pair.of(unitSensitivity.getMarketDataName(), currency);
+    Buckets buckets = data.get(key);
+    if (buckets == null) {
+      data.put(key, new Buckets(unitSensitivity.multipliedBy(currency, amount)));
+    } else {
+      buckets.add(unitSensitivity.getSensitivity(), amount);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a sensitivity to the accumulator.
+   * <p>
+   * Values with the same market data name and currency will be summed.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return this, for chaining
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(CurrencyParameterSensitivity sensitivity) {
+    Pair<MarketDataName<?>, Currency> key = Pair.of(sensitivity.getMarketDataName(), sensitivity.getCurrency());
+    Buckets buckets = data.get(key);
+    if (buckets == null) {
+      data.put(key, new Buckets(sensitivity));
+    } else {
+      buckets.add(sensitivity.getSensitivity(), 1d);
+    }
+    return this;
+  }
+
+  /**
+   * Adds sensitivities to the accumulator.
+   * <p>
+   * Values with the same market data name and currency will be summed.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return this, for chaining
+   */
+  public CurrencyParameterSensitivitiesAccumulator add(CurrencyParameterSensitivities sensitivities) {
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity);
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the sensitivities from the accumulated data.
+   * <p>
+   * The accumulator may continue to be used after this method is called.
+   *
+   * @return the sensitivities instance
+   */
+  public CurrencyParameterSensitivities build() {
+    List<CurrencyParameterSensitivity> sensitivities = new ArrayList<>(data.size());
+    for (Buckets buckets : data.values()) {
+      sensitivities.add(buckets.build());
+    }
+    return CurrencyParameterSensitivities.of(sensitivities);
+  }
+
+  //-------------------------------------------------------------------------
+  // the dense parameter buckets for a single market data name and currency
+  private static final class Buckets {
+    // the first sensitivity added, providing the metadata
+    private final CurrencyParameterSensitivity template;
+    // the accumulated values
+    private final double[] values;
+
+    Buckets(CurrencyParameterSensitivity first) {
+      this.template = first;
+      this.values = first.getSensitivity().toArray();
+    }
+
+    // adds the sensitivity multiplied by the amount
+    void add(DoubleArray sensitivity, double amount) {
+      if (sensitivity.size() != values.length) {
+        throw new IllegalArgumentException(Messages.format(
+            "Sensitivity for '{}' has size {} but expected {}",
+            template.getMarketDataName(),
+            sensitivity.size(),
+            values.length));
+      }
+      double[] array = sensitivity.toArrayUnsafe();
+      if (amount == 1d) {
+        for (int i = 0; i < values.length; i++) {
+          values[i] += array[i];
+        }
+      } else {
+        for (int i = 0; i < values.length; i++) {
+          values[i] += array[i] * amount;
+        }
+      }
+    }
+
+    // builds the sensitivity
+    CurrencyParameterSensitivity build() {
+      return template.withSensitivity(DoubleArray.copyOf(values));
+    }
+  }
+
+}
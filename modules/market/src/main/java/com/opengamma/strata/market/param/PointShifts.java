@@ -47,6 +47,10 @@ import com.opengamma.strata.market.ShiftType;
  * <p>
  * When matching the shift to the parameterized data, either the identifier or label parameter may be used.
  * A shift is not applied if there is no point on the parameterized data with a matching identifier.
+ * <p>
+ * If every shift of a scenario leaves the values unchanged, such as an absolute or relative shift of zero,
+ * the parameterized data is returned unchanged, rather than perturbed.
+ * This allows the same instance to be shared between scenarios.
  *
  * @see ParameterMetadata#getIdentifier()
  */
@@ -129,6 +133,10 @@ public final class PointShifts
   }
 
   private ParameterizedData applyShifts(int scenarioIndex, ParameterizedData prams) {
+    if (isNoShift(scenarioIndex)) {
+      // returning the same instance allows the data to be shared between scenarios
+      return prams;
+    }
     return prams.withPerturbation((index, value, meta) -> {
       double shiftAmount = shiftForNode(scenarioIndex, meta);
       return shiftType.applyShift(value, shiftAmount);
@@ -140,6 +148,20 @@ public final class PointShifts
     return shifts.rowCount();
   }
 
+  // checks if every shift in the scenario leaves the value unchanged
+  // nodes without a shift use zero, thus zero must also leave the value unchanged
+  private boolean isNoShift(int scenarioIndex) {
+    if (!shiftType.isNoShift(0d)) {
+      return false;
+    }
+    for (int i = 0; i < shifts.columnCount(); i++) {
+      if (!shiftType.isNoShift(shifts.get(scenarioIndex, i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private double shiftForNode(int scenarioIndex, ParameterMetadata meta) {
     Integer nodeIndex = nodeIndices.get(meta.getIdentifier());
 
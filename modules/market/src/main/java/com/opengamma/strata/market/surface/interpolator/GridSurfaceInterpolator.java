@@ -199,6 +199,8 @@ public final class GridSurfaceInterpolator
     private final DoubleArray xValuesUnique;
     private final int paramSize;
     private final BoundCurveInterpolator[] yInterpolators;
+    // the weights of the x-interpolation, null if the x-interpolation is not linear in the z-values
+    private final GridWeights xWeights;
 
     Bound(
         CurveInterpolator xInterpolator,
@@ -214,11 +216,20 @@ public final class GridSurfaceInterpolator
       this.xValuesUnique = xValuesUnique;
       this.paramSize = paramSize;
       this.yInterpolators = yInterpolators;
+      this.xWeights = GridWeights.of(xValuesUnique, xInterpolator, xExtrapolatorLeft, xExtrapolatorRight).orElse(null);
     }
 
     //-------------------------------------------------------------------------
     @Override
     public double interpolate(double x, double y) {
+      if (xWeights != null) {
+        // the x-interpolation is a weighted sum of the z-value for each unique x
+        double zValue = 0d;
+        for (int i = 0; i < yInterpolators.length; i++) {
+          zValue += xWeights.weight(i, x) * yInterpolators[i].interpolate(y);
+        }
+        return zValue;
+      }
       // use each y-interpolator to find the z-value for each unique x
       DoubleArray zValuesEffective = DoubleArray.of(yInterpolators.length, i -> yInterpolators[i].interpolate(y));
       // interpolate unique x-values against derived z-values
@@ -233,6 +244,10 @@ public final class GridSurfaceInterpolator
       for (int i = 0; i < uniqueX; i++) {
         ySens[i] = yInterpolators[i].parameterSensitivity(y);
       }
+      if (xWeights != null) {
+        // the sensitivity to the derived z-values is independent of the z-values
+        return project(xWeights.weights(x), ySens);
+      }
       // use each y-interpolator to find the z-value for each unique x
       DoubleArray zValuesEffective = DoubleArray.of(uniqueX, i -> yInterpolators[i].interpolate(y));
       // find the sensitivity of the unique x-values against derived z-values
@@ -247,6 +262,19 @@ public final class GridSurfaceInterpolator
     @Override
     public ValueDerivatives firstPartialDerivatives(double x, double y) {
       int uniqueX = yInterpolators.length;
+      if (xWeights != null) {
+        double zValue = 0d;
+        double xDerivative = 0d;
+        double yDerivative = 0d;
+        for (int i = 0; i < uniqueX; i++) {
+          double weight = xWeights.weight(i, x);
+          double zValueEffective = yInterpolators[i].interpolate(y);
+          zValue += weight * zValueEffective;
+          xDerivative += xWeights.weightDerivative(i, x) * zValueEffective;
+          yDerivative += weight * yInterpolators[i].firstDerivative(y);
+        }
+        return ValueDerivatives.of(zValue, DoubleArray.of(xDerivative, yDerivative));
+      }
       DoubleArray zValuesEffective = DoubleArray.of(uniqueX, i -> yInterpolators[i].interpolate(y));
       yInterpolators[0].interpolate(y);
       double xDerivative =
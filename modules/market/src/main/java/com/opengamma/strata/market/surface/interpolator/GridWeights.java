@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.surface.interpolator;
+
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+
+/**
+ * The weights of the x-interpolation of a grid interpolator.
+ * <p>
+ * A grid interpolator interpolates in x the values derived at each unique x-value.
+ * When the x-interpolator and x-extrapolators are linear in the values,
+ * the result is a weighted sum of the derived values, where the weights only depend on the x-values.
+ * This class holds the x-interpolator bound once to each unit vector, from which the weights
+ * and their derivatives are obtained without allocation.
+ * <p>
+ * This class is used by {@link GridSurfaceInterpolator} and {@code GridCubeInterpolator}.
+ */
+public final class GridWeights {
+
+  /**
+   * The interpolators whose result is linear in the y-values of the curve.
+   */
+  private static final ImmutableSet<CurveInterpolator> LINEAR_INTERPOLATORS = ImmutableSet.of(
+      CurveInterpolators.LINEAR,
+      CurveInterpolators.DOUBLE_QUADRATIC,
+      CurveInterpolators.NATURAL_CUBIC_SPLINE,
+      CurveInterpolators.NATURAL_SPLINE,
+      CurveInterpolators.STEP_UPPER);
+  /**
+   * The extrapolators whose result is linear in the y-values of the curve.
+   * <p>
+   * Other extrapolators, such as linear, are excluded as their value is not exactly the sensitivity-weighted sum of the y-values.
+   */
+  private static final ImmutableSet<CurveExtrapolator> LINEAR_EXTRAPOLATORS = ImmutableSet.of(
+      CurveExtrapolators.FLAT,
+      CurveExtrapolators.EXCEPTION);
+
+  /**
+   * The x-interpolator bound to each unit vector.
+   */
+  private final BoundCurveInterpolator[] basis;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the weights of the x-interpolation, if it is linear in the values.
+   * <p>
+   * An empty result is returned if the interpolator or either extrapolator is not linear in the values.
+   *
+   * @param xValuesUnique  the unique x-values
+   * @param xInterpolator  the x-value interpolator
+   * @param xExtrapolatorLeft  the x-value left extrapolator
+   * @param xExtrapolatorRight  the x-value right extrapolator
+   * @return the weights, empty if the x-interpolation is not linear in the values
+   */
+  public static Optional<GridWeights> of(
+      DoubleArray xValuesUnique,
+      CurveInterpolator xInterpolator,
+      CurveExtrapolator xExtrapolatorLeft,
+      CurveExtrapolator xExtrapolatorRight) {
+
+    if (!LINEAR_INTERPOLATORS.contains(xInterpolator) ||
+        !LINEAR_EXTRAPOLATORS.contains(xExtrapolatorLeft) ||
+        !LINEAR_EXTRAPOLATORS.contains(xExtrapolatorRight)) {
+      return Optional.empty();
+    }
+    int size = xValuesUnique.size();
+    BoundCurveInterpolator[] basis = new BoundCurveInterpolator[size];
+    for (int i = 0; i < size; i++) {
+      double[] unit = new double[size];
+      unit[i] = 1d;
+      basis[i] = xInterpolator.bind(xValuesUnique, DoubleArray.ofUnsafe(unit), xExtrapolatorLeft, xExtrapolatorRight);
+    }
+    return Optional.of(new GridWeights(basis));
+  }
+
+  // restricted constructor
+  private GridWeights(BoundCurveInterpolator[] basis) {
+    this.basis = basis;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the weight of the value at the specified unique x-value.
+   *
+   * @param index  the index of the unique x-value
+   * @param x  the x-value to find the weight at
+   * @return the weight
+   */
+  public double weight(int index, double x) {
+    return basis[index].interpolate(x);
+  }
+
+  /**
+   * Gets the first derivative with respect to x of the weight of the value at the specified unique x-value.
+   *
+   * @param index  the index of the unique x-value
+   * @param x  the x-value to find the derivative at
+   * @return the derivative of the weight
+   */
+  public double weightDerivative(int index, double x) {
+    return basis[index].firstDerivative(x);
+  }
+
+  /**
+   * Gets the weights of the values at all the unique x-values.
+   * <p>
+   * This is the sensitivity of the x-interpolation to the value at each unique x-value.
+   *
+   * @param x  the x-value to find the weights at
+   * @return the weights
+   */
+  public DoubleArray weights(double x) {
+    return DoubleArray.of(basis.length, i -> basis[i].interpolate(x));
+  }
+
+}
@@ -24,6 +24,17 @@ public class ShiftTypeTest {
     assertThat(ShiftType.FIXED.applyShift(2, 3)).isEqualTo(3);
   }
 
+  @Test
+  public void test_isNoShift() {
+    assertThat(ShiftType.ABSOLUTE.isNoShift(0)).isTrue();
+    assertThat(ShiftType.ABSOLUTE.isNoShift(0.1)).isFalse();
+    assertThat(ShiftType.RELATIVE.isNoShift(0)).isTrue();
+    assertThat(ShiftType.RELATIVE.isNoShift(1)).isFalse();
+    assertThat(ShiftType.SCALED.isNoShift(1)).isTrue();
+    assertThat(ShiftType.SCALED.isNoShift(0)).isFalse();
+    assertThat(ShiftType.FIXED.isNoShift(0)).isFalse();
+  }
+
   @Test
   public void test_toValueAdjustment() {
     assertThat(ShiftType.ABSOLUTE.toValueAdjustment(0.1).adjust(2)).isEqualTo(2.1);
@@ -24,9 +24,11 @@ import static org.assertj.core.data.Offset.offset;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
 
 /**
@@ -204,6 +206,39 @@ public class GridCubeInterpolatorTest {
     }
   }
 
+  @Test
+  public void test_preBoundX() {
+    // the x-interpolator is bound once when it is linear in the w-values
+    double eps = 1e-8;
+    for (CurveInterpolator xInterpolator : ImmutableList.of(DOUBLE_QUADRATIC, NATURAL_SPLINE)) {
+      GridCubeInterpolator test = GridCubeInterpolator.of(
+          xInterpolator, FLAT, FLAT, LINEAR, FLAT, FLAT, LINEAR, FLAT, FLAT);
+      BoundCubeInterpolator bci = test.bind(X_DATA, Y_DATA, Z_DATA, W_DATA);
+      for (int i = 0; i < X_DATA.size(); i++) {
+        assertThat(bci.interpolate(X_DATA.get(i), Y_DATA.get(i), Z_DATA.get(i))).isCloseTo(W_DATA.get(i), TOL);
+      }
+      for (int i = 0; i < X_TEST.size(); i++) {
+        double x = X_TEST.get(i);
+        double y = Y_TEST.get(i);
+        double z = Z_TEST.get(i);
+        ValueDerivatives computed = bci.firstPartialDerivatives(x, y, z);
+        assertThat(computed.getValue()).isCloseTo(bci.interpolate(x, y, z), TOL);
+        double expectedX = 0.5 * (bci.interpolate(x + eps, y, z) - bci.interpolate(x - eps, y, z)) / eps;
+        double expectedY = 0.5 * (bci.interpolate(x, y + eps, z) - bci.interpolate(x, y - eps, z)) / eps;
+        double expectedZ = 0.5 * (bci.interpolate(x, y, z + eps) - bci.interpolate(x, y, z - eps)) / eps;
+        assertThat(computed.getDerivative(0)).isCloseTo(expectedX, offset(eps * 10));
+        assertThat(computed.getDerivative(1)).isCloseTo(expectedY, offset(eps * 10));
+        assertThat(computed.getDerivative(2)).isCloseTo(expectedZ, offset(eps * 10));
+        DoubleArray sensitivity = bci.parameterSensitivity(x, y, z);
+        for (int j = 0; j < X_DATA.size(); j++) {
+          double up = test.bind(X_DATA, Y_DATA, Z_DATA, W_DATA.with(j, W_DATA.get(j) + eps)).interpolate(x, y, z);
+          double dw = test.bind(X_DATA, Y_DATA, Z_DATA, W_DATA.with(j, W_DATA.get(j) - eps)).interpolate(x, y, z);
+          assertThat(sensitivity.get(j)).isCloseTo(0.5 * (up - dw) / eps, offset(eps * 10));
+        }
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
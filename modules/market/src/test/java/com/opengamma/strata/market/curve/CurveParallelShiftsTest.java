@@ -41,6 +41,24 @@ public class CurveParallelShiftsTest {
     assertThat(shiftedCurveBox.getValue(2)).isEqualTo(ParallelShiftedCurve.absolute(baseCurve, 4d));
   }
 
+  @Test
+  public void test_absolute_noShift() {
+    CurveParallelShifts test = CurveParallelShifts.absolute(0d, 2d, 0d);
+
+    Curve baseCurve = InterpolatedNodalCurve.of(
+        Curves.zeroRates("curve", DayCounts.ACT_365F),
+        DoubleArray.of(1, 2, 3),
+        DoubleArray.of(5, 6, 7),
+        CurveInterpolators.LOG_LINEAR);
+
+    MarketDataBox<Curve> shiftedCurveBox = test.applyTo(MarketDataBox.ofSingleValue(baseCurve), REF_DATA);
+
+    assertThat(shiftedCurveBox.getScenarioCount()).isEqualTo(3);
+    assertThat(shiftedCurveBox.getValue(0)).isSameAs(baseCurve);
+    assertThat(shiftedCurveBox.getValue(1)).isEqualTo(ParallelShiftedCurve.absolute(baseCurve, 2d));
+    assertThat(shiftedCurveBox.getValue(2)).isSameAs(baseCurve);
+  }
+
   @Test
   public void test_relative() {
     CurveParallelShifts test = CurveParallelShifts.relative(0.1d, 0.2d, 0.4d);
@@ -58,6 +76,22 @@ public class CurveParallelShiftsTest {
     assertThat(shiftedCurveBox.getValue(2)).isEqualTo(ParallelShiftedCurve.relative(baseCurve, 0.4d));
   }
 
+  @Test
+  public void test_relative_noShift() {
+    CurveParallelShifts test = CurveParallelShifts.relative(0d, 0.2d);
+
+    Curve baseCurve = InterpolatedNodalCurve.of(
+        Curves.zeroRates("curve", DayCounts.ACT_365F),
+        DoubleArray.of(1, 2, 3),
+        DoubleArray.of(5, 6, 7),
+        CurveInterpolators.LOG_LINEAR);
+
+    MarketDataBox<Curve> shiftedCurveBox = test.applyTo(MarketDataBox.ofSingleValue(baseCurve), REF_DATA);
+
+    assertThat(shiftedCurveBox.getValue(0)).isSameAs(baseCurve);
+    assertThat(shiftedCurveBox.getValue(1)).isEqualTo(ParallelShiftedCurve.relative(baseCurve, 0.2d));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
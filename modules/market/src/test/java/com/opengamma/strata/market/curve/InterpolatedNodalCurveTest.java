@@ -132,6 +132,13 @@ public class InterpolatedNodalCurveTest {
     assertThat(test.firstDerivative(10d)).isEqualTo(interp.firstDerivative(10d));
   }
 
+  @Test
+  public void test_lookup_array() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
+    DoubleArray xValues = DoubleArray.of(0.5d, 1d, 1.5d, 2d, 2.5d, 3d, 10d);
+    assertThat(test.yValues(xValues)).isEqualTo(xValues.map(test::yValue));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_withMetadata() {
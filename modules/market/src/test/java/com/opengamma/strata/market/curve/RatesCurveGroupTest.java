@@ -27,7 +27,13 @@ import org.junit.jupiter.api.Test;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.date.DayCounts;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.io.BeanBinaryCodec;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.param.ParameterMetadata;
 
 /**
  * Test {@link RatesCurveGroup}.
@@ -128,4 +134,18 @@ public class RatesCurveGroupTest {
     assertSerialization(test);
   }
 
+  @Test
+  public void test_binaryCodec() {
+    Curve curve = InterpolatedNodalCurve.of(
+        Curves.zeroRates(DISCOUNT_NAME, DayCounts.ACT_365F, ParameterMetadata.listOfEmpty(3)),
+        DoubleArray.of(0.5, 1d, 5d),
+        DoubleArray.of(0.01, 0.012, 0.02),
+        CurveInterpolators.LINEAR,
+        CurveExtrapolators.FLAT,
+        CurveExtrapolators.FLAT);
+    RatesCurveGroup test = RatesCurveGroup.of(NAME, ImmutableMap.of(GBP, curve), IBOR_CURVES);
+    assertThat(BeanBinaryCodec.decode(BeanBinaryCodec.encode(test), RatesCurveGroup.class)).isEqualTo(test);
+    assertThat(BeanBinaryCodec.decode(BeanBinaryCodec.encode(test, true), RatesCurveGroup.class)).isEqualTo(test);
+  }
+
 }
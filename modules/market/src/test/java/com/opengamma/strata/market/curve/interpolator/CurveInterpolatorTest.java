@@ -114,6 +114,19 @@ public class CurveInterpolatorTest {
     assertThat(bound.toString()).isNotNull();
   }
 
+  @ParameterizedTest
+  @MethodSource("data_name")
+  public void test_interpolate_array(CurveInterpolator convention, String name) {
+    DoubleArray xValues = DoubleArray.of(0.5, 1, 2, 3, 5, 7, 10);
+    DoubleArray yValues = DoubleArray.of(0.011, 0.012, 0.015, 0.014, 0.018, 0.019, 0.021);
+    BoundCurveInterpolator bound = convention.bind(xValues, yValues, CurveExtrapolators.FLAT, CurveExtrapolators.FLAT);
+    DoubleArray sorted = DoubleArray.of(0.25, 0.5, 0.75, 1, 1.5, 2.25, 2.75, 3, 4, 6.9, 7, 9.5, 10, 12);
+    DoubleArray unsorted = DoubleArray.of(6.9, 0.75, 12, 2.25, 10, 0.25, 2.75, 0.5, 4, 1);
+    assertThat(bound.interpolate(sorted)).isEqualTo(sorted.map(bound::interpolate));
+    assertThat(bound.interpolate(unsorted)).isEqualTo(unsorted.map(bound::interpolate));
+    assertThat(bound.interpolate(DoubleArray.EMPTY)).isEqualTo(DoubleArray.EMPTY);
+  }
+
   @Test
   public void test_lowerBound() {
     // bad input, but still produces good output
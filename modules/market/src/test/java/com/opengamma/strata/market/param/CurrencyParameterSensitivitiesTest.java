@@ -209,6 +209,55 @@ public class CurrencyParameterSensitivitiesTest {
     assertThat(test.getSensitivities()).hasSize(0);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_accumulator() {
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.accumulator()
+        .add(ENTRY_EUR)
+        .add(ENTRY_USD)
+        .add(CurrencyParameterSensitivities.of(ENTRY_USD2))
+        .build();
+    assertThat(test).isEqualTo(SENSI_1.combinedWith(SENSI_2));
+    assertThat(test.getSensitivities()).containsExactly(ENTRY_USD_TOTAL, ENTRY_EUR);
+  }
+
+  @Test
+  public void test_accumulator_unit() {
+    UnitParameterSensitivity unit = UnitParameterSensitivity.of(NAME1, METADATA1, VECTOR_USD1);
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.accumulator()
+        .add(unit, USD, FACTOR1)
+        .add(ENTRY_USD2)
+        .add(unit, USD, 2d)
+        .build();
+    CurrencyParameterSensitivity expected = CurrencyParameterSensitivity.of(
+        NAME1, METADATA1, USD, VECTOR_USD1.multipliedBy(FACTOR1 + 2d).plus(VECTOR_USD2));
+    assertThat(test.getSensitivities()).hasSize(1);
+    assertThat(test.getSensitivities().get(0).getMarketDataName()).isEqualTo(NAME1);
+    assertThat(test.getSensitivities().get(0).getSensitivity().equalWithTolerance(expected.getSensitivity(), TOLERENCE_CMP))
+        .isTrue();
+  }
+
+  @Test
+  public void test_accumulator_parameterSplit() {
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.accumulator()
+        .add(ENTRY_COMBINED)
+        .add(ENTRY_COMBINED)
+        .build();
+    assertThat(test.getSensitivities()).containsExactly(ENTRY_COMBINED.multipliedBy(2d));
+  }
+
+  @Test
+  public void test_accumulator_sizeMismatch() {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator().add(ENTRY_USD);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> accumulator.add(ENTRY_USD_SMALL));
+  }
+
+  @Test
+  public void test_accumulator_empty() {
+    assertThat(CurrencyParameterSensitivities.accumulator().build()).isEqualTo(CurrencyParameterSensitivities.empty());
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_getSensitivity() {
@@ -180,6 +180,34 @@ public class PointShiftsTest {
   }
 
   //-------------------------------------------------------------------------
+  @Test
+  public void noShift() {
+    List<LabelDateParameterMetadata> nodeMetadata = ImmutableList.of(
+        LabelDateParameterMetadata.of(date(2011, 3, 8), TNR_1M),
+        LabelDateParameterMetadata.of(date(2011, 5, 8), TNR_3M));
+
+    // Scenario zero has no shifts and scenario 1 has zero shifts, so both return the input instance
+    PointShifts shift = PointShifts.builder(ShiftType.ABSOLUTE)
+        .addShift(1, TNR_1M, 0d)
+        .addShift(1, TNR_3M, 0d)
+        .addShift(2, TNR_1M, 0.2)
+        .build();
+
+    Curve curve = InterpolatedNodalCurve.of(
+        Curves.zeroRates(CurveName.of("curve"), DayCounts.ACT_365F, nodeMetadata),
+        DoubleArray.of(1, 2),
+        DoubleArray.of(5, 6),
+        INTERPOLATOR);
+
+    MarketDataBox<ParameterizedData> shiftedCurveBox = shift.applyTo(
+        MarketDataBox.ofSingleValue(curve), REF_DATA);
+
+    assertThat(shiftedCurveBox.getValue(0)).isSameAs(curve);
+    assertThat(shiftedCurveBox.getValue(1)).isSameAs(curve);
+    assertThat(shiftedCurveBox.getValue(2)).isNotSameAs(curve);
+    assertThat(((Curve) shiftedCurveBox.getValue(2)).getParameter(0)).isEqualTo(5.2);
+  }
+
   @Test
   public void coverage() {
     PointShifts test = PointShifts.builder(ShiftType.RELATIVE)
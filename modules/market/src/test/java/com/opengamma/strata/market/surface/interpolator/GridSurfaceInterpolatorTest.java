@@ -13,14 +13,18 @@ import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.
 import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.LOG_LINEAR;
 import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.DOUBLE_QUADRATIC;
 import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.NATURAL_SPLINE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 
 /**
  * Test {@link GridSurfaceInterpolator}.
@@ -164,6 +168,45 @@ public class GridSurfaceInterpolatorTest {
     assertThat(valueDerivatives.getDerivative(1)).isCloseTo(expected, offset(1e-6));
   }
 
+  @Test
+  public void test_preBoundX() {
+    // the x-interpolator is bound once when it is linear in the z-values, the result must match binding per lookup
+    for (CurveInterpolator xInterpolator : ImmutableList.of(LINEAR, DOUBLE_QUADRATIC, NATURAL_SPLINE)) {
+      GridSurfaceInterpolator test = GridSurfaceInterpolator.of(xInterpolator, FLAT, LINEAR, FLAT);
+      BoundSurfaceInterpolator bci = test.bind(X_DATA, Y_DATA, Z_DATA);
+      DoubleArray xValues = DoubleArray.of(0d, 1d, 2d, 3d);
+      DoubleArray yValues = DoubleArray.of(3d, 4d, 5d);
+      BoundCurveInterpolator[] yInterps = {
+          LINEAR.bind(yValues, Z_DATA.subArray(0, 3), FLAT, FLAT),
+          LINEAR.bind(yValues, Z_DATA.subArray(3, 6), FLAT, FLAT),
+          LINEAR.bind(yValues, Z_DATA.subArray(6, 9), FLAT, FLAT)};
+      for (double x : new double[] {-0.5, 0.2, 1.3, 2.5, 3.5}) {
+        for (double y : new double[] {2.5, 3.4, 4.1, 4.5, 5.5}) {
+          DoubleArray zValues = DoubleArray.of(
+              yInterps[0].interpolate(y), yInterps[1].interpolate(y), yInterps[2].interpolate(y), Z_DATA.get(9));
+          DoubleArray zDerivatives = DoubleArray.of(
+              yInterps[0].firstDerivative(y), yInterps[1].firstDerivative(y), yInterps[2].firstDerivative(y), 0d);
+          BoundCurveInterpolator xInterp = xInterpolator.bind(xValues, zValues, FLAT, FLAT);
+          BoundCurveInterpolator xInterpDerivative = xInterpolator.bind(xValues, zDerivatives, FLAT, FLAT);
+          ValueDerivatives computed = bci.firstPartialDerivatives(x, y);
+          assertThat(bci.interpolate(x, y)).isCloseTo(xInterp.interpolate(x), offset(TOL));
+          assertThat(computed.getValue()).isCloseTo(xInterp.interpolate(x), offset(TOL));
+          assertThat(computed.getDerivative(0)).isCloseTo(xInterp.firstDerivative(x), offset(TOL));
+          assertThat(computed.getDerivative(1)).isCloseTo(xInterpDerivative.interpolate(x), offset(TOL));
+          DoubleArray xSens = xInterp.parameterSensitivity(x);
+          DoubleArray sens = bci.parameterSensitivity(x, y);
+          for (int i = 0; i < 3; i++) {
+            DoubleArray ySens = yInterps[i].parameterSensitivity(y);
+            for (int j = 0; j < 3; j++) {
+              assertThat(sens.get(3 * i + j)).isCloseTo(xSens.get(i) * ySens.get(j), offset(TOL));
+            }
+          }
+          assertThat(sens.get(9)).isCloseTo(xSens.get(3), offset(TOL));
+        }
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.surface.interpolator;
+
+import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.EXPONENTIAL;
+import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.FLAT;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LOG_LINEAR;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.NATURAL_SPLINE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+
+/**
+ * Test {@link GridWeights}.
+ */
+public class GridWeightsTest {
+
+  private static final DoubleArray X_VALUES = DoubleArray.of(0.0, 1.0, 2.5, 4.0);
+  private static final DoubleArray Y_VALUES = DoubleArray.of(1.5, 2.0, 1.2, 3.1);
+  private static final DoubleArray X_TEST = DoubleArray.of(-1.0, 0.0, 0.4, 1.0, 1.7, 3.9, 5.0);
+  private static final double TOL = 1.e-12;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of_notLinear() {
+    assertThat(GridWeights.of(X_VALUES, LOG_LINEAR, FLAT, FLAT)).isEmpty();
+    assertThat(GridWeights.of(X_VALUES, LINEAR, EXPONENTIAL, FLAT)).isEmpty();
+    assertThat(GridWeights.of(X_VALUES, LINEAR, FLAT, EXPONENTIAL)).isEmpty();
+  }
+
+  @Test
+  public void test_weights_linear() {
+    assertWeights(LINEAR);
+  }
+
+  @Test
+  public void test_weights_naturalSpline() {
+    assertWeights(NATURAL_SPLINE);
+  }
+
+  private void assertWeights(CurveInterpolator interpolator) {
+    GridWeights test = GridWeights.of(X_VALUES, interpolator, FLAT, FLAT).get();
+    BoundCurveInterpolator bound = interpolator.bind(X_VALUES, Y_VALUES, FLAT, FLAT);
+    for (int i = 0; i < X_TEST.size(); i++) {
+      double x = X_TEST.get(i);
+      DoubleArray weights = test.weights(x);
+      assertThat(weights.equalWithTolerance(bound.parameterSensitivity(x), TOL)).isTrue();
+      double value = 0d;
+      double derivative = 0d;
+      for (int j = 0; j < X_VALUES.size(); j++) {
+        assertThat(test.weight(j, x)).isEqualTo(weights.get(j));
+        value += test.weight(j, x) * Y_VALUES.get(j);
+        derivative += test.weightDerivative(j, x) * Y_VALUES.get(j);
+      }
+      assertThat(value).isCloseTo(bound.interpolate(x), offset(TOL));
+      assertThat(derivative).isCloseTo(bound.firstDerivative(x), offset(TOL));
+    }
+  }
+
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.MathException;
+
+/**
+ * Adaptive integrator based on the 7-point Gauss and 15-point Kronrod rules.
+ * <p>
+ * The integrand is vector-valued, such that several integrands sharing the same expensive
+ * computation can be integrated together. Each evaluation of the function provides the value of
+ * all the integrands at the same abscissa and the result is the integral of each of them.
+ * <p>
+ * The interval is first divided into the minimal number of sub-intervals. The Kronrod rule is then applied
+ * on each sub-interval, with the difference to the embedded Gauss rule used as error estimate.
+ * The sub-interval with the largest error relative to the tolerance is bisected until, for each integrand,
+ * the total error is below the absolute tolerance or the relative tolerance multiplied by the value.
+ * The error estimate is that of QUADPACK, see <a href="https://en.wikipedia.org/wiki/QUADPACK">here</a>.
+ * <p>
+ * The number of sub-intervals is limited to 1000, an exception is thrown if the tolerance is not met by then.
+ */
+public class GaussKronrodIntegrator1D extends Integrator1D<DoubleArray, Double> {
+
+  /**
+   * The abscissas of the Kronrod rule on [0, 1], the odd indices are the abscissas of the Gauss rule.
+   */
+  private static final double[] XGK = {
+      0.991455371120812639206854697526329,
+      0.949107912342758524526189684047851,
+      0.864864423359769072789712788640926,
+      0.741531185599394439863864773280788,
+      0.586087235467691130294144845693013,
+      0.405845151377397166906606412076961,
+      0.207784955007898467600689403773245,
+      0d};
+  /**
+   * The weights of the Kronrod rule.
+   */
+  private static final double[] WGK = {
+      0.022935322010529224963732008058970,
+      0.063092092629978553290700663189204,
+      0.104790010322250183839876322541518,
+      0.140653259715525918745189590510238,
+      0.169004726639267902826583426598550,
+      0.190350578064785409913256402421014,
+      0.204432940075298892414161999234649,
+      0.209482141084727828012999174891714};
+  /**
+   * The weights of the Gauss rule.
+   */
+  private static final double[] WG = {
+      0.129484966168869693270611432679082,
+      0.279705391489276667901467771423780,
+      0.381830050505118944950369775488975,
+      0.417959183673469387755102040816327};
+  /**
+   * The machine precision.
+   */
+  private static final double EPMACH = Math.ulp(1d);
+  /**
+   * The default minimal number of sub-intervals.
+   */
+  private static final int DEF_MIN_INTERVALS = 1;
+  /**
+   * The maximal number of sub-intervals.
+   * The integration fails if it is reached without meeting the tolerance.
+   */
+  private static final int MAX_INTERVALS = 1000;
+
+  /**
+   * The absolute tolerance.
+   */
+  private final double absTol;
+  /**
+   * The relative tolerance.
+   */
+  private final double relTol;
+  /**
+   * The minimal number of sub-intervals.
+   */
+  private final int minIntervals;
+
+  /**
+   * Constructor from absolute and relative tolerance and minimal number of sub-intervals.
+   * <p>
+   * The adaptable integration process stops when the estimated error is below the absolute tolerance
+   * or the relative tolerance multiplied by the value, for each integrand.
+   *
+   * @param absTol  the absolute tolerance
+   * @param relTol  the relative tolerance
+   * @param minIntervals  the minimal number of sub-intervals
+   */
+  public GaussKronrodIntegrator1D(double absTol, double relTol, int minIntervals) {
+    ArgChecker.isTrue(absTol >= 0d && Double.isFinite(absTol), "Absolute tolerance must not be negative");
+    ArgChecker.isTrue(relTol >= 0d && Double.isFinite(relTol), "Relative tolerance must not be negative");
+    ArgChecker.isTrue(minIntervals >= 1, "Must have minimum of 1 interval");
+    this.absTol = absTol;
+    this.relTol = relTol;
+    this.minIntervals = minIntervals;
+  }
+
+  /**
+   * Constructor from absolute and relative tolerance.
+   *
+   * @param absTol  the absolute tolerance
+   * @param relTol  the relative tolerance
+   */
+  public GaussKronrodIntegrator1D(double absTol, double relTol) {
+    this(absTol, relTol, DEF_MIN_INTERVALS);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the absolute tolerance.
+   *
+   * @return the absolute tolerance
+   */
+  public double getAbsoluteTolerance() {
+    return absTol;
+  }
+
+  /**
+   * Gets the relative tolerance.
+   *
+   * @return the relative tolerance
+   */
+  public double getRelativeTolerance() {
+    return relTol;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DoubleArray integrate(Function<Double, DoubleArray> f, Double lower, Double upper) {
+    ArgChecker.notNull(f, "f");
+    ArgChecker.notNull(lower, "lower");
+    ArgChecker.notNull(upper, "upper");
+    ArgChecker.isTrue(Double.isFinite(lower) && Double.isFinite(upper), "lower or upper was NaN or Inf");
+
+    List<Segment> segments = new ArrayList<>();
+    double step = (upper - lower) / minIntervals;
+    for (int i = 0; i < minIntervals; i++) {
+      double segmentUpper = i == minIntervals - 1 ? upper : lower + (i + 1) * step;
+      segments.add(Segment.of(f, lower + i * step, segmentUpper));
+    }
+    int size = segments.get(0).value.length;
+    double[] value = new double[size];
+    double[] error = new double[size];
+    double[] tolerance = new double[size];
+    while (true) {
+      boolean converged = total(segments, value, error, tolerance);
+      if (converged) {
+        return DoubleArray.ofUnsafe(value);
+      }
+      if (segments.size() >= MAX_INTERVALS) {
+        throw new MathException(
+            "Failed to converge within " + MAX_INTERVALS + " sub-intervals, estimated errors " +
+                DoubleArray.ofUnsafe(error) + " exceed tolerances " + DoubleArray.ofUnsafe(tolerance));
+      }
+      // bisect the segment with the largest error relative to the tolerance
+      int worst = 0;
+      double worstRatio = -1d;
+      for (int i = 0; i < segments.size(); i++) {
+        double ratio = segments.get(i).errorRatio(tolerance);
+        if (ratio > worstRatio) {
+          worst = i;
+          worstRatio = ratio;
+        }
+      }
+      Segment segment = segments.get(worst);
+      double middle = 0.5 * (segment.lower + segment.upper);
+      segments.set(worst, Segment.of(f, segment.lower, middle));
+      segments.add(Segment.of(f, middle, segment.upper));
+    }
+  }
+
+  // sums the value and error of the segments, returning true if the error is within the tolerance
+  private boolean total(List<Segment> segments, double[] value, double[] error, double[] tolerance) {
+    int size = value.length;
+    for (int j = 0; j < size; j++) {
+      value[j] = 0d;
+      error[j] = 0d;
+    }
+    for (Segment segment : segments) {
+      for (int j = 0; j < size; j++) {
+        value[j] += segment.value[j];
+        error[j] += segment.error[j];
+      }
+    }
+    boolean converged = true;
+    for (int j = 0; j < size; j++) {
+      tolerance[j] = Math.max(absTol, relTol * Math.abs(value[j]));
+      converged &= error[j] <= tolerance[j];
+    }
+    return converged;
+  }
+
+  //-------------------------------------------------------------------------
+  // the Kronrod value and error estimate on a sub-interval
+  private static final class Segment {
+    private final double lower;
+    private final double upper;
+    private final double[] value;
+    private final double[] error;
+
+    // applies the rules to the sub-interval
+    private static Segment of(Function<Double, DoubleArray> f, double lower, double upper) {
+      double center = 0.5 * (lower + upper);
+      double halfLength = 0.5 * (upper - lower);
+      DoubleArray fCenter = evaluate(f, center);
+      int size = fCenter.size();
+      DoubleArray[] fLower = new DoubleArray[XGK.length - 1];
+      DoubleArray[] fUpper = new DoubleArray[XGK.length - 1];
+      for (int i = 0; i < XGK.length - 1; i++) {
+        fLower[i] = evaluate(f, center - halfLength * XGK[i]);
+        fUpper[i] = evaluate(f, center + halfLength * XGK[i]);
+        ArgChecker.isTrue(fLower[i].size() == size && fUpper[i].size() == size, "Function must return a fixed size");
+      }
+      double[] value = new double[size];
+      double[] error = new double[size];
+      for (int j = 0; j < size; j++) {
+        double resK = WGK[XGK.length - 1] * fCenter.get(j);
+        double resG = WG[WG.length - 1] * fCenter.get(j);
+        double resAbs = Math.abs(resK);
+        for (int i = 0; i < XGK.length - 1; i++) {
+          double sum = fLower[i].get(j) + fUpper[i].get(j);
+          resK += WGK[i] * sum;
+          resAbs += WGK[i] * (Math.abs(fLower[i].get(j)) + Math.abs(fUpper[i].get(j)));
+          if (i % 2 == 1) {
+            resG += WG[i / 2] * sum;
+          }
+        }
+        double mean = 0.5 * resK;
+        double resAsc = WGK[XGK.length - 1] * Math.abs(fCenter.get(j) - mean);
+        for (int i = 0; i < XGK.length - 1; i++) {
+          resAsc += WGK[i] * (Math.abs(fLower[i].get(j) - mean) + Math.abs(fUpper[i].get(j) - mean));
+        }
+        double absLength = Math.abs(halfLength);
+        resAbs *= absLength;
+        resAsc *= absLength;
+        double err = Math.abs((resK - resG) * halfLength);
+        if (resAsc != 0d && err != 0d) {
+          err = resAsc * Math.min(1d, Math.pow(200d * err / resAsc, 1.5));
+        }
+        value[j] = resK * halfLength;
+        error[j] = Math.max(50d * EPMACH * resAbs, err);
+      }
+      return new Segment(lower, upper, value, error);
+    }
+
+    // evaluates the function, checking the result
+    private static DoubleArray evaluate(Function<Double, DoubleArray> f, double x) {
+      DoubleArray result = f.apply(x);
+      for (int j = 0; j < result.size(); j++) {
+        if (!Double.isFinite(result.get(j))) {
+          throw new IllegalArgumentException("function evaluation returned NaN or Inf");
+        }
+      }
+      return result;
+    }
+
+    private Segment(double lower, double upper, double[] value, double[] error) {
+      this.lower = lower;
+      this.upper = upper;
+      this.value = value;
+      this.error = error;
+    }
+
+    // the largest error relative to the tolerance
+    private double errorRatio(double[] tolerance) {
+      double ratio = 0d;
+      for (int j = 0; j < error.length; j++) {
+        ratio = Math.max(ratio, tolerance[j] > 0d ? error[j] / tolerance[j] : error[j] / Double.MIN_NORMAL);
+      }
+      return ratio;
+    }
+  }
+
+}
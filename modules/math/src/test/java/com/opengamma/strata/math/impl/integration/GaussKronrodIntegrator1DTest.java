@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.MathException;
+
+/**
+ * Test {@link GaussKronrodIntegrator1D}.
+ */
+public class GaussKronrodIntegrator1DTest {
+
+  private static final double ROOT_2PI = Math.sqrt(2d * Math.PI);
+  private static final Function<Double, DoubleArray> FUNCTIONS = x -> DoubleArray.of(
+      x * x * x,
+      Math.exp(-x),
+      Math.sin(x),
+      Math.exp(-0.5 * x * x / 0.01) / ROOT_2PI / 0.1);
+  private static final double TOL = 1e-10;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new GaussKronrodIntegrator1D(-1d, 1d))
+        .withMessage("Absolute tolerance must not be negative");
+    assertThatIllegalArgumentException().isThrownBy(() -> new GaussKronrodIntegrator1D(1d, -1d))
+        .withMessage("Relative tolerance must not be negative");
+    assertThatIllegalArgumentException().isThrownBy(() -> new GaussKronrodIntegrator1D(1d, Double.NaN));
+    assertThatIllegalArgumentException().isThrownBy(() -> new GaussKronrodIntegrator1D(1d, 1d, 0));
+    GaussKronrodIntegrator1D test = new GaussKronrodIntegrator1D(TOL, TOL);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.integrate(FUNCTIONS, 0d, Double.POSITIVE_INFINITY));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.integrate(x -> DoubleArray.of(1d / (x - 0.5)), 0d, 1d));
+  }
+
+  @Test
+  public void test_getters() {
+    GaussKronrodIntegrator1D test = new GaussKronrodIntegrator1D(1e-8, 1e-10);
+    assertThat(test.getAbsoluteTolerance()).isEqualTo(1e-8);
+    assertThat(test.getRelativeTolerance()).isEqualTo(1e-10);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_integrate() {
+    GaussKronrodIntegrator1D test = new GaussKronrodIntegrator1D(TOL, TOL);
+    double lower = -2d;
+    double upper = 3d;
+    DoubleArray computed = test.integrate(FUNCTIONS, lower, upper);
+    assertThat(computed.size()).isEqualTo(4);
+    assertThat(computed.get(0)).isCloseTo((Math.pow(upper, 4) - Math.pow(lower, 4)) / 4d, offset(TOL));
+    assertThat(computed.get(1)).isCloseTo(Math.exp(-lower) - Math.exp(-upper), offset(TOL));
+    assertThat(computed.get(2)).isCloseTo(Math.cos(lower) - Math.cos(upper), offset(TOL));
+    assertThat(computed.get(3)).isCloseTo(1d, offset(TOL));
+  }
+
+  @Test
+  public void test_integrate_reversed() {
+    GaussKronrodIntegrator1D test = new GaussKronrodIntegrator1D(TOL, TOL, 10);
+    DoubleArray computed = test.integrate(FUNCTIONS, 1d, -0.5);
+    DoubleArray expected = test.integrate(FUNCTIONS, -0.5, 1d);
+    for (int i = 0; i < 4; i++) {
+      assertThat(computed.get(i)).isCloseTo(-expected.get(i), offset(TOL));
+    }
+    DoubleArray empty = test.integrate(FUNCTIONS, 1d, 1d);
+    assertThat(empty).isEqualTo(DoubleArray.filled(4));
+  }
+
+  @Test
+  public void test_integrate_kink() {
+    GaussKronrodIntegrator1D test = new GaussKronrodIntegrator1D(TOL, TOL);
+    DoubleArray computed = test.integrate(x -> DoubleArray.of(Math.abs(x - 0.3), Math.max(x - 0.3, 0d)), -1d, 1d);
+    assertThat(computed.get(0)).isCloseTo(0.5 * 1.3 * 1.3 + 0.5 * 0.7 * 0.7, offset(TOL));
+    assertThat(computed.get(1)).isCloseTo(0.5 * 0.7 * 0.7, offset(TOL));
+  }
+
+  @Test
+  public void test_integrate_maxIntervals() {
+    // the error estimate is bounded below by the rounding error, thus a zero tolerance is never met
+    GaussKronrodIntegrator1D test = new GaussKronrodIntegrator1D(0d, 0d);
+    assertThatExceptionOfType(MathException.class)
+        .isThrownBy(() -> test.integrate(FUNCTIONS, -2d, 3d))
+        .withMessageStartingWith("Failed to converge within 1000 sub-intervals");
+  }
+
+}
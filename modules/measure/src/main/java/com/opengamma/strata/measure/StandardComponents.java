@@ -6,6 +6,7 @@
 package com.opengamma.strata.measure;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.calc.CalculationRunner;
@@ -46,6 +47,7 @@ import com.opengamma.strata.measure.security.SecurityPositionCalculationFunction
 import com.opengamma.strata.measure.security.SecurityTradeCalculationFunction;
 import com.opengamma.strata.measure.swap.SwapTradeCalculationFunction;
 import com.opengamma.strata.measure.swaption.SwaptionTradeCalculationFunction;
+import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.product.GenericSecurityPosition;
 import com.opengamma.strata.product.GenericSecurityTrade;
 import com.opengamma.strata.product.SecurityPosition;
@@ -171,6 +173,26 @@ public final class StandardComponents {
     return MarketDataFactory.of(observableDataProvider, TimeSeriesProvider.none(), marketDataFunctions());
   }
 
+  /**
+   * Returns a market data factory containing the standard set of market data functions,
+   * building independent market data concurrently using the specified executor.
+   * <p>
+   * This factory can create market data values from other market data. For example it
+   * can create calibrated curves given a set of market quotes for the points on the curve.
+   * Where values, such as curve groups, do not depend on each other they are built concurrently.
+   * The scenarios of each curve group are also calibrated concurrently.
+   * <p>
+   * The set of functions are the ones provided by {@link #marketDataFunctions(Executor)}.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param observableDataProvider  the provider of observable data
+   * @param executor  the executor used to build market data
+   * @return a market data factory containing the standard set of market data functions
+   */
+  public static MarketDataFactory marketDataFactory(ObservableDataProvider observableDataProvider, Executor executor) {
+    return MarketDataFactory.of(observableDataProvider, TimeSeriesProvider.none(), executor, marketDataFunctions(executor));
+  }
+
   /**
    * Returns the standard market data functions used to build market data values from other market data.
    * <p>
@@ -187,9 +209,28 @@ public final class StandardComponents {
    * @return the standard market data functions
    */
   public static List<MarketDataFunction<?, ?>> marketDataFunctions() {
+    return marketDataFunctions(new RatesCurveGroupMarketDataFunction());
+  }
+
+  /**
+   * Returns the standard market data functions used to build market data values from other market data,
+   * calibrating the scenarios of each curve group concurrently using the specified executor.
+   * <p>
+   * The functions are those of {@link #marketDataFunctions()}.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor used to calibrate scenarios concurrently
+   * @return the standard market data functions
+   */
+  public static List<MarketDataFunction<?, ?>> marketDataFunctions(Executor executor) {
+    return marketDataFunctions(new RatesCurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD, executor));
+  }
+
+  // the standard market data functions, using the specified curve group function
+  private static List<MarketDataFunction<?, ?>> marketDataFunctions(RatesCurveGroupMarketDataFunction curveGroupFunction) {
     return ImmutableList.of(
         new CurveMarketDataFunction(),
-        new RatesCurveGroupMarketDataFunction(),
+        curveGroupFunction,
         new RatesCurveInputsMarketDataFunction(),
         new FxRateMarketDataFunction(),
         new FxOptionVolatilitiesMarketDataFunction());
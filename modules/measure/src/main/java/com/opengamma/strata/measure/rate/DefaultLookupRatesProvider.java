@@ -14,6 +14,8 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
 import org.joda.beans.ImmutableBean;
@@ -82,6 +84,18 @@ final class DefaultLookupRatesProvider
    * The FX rate provider.
    */
   private final transient FxRateProvider fxRateProvider;  // derived
+  /**
+   * The cache of discount factors, keyed by currency.
+   */
+  private final transient ConcurrentMap<Currency, DiscountFactors> discountFactorsCache;  // derived
+  /**
+   * The cache of Ibor index rates, keyed by index.
+   */
+  private final transient ConcurrentMap<IborIndex, IborIndexRates> iborIndexRatesCache;  // derived
+  /**
+   * The cache of Overnight index rates, keyed by index.
+   */
+  private final transient ConcurrentMap<OvernightIndex, OvernightIndexRates> overnightIndexRatesCache;  // derived
 
   //-------------------------------------------------------------------------
   /**
@@ -103,6 +117,9 @@ final class DefaultLookupRatesProvider
     this.lookup = ArgChecker.notNull(lookup, "lookup");
     this.marketData = ArgChecker.notNull(marketData, "marketData");
     this.fxRateProvider = lookup.fxRateProvider(marketData);
+    this.discountFactorsCache = new ConcurrentHashMap<>();
+    this.iborIndexRatesCache = new ConcurrentHashMap<>();
+    this.overnightIndexRatesCache = new ConcurrentHashMap<>();
   }
 
   // ensure standard constructor is invoked
@@ -185,6 +202,12 @@ final class DefaultLookupRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public DiscountFactors discountFactors(Currency currency) {
+    DiscountFactors cached = discountFactorsCache.get(currency);
+    return cached != null ? cached : discountFactorsCache.computeIfAbsent(currency, this::createDiscountFactors);
+  }
+
+  // creates the discount factors, called once per currency
+  private DiscountFactors createDiscountFactors(Currency currency) {
     CurveId curveId = lookup.getDiscountCurves().get(currency);
     if (curveId == null) {
       throw new MarketDataNotFoundException(lookup.msgCurrencyNotFound(currency));
@@ -213,6 +236,12 @@ final class DefaultLookupRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public IborIndexRates iborIndexRates(IborIndex index) {
+    IborIndexRates cached = iborIndexRatesCache.get(index);
+    return cached != null ? cached : iborIndexRatesCache.computeIfAbsent(index, this::createIborIndexRates);
+  }
+
+  // creates the Ibor index rates, called once per index
+  private IborIndexRates createIborIndexRates(IborIndex index) {
     CurveId curveId = lookup.getForwardCurves().get(index);
     if (curveId == null) {
       return historicCurve(index);
@@ -232,6 +261,12 @@ final class DefaultLookupRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public OvernightIndexRates overnightIndexRates(OvernightIndex index) {
+    OvernightIndexRates cached = overnightIndexRatesCache.get(index);
+    return cached != null ? cached : overnightIndexRatesCache.computeIfAbsent(index, this::createOvernightIndexRates);
+  }
+
+  // creates the Overnight index rates, called once per index
+  private OvernightIndexRates createOvernightIndexRates(OvernightIndex index) {
     CurveId curveId = lookup.getForwardCurves().get(index);
     if (curveId == null) {
       return historicCurve(index);
@@ -11,6 +11,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -44,6 +45,10 @@ import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
  * Market data function that builds a curve group.
  * <p>
  * This function calibrates curves, turning a {@link RatesCurveGroupDefinition} into a {@link RatesCurveGroup}.
+ * <p>
+ * If an executor is specified and there are multiple scenarios sharing a valuation date, the first
+ * scenario is calibrated and then used as the starting point for calibrating the remaining scenarios,
+ * which are calibrated concurrently. Otherwise each scenario is calibrated independently in turn.
  */
 public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<RatesCurveGroup, RatesCurveGroupId> {
 
@@ -51,6 +56,10 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
    * The default analytics object that performs the curve calibration.
    */
   private final CalibrationMeasures calibrationMeasures;
+  /**
+   * The executor used to calibrate scenarios concurrently, null if scenarios are calibrated in turn.
+   */
+  private final Executor executor;
 
   //-------------------------------------------------------------------------
   /**
@@ -74,6 +83,22 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
    */
   public RatesCurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures) {
     this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.executor = null;
+  }
+
+  /**
+   * Creates a new function for building curve groups, calibrating scenarios using the executor.
+   * <p>
+   * The default calibrator is specified. The {@link MarketDataConfig} may contain a
+   * {@link RootFinderConfig} that alters the tolerances used in calibration.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param calibrationMeasures  the calibration measures to be used in the calibrator
+   * @param executor  the executor used to calibrate scenarios concurrently
+   */
+  public RatesCurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures, Executor executor) {
+    this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.executor = ArgChecker.notNull(executor, "executor");
   }
 
   //-------------------------------------------------------------------------
@@ -177,6 +202,10 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
       ReferenceData refData) {
 
     int scenarioCount = scenarioCount(valuationDateBox, inputBoxes);
+    if (executor != null && !valuationDateBox.isScenarioValue()) {
+      return buildScenarioCurveGroups(
+          configuredGroup, calibrator, valuationDateBox.getSingleValue(), inputBoxes, fixings, refData, scenarioCount);
+    }
     ImmutableList.Builder<RatesCurveGroup> builder = ImmutableList.builder();
 
     for (int i = 0; i < scenarioCount; i++) {
@@ -190,6 +219,36 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     return MarketDataBox.ofScenarioValues(curveGroups);
   }
 
+  // calibrates multiple scenarios with the same valuation date
+  // the first scenario is calibrated from the initial guesses in the definition
+  // it is then used as the starting point for the other scenarios, which are typically small perturbations
+  private MarketDataBox<RatesCurveGroup> buildScenarioCurveGroups(
+      RatesCurveGroupDefinition configuredGroup,
+      RatesCurveCalibrator calibrator,
+      LocalDate valuationDate,
+      List<MarketDataBox<RatesCurveInputs>> inputBoxes,
+      Map<ObservableId, LocalDateDoubleTimeSeries> fixings,
+      ReferenceData refData,
+      int scenarioCount) {
+
+    RatesCurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
+    ImmutableList.Builder<MarketData> inputsBuilder = ImmutableList.builder();
+    for (int i = 0; i < scenarioCount; i++) {
+      inputsBuilder.add(inputsByKey(valuationDate, inputsForScenario(inputBoxes, i), fixings));
+    }
+    ImmutableList<MarketData> inputs = inputsBuilder.build();
+    ImmutableRatesProvider baseProvider = calibrator.calibrate(filteredGroup, inputs.get(0), refData);
+    List<ImmutableRatesProvider> otherProviders = calibrator.calibrateScenarios(
+        filteredGroup, baseProvider, inputs.subList(1, scenarioCount), refData, executor);
+
+    ImmutableList.Builder<RatesCurveGroup> builder = ImmutableList.builder();
+    builder.add(toCurveGroup(filteredGroup, baseProvider));
+    for (ImmutableRatesProvider provider : otherProviders) {
+      builder.add(toCurveGroup(filteredGroup, provider));
+    }
+    return MarketDataBox.ofScenarioValues(builder.build());
+  }
+
   private static List<RatesCurveInputs> inputsForScenario(List<MarketDataBox<RatesCurveInputs>> boxes, int scenarioIndex) {
     return boxes.stream()
         .map(box -> box.getValue(scenarioIndex))
@@ -260,11 +319,15 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
         groupDefn,
         marketData,
         refData);
+    return toCurveGroup(groupDefn, calibratedProvider);
+  }
 
+  // extracts the curve group from the calibrated provider
+  private static RatesCurveGroup toCurveGroup(RatesCurveGroupDefinition groupDefn, ImmutableRatesProvider provider) {
     return RatesCurveGroup.of(
         groupDefn.getName(),
-        calibratedProvider.getDiscountCurves(),
-        calibratedProvider.getIndexCurves());
+        provider.getDiscountCurves(),
+        provider.getIndexCurves());
   }
 
   private static int scenarioCount(
@@ -8,8 +8,12 @@ package com.opengamma.strata.measure;
 import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+
 import org.junit.jupiter.api.Test;
 
+import com.opengamma.strata.calc.marketdata.MarketDataFunction;
 import com.opengamma.strata.calc.runner.CalculationFunctions;
 import com.opengamma.strata.measure.cms.CmsTradeCalculationFunctionTest;
 import com.opengamma.strata.measure.deposit.TermDepositTradeCalculationFunctionTest;
@@ -36,6 +40,17 @@ public class StandardComponentsTest {
     assertThat(test.findFunction(CmsTradeCalculationFunctionTest.TRADE)).isPresent();
   }
 
+  @Test
+  public void test_marketDataFunctions() {
+    Executor executor = Runnable::run;
+    List<MarketDataFunction<?, ?>> standard = StandardComponents.marketDataFunctions();
+    List<MarketDataFunction<?, ?>> test = StandardComponents.marketDataFunctions(executor);
+    assertThat(test).hasSameSizeAs(standard);
+    for (int i = 0; i < standard.size(); i++) {
+      assertThat(test.get(i).getMarketDataIdType()).isEqualTo(standard.get(i).getMarketDataIdType());
+    }
+  }
+
   @Test
   public void coverage() {
     coverPrivateConstructor(StandardComponents.class);
@@ -32,6 +32,7 @@ import com.opengamma.strata.pricer.credit.AccrualOnDefaultFormula;
 import com.opengamma.strata.pricer.credit.AnalyticSpreadSensitivityCalculator;
 import com.opengamma.strata.pricer.credit.CreditRatesProvider;
 import com.opengamma.strata.pricer.credit.IsdaCdsTradePricer;
+import com.opengamma.strata.pricer.credit.IsdaIntegrationScheduleTest;
 import com.opengamma.strata.pricer.credit.JumpToDefault;
 import com.opengamma.strata.pricer.credit.SpreadSensitivityCalculator;
 import com.opengamma.strata.product.credit.CdsTrade;
@@ -126,4 +127,18 @@ public class CdsTradeCalculationFunctionTest {
             CreditMeasures.IR01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedIr01CalBucketed))));
   }
 
+  @Test
+  public void test_integrationScheduleShared() {
+    // a different trade with the same protection window, priced using new curve instances
+    CdsTrade otherTrade = TRADE.toBuilder()
+        .product(TRADE.getProduct().toBuilder().notional(2.5e6).fixedRate(0.01).build())
+        .build();
+    Set<Measure> measures = ImmutableSet.of(Measures.PRESENT_VALUE, CreditMeasures.EXPECTED_LOSS);
+    FUNCTION.calculate(TRADE, measures, CreditDataSet.CDS_PARAMS, CreditDataSet.MARKET_DATA, CreditDataSet.REF_DATA);
+    long cacheSize = IsdaIntegrationScheduleTest.cacheSize();
+    FUNCTION.calculate(otherTrade, measures, CreditDataSet.CDS_PARAMS, CreditDataSet.MARKET_DATA, CreditDataSet.REF_DATA);
+    FUNCTION.calculate(TRADE, measures, CreditDataSet.CDS_PARAMS, CreditDataSet.MARKET_DATA, CreditDataSet.REF_DATA);
+    assertThat(IsdaIntegrationScheduleTest.cacheSize()).isEqualTo(cacheSize);
+  }
+
 }
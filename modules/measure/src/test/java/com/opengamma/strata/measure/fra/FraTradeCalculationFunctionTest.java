@@ -9,6 +9,7 @@ import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -146,6 +147,19 @@ public class FraTradeCalculationFunctionTest {
             Measures.PV01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed))));
   }
 
+  @Test
+  public void test_calculateBatch() {
+    FraTradeCalculationFunction function = new FraTradeCalculationFunction();
+    ScenarioMarketData md = marketData();
+    Set<Measure> measures = ImmutableSet.of(
+        Measures.PRESENT_VALUE,
+        Measures.PAR_RATE,
+        Measures.PV01_CALIBRATED_SUM);
+    Map<Measure, Result<?>> expected = function.calculate(TRADE, measures, PARAMS, md, REF_DATA);
+    assertThat(function.calculateBatch(ImmutableList.of(TRADE, TRADE), measures, PARAMS, md, REF_DATA))
+        .containsExactly(expected, expected);
+  }
+
   //-------------------------------------------------------------------------
   static ScenarioMarketData marketData() {
     Curve curve = ConstantCurve.of(Curves.discountFactors("Test", ACT_360), 0.99);
@@ -52,6 +52,7 @@ import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.fxopt.BlackFxOptionSmileVolatilities;
 import com.opengamma.strata.pricer.fxopt.BlackFxSingleBarrierOptionTradePricer;
+import com.opengamma.strata.pricer.fxopt.FxOptionVolatilities;
 import com.opengamma.strata.pricer.fxopt.FxOptionVolatilitiesId;
 import com.opengamma.strata.pricer.fxopt.FxOptionVolatilitiesName;
 import com.opengamma.strata.pricer.fxopt.InterpolatedStrikeSmileDeltaTermStructure;
@@ -193,6 +194,10 @@ public class FxSingleBarrierOptionTradeCalculationFunctionTest {
 
   //-------------------------------------------------------------------------
   static ScenarioMarketData marketData() {
+    return marketData(VOLS);
+  }
+
+  static ScenarioMarketData marketData(FxOptionVolatilities vols) {
     Curve curve1 = ConstantCurve.of(Curves.discountFactors("Test", ACT_360), 0.992);
     Curve curve2 = ConstantCurve.of(Curves.discountFactors("Test", ACT_360), 0.991);
     TestMarketDataMap md = new TestMarketDataMap(
@@ -200,7 +205,7 @@ public class FxSingleBarrierOptionTradeCalculationFunctionTest {
         ImmutableMap.of(
             DISCOUNT_CURVE_EUR_ID, curve1,
             DISCOUNT_CURVE_USD_ID, curve2,
-            VOL_ID, VOLS,
+            VOL_ID, vols,
             FxRateId.of(EUR, USD), FxRate.of(EUR, USD, 1.62)),
         ImmutableMap.of());
     return md;
@@ -6,7 +6,11 @@
 package com.opengamma.strata.measure.fxopt;
 
 import static com.opengamma.strata.measure.fxopt.FxSingleBarrierOptionMethod.BLACK;
+import static com.opengamma.strata.measure.fxopt.FxSingleBarrierOptionMethod.TRINOMIAL_TREE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,8 +26,13 @@ import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.pricer.fxopt.BlackFxOptionVolatilities;
 import com.opengamma.strata.pricer.fxopt.BlackFxSingleBarrierOptionTradePricer;
+import com.opengamma.strata.pricer.fxopt.ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.fxopt.ResolvedFxSingleBarrierOption;
 import com.opengamma.strata.product.fxopt.ResolvedFxSingleBarrierOptionTrade;
+import com.opengamma.strata.product.option.BarrierType;
+import com.opengamma.strata.product.option.KnockType;
+import com.opengamma.strata.product.option.SimpleConstantContinuousBarrier;
 
 /**
  * Test {@link FxSingleBarrierOptionTradeCalculations}.
@@ -72,4 +81,39 @@ public class FxSingleBarrierOptionTradeCalculationsTest {
             .isEqualTo(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
   }
 
+  @Test
+  public void test_trinomialTree_treeShared() {
+    // the volatilities record the calls made during calibration
+    BlackFxOptionVolatilities vols = mock(BlackFxOptionVolatilities.class, delegatesTo(VOLS));
+    ScenarioMarketData md = FxSingleBarrierOptionTradeCalculationFunctionTest.marketData(vols);
+    ResolvedFxSingleBarrierOptionTrade otherTrade = RTRADE.toBuilder()
+        .product(ResolvedFxSingleBarrierOption.of(
+            RTRADE.getProduct().getUnderlyingOption(),
+            SimpleConstantContinuousBarrier.of(BarrierType.DOWN, KnockType.KNOCK_OUT, 1.4)))
+        .build();
+
+    FxSingleBarrierOptionTradeCalculations test = FxSingleBarrierOptionTradeCalculations.DEFAULT;
+    MultiCurrencyScenarioArray pv = test.presentValue(RTRADE, RATES_LOOKUP, FX_OPTION_LOOKUP, md, TRINOMIAL_TREE);
+    long calibrationCalls = volatilityCalls(vols);
+    assertThat(calibrationCalls).isGreaterThan(0);
+    // a new rates provider is created for each trade, the tree is still shared
+    MultiCurrencyScenarioArray otherPv =
+        test.presentValue(otherTrade, RATES_LOOKUP, FX_OPTION_LOOKUP, md, TRINOMIAL_TREE);
+    test.currencyExposure(RTRADE, RATES_LOOKUP, FX_OPTION_LOOKUP, md, TRINOMIAL_TREE);
+    assertThat(volatilityCalls(vols)).isEqualTo(calibrationCalls);
+
+    RatesProvider provider = RATES_LOOKUP.marketDataView(md.scenario(0)).ratesProvider();
+    ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer pricer = ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer.DEFAULT;
+    assertThat(pv).isEqualTo(MultiCurrencyScenarioArray.of(ImmutableList.of(pricer.presentValue(RTRADE, provider, VOLS))));
+    assertThat(otherPv)
+        .isEqualTo(MultiCurrencyScenarioArray.of(ImmutableList.of(pricer.presentValue(otherTrade, provider, VOLS))));
+  }
+
+  // the number of volatility lookups, which are only made when calibrating the tree
+  private static long volatilityCalls(BlackFxOptionVolatilities vols) {
+    return mockingDetails(vols).getInvocations().stream()
+        .filter(invocation -> invocation.getMethod().getName().equals("volatility"))
+        .count();
+  }
+
 }
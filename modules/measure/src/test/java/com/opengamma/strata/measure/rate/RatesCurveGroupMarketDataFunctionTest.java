@@ -15,8 +15,11 @@ import static org.assertj.core.api.Assertions.offset;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
@@ -63,6 +66,7 @@ import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
+import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -84,6 +88,64 @@ public class RatesCurveGroupMarketDataFunctionTest {
   /** The reference data. */
   private static final ReferenceData REF_DATA = ReferenceData.standard();
 
+  /**
+   * Tests calibration of multiple scenarios concurrently, each using the previous result as a starting point.
+   */
+  @Test
+  public void roundTripFraScenarios() {
+    InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraCurveDefinition();
+
+    List<FraCurveNode> nodes = curveDefn.getNodes().stream()
+        .map(casting(FraCurveNode.class))
+        .collect(toImmutableList());
+
+    List<MarketDataId<?>> keys = nodes.stream().map(CurveTestUtils::key).collect(toImmutableList());
+    double[] rates = {0.003, 0.0033, 0.0037, 0.0054, 0.007, 0.0091, 0.0134};
+    CurveGroupName groupName = CurveGroupName.of("Curve Group");
+    CurveName curveName = CurveName.of("FRA Curve");
+    List<Map<MarketDataId<?>, Double>> inputData = new ArrayList<>();
+    List<RatesCurveInputs> curveInputs = new ArrayList<>();
+    for (int scenario = 0; scenario < 4; scenario++) {
+      ImmutableMap.Builder<MarketDataId<?>, Double> builder = ImmutableMap.builder();
+      for (int i = 0; i < keys.size(); i++) {
+        builder.put(keys.get(i), rates[i] + scenario * 0.0002);
+      }
+      inputData.add(builder.build());
+      curveInputs.add(RatesCurveInputs.of(inputData.get(scenario), DefaultCurveMetadata.of(curveName)));
+    }
+
+    RatesCurveGroupDefinition groupDefn = RatesCurveGroupDefinition.builder()
+        .name(groupName)
+        .addCurve(curveDefn, Currency.USD, IborIndices.USD_LIBOR_3M)
+        .build();
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      RatesCurveGroupMarketDataFunction function =
+          new RatesCurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD, executor);
+      LocalDate valuationDate = date(2011, 3, 8);
+      ScenarioMarketData inputMarketData = ImmutableScenarioMarketData.builder(valuationDate)
+          .addScenarioValue(RatesCurveInputsId.of(groupName, curveName, ObservableSource.NONE), curveInputs)
+          .build();
+      MarketDataBox<RatesCurveGroup> curveGroups =
+          function.buildCurveGroup(groupDefn, CALIBRATOR, inputMarketData, REF_DATA, ObservableSource.NONE);
+      assertThat(curveGroups.getScenarioCount()).isEqualTo(4);
+
+      for (int scenario = 0; scenario < 4; scenario++) {
+        Curve curve = curveGroups.getValue(scenario).findDiscountCurve(Currency.USD).get();
+        Map<MarketDataId<?>, Object> marketDataMap = ImmutableMap.<MarketDataId<?>, Object>builder()
+            .putAll(inputData.get(scenario))
+            .put(CurveId.of(groupName, curveName), curve)
+            .build();
+        MarketData marketData = ImmutableMarketData.of(valuationDate, marketDataMap);
+        RatesProvider ratesProvider = RatesMarketDataLookup.of(groupDefn).ratesProvider(marketData);
+        nodes.stream().forEach(node -> checkFraPvIsZero(node, ratesProvider, marketData));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   /**
    * Tests calibration a curve containing FRAs and pricing the curve instruments using the curve.
    */
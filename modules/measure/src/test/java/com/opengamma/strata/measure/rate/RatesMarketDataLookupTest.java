@@ -234,12 +234,14 @@ public class RatesMarketDataLookupTest {
     // check discount factors
     SimpleDiscountFactors df = (SimpleDiscountFactors) ratesProvider.discountFactors(USD);
     assertThat(df.getCurve().getName()).isEqualTo(dscCurve.getName());
+    assertThat(ratesProvider.discountFactors(USD)).isSameAs(df);
     assertThatIllegalArgumentException()
         .isThrownBy(() -> ratesProvider.discountFactors(GBP));
     // check Ibor
     DiscountIborIndexRates ibor = (DiscountIborIndexRates) ratesProvider.iborIndexRates(USD_LIBOR_3M);
     SimpleDiscountFactors iborDf = (SimpleDiscountFactors) ibor.getDiscountFactors();
     assertThat(iborDf.getCurve().getName()).isEqualTo(fwdCurve.getName());
+    assertThat(ratesProvider.iborIndexRates(USD_LIBOR_3M)).isSameAs(ibor);
     assertThatIllegalArgumentException()
         .isThrownBy(() -> ratesProvider.iborIndexRates(GBP_LIBOR_3M));
     assertThat(ratesProvider.iborIndexRates(INACTIVE_IBOR_INDEX).getIndex()).isEqualTo(INACTIVE_IBOR_INDEX);
@@ -248,6 +250,7 @@ public class RatesMarketDataLookupTest {
     DiscountOvernightIndexRates on = (DiscountOvernightIndexRates) ratesProvider.overnightIndexRates(USD_FED_FUND);
     SimpleDiscountFactors onDf = (SimpleDiscountFactors) on.getDiscountFactors();
     assertThat(onDf.getCurve().getName()).isEqualTo(dscCurve.getName());
+    assertThat(ratesProvider.overnightIndexRates(USD_FED_FUND)).isSameAs(on);
     assertThatIllegalArgumentException()
         .isThrownBy(() -> ratesProvider.overnightIndexRates(GBP_SONIA));
     assertThat(ratesProvider.overnightIndexRates(INACTIVE_ON_INDEX).getIndex()).isEqualTo(INACTIVE_ON_INDEX);
@@ -6,11 +6,13 @@
 package com.opengamma.strata.pricer;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.MarketDataId;
 
 /**
@@ -118,4 +120,25 @@ public interface BaseProvider
     return discountFactors(currency).discountFactor(date);
   }
 
+  /**
+   * Gets the discount factors applicable for a currency for a list of dates.
+   * <p>
+   * This is equivalent to calling {@link #discountFactor(Currency, LocalDate)} for each date,
+   * however the discount factors are obtained from the underlying curve at once.
+   * This is most efficient when the dates are sorted from earliest to latest.
+   * 
+   * @param currency  the currency to get the discount factors for
+   * @param dates  the dates to discount to
+   * @return the discount factors, one for each date
+   * @throws IllegalArgumentException if the discount factors are not available
+   */
+  public default DoubleArray discountFactors(Currency currency, List<LocalDate> dates) {
+    if (dates.isEmpty()) {
+      return DoubleArray.EMPTY;
+    }
+    DiscountFactors discountFactors = discountFactors(currency);
+    DoubleArray yearFractions = DoubleArray.of(dates.size(), i -> discountFactors.relativeYearFraction(dates.get(i)));
+    return discountFactors.discountFactors(yearFractions);
+  }
+
 }
@@ -9,6 +9,7 @@ import static com.opengamma.strata.pricer.ZeroRatePeriodicDiscountFactors.EFFECT
 
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.function.DoubleBinaryOperator;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
@@ -21,6 +22,7 @@ import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.ParameterizedData;
@@ -121,6 +123,60 @@ public interface DiscountFactors
    */
   public abstract double discountFactor(double yearFraction);
 
+  /**
+   * Gets the discount factors for the specified year fractions.
+   * <p>
+   * The year fractions must be based on {@code #relativeYearFraction(LocalDate)}.
+   * This is equivalent to calling {@link #discountFactor(double)} for each year fraction.
+   * Implementations may be more efficient when the year fractions are sorted from low to high.
+   * 
+   * @param yearFractions  the year fractions
+   * @return the discount factors
+   * @throws RuntimeException if the value cannot be obtained
+   */
+  public default DoubleArray discountFactors(DoubleArray yearFractions) {
+    return yearFractions.map(this::discountFactor);
+  }
+
+  /**
+   * Gets the discount factors for the specified year fractions, querying the curve once for all of them.
+   * <p>
+   * This is intended to implement {@link #discountFactors(DoubleArray)} for discount factors based on a curve.
+   * The curve is queried once for all year fractions that are not effectively zero, the discount factor
+   * at the other year fractions being one. Each curve value is then converted to a discount factor.
+   * 
+   * @param yearFractions  the year fractions
+   * @param curve  the curve
+   * @param discountFactorFn  the function converting a year fraction and its curve value to a discount factor
+   * @return the discount factors
+   * @throws RuntimeException if the value cannot be obtained
+   */
+  public default DoubleArray discountFactors(
+      DoubleArray yearFractions,
+      Curve curve,
+      DoubleBinaryOperator discountFactorFn) {
+
+    int size = yearFractions.size();
+    double[] curveYearFractions = new double[size];
+    int curveCount = 0;
+    for (int i = 0; i < size; i++) {
+      double yearFraction = yearFractions.get(i);
+      if (yearFraction > EFFECTIVE_ZERO) {
+        curveYearFractions[curveCount++] = yearFraction;
+      }
+    }
+    DoubleArray curveValues = curve.yValues(DoubleArray.ofUnsafe(curveYearFractions).subArray(0, curveCount));
+    double[] result = new double[size];
+    int curveIndex = 0;
+    for (int i = 0; i < size; i++) {
+      double yearFraction = yearFractions.get(i);
+      result[i] = yearFraction <= EFFECTIVE_ZERO ?
+          1d :
+          discountFactorFn.applyAsDouble(yearFraction, curveValues.get(curveIndex++));
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
   /**
    * Returns the discount factor derivative with respect to the year fraction or time.
    * <p>
@@ -447,6 +503,24 @@ public interface DiscountFactors
    */
   public abstract CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSensitivity);
 
+  /**
+   * Adds the parameter sensitivity of the point sensitivity to the accumulator.
+   * <p>
+   * This is equivalent to adding the result of {@link #parameterSensitivity(ZeroRateSensitivity)}
+   * to the accumulator, but implementations may add the curve unit sensitivity directly
+   * to avoid creating intermediate objects.
+   * 
+   * @param pointSensitivity  the point sensitivity to convert
+   * @param accumulator  the accumulator to add to
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default void parameterSensitivity(
+      ZeroRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    accumulator.add(parameterSensitivity(pointSensitivity));
+  }
+
   /**
    * Creates the parameter sensitivity when the sensitivity values are known.
    * <p>
@@ -37,7 +37,7 @@ import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
-import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.UnitParameterSensitivity;
@@ -174,6 +174,11 @@ public final class SimpleDiscountFactors
     return curve.yValue(yearFraction);
   }
 
+  @Override
+  public DoubleArray discountFactors(DoubleArray yearFractions) {
+    return curve.yValues(yearFractions);
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     return curve.firstDerivative(yearFraction);
@@ -199,15 +204,20 @@ public final class SimpleDiscountFactors
   //-------------------------------------------------------------------------
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSens) {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    parameterSensitivity(pointSens, accumulator);
+    return accumulator.build();
+  }
+
+  @Override
+  public void parameterSensitivity(ZeroRateSensitivity pointSens, CurrencyParameterSensitivitiesAccumulator accumulator) {
     // zero rate sensitivity is undefined in general for tiny year fractions,
     // thus parameter sensitivities will be inaccurate.
     double yearFractionMod = modifyYearFraction(pointSens.getYearFraction());
     double discountFactor = discountFactor(yearFractionMod);
     UnitParameterSensitivity unitSens = curve.yValueParameterSensitivity(yearFractionMod);
-    CurrencyParameterSensitivity curSens = unitSens
-        .multipliedBy(-1d / (yearFractionMod * discountFactor))
-        .multipliedBy(pointSens.getCurrency(), pointSens.getSensitivity());
-    return CurrencyParameterSensitivities.of(curSens);
+    double factor = -1d / (yearFractionMod * discountFactor);
+    accumulator.add(unitSens, pointSens.getCurrency(), factor * pointSens.getSensitivity());
   }
 
   @Override
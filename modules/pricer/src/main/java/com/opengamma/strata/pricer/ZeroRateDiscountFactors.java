@@ -37,7 +37,7 @@ import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
-import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.UnitParameterSensitivity;
@@ -179,6 +179,11 @@ public final class ZeroRateDiscountFactors
     return Math.exp(-yearFraction * curve.yValue(yearFraction));
   }
 
+  @Override
+  public DoubleArray discountFactors(DoubleArray yearFractions) {
+    return discountFactors(yearFractions, curve, (yearFraction, zeroRate) -> Math.exp(-yearFraction * zeroRate));
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     if (yearFraction <= EFFECTIVE_ZERO) {
@@ -208,14 +213,18 @@ public final class ZeroRateDiscountFactors
 
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSens) {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    parameterSensitivity(pointSens, accumulator);
+    return accumulator.build();
+  }
+
+  @Override
+  public void parameterSensitivity(ZeroRateSensitivity pointSens, CurrencyParameterSensitivitiesAccumulator accumulator) {
     double yearFraction = pointSens.getYearFraction();
     UnitParameterSensitivity unitSens = curve.yValueParameterSensitivity(yearFraction);
-    if (yearFraction <= EFFECTIVE_ZERO) {
-      return CurrencyParameterSensitivities.of(unitSens.multipliedBy(pointSens.getCurrency(), 0d));
-      // Discount factor in 0 is always 1, no sensitivity.
-    }
-    CurrencyParameterSensitivity curSens = unitSens.multipliedBy(pointSens.getCurrency(), pointSens.getSensitivity());
-    return CurrencyParameterSensitivities.of(curSens);
+    // Discount factor in 0 is always 1, no sensitivity.
+    double sensitivity = yearFraction <= EFFECTIVE_ZERO ? 0d : pointSens.getSensitivity();
+    accumulator.add(unitSens, pointSens.getCurrency(), sensitivity);
   }
 
   @Override
@@ -36,7 +36,7 @@ import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
-import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.UnitParameterSensitivity;
@@ -186,6 +186,14 @@ public final class ZeroRatePeriodicDiscountFactors
     return Math.pow(1d + curve.yValue(relativeYearFraction) / frequency, -relativeYearFraction * frequency);
   }
 
+  @Override
+  public DoubleArray discountFactors(DoubleArray relativeYearFractions) {
+    return discountFactors(
+        relativeYearFractions,
+        curve,
+        (yearFraction, zeroRate) -> Math.pow(1d + zeroRate / frequency, -yearFraction * frequency));
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     if (yearFraction <= EFFECTIVE_ZERO) {
@@ -242,18 +250,24 @@ public final class ZeroRatePeriodicDiscountFactors
   //-------------------------------------------------------------------------
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSens) {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    parameterSensitivity(pointSens, accumulator);
+    return accumulator.build();
+  }
+
+  @Override
+  public void parameterSensitivity(ZeroRateSensitivity pointSens, CurrencyParameterSensitivitiesAccumulator accumulator) {
     double yearFraction = pointSens.getYearFraction();
     UnitParameterSensitivity curveSens = curve.yValueParameterSensitivity(yearFraction);
     if (yearFraction <= EFFECTIVE_ZERO) {
-      return CurrencyParameterSensitivities.of(curveSens.multipliedBy(pointSens.getCurrency(), 0d));
+      accumulator.add(curveSens, pointSens.getCurrency(), 0d);
       // Discount factor in 0 is always 1, no sensitivity.
+      return;
     }
     double rp = curve.yValue(yearFraction);
     double rcBar = 1.0;
     double rpBar = 1.0 / (1 + rp / frequency) * rcBar;
-    UnitParameterSensitivity unitSens = curveSens.multipliedBy(rpBar);
-    CurrencyParameterSensitivity curSens = unitSens.multipliedBy(pointSens.getCurrency(), pointSens.getSensitivity());
-    return CurrencyParameterSensitivities.of(curSens);
+    accumulator.add(curveSens, pointSens.getCurrency(), rpBar * pointSens.getSensitivity());
   }
 
   @Override
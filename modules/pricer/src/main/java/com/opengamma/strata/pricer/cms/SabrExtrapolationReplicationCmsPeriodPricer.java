@@ -27,7 +27,7 @@ import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.math.MathException;
-import com.opengamma.strata.math.impl.integration.RungeKuttaIntegrator1D;
+import com.opengamma.strata.math.impl.integration.GaussKronrodIntegrator1D;
 import com.opengamma.strata.pricer.impl.option.SabrExtrapolationRightFunction;
 import com.opengamma.strata.pricer.impl.volatility.smile.SabrFormulaData;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -50,7 +50,8 @@ import com.opengamma.strata.product.swap.SwapLegType;
  *  The extrapolation is done on call prices above a certain strike. See {@link SabrExtrapolationRightFunction} for
  *  more details on the extrapolation method.
  *  <p>
- *  The replication requires numerical integration. This is completed by {@link RungeKuttaIntegrator1D}.
+ *  The replication requires numerical integration. This is completed by {@link GaussKronrodIntegrator1D}.
+ *  The integrants of the sensitivities are integrated together, sharing the evaluation of the SABR smile.
  *  <p>
  *  The consistency between {@code RatesProvider} and {@code SabrParametersSwaptionVolatilities} is not checked in this 
  *  class, but validated only once in {@link SabrExtrapolationReplicationCmsLegPricer}.
@@ -67,10 +68,6 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
    */
   private static final Logger log = LoggerFactory.getLogger(SabrExtrapolationReplicationCmsPeriodPricer.class);
 
-  /**
-   * The minimal number of iterations for the numerical integration.
-   */
-  private static final int NUM_ITER = 10;
   /** The relative tolerance for the numerical integration in PV computation. */
   private static final double REL_TOL = 1.0e-10;
   /** The absolute tolerance for the numerical integration in PV computation.
@@ -99,6 +96,18 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
    * For expiry below that value, the forward rate is used for present value.
    */
   private static final double MIN_TIME = 1e-4;
+  /**
+   * The integrator used in PV and curve sensitivity computation.
+   */
+  private static final GaussKronrodIntegrator1D INTEGRATOR = new GaussKronrodIntegrator1D(ABS_TOL, REL_TOL);
+  /**
+   * The integrator used in strike sensitivity computation.
+   */
+  private static final GaussKronrodIntegrator1D INTEGRATOR_STRIKE = new GaussKronrodIntegrator1D(ABS_TOL, REL_TOL_STRIKE);
+  /**
+   * The integrator used in SABR sensitivity computation.
+   */
+  private static final GaussKronrodIntegrator1D INTEGRATOR_VEGA = new GaussKronrodIntegrator1D(ABS_TOL, REL_TOL_VEGA);
 
   /**
    * Pricer for the underlying swap.
@@ -232,15 +241,14 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
         cmsPeriod, swap, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor, cutOffStrike, eta);
     double factor = dfPayment / intProv.h(forward) * intProv.g(forward);
     double strikePart = factor * intProv.k(strikeCpn) * intProv.bs(strikeCpn);
-    RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL, NUM_ITER);
     double integralPart = 0d;
-    Function<Double, Double> integrant = intProv.integrant();
+    Function<Double, DoubleArray> integrant = intProv.integrant();
     try {
       if (intProv.getPutCall().isCall()) {
         integralPart = dfPayment *
-            integrateCall(integrator, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
+            integrateCall(INTEGRATOR, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor).get(0);
       } else {
-        integralPart = -dfPayment * integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
+        integralPart = -dfPayment * INTEGRATOR.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn).get(0);
       }
     } catch (Exception e) {
       throw new MathException(e);
@@ -352,23 +360,24 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
         .relativeYearFraction(cmsPeriod.getPaymentDate(), swap.getStartDate());
     CmsDeltaIntegrantProvider intProv = new CmsDeltaIntegrantProvider(
         cmsPeriod, swap, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor, cutOffStrike, eta);
-    RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL, NUM_ITER);
     double[] bs = intProv.bsbsp(strikeCpn);
     double[] n = intProv.getNnp();
     double strikePartPrice = intProv.k(strikeCpn) * n[0] * bs[0];
     double integralPartPrice = 0d;
     double integralPart = 0d;
-    Function<Double, Double> integrant = intProv.integrant();
-    Function<Double, Double> integrantDelta = intProv.integrantDelta();
+    Function<Double, DoubleArray> integrantPriceDelta = intProv.integrantPriceDelta();
     try {
       if (intProv.getPutCall().isCall()) {
-        integralPartPrice =
-            integrateCall(integrator, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
-        integralPart = dfPayment *
-            integrateCall(integrator, integrantDelta, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
+        DoubleArray integral =
+            integrateCall(INTEGRATOR, integrantPriceDelta, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
+        integralPartPrice = integral.get(0);
+        integralPart = dfPayment * integral.get(1);
       } else {
-        integralPartPrice = -integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
-        integralPart = -dfPayment * integrator.integrate(integrantDelta, -shift, strikeCpn);
+        // the delta integrant is also integrated on the zero shift
+        DoubleArray integral = INTEGRATOR.integrate(integrantPriceDelta, -shift + ZERO_SHIFT, strikeCpn);
+        double integralZeroShift = INTEGRATOR.integrate(intProv.integrantDelta(), -shift, -shift + ZERO_SHIFT).get(0);
+        integralPartPrice = -integral.get(0);
+        integralPart = -dfPayment * (integral.get(1) + integralZeroShift);
       }
     } catch (Exception e) {
       throw new MathException(e);
@@ -432,23 +441,22 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     double[] strikePartPrice = intProv.getSabrExtrapolation()
         .priceAdjointSabr(Math.max(0d, strikeCpn + shift), intProv.getPutCall()) // handle tiny but negative number
         .getDerivatives().multipliedBy(factor2).toArray();
-    RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL_VEGA, NUM_ITER);
+    DoubleArray integralPart;
+    Function<Double, DoubleArray> integrant = intProv.integrantVega();
+    try {
+      if (intProv.getPutCall().isCall()) {
+        integralPart = integrateCall(INTEGRATOR_VEGA, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor)
+            .multipliedBy(dfPayment);
+      } else {
+        integralPart = INTEGRATOR_VEGA.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn).multipliedBy(-dfPayment);
+      }
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
     double[] totalSensi = new double[4];
     for (int loopparameter = 0; loopparameter < 4; loopparameter++) {
-      double integralPart = 0d;
-      Function<Double, Double> integrant = intProv.integrantVega(loopparameter);
-      try {
-        if (intProv.getPutCall().isCall()) {
-          integralPart = dfPayment *
-              integrateCall(integrator, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
-        } else {
-          integralPart = -dfPayment * integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
-        }
-      } catch (Exception e) {
-        throw new RuntimeException(e);
-      }
-      totalSensi[loopparameter] =
-          (strikePartPrice[loopparameter] + integralPart) * cmsPeriod.getNotional() * cmsPeriod.getYearFraction();
+      totalSensi[loopparameter] = (strikePartPrice[loopparameter] + integralPart.get(loopparameter)) *
+          cmsPeriod.getNotional() * cmsPeriod.getYearFraction();
     }
     SwaptionVolatilitiesName name = swaptionVolatilities.getName();
     return PointSensitivityBuilder.of(
@@ -514,17 +522,17 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     CmsIntegrantProvider intProv = new CmsIntegrantProvider(
         cmsPeriod, swap, swaptionVolatilities, forward, strike, expiryTime, tenor, cutOffStrike, eta);
     double factor = dfPayment * intProv.g(forward) / intProv.h(forward);
-    RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL_STRIKE, NUM_ITER);
     double[] kpkpp = intProv.kpkpp(strike);
     double firstPart;
     double thirdPart;
-    Function<Double, Double> integrant = intProv.integrantDualDelta();
+    Function<Double, DoubleArray> integrant = intProv.integrantDualDelta();
     if (intProv.getPutCall().isCall()) {
       firstPart = -kpkpp[0] * intProv.bs(strike);
-      thirdPart = integrateCall(integrator, integrant, swaptionVolatilities, forward, strike, expiryTime, tenor);
+      thirdPart =
+          integrateCall(INTEGRATOR_STRIKE, integrant, swaptionVolatilities, forward, strike, expiryTime, tenor).get(0);
     } else {
       firstPart = -kpkpp[0] * intProv.bs(strike);
-      thirdPart = -integrator.integrate(integrant, -shift + ZERO_SHIFT, strike);
+      thirdPart = -INTEGRATOR_STRIKE.integrate(integrant, -shift + ZERO_SHIFT, strike).get(0);
     }
     double secondPart =
         intProv.k(strike) * intProv.getSabrExtrapolation().priceDerivativeStrike(strike + shift, intProv.getPutCall());
@@ -549,30 +557,29 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     return payoff;
   }
 
-  private double integrateCall(
-      RungeKuttaIntegrator1D integrator,
-      Function<Double, Double> integrant,
+  // integrates each of the integrants, extending the upper bound until the reminder is small for all of them
+  private DoubleArray integrateCall(
+      GaussKronrodIntegrator1D integrator,
+      Function<Double, DoubleArray> integrant,
       SabrSwaptionVolatilities swaptionVolatilities,
       double forward,
       double strike,
       double expiryTime,
       double tenor) {
 
-    double res;
+    DoubleArray res;
     double vol = swaptionVolatilities.volatility(expiryTime, tenor, forward, forward);
     double upper0 = Math.max(
         forward * Math.exp(6d * vol * Math.sqrt(expiryTime)),
         Math.max(cutOffStrike, 2d * strike));  // To ensure that the integral covers a good part of the smile
     double upper = Math.min(upper0, 1d); // To ensure that we don't miss the meaningful part
     res = integrator.integrate(integrant, strike, upper);
-    double reminder = integrant.apply(upper) * upper;
-    double error = reminder / res;
+    DoubleArray reminder = integrant.apply(upper).multipliedBy(upper);
     int count = 0;
-    while (Math.abs(error) > integrator.getRelativeTolerance() && count < MAX_COUNT) {
-      res += integrator.integrate(integrant, upper, 2d * upper);
+    while (maxRelativeError(reminder, res) > integrator.getRelativeTolerance() && count < MAX_COUNT) {
+      res = res.plus(integrator.integrate(integrant, upper, 2d * upper));
       upper *= 2d;
-      reminder = integrant.apply(upper) * upper;
-      error = reminder / res;
+      reminder = integrant.apply(upper).multipliedBy(upper);
       ++count;
       if (count == MAX_COUNT) {
         log.info("Maximum iteration count, " + MAX_COUNT + ", has been reached. Relative error is greater than " +
@@ -582,6 +589,18 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     return res;
   }
 
+  // the largest relative error, ignoring undefined ratios as in the scalar case
+  private static double maxRelativeError(DoubleArray reminder, DoubleArray res) {
+    double maxError = 0d;
+    for (int i = 0; i < res.size(); i++) {
+      double error = Math.abs(reminder.get(i) / res.get(i));
+      if (error > maxError) {
+        maxError = error;
+      }
+    }
+    return maxError;
+  }
+
   /**
    * Explains the present value of the CMS period.
    * <p>
@@ -678,6 +697,15 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
       return shift;
     }
 
+    /**
+     * Gets the factor field.
+     * 
+     * @return the factor
+     */
+    protected double getFactor() {
+      return factor;
+    }
+
     /**
      * Gets the sabrExtrapolation field.
      * 
@@ -727,32 +755,33 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
      * 
      * @return the integrant
      */
-    Function<Double, Double> integrant() {
-      return new Function<Double, Double>() {
+    Function<Double, DoubleArray> integrant() {
+      return new Function<Double, DoubleArray>() {
         @Override
-        public Double apply(Double x) {
+        public DoubleArray apply(Double x) {
           double[] kD = kpkpp(x);
           // Implementation note: kD[0] contains the first derivative of k; kD[1] the second derivative of k.
-          return factor * (kD[1] * (x - strike) + 2d * kD[0]) * bs(x);
+          return DoubleArray.of(factor * (kD[1] * (x - strike) + 2d * kD[0]) * bs(x));
         }
       };
     }
 
     /**
-     * Obtains the integrant sensitivity to the i-th SABR parameter.
+     * Obtains the integrant sensitivity to the SABR parameters.
+     * <p>
+     * The sensitivities to the four SABR parameters are returned together.
      * 
-     * @param i  the index of SABR parameters
      * @return the vega integrant
      */
-    Function<Double, Double> integrantVega(int i) {
-      return new Function<Double, Double>() {
+    Function<Double, DoubleArray> integrantVega() {
+      return new Function<Double, DoubleArray>() {
         @Override
-        public Double apply(Double x) {
+        public DoubleArray apply(Double x) {
           double[] kD = kpkpp(x);
           // Implementation note: kD[0] contains the first derivative of k; kD[1] the second derivative of k.
           double xShifted = Math.max(x + shift, 0d); // handle tiny but negative number
           DoubleArray priceDerivativeSabr = getSabrExtrapolation().priceAdjointSabr(xShifted, putCall).getDerivatives();
-          return priceDerivativeSabr.get(i) * (factor * (kD[1] * (x - strike) + 2d * kD[0]));
+          return priceDerivativeSabr.multipliedBy(factor * (kD[1] * (x - strike) + 2d * kD[0]));
         }
       };
     }
@@ -762,13 +791,13 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
      * 
      * @return the dual delta integrant
      */
-    Function<Double, Double> integrantDualDelta() {
-      return new Function<Double, Double>() {
+    Function<Double, DoubleArray> integrantDualDelta() {
+      return new Function<Double, DoubleArray>() {
         @Override
-        public Double apply(Double x) {
+        public DoubleArray apply(Double x) {
           double[] kD = kpkpp(x);
           // Implementation note: kD[0] contains the first derivative of k; kD[1] the second derivative of k.
-          return -kD[1] * bs(x);
+          return DoubleArray.of(-kD[1] * bs(x));
         }
       };
     }
@@ -899,19 +928,40 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
       return nnp;
     }
 
+    /**
+     * Obtains the integrant used in price replication and its sensitivity to forward.
+     * <p>
+     * The first element is the price integrant and the second element is the delta integrant.
+     * 
+     * @return the price and delta integrant
+     */
+    Function<Double, DoubleArray> integrantPriceDelta() {
+      return new Function<Double, DoubleArray>() {
+        @Override
+        public DoubleArray apply(Double x) {
+          double[] kD = kpkpp(x);
+          // Implementation note: kD[0] contains the first derivative of k; kD[1] the second derivative of k.
+          double[] bs = bsbsp(x);
+          double kFactor = kD[1] * (x - getStrike()) + 2d * kD[0];
+          return DoubleArray.of(getFactor() * kFactor * bs[0], kFactor * (nnp[1] * bs[0] + nnp[0] * bs[1]));
+        }
+      };
+    }
+
     /**
      * Obtains the integrant sensitivity to forward.
      * 
      * @return the delta integrant
      */
-    Function<Double, Double> integrantDelta() {
-      return new Function<Double, Double>() {
+    Function<Double, DoubleArray> integrantDelta() {
+      return new Function<Double, DoubleArray>() {
         @Override
-        public Double apply(Double x) {
+        public DoubleArray apply(Double x) {
           double[] kD = kpkpp(x);
           // Implementation note: kD[0] contains the first derivative of k; kD[1] the second derivative of k.
           double[] bs = bsbsp(x);
-          return (kD[1] * (x - getStrike()) + 2d * kD[0]) * (nnp[1] * bs[0] + nnp[0] * bs[1]);
+          double kFactor = kD[1] * (x - getStrike()) + 2d * kD[0];
+          return DoubleArray.of(kFactor * (nnp[1] * bs[0] + nnp[0] * bs[1]));
         }
       };
     }
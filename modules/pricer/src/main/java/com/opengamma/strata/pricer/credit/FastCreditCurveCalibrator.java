@@ -258,17 +258,16 @@ public final class FastCreditCurveCalibrator extends IsdaCompliantCreditCurveCal
       productEffectiveStart = yieldCurve.relativeYearFraction(effectiveStartDate);
       double protectionEnd = yieldCurve.relativeYearFraction(cds.getProtectionEndDate());
       // protection leg
-      proLegIntPoints = DoublesScheduleGenerator.getIntegrationsPoints(
-          productEffectiveStart,
-          protectionEnd,
-          yieldCurve.getParameterKeys(), creditCurveKnots).toArray();
+      IsdaIntegrationSchedule proSchedule =
+          IsdaIntegrationSchedule.of(yieldCurve, creditCurveKnots, productEffectiveStart, protectionEnd);
+      proLegIntPoints = proSchedule.getPoints().toArray();
       nProPoints = proLegIntPoints.length;
       valuationDF = yieldCurve.discountFactor(settlementDate);
       lgdDF = lgd / valuationDF;
       proYieldCurveRT = new double[nProPoints];
       proDF = new double[nProPoints];
       for (int i = 0; i < nProPoints; i++) {
-        proYieldCurveRT[i] = yieldCurve.zeroRate(proLegIntPoints[i]) * proLegIntPoints[i];
+        proYieldCurveRT[i] = proSchedule.discountRt(i);
         proDF[i] = Math.exp(-proYieldCurveRT[i]);
       }
       // premium leg
@@ -286,12 +285,8 @@ public final class FastCreditCurveCalibrator extends IsdaCompliantCreditCurveCal
       // accrual on default
       if (cds.getPaymentOnDefault().isAccruedInterest()) {
         LocalDate tmp = nPayments == 1 ? effectiveStartDate : cds.getAccrualStartDate();
-        DoubleArray integrationSchedule =
-            DoublesScheduleGenerator.getIntegrationsPoints(
-                yieldCurve.relativeYearFraction(tmp),
-                protectionEnd,
-                yieldCurve.getParameterKeys(),
-                creditCurveKnots);
+        IsdaIntegrationSchedule integrationSchedule = IsdaIntegrationSchedule.of(
+            yieldCurve, creditCurveKnots, yieldCurve.relativeYearFraction(tmp), protectionEnd);
         accRate = new double[nPayments];
         offsetAccStart = new double[nPayments];
         offsetAccEnd = new double[nPayments];
@@ -312,12 +307,12 @@ public final class FastCreditCurveCalibrator extends IsdaCompliantCreditCurveCal
           premLegIntPoints[i] = DoublesScheduleGenerator.truncateSetInclusive(
               start,
               offsetAccEnd[i],
-              integrationSchedule).toArray();
+              integrationSchedule.getPoints()).toArray();
           int n = premLegIntPoints[i].length;
           rt[i] = new double[n];
           premDF[i] = new double[n];
           for (int k = 0; k < n; k++) {
-            rt[i][k] = yieldCurve.zeroRate(premLegIntPoints[i][k]) * premLegIntPoints[i][k];
+            rt[i][k] = integrationSchedule.discountRt(yieldCurve, premLegIntPoints[i][k]);
             premDF[i][k] = Math.exp(-rt[i][k]);
           }
           premDt[i] = new double[n - 1];
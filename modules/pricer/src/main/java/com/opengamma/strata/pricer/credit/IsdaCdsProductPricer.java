@@ -516,20 +516,21 @@ public class IsdaCdsProductPricer {
       LocalDate referenceDate,
       LocalDate effectiveStartDate) {
 
-    DoubleArray integrationSchedule = DoublesScheduleGenerator.getIntegrationsPoints(
+    IsdaIntegrationSchedule schedule = IsdaIntegrationSchedule.of(
+        discountFactors,
+        survivalProbabilities.getParameterKeys(),
         discountFactors.relativeYearFraction(effectiveStartDate),
-        discountFactors.relativeYearFraction(cds.getProtectionEndDate()),
-        discountFactors.getParameterKeys(),
-        survivalProbabilities.getParameterKeys());
+        discountFactors.relativeYearFraction(cds.getProtectionEndDate()));
+    double[] survivalRt = schedule.survivalRt(survivalProbabilities);
 
     double pv = 0d;
-    double ht0 = survivalProbabilities.zeroRate(integrationSchedule.get(0)) * integrationSchedule.get(0);
-    double rt0 = discountFactors.zeroRate(integrationSchedule.get(0)) * integrationSchedule.get(0);
+    double ht0 = survivalRt[0];
+    double rt0 = schedule.discountRt(0);
     double b0 = Math.exp(-ht0 - rt0);
-    int n = integrationSchedule.size();
+    int n = schedule.size();
     for (int i = 1; i < n; ++i) {
-      double ht1 = survivalProbabilities.zeroRate(integrationSchedule.get(i)) * integrationSchedule.get(i);
-      double rt1 = discountFactors.zeroRate(integrationSchedule.get(i)) * integrationSchedule.get(i);
+      double ht1 = survivalRt[i];
+      double rt1 = schedule.discountRt(i);
       double b1 = Math.exp(-ht1 - rt1);
       double dht = ht1 - ht0;
       double drt = rt1 - rt0;
@@ -575,14 +576,15 @@ public class IsdaCdsProductPricer {
     if (cds.getPaymentOnDefault().isAccruedInterest()) {
       // This is needed so that the code is consistent with ISDA C when the Markit `fix' is used. 
       LocalDate start = cds.getPaymentPeriods().size() == 1 ? effectiveStartDate : cds.getAccrualStartDate();
-      DoubleArray integrationSchedule = DoublesScheduleGenerator.getIntegrationsPoints(
+      IsdaIntegrationSchedule schedule = IsdaIntegrationSchedule.of(
+          discountFactors,
+          survivalProbabilities.getParameterKeys(),
           discountFactors.relativeYearFraction(start),
-          discountFactors.relativeYearFraction(cds.getProtectionEndDate()),
-          discountFactors.getParameterKeys(),
-          survivalProbabilities.getParameterKeys());
+          discountFactors.relativeYearFraction(cds.getProtectionEndDate()));
+      double[] survivalRt = schedule.survivalRt(survivalProbabilities);
       for (CreditCouponPaymentPeriod coupon : cds.getPaymentPeriods()) {
         pv += singlePeriodAccrualOnDefault(
-            coupon, effectiveStartDate, integrationSchedule, discountFactors, survivalProbabilities);
+            coupon, effectiveStartDate, schedule, survivalRt, discountFactors, survivalProbabilities);
       }
     }
     // roll to the cash settle date
@@ -600,7 +602,8 @@ public class IsdaCdsProductPricer {
   private double singlePeriodAccrualOnDefault(
       CreditCouponPaymentPeriod coupon,
       LocalDate effectiveStartDate,
-      DoubleArray integrationSchedule,
+      IsdaIntegrationSchedule schedule,
+      double[] survivalRt,
       CreditDiscountFactors discountFactors,
       LegalEntitySurvivalProbabilities survivalProbabilities) {
 
@@ -611,11 +614,11 @@ public class IsdaCdsProductPricer {
     }
 
     DoubleArray knots = DoublesScheduleGenerator.truncateSetInclusive(discountFactors.relativeYearFraction(start),
-        discountFactors.relativeYearFraction(coupon.getEffectiveEndDate()), integrationSchedule);
+        discountFactors.relativeYearFraction(coupon.getEffectiveEndDate()), schedule.getPoints());
 
     double t0Knot = knots.get(0);
-    double ht0 = survivalProbabilities.zeroRate(t0Knot) * t0Knot;
-    double rt0 = discountFactors.zeroRate(t0Knot) * t0Knot;
+    double ht0 = schedule.survivalRt(survivalProbabilities, survivalRt, t0Knot);
+    double rt0 = schedule.discountRt(discountFactors, t0Knot);
     double b0 = Math.exp(-rt0 - ht0);
 
     double effStart = discountFactors.relativeYearFraction(coupon.getEffectiveStartDate());
@@ -624,8 +627,8 @@ public class IsdaCdsProductPricer {
     final int nItems = knots.size();
     for (int j = 1; j < nItems; ++j) {
       double t = knots.get(j);
-      double ht1 = survivalProbabilities.zeroRate(t) * t;
-      double rt1 = discountFactors.zeroRate(t) * t;
+      double ht1 = schedule.survivalRt(survivalProbabilities, survivalRt, t);
+      double rt1 = schedule.discountRt(discountFactors, t);
       double b1 = Math.exp(-rt1 - ht1);
 
       double dt = knots.get(j) - knots.get(j - 1);
@@ -671,11 +674,13 @@ public class IsdaCdsProductPricer {
       LocalDate effectiveStartDate,
       double recoveryRate) {
 
-    DoubleArray integrationSchedule = DoublesScheduleGenerator.getIntegrationsPoints(
+    IsdaIntegrationSchedule schedule = IsdaIntegrationSchedule.of(
+        discountFactors,
+        survivalProbabilities.getParameterKeys(),
         discountFactors.relativeYearFraction(effectiveStartDate),
-        discountFactors.relativeYearFraction(cds.getProtectionEndDate()),
-        discountFactors.getParameterKeys(),
-        survivalProbabilities.getParameterKeys());
+        discountFactors.relativeYearFraction(cds.getProtectionEndDate()));
+    DoubleArray integrationSchedule = schedule.getPoints();
+    double[] survivalRt = schedule.survivalRt(survivalProbabilities);
     int n = integrationSchedule.size();
     double[] dht = new double[n - 1];
     double[] drt = new double[n - 1];
@@ -684,14 +689,14 @@ public class IsdaCdsProductPricer {
     double[] q = new double[n];
     // pv
     double pv = 0d;
-    double ht0 = survivalProbabilities.zeroRate(integrationSchedule.get(0)) * integrationSchedule.get(0);
-    double rt0 = discountFactors.zeroRate(integrationSchedule.get(0)) * integrationSchedule.get(0);
+    double ht0 = survivalRt[0];
+    double rt0 = schedule.discountRt(0);
     p[0] = Math.exp(-rt0);
     q[0] = Math.exp(-ht0);
     double b0 = p[0] * q[0];
     for (int i = 1; i < n; ++i) {
-      double ht1 = survivalProbabilities.zeroRate(integrationSchedule.get(i)) * integrationSchedule.get(i);
-      double rt1 = discountFactors.zeroRate(integrationSchedule.get(i)) * integrationSchedule.get(i);
+      double ht1 = survivalRt[i];
+      double rt1 = schedule.discountRt(i);
       p[i] = Math.exp(-rt1);
       q[i] = Math.exp(-ht1);
       double b1 = p[i] * q[i];
@@ -772,14 +777,15 @@ public class IsdaCdsProductPricer {
     if (cds.getPaymentOnDefault().isAccruedInterest()) {
       // This is needed so that the code is consistent with ISDA C when the Markit `fix' is used. 
       LocalDate start = cds.getPaymentPeriods().size() == 1 ? effectiveStartDate : cds.getAccrualStartDate();
-      DoubleArray integrationSchedule = DoublesScheduleGenerator.getIntegrationsPoints(
+      IsdaIntegrationSchedule schedule = IsdaIntegrationSchedule.of(
+          discountFactors,
+          survivalProbabilities.getParameterKeys(),
           discountFactors.relativeYearFraction(start),
-          discountFactors.relativeYearFraction(cds.getProtectionEndDate()),
-          discountFactors.getParameterKeys(),
-          survivalProbabilities.getParameterKeys());
+          discountFactors.relativeYearFraction(cds.getProtectionEndDate()));
+      double[] survivalRt = schedule.survivalRt(survivalProbabilities);
       for (CreditCouponPaymentPeriod coupon : cds.getPaymentPeriods()) {
         Pair<Double, PointSensitivityBuilder> pvAndSensi = singlePeriodAccrualOnDefaultSensitivity(
-            coupon, effectiveStartDate, integrationSchedule, discountFactors, survivalProbabilities);
+            coupon, effectiveStartDate, schedule, survivalRt, discountFactors, survivalProbabilities);
         pv += pvAndSensi.getFirst();
         pvSensi = pvSensi.combinedWith(pvAndSensi.getSecond());
       }
@@ -796,7 +802,8 @@ public class IsdaCdsProductPricer {
   private Pair<Double, PointSensitivityBuilder> singlePeriodAccrualOnDefaultSensitivity(
       CreditCouponPaymentPeriod coupon,
       LocalDate effectiveStartDate,
-      DoubleArray integrationSchedule,
+      IsdaIntegrationSchedule schedule,
+      double[] survivalRt,
       CreditDiscountFactors discountFactors,
       LegalEntitySurvivalProbabilities survivalProbabilities) {
 
@@ -806,7 +813,7 @@ public class IsdaCdsProductPricer {
       return Pair.of(0d, PointSensitivityBuilder.none()); //this coupon has already expired
     }
     DoubleArray knots = DoublesScheduleGenerator.truncateSetInclusive(discountFactors.relativeYearFraction(start),
-        discountFactors.relativeYearFraction(coupon.getEffectiveEndDate()), integrationSchedule);
+        discountFactors.relativeYearFraction(coupon.getEffectiveEndDate()), schedule.getPoints());
     // pv
     double pv = 0d;
     final int nItems = knots.size();
@@ -816,8 +823,8 @@ public class IsdaCdsProductPricer {
     double[] p = new double[nItems];
     double[] q = new double[nItems];
     double t = knots.get(0);
-    double ht0 = survivalProbabilities.zeroRate(t) * t;
-    double rt0 = discountFactors.zeroRate(t) * t;
+    double ht0 = schedule.survivalRt(survivalProbabilities, survivalRt, t);
+    double rt0 = schedule.discountRt(discountFactors, t);
     q[0] = Math.exp(-ht0);
     p[0] = Math.exp(-rt0);
     double b0 = q[0] * p[0];
@@ -825,8 +832,8 @@ public class IsdaCdsProductPricer {
     double t0 = t - effStart + omega;
     for (int i = 1; i < nItems; ++i) {
       t = knots.get(i);
-      double ht1 = survivalProbabilities.zeroRate(t) * t;
-      double rt1 = discountFactors.zeroRate(t) * t;
+      double ht1 = schedule.survivalRt(survivalProbabilities, survivalRt, t);
+      double rt1 = schedule.discountRt(discountFactors, t);
       q[i] = Math.exp(-ht1);
       p[i] = Math.exp(-rt1);
       double b1 = q[i] * p[i];
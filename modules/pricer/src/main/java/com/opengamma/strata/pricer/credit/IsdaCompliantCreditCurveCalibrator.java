@@ -6,8 +6,12 @@
 package com.opengamma.strata.pricer.credit;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -21,6 +25,7 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Guavate;
+import com.opengamma.strata.collect.Unchecked;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.tuple.Pair;
@@ -172,6 +177,89 @@ public abstract class IsdaCompliantCreditCurveCalibrator {
         refData);
   }
 
+  /**
+   * Calibrates the ISDA compliant credit curves to the market data.
+   * <p>
+   * This creates a credit curve for each curve definition, as for
+   * {@link #calibrate(IsdaCreditCurveDefinition, MarketData, ImmutableCreditRatesProvider, ReferenceData)}.
+   * The curves are calibrated in turn on the calling thread,
+   * see {@link #calibrateAll(List, MarketData, ImmutableCreditRatesProvider, ReferenceData, Executor)}
+   * to calibrate them in parallel.
+   * Curves sharing the discount curve of {@code ratesProvider} and the same node maturities share
+   * the integration points of the premium and protection legs.
+   * <p>
+   * The relevant discount curves and recovery rate curves must be stored in {@code ratesProvider}.
+   *
+   * @param curveDefinitions  the curve definitions
+   * @param marketData  the market data
+   * @param ratesProvider  the rates provider
+   * @param refData  the reference data
+   * @return the ISDA compliant credit curves, in the order of the curve definitions
+   */
+  public ImmutableList<LegalEntitySurvivalProbabilities> calibrateAll(
+      List<IsdaCreditCurveDefinition> curveDefinitions,
+      MarketData marketData,
+      ImmutableCreditRatesProvider ratesProvider,
+      ReferenceData refData) {
+
+    return calibrateAll(curveDefinitions, marketData, ratesProvider, refData, Runnable::run);
+  }
+
+  /**
+   * Calibrates the ISDA compliant credit curves to the market data using the specified executor.
+   * <p>
+   * This creates a credit curve for each curve definition, as for
+   * {@link #calibrate(IsdaCreditCurveDefinition, MarketData, ImmutableCreditRatesProvider, ReferenceData)}.
+   * The curves are independent, each curve is calibrated by a task submitted to the executor.
+   * The calling thread waits for the tasks in turn, calibrating the curve itself if the executor
+   * has not yet started the task. It is the caller's responsibility to manage the executor.
+   * Curves sharing the discount curve of {@code ratesProvider} and the same node maturities share
+   * the integration points of the premium and protection legs.
+   * <p>
+   * The relevant discount curves and recovery rate curves must be stored in {@code ratesProvider}.
+   * An exception thrown by the calibration of a curve is propagated to the caller.
+   *
+   * @param curveDefinitions  the curve definitions
+   * @param marketData  the market data
+   * @param ratesProvider  the rates provider
+   * @param refData  the reference data
+   * @param executor  the executor used to calibrate each curve
+   * @return the ISDA compliant credit curves, in the order of the curve definitions
+   */
+  public ImmutableList<LegalEntitySurvivalProbabilities> calibrateAll(
+      List<IsdaCreditCurveDefinition> curveDefinitions,
+      MarketData marketData,
+      ImmutableCreditRatesProvider ratesProvider,
+      ReferenceData refData,
+      Executor executor) {
+
+    ArgChecker.noNulls(curveDefinitions, "curveDefinitions");
+    ArgChecker.notNull(executor, "executor");
+    List<FutureTask<LegalEntitySurvivalProbabilities>> tasks = new ArrayList<>(curveDefinitions.size());
+    for (IsdaCreditCurveDefinition curveDefinition : curveDefinitions) {
+      FutureTask<LegalEntitySurvivalProbabilities> task =
+          new FutureTask<>(() -> calibrate(curveDefinition, marketData, ratesProvider, refData));
+      tasks.add(task);
+      executor.execute(task);
+    }
+    return tasks.stream()
+        .map(IsdaCompliantCreditCurveCalibrator::awaitCalibration)
+        .collect(Guavate.toImmutableList());
+  }
+
+  // waits for the calibration, running it on this thread if the executor has not yet started it
+  private static LegalEntitySurvivalProbabilities awaitCalibration(FutureTask<LegalEntitySurvivalProbabilities> task) {
+    task.run();
+    try {
+      return task.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while calibrating credit curves", ex);
+    } catch (ExecutionException ex) {
+      throw Unchecked.propagate(ex.getCause());
+    }
+  }
+
   LegalEntitySurvivalProbabilities calibrate(
       List<CdsIsdaCreditCurveNode> curveNodes,
       CurveName name,
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.credit;
+
+import java.util.Arrays;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.collect.tuple.Triple;
+
+/**
+ * The integration schedule of the protection leg and the accrual on default of a CDS.
+ * <p>
+ * The integration points are the knots of the discount curve and the credit curve within a window,
+ * see {@link DoublesScheduleGenerator#getIntegrationsPoints(double, double, DoubleArray, DoubleArray)}.
+ * The zero rate multiplied by time is computed once for each point,
+ * for the discount curve and for each credit curve the schedule is used with.
+ * <p>
+ * The schedules are cached, keyed by the discount factors, the knots of the credit curve and the window.
+ * The values for each credit curve are cached, keyed by the schedule and the credit curve.
+ * The discount factors and credit curves are compared by value, as the calculation engine creates
+ * new instances for each trade. CDSs with the same protection window priced on the same discount curve,
+ * such as the constituents of an index and their hedges, thus share the schedule.
+ * Both caches are limited in size.
+ * <p>
+ * The schedule does not refer to the discount factors or the credit curves,
+ * which must be supplied when a point is not part of the schedule.
+ */
+final class IsdaIntegrationSchedule {
+
+  /**
+   * The maximum number of cached schedules.
+   */
+  private static final int MAX_SCHEDULES = 1000;
+  /**
+   * The maximum number of cached credit curve values, across all schedules.
+   */
+  private static final int MAX_SURVIVAL_VALUES = 10000;
+  /**
+   * The schedules, keyed by the discount factors, then by the credit curve knots and the window.
+   */
+  private static final Cache<Pair<CreditDiscountFactors, Triple<DoubleArray, Double, Double>>, IsdaIntegrationSchedule>
+      CACHE = CacheBuilder.newBuilder().maximumSize(MAX_SCHEDULES).build();
+  /**
+   * The credit curve zero rate multiplied by time at each point, keyed by the schedule and the credit curve.
+   */
+  private static final Cache<Pair<IsdaIntegrationSchedule, CreditDiscountFactors>, double[]> SURVIVAL_CACHE =
+      CacheBuilder.newBuilder().maximumSize(MAX_SURVIVAL_VALUES).build();
+
+  /**
+   * The integration points.
+   */
+  private final DoubleArray points;
+  /**
+   * The discount curve zero rate multiplied by time at each point.
+   */
+  private final double[] discountRt;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the schedule for the window, from the cache if available.
+   *
+   * @param discountFactors  the discount factors
+   * @param creditCurveKnots  the knots of the credit curve
+   * @param start  the start of the window, as a relative year fraction
+   * @param end  the end of the window, as a relative year fraction
+   * @return the schedule
+   */
+  static IsdaIntegrationSchedule of(
+      CreditDiscountFactors discountFactors,
+      DoubleArray creditCurveKnots,
+      double start,
+      double end) {
+
+    Pair<CreditDiscountFactors, Triple<DoubleArray, Double, Double>> key =
+        Pair.of(discountFactors, Triple.of(creditCurveKnots, start, end));
+    IsdaIntegrationSchedule cached = CACHE.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    IsdaIntegrationSchedule created = create(discountFactors, creditCurveKnots, start, end);
+    IsdaIntegrationSchedule existing = CACHE.asMap().putIfAbsent(key, created);
+    return existing != null ? existing : created;
+  }
+
+  /**
+   * Gets the number of cached schedules and credit curve values, for testing.
+   *
+   * @return the number of cache entries
+   */
+  static long cacheSize() {
+    return CACHE.size() + SURVIVAL_CACHE.size();
+  }
+
+  // creates the schedule
+  private static IsdaIntegrationSchedule create(
+      CreditDiscountFactors discountFactors,
+      DoubleArray creditCurveKnots,
+      double start,
+      double end) {
+
+    DoubleArray points = DoublesScheduleGenerator.getIntegrationsPoints(
+        start, end, discountFactors.getParameterKeys(), creditCurveKnots);
+    double[] discountRt = new double[points.size()];
+    for (int i = 0; i < discountRt.length; i++) {
+      discountRt[i] = discountFactors.zeroRate(points.get(i)) * points.get(i);
+    }
+    return new IsdaIntegrationSchedule(points, discountRt);
+  }
+
+  // restricted constructor
+  private IsdaIntegrationSchedule(DoubleArray points, double[] discountRt) {
+    this.points = points;
+    this.discountRt = discountRt;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the integration points.
+   *
+   * @return the points
+   */
+  DoubleArray getPoints() {
+    return points;
+  }
+
+  /**
+   * Gets the number of integration points.
+   *
+   * @return the number of points
+   */
+  int size() {
+    return discountRt.length;
+  }
+
+  /**
+   * Gets the discount curve zero rate multiplied by time at the point of the specified index.
+   *
+   * @param index  the index of the point
+   * @return the zero rate multiplied by time
+   */
+  double discountRt(int index) {
+    return discountRt[index];
+  }
+
+  /**
+   * Calculates the discount curve zero rate multiplied by time at the specified time.
+   * <p>
+   * The stored value is used if the time is one of the points.
+   *
+   * @param discountFactors  the discount factors used to create the schedule
+   * @param time  the time
+   * @return the zero rate multiplied by time
+   */
+  double discountRt(CreditDiscountFactors discountFactors, double time) {
+    int index = Arrays.binarySearch(points.toArrayUnsafe(), time);
+    return index >= 0 ? discountRt[index] : discountFactors.zeroRate(time) * time;
+  }
+
+  /**
+   * Obtains the credit curve zero rate multiplied by time at each point.
+   * <p>
+   * The values are computed once for each credit curve. The array must not be modified.
+   *
+   * @param survivalProbabilities  the survival probabilities
+   * @return the zero rate multiplied by time at each point
+   */
+  double[] survivalRt(LegalEntitySurvivalProbabilities survivalProbabilities) {
+    CreditDiscountFactors creditCurve = survivalProbabilities.getSurvivalProbabilities();
+    Pair<IsdaIntegrationSchedule, CreditDiscountFactors> key = Pair.of(this, creditCurve);
+    double[] cached = SURVIVAL_CACHE.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    double[] rt = new double[points.size()];
+    for (int i = 0; i < rt.length; i++) {
+      rt[i] = creditCurve.zeroRate(points.get(i)) * points.get(i);
+    }
+    double[] existing = SURVIVAL_CACHE.asMap().putIfAbsent(key, rt);
+    return existing != null ? existing : rt;
+  }
+
+  /**
+   * Calculates the credit curve zero rate multiplied by time at the specified time.
+   * <p>
+   * The value obtained from {@link #survivalRt(LegalEntitySurvivalProbabilities)} is used if the time is
+   * one of the points.
+   *
+   * @param survivalProbabilities  the survival probabilities
+   * @param survivalRt  the zero rate multiplied by time at each point, for the survival probabilities
+   * @param time  the time
+   * @return the zero rate multiplied by time
+   */
+  double survivalRt(LegalEntitySurvivalProbabilities survivalProbabilities, double[] survivalRt, double time) {
+    int index = Arrays.binarySearch(points.toArrayUnsafe(), time);
+    return index >= 0 ? survivalRt[index] : survivalProbabilities.zeroRate(time) * time;
+  }
+
+}
@@ -9,8 +9,18 @@ import static com.opengamma.strata.collect.Guavate.filtering;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import com.google.common.collect.ImmutableList;
@@ -23,12 +33,18 @@ import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataFxRateProvider;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveDefinition;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
 import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
@@ -216,14 +232,104 @@ public final class RatesCurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
+  }
+
+  /**
+   * Calibrates a single curve group for multiple scenarios, using an executor to calibrate scenarios concurrently.
+   * <p>
+   * This is intended for calibrating many sets of perturbed market data, such as for historical VaR.
+   * Each scenario is calibrated as per {@link #calibrate(RatesCurveGroupDefinition, MarketData, ReferenceData)}.
+   * <p>
+   * The root-finder for each scenario is started from the parameters of the curves in the base provider,
+   * typically the result of calibrating the unperturbed market data. Where the perturbation is small
+   * this is much closer to the solution than the initial guess of the curve definition, requiring fewer steps.
+   * If the base provider does not contain a matching curve the initial guess of the curve definition is used.
+   * <p>
+   * The definition bound to the time-series is shared by all scenarios with the same valuation date and time-series.
+   * The calling thread also calibrates scenarios, thus it is safe to call this method from a task
+   * running on the same executor.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param baseProvider  the calibrated provider used as the starting point for each scenario
+   * @param scenarioMarketData  the market data for each scenario, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @param executor  the executor used to calibrate scenarios concurrently
+   * @return the rates providers resulting from the calibration, one for each scenario
+   */
+  public List<ImmutableRatesProvider> calibrateScenarios(
+      RatesCurveGroupDefinition curveGroupDefn,
+      ImmutableRatesProvider baseProvider,
+      List<? extends MarketData> scenarioMarketData,
+      ReferenceData refData,
+      Executor executor) {
+
+    ArgChecker.notNull(curveGroupDefn, "curveGroupDefn");
+    ArgChecker.notNull(baseProvider, "baseProvider");
+    ArgChecker.notNull(scenarioMarketData, "scenarioMarketData");
+    ArgChecker.notNull(refData, "refData");
+    ArgChecker.notNull(executor, "executor");
+    int scenarioCount = scenarioMarketData.size();
+
+    // setup on the calling thread, binding the time-series once for each distinct valuation date and time-series
+    List<ImmutableRatesProvider> knownData = new ArrayList<>(scenarioCount);
+    List<ImmutableList<RatesCurveGroupDefinition>> boundDefns = new ArrayList<>(scenarioCount);
+    Map<Pair<LocalDate, Map<Index, LocalDateDoubleTimeSeries>>, ImmutableList<RatesCurveGroupDefinition>> bindings =
+        new HashMap<>();
+    for (MarketData marketData : scenarioMarketData) {
+      ImmutableRatesProvider scenarioKnownData = knownData(marketData);
+      knownData.add(scenarioKnownData);
+      boundDefns.add(bindings.computeIfAbsent(
+          Pair.of(scenarioKnownData.getValuationDate(), scenarioKnownData.getTimeSeries()),
+          key -> ImmutableList.of(curveGroupDefn.bindTimeSeries(key.getFirst(), key.getSecond()))));
+    }
+
+    // calibrate, with the calling thread and the executor taking the next scenario until all are complete
+    ImmutableRatesProvider[] results = new ImmutableRatesProvider[scenarioCount];
+    AtomicInteger nextScenario = new AtomicInteger();
+    CountDownLatch completed = new CountDownLatch(scenarioCount);
+    AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    Runnable worker = () -> {
+      for (int i = nextScenario.getAndIncrement(); i < scenarioCount; i = nextScenario.getAndIncrement()) {
+        try {
+          if (failure.get() == null) {
+            results[i] = calibrateBound(
+                boundDefns.get(i), knownData.get(i), scenarioMarketData.get(i), refData, baseProvider::findData, null);
+          }
+        } catch (RuntimeException ex) {
+          failure.compareAndSet(null, ex);
+        } finally {
+          completed.countDown();
+        }
+      }
+    };
+    int helperCount = Math.min(scenarioCount, Runtime.getRuntime().availableProcessors()) - 1;
+    for (int i = 0; i < helperCount; i++) {
+      executor.execute(worker);
+    }
+    worker.run();
+    try {
+      completed.await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while calibrating scenarios", ex);
+    }
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+    return ImmutableList.copyOf(results);
+  }
+
+  // creates the known data from the market data, containing the FX rates and index time-series
+  private static ImmutableRatesProvider knownData(MarketData marketData) {
     Map<Index, LocalDateDoubleTimeSeries> timeSeries = marketData.getTimeSeriesIds().stream()
         .flatMap(filtering(IndexQuoteId.class))
         .collect(toImmutableMap(id -> id.getIndex(), id -> marketData.getTimeSeries(id)));
-    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(marketData.getValuationDate())
+    return ImmutableRatesProvider.builder(marketData.getValuationDate())
         .fxRateProvider(MarketDataFxRateProvider.of(marketData))
         .timeSeries(timeSeries)
         .build();
-    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
   }
 
   /**
@@ -249,6 +355,102 @@ public final class RatesCurveCalibrator {
     // this method effectively takes one CurveGroupDefinition
     // the list is a split of the definition, not multiple independent definitions
 
+    List<RatesCurveGroupDefinition> boundDefns = allGroupDefns.stream()
+        .map(groupDefn -> groupDefn.bindTimeSeries(knownData.getValuationDate(), knownData.getTimeSeries()))
+        .collect(toImmutableList());
+    return calibrateBound(boundDefns, knownData, marketData, refData, null, null);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Recalibrates a single curve group following a change to some of the market data.
+   * <p>
+   * This is intended for republishing curves as quotes tick intraday.
+   * The previous group must have been calibrated from the same definition and valuation date,
+   * using this calibrator, with the changes to the market data restricted to the specified identifiers.
+   * <p>
+   * If none of the nodes of the group depend on the changed identifiers, the previous curves are returned.
+   * Otherwise, the root-finder is started from the parameters of the previous curves.
+   * Where the previous curves contain {@linkplain CurveInfoType#JACOBIAN Jacobian} information, it is
+   * inverted to provide the initial Jacobian estimate, avoiding the first full derivative calculation.
+   * <p>
+   * The result is the same as {@link #calibrate(RatesCurveGroupDefinition, MarketData, ReferenceData)}
+   * within the tolerance of the root-finder.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param previousGroup  the curve group previously calibrated from the definition
+   * @param marketData  the current market data required to build a trade for the instrument, including time-series
+   * @param changedIds  the identifiers of the market data that has changed since the previous calibration
+   * @param refData  the reference data, used to resolve the trades
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider recalibrate(
+      RatesCurveGroupDefinition curveGroupDefn,
+      RatesCurveGroup previousGroup,
+      MarketData marketData,
+      Set<? extends MarketDataId<?>> changedIds,
+      ReferenceData refData) {
+
+    ArgChecker.notNull(previousGroup, "previousGroup");
+    ImmutableRatesProvider knownData = knownData(marketData);
+    RatesCurveGroupDefinition boundDefn =
+        curveGroupDefn.bindTimeSeries(knownData.getValuationDate(), knownData.getTimeSeries());
+    return calibrateBound(
+        ImmutableList.of(boundDefn), knownData, marketData, refData, previousGroup::findCurve, changedIds);
+  }
+
+  /**
+   * Recalibrates a list of curve groups following a change to some of the market data.
+   * <p>
+   * This is intended for republishing curves as quotes tick intraday.
+   * The previous provider must have been the result of calibrating the same list of groups, with the same
+   * valuation date and known data, using this calibrator.
+   * The changes to the market data must be restricted to the specified identifiers.
+   * <p>
+   * The groups are processed in order. Each group whose nodes do not depend on the changed identifiers
+   * reuses the previous curves, until the first group that does depend on them.
+   * That group, and all groups after it, are solved again, as they depend on the curves of earlier groups.
+   * Each group that is solved again starts the root-finder from the parameters of the previous curves.
+   * Where the previous curves contain {@linkplain CurveInfoType#JACOBIAN Jacobian} information, it is
+   * inverted to provide the initial Jacobian estimate, avoiding the first full derivative calculation.
+   * <p>
+   * The result is the same as {@link #calibrate(List, ImmutableRatesProvider, MarketData, ReferenceData)}
+   * within the tolerance of the root-finder.
+   *
+   * @param allGroupDefns  the curve group definitions
+   * @param previousProvider  the rates provider previously calibrated from the definitions
+   * @param knownData  the starting data for the calibration
+   * @param marketData  the current market data required to build a trade for the instrument
+   * @param changedIds  the identifiers of the market data that has changed since the previous calibration
+   * @param refData  the reference data, used to resolve the trades
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider recalibrate(
+      List<RatesCurveGroupDefinition> allGroupDefns,
+      ImmutableRatesProvider previousProvider,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      Set<? extends MarketDataId<?>> changedIds,
+      ReferenceData refData) {
+
+    ArgChecker.notNull(previousProvider, "previousProvider");
+    List<RatesCurveGroupDefinition> boundDefns = allGroupDefns.stream()
+        .map(groupDefn -> groupDefn.bindTimeSeries(knownData.getValuationDate(), knownData.getTimeSeries()))
+        .collect(toImmutableList());
+    return calibrateBound(boundDefns, knownData, marketData, refData, previousProvider::findData, changedIds);
+  }
+
+  // calibrates groups that have already been bound to the time-series
+  // the previous curves are optional, and are used to obtain the initial guesses and Jacobian estimates
+  // the changed identifiers are optional, and are used to reuse previous curves until a group depends on a change
+  private ImmutableRatesProvider calibrateBound(
+      List<RatesCurveGroupDefinition> allGroupDefnsBound,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      Function<CurveName, Optional<Curve>> previousCurves,
+      Set<? extends MarketDataId<?>> changedIds) {
+
     if (!knownData.getValuationDate().equals(marketData.getValuationDate())) {
       throw new IllegalArgumentException(Messages.format(
           "Valuation dates do not match: {} and {}", knownData.getValuationDate(), marketData.getValuationDate()));
@@ -257,24 +459,42 @@ public final class RatesCurveCalibrator {
     ImmutableRatesProvider providerCombined = knownData;
     ImmutableList<CurveParameterSize> orderPrev = ImmutableList.of();
     ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians = ImmutableMap.of();
-    for (RatesCurveGroupDefinition groupDefn : allGroupDefns) {
-      if (groupDefn.getEntries().isEmpty()) {
+    boolean reusePrevious = changedIds != null;
+    for (RatesCurveGroupDefinition groupDefnBound : allGroupDefnsBound) {
+      if (groupDefnBound.getEntries().isEmpty()) {
         continue;
       }
-      RatesCurveGroupDefinition groupDefnBound =
-          groupDefn.bindTimeSeries(knownData.getValuationDate(), knownData.getTimeSeries());
-      // combine all data in the group into flat lists
-      ImmutableList<ResolvedTrade> trades = groupDefnBound.resolvedTrades(marketData, refData);
-      ImmutableList<Double> initialGuesses = groupDefnBound.initialGuesses(marketData);
       ImmutableList<CurveParameterSize> orderGroup = toOrder(groupDefnBound);
       ImmutableList<CurveParameterSize> orderPrevAndGroup = ImmutableList.<CurveParameterSize>builder()
           .addAll(orderPrev)
           .addAll(orderGroup)
           .build();
+      RatesProviderGenerator providerGenerator = ImmutableRatesProviderGenerator.of(providerCombined, groupDefnBound, refData);
+
+      // reuse the previous curves if neither this group nor any earlier group is affected by the changes
+      reusePrevious = reusePrevious && !dependsOn(groupDefnBound, changedIds);
+      Optional<List<Curve>> previousGroupCurves = previousCurves(groupDefnBound, previousCurves);
+      if (reusePrevious && previousGroupCurves.isPresent()) {
+        jacobians = addPreviousJacobians(previousGroupCurves.get(), jacobians);
+        orderPrev = orderPrevAndGroup;
+        providerCombined = providerGenerator.generate(
+            previousParameters(previousGroupCurves.get()),
+            jacobians,
+            previousSensitivityToMarketQuote(previousGroupCurves.get()));
+        continue;
+      }
+      reusePrevious = false;
+
+      // combine all data in the group into flat lists
+      ImmutableList<ResolvedTrade> trades = groupDefnBound.resolvedTrades(marketData, refData);
+      ImmutableList<Double> initialGuesses = initialGuesses(groupDefnBound, marketData, previousCurves);
+      DoubleMatrix initialJacobian = previousGroupCurves
+          .flatMap(curves -> previousDerivative(curves, orderGroup))
+          .orElse(null);
 
       // calibrate
-      RatesProviderGenerator providerGenerator = ImmutableRatesProviderGenerator.of(providerCombined, groupDefnBound, refData);
-      DoubleArray calibratedGroupParams = calibrateGroup(providerGenerator, trades, initialGuesses, orderGroup);
+      DoubleArray calibratedGroupParams =
+          calibrateGroup(providerGenerator, trades, initialGuesses, initialJacobian, orderGroup);
       ImmutableRatesProvider calibratedProvider = providerGenerator.generate(calibratedGroupParams);
 
       // use calibration to build Jacobian matrices
@@ -296,6 +516,141 @@ public final class RatesCurveCalibrator {
     return providerCombined;
   }
 
+  // obtains the initial guesses, using the parameters of the matching previous curve if possible
+  private static ImmutableList<Double> initialGuesses(
+      RatesCurveGroupDefinition groupDefn,
+      MarketData marketData,
+      Function<CurveName, Optional<Curve>> previousCurves) {
+
+    if (previousCurves == null) {
+      return groupDefn.initialGuesses(marketData);
+    }
+    ImmutableList.Builder<Double> result = ImmutableList.builder();
+    for (CurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      Optional<Curve> previous = previousCurves.apply(curveDefn.getName());
+      if (previous.isPresent() && previous.get().getParameterCount() == curveDefn.getParameterCount()) {
+        Curve curve = previous.get();
+        for (int i = 0; i < curve.getParameterCount(); i++) {
+          result.add(curve.getParameter(i));
+        }
+      } else {
+        result.addAll(curveDefn.initialGuess(marketData));
+      }
+    }
+    return result.build();
+  }
+
+  // checks if any node of the group depends on the changed market data
+  private static boolean dependsOn(RatesCurveGroupDefinition groupDefn, Set<? extends MarketDataId<?>> changedIds) {
+    return groupDefn.getCurveDefinitions().stream()
+        .flatMap(curveDefn -> curveDefn.getNodes().stream())
+        .flatMap(node -> node.requirements().stream())
+        .anyMatch(changedIds::contains);
+  }
+
+  // finds the previous curves for the group, empty if any curve is missing or has a different parameter count
+  private static Optional<List<Curve>> previousCurves(
+      RatesCurveGroupDefinition groupDefn,
+      Function<CurveName, Optional<Curve>> previousCurves) {
+
+    if (previousCurves == null) {
+      return Optional.empty();
+    }
+    List<Curve> result = new ArrayList<>();
+    for (CurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      Optional<Curve> previous = previousCurves.apply(curveDefn.getName());
+      if (!previous.isPresent() || previous.get().getParameterCount() != curveDefn.getParameterCount()) {
+        return Optional.empty();
+      }
+      result.add(previous.get());
+    }
+    return Optional.of(result);
+  }
+
+  // the combined parameters of the previous curves
+  private static DoubleArray previousParameters(List<Curve> curves) {
+    DoubleArray result = DoubleArray.EMPTY;
+    for (Curve curve : curves) {
+      result = result.concat(DoubleArray.of(curve.getParameterCount(), i -> curve.getParameter(i)));
+    }
+    return result;
+  }
+
+  // adds the Jacobians of the previous curves, needed to compute the Jacobians of later groups
+  private static ImmutableMap<CurveName, JacobianCalibrationMatrix> addPreviousJacobians(
+      List<Curve> curves,
+      ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians) {
+
+    Map<CurveName, JacobianCalibrationMatrix> result = new HashMap<>(jacobians);
+    for (Curve curve : curves) {
+      curve.getMetadata().findInfo(CurveInfoType.JACOBIAN)
+          .ifPresent(jacobian -> result.put(curve.getName(), jacobian));
+    }
+    return ImmutableMap.copyOf(result);
+  }
+
+  // the present value sensitivity to market quotes of the previous curves
+  private static ImmutableMap<CurveName, DoubleArray> previousSensitivityToMarketQuote(List<Curve> curves) {
+    ImmutableMap.Builder<CurveName, DoubleArray> result = ImmutableMap.builder();
+    for (Curve curve : curves) {
+      curve.getMetadata().findInfo(CurveInfoType.PV_SENSITIVITY_TO_MARKET_QUOTE)
+          .ifPresent(sensitivity -> result.put(curve.getName(), sensitivity));
+    }
+    return result.build();
+  }
+
+  // derivative of the calibration measures with respect to the group parameters at the previous solution
+  // the previous Jacobians hold the inverse of this derivative in the columns relating to the group
+  private static Optional<DoubleMatrix> previousDerivative(
+      List<Curve> curves,
+      ImmutableList<CurveParameterSize> orderGroup) {
+
+    int totalParamsGroup = orderGroup.stream().mapToInt(e -> e.getParameterCount()).sum();
+    double[][] inverse = new double[totalParamsGroup][];
+    int row = 0;
+    for (Curve curve : curves) {
+      Optional<JacobianCalibrationMatrix> jacobian = curve.getMetadata().findInfo(CurveInfoType.JACOBIAN);
+      if (!jacobian.isPresent()) {
+        return Optional.empty();
+      }
+      Optional<int[]> columns = groupColumns(jacobian.get().getOrder(), orderGroup);
+      if (!columns.isPresent()) {
+        return Optional.empty();
+      }
+      DoubleMatrix matrix = jacobian.get().getJacobianMatrix();
+      for (int p = 0; p < curve.getParameterCount(); p++) {
+        double[] rowValues = matrix.rowArray(p);
+        inverse[row++] = Arrays.stream(columns.get()).mapToDouble(c -> rowValues[c]).toArray();
+      }
+    }
+    return Optional.of(MATRIX_ALGEBRA.getInverse(DoubleMatrix.ofUnsafe(inverse)));
+  }
+
+  // the column index in the Jacobian of each group parameter, empty if a curve is missing or a different size
+  private static Optional<int[]> groupColumns(
+      List<CurveParameterSize> jacobianOrder,
+      ImmutableList<CurveParameterSize> orderGroup) {
+
+    Map<CurveParameterSize, Integer> startIndices = new HashMap<>();
+    int start = 0;
+    for (CurveParameterSize order : jacobianOrder) {
+      startIndices.put(order, start);
+      start += order.getParameterCount();
+    }
+    int[] columns = new int[orderGroup.stream().mapToInt(e -> e.getParameterCount()).sum()];
+    int index = 0;
+    for (CurveParameterSize order : orderGroup) {
+      Integer startIndex = startIndices.get(order);
+      if (startIndex == null) {
+        return Optional.empty();
+      }
+      for (int p = 0; p < order.getParameterCount(); p++) {
+        columns[index++] = startIndex + p;
+      }
+    }
+    return Optional.of(columns);
+  }
+
   //-------------------------------------------------------------------------
   // converts a definition to the curve order list
   private static ImmutableList<CurveParameterSize> toOrder(RatesCurveGroupDefinition groupDefn) {
@@ -308,12 +663,16 @@ public final class RatesCurveCalibrator {
       RatesProviderGenerator providerGenerator,
       ImmutableList<ResolvedTrade> trades,
       ImmutableList<Double> initialGuesses,
+      DoubleMatrix initialJacobian,
       ImmutableList<CurveParameterSize> curveOrder) {
 
     // setup for calibration
     Function<DoubleArray, DoubleArray> valueCalculator = new CalibrationValue(trades, measures, providerGenerator);
     Function<DoubleArray, DoubleMatrix> derivativeCalculator =
         new CalibrationDerivative(trades, measures, providerGenerator, curveOrder);
+    if (initialJacobian != null) {
+      derivativeCalculator = new InitialJacobian(initialJacobian, derivativeCalculator);
+    }
 
     // calibrate
     DoubleArray initialGuess = DoubleArray.copyOf(initialGuesses);
@@ -474,4 +833,27 @@ public final class RatesCurveCalibrator {
     return Messages.format("CurveCalibrator[{}]", measures);
   }
 
+  //-------------------------------------------------------------------------
+  // provides a known Jacobian for the start position, delegating for all subsequent positions
+  // the root-finder requests the Jacobian of the start position first, and only recalculates periodically
+  private static final class InitialJacobian implements Function<DoubleArray, DoubleMatrix> {
+    private final DoubleMatrix initialJacobian;
+    private final Function<DoubleArray, DoubleMatrix> underlying;
+    private boolean used;
+
+    private InitialJacobian(DoubleMatrix initialJacobian, Function<DoubleArray, DoubleMatrix> underlying) {
+      this.initialJacobian = initialJacobian;
+      this.underlying = underlying;
+    }
+
+    @Override
+    public DoubleMatrix apply(DoubleArray parameters) {
+      if (used) {
+        return underlying.apply(parameters);
+      }
+      used = true;
+      return initialJacobian;
+    }
+  }
+
 }
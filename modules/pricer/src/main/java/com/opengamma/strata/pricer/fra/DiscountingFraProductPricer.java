@@ -17,6 +17,8 @@ import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
@@ -98,6 +100,42 @@ public class DiscountingFraProductPricer {
     return iborSens.withCurrency(fra.getCurrency()).combinedWith(discSens).build();
   }
 
+  /**
+   * Calculates the present value parameter sensitivity of the FRA product.
+   * <p>
+   * The present value parameter sensitivity of the product is the sensitivity of the present value to
+   * the parameters of the underlying curves.
+   * <p>
+   * The result is the same as projecting {@link #presentValueSensitivity(ResolvedFra, RatesProvider)}
+   * onto the curve parameters using {@link RatesProvider#parameterSensitivity(PointSensitivities)}.
+   * However, the present value is differentiated in a single backward sweep, adding directly
+   * to the parameter sensitivity rather than combining point sensitivities.
+   * 
+   * @param fra  the product
+   * @param provider  the rates provider
+   * @return the present value parameter sensitivity of the product
+   */
+  public CurrencyParameterSensitivities presentValueParameterSensitivity(ResolvedFra fra, RatesProvider provider) {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    if (fra.getPaymentDate().isBefore(provider.getValuationDate())) {
+      return accumulator.build();
+    }
+    DiscountFactors discountFactors = provider.discountFactors(fra.getCurrency());
+    double df = discountFactors.discountFactor(fra.getPaymentDate());
+    double notional = fra.getNotional();
+    double unitAmount = unitAmount(fra, provider);
+    double derivative = derivative(fra, provider);
+    // backward sweep
+    double unitAmountBar = df * notional;
+    double dfBar = unitAmount * notional;
+    double forwardRateBar = derivative * unitAmountBar;
+    PointSensitivityBuilder forwardSens = forwardRateSensitivity(fra, provider).withCurrency(fra.getCurrency());
+    provider.parameterSensitivity(forwardSens.multipliedBy(forwardRateBar).build(), accumulator);
+    discountFactors.parameterSensitivity(
+        discountFactors.zeroRatePointSensitivity(fra.getPaymentDate()).multipliedBy(dfBar), accumulator);
+    return accumulator.build();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the forecast value of the FRA product.
@@ -10,6 +10,7 @@ import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainMap;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.fra.ResolvedFra;
@@ -96,6 +97,23 @@ public class DiscountingFraTradePricer {
     return productPricer.presentValueSensitivity(trade.getProduct(), provider);
   }
 
+  /**
+   * Calculates the present value parameter sensitivity of the FRA trade.
+   * <p>
+   * The present value parameter sensitivity of the trade is the sensitivity of the present value to
+   * the parameters of the underlying curves.
+   * <p>
+   * The result is the same as projecting {@link #presentValueSensitivity(ResolvedFraTrade, RatesProvider)}
+   * onto the curve parameters, but is calculated without combining point sensitivities.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @return the present value parameter sensitivity of the trade
+   */
+  public CurrencyParameterSensitivities presentValueParameterSensitivity(ResolvedFraTrade trade, RatesProvider provider) {
+    return productPricer.presentValueParameterSensitivity(trade.getProduct(), provider);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the forecast value of the FRA trade.
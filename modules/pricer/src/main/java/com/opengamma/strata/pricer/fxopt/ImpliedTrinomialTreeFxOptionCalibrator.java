@@ -5,9 +5,11 @@
  */
 package com.opengamma.strata.pricer.fxopt;
 
+import java.util.Objects;
 import java.util.function.Function;
 
-import com.opengamma.strata.basics.currency.Currency;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.tuple.DoublesPair;
@@ -18,13 +20,29 @@ import com.opengamma.strata.product.fxopt.ResolvedFxVanillaOption;
 
 /**
  * Utilities to calibrate implied trinomial tree to Black volatilities of FX options.
+ * <p>
+ * The calibrated trees are cached, keyed by the data used in the calibration, being the FX rate,
+ * the discount factors of both currencies and the volatilities, compared by value.
+ * Options on the same currency pair and expiry thus share the same tree, even if each option is priced
+ * using a different instance of the rates provider, as is the case in the calculation engine.
+ * The cache only holds results that are fully determined by the key, and is limited in size.
  */
 public class ImpliedTrinomialTreeFxOptionCalibrator {
 
+  /**
+   * The maximum number of cached trees.
+   */
+  private static final int MAX_CACHED_TREES = 1000;
+
   /**
    * Number of time steps.
    */
   private final int nSteps;
+  /**
+   * The calibrated trees, keyed by the calibration data.
+   */
+  private final Cache<TreeKey, RecombiningTrinomialTreeData> treeCache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TREES).build();
 
   /**
    * Calibrator with the specified number of time steps.
@@ -73,6 +91,9 @@ public class ImpliedTrinomialTreeFxOptionCalibrator {
    * <p>
    * {@code timeToExpiry} determines the coverage of the resulting trinomial tree.
    * Thus this should match the time to expiry of the target instrument to price using the calibrated tree.
+   * <p>
+   * The tree is only calibrated once for the same inputs, with the FX rate, discount factors
+   * and volatilities compared by value.
    * 
    * @param timeToExpiry  the time to expiry
    * @param currencyPair  the currency pair
@@ -90,11 +111,31 @@ public class ImpliedTrinomialTreeFxOptionCalibrator {
     if (timeToExpiry <= 0d) {
       throw new IllegalArgumentException("option expired");
     }
-    Currency ccyBase = currencyPair.getBase();
-    Currency ccyCounter = currencyPair.getCounter();
-    double todayFx = ratesProvider.fxRate(currencyPair);
-    DiscountFactors baseDiscountFactors = ratesProvider.discountFactors(ccyBase);
-    DiscountFactors counterDiscountFactors = ratesProvider.discountFactors(ccyCounter);
+    TreeKey key = new TreeKey(
+        timeToExpiry,
+        currencyPair,
+        ratesProvider.fxRate(currencyPair),
+        ratesProvider.discountFactors(currencyPair.getBase()),
+        ratesProvider.discountFactors(currencyPair.getCounter()),
+        volatilities);
+    RecombiningTrinomialTreeData cached = treeCache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    // calibrated outside any lock, a tree calibrated concurrently for the same key is discarded
+    RecombiningTrinomialTreeData calibrated = calibrate(key);
+    RecombiningTrinomialTreeData existing = treeCache.asMap().putIfAbsent(key, calibrated);
+    return existing != null ? existing : calibrated;
+  }
+
+  // calibrates the tree
+  private RecombiningTrinomialTreeData calibrate(TreeKey key) {
+    double timeToExpiry = key.timeToExpiry;
+    CurrencyPair currencyPair = key.currencyPair;
+    double todayFx = key.fxRate;
+    DiscountFactors baseDiscountFactors = key.baseDiscountFactors;
+    DiscountFactors counterDiscountFactors = key.counterDiscountFactors;
+    BlackFxOptionVolatilities volatilities = key.volatilities;
     Function<Double, Double> interestRate = new Function<Double, Double>() {
       @Override
       public Double apply(Double t) {
@@ -131,4 +172,58 @@ public class ImpliedTrinomialTreeFxOptionCalibrator {
         "Volatility and rate data must be for the same date");
   }
 
+  //-------------------------------------------------------------------------
+  // the data determining the calibrated tree, compared by value
+  private static final class TreeKey {
+    private final double timeToExpiry;
+    private final CurrencyPair currencyPair;
+    private final double fxRate;
+    private final DiscountFactors baseDiscountFactors;
+    private final DiscountFactors counterDiscountFactors;
+    private final BlackFxOptionVolatilities volatilities;
+    private final int hashCode;
+
+    private TreeKey(
+        double timeToExpiry,
+        CurrencyPair currencyPair,
+        double fxRate,
+        DiscountFactors baseDiscountFactors,
+        DiscountFactors counterDiscountFactors,
+        BlackFxOptionVolatilities volatilities) {
+
+      this.timeToExpiry = timeToExpiry;
+      this.currencyPair = currencyPair;
+      this.fxRate = fxRate;
+      this.baseDiscountFactors = baseDiscountFactors;
+      this.counterDiscountFactors = counterDiscountFactors;
+      this.volatilities = volatilities;
+      // the hash code of the curves and volatilities is only computed once
+      this.hashCode = Objects.hash(
+          timeToExpiry, currencyPair, fxRate, baseDiscountFactors, counterDiscountFactors, volatilities);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof TreeKey)) {
+        return false;
+      }
+      TreeKey other = (TreeKey) obj;
+      return hashCode == other.hashCode &&
+          Double.compare(timeToExpiry, other.timeToExpiry) == 0 &&
+          Double.compare(fxRate, other.fxRate) == 0 &&
+          currencyPair.equals(other.currencyPair) &&
+          baseDiscountFactors.equals(other.baseDiscountFactors) &&
+          counterDiscountFactors.equals(other.counterDiscountFactors) &&
+          volatilities.equals(other.volatilities);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
 }
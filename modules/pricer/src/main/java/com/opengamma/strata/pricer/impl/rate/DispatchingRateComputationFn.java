@@ -10,6 +10,7 @@ import java.time.LocalDate;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.math.MathException;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
@@ -269,6 +270,60 @@ public class DispatchingRateComputationFn
     }
   }
 
+  @Override
+  public void rateParameterSensitivity(
+      RateComputation computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      double rateBar,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    // dispatch by runtime type
+    if (computation instanceof FixedRateComputation) {
+      // inline code (performance) avoiding need for FixedRateComputationFn implementation
+      return;
+    } else if (computation instanceof FixedOvernightCompoundedAnnualRateComputation) {
+      // inline code (performance) avoiding need for FixedRateComputationFn implementation
+      return;
+    } else if (computation instanceof IborRateComputation) {
+      iborRateComputationFn.rateParameterSensitivity(
+          (IborRateComputation) computation, startDate, endDate, provider, rateBar, accumulator);
+    } else if (computation instanceof IborInterpolatedRateComputation) {
+      iborInterpolatedRateComputationFn.rateParameterSensitivity(
+          (IborInterpolatedRateComputation) computation, startDate, endDate, provider, rateBar, accumulator);
+    } else if (computation instanceof IborAveragedRateComputation) {
+      iborAveragedRateComputationFn.rateParameterSensitivity(
+          (IborAveragedRateComputation) computation, startDate, endDate, provider, rateBar, accumulator);
+    } else if (computation instanceof OvernightAveragedRateComputation) {
+      overnightAveragedRateComputationFn.rateParameterSensitivity(
+          (OvernightAveragedRateComputation) computation, startDate, endDate, provider, rateBar, accumulator);
+    } else if (computation instanceof OvernightCompoundedRateComputation) {
+      overnightCompoundedRateComputationFn.rateParameterSensitivity(
+          (OvernightCompoundedRateComputation) computation, startDate, endDate, provider, rateBar, accumulator);
+    } else if (computation instanceof OvernightCompoundedAnnualRateComputation) {
+      overnightCompundedAnnualRateComputationFn.rateParameterSensitivity(
+          (OvernightCompoundedAnnualRateComputation) computation, startDate, endDate, provider, rateBar, accumulator);
+    } else if (computation instanceof OvernightAveragedDailyRateComputation) {
+      overnightAveragedDailyRateComputationFn.rateParameterSensitivity(
+          (OvernightAveragedDailyRateComputation) computation, startDate, endDate, provider, rateBar, accumulator);
+    } else if (computation instanceof InflationMonthlyRateComputation) {
+      inflationMonthlyRateComputationFn.rateParameterSensitivity(
+          (InflationMonthlyRateComputation) computation, startDate, endDate, provider, rateBar, accumulator);
+    } else if (computation instanceof InflationInterpolatedRateComputation) {
+      inflationInterpolatedRateComputationFn.rateParameterSensitivity(
+          (InflationInterpolatedRateComputation) computation, startDate, endDate, provider, rateBar, accumulator);
+    } else if (computation instanceof InflationEndMonthRateComputation) {
+      inflationEndMonthRateComputationFn.rateParameterSensitivity(
+          (InflationEndMonthRateComputation) computation, startDate, endDate, provider, rateBar, accumulator);
+    } else if (computation instanceof InflationEndInterpolatedRateComputation) {
+      inflationEndInterpolatedRateComputationFn.rateParameterSensitivity(
+          (InflationEndInterpolatedRateComputation) computation, startDate, endDate, provider, rateBar, accumulator);
+    } else {
+      throw new IllegalArgumentException("Unknown Rate type: " + computation.getClass().getSimpleName());
+    }
+  }
+
   @Override
   public double explainRate(
       RateComputation computation,
@@ -9,8 +9,10 @@ import java.time.LocalDate;
 
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.IborIndexRates;
+import com.opengamma.strata.pricer.rate.IborRateSensitivity;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.rate.IborRateComputation;
@@ -57,6 +59,24 @@ public class ForwardIborRateComputationFn
     return rates.ratePointSensitivity(computation.getObservation());
   }
 
+  @Override
+  public void rateParameterSensitivity(
+      IborRateComputation computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      double rateBar,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    IborIndexRates rates = provider.iborIndexRates(computation.getIndex());
+    PointSensitivityBuilder pointSens = rates.ratePointSensitivity(computation.getObservation());
+    if (pointSens instanceof IborRateSensitivity) {
+      rates.parameterSensitivity(((IborRateSensitivity) pointSens).multipliedBy(rateBar), accumulator);
+    } else if (!pointSens.equals(PointSensitivityBuilder.none())) {
+      provider.parameterSensitivity(pointSens.multipliedBy(rateBar).build(), accumulator);
+    }
+  }
+
   @Override
   public double explainRate(
       IborRateComputation computation,
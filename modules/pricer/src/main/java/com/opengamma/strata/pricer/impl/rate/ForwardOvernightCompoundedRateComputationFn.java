@@ -6,18 +6,28 @@
 package com.opengamma.strata.pricer.impl.rate;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.collect.tuple.ObjDoublePair;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.PricingException;
 import com.opengamma.strata.pricer.rate.OvernightIndexRates;
+import com.opengamma.strata.pricer.rate.OvernightRateSensitivity;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
@@ -28,6 +38,9 @@ import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
 * Rates that are already fixed are retrieved from the time series of the {@link RatesProvider}.
 * Rates that are in the future and not in the cut-off period are computed as unique forward rate in the full future period.
 * Rates that are in the cut-off period (already fixed or forward) are compounded.
+* <p>
+* The compounded factor of the fixed rates is obtained from cumulative compounding factors of the
+* fixing time-series, which are computed once for each time-series, index and fixing calendar.
 */
 public class ForwardOvernightCompoundedRateComputationFn
     implements RateComputationFn<OvernightCompoundedRateComputation> {
@@ -38,6 +51,13 @@ public class ForwardOvernightCompoundedRateComputationFn
   public static final ForwardOvernightCompoundedRateComputationFn DEFAULT =
       new ForwardOvernightCompoundedRateComputationFn();
 
+  /**
+   * The cumulative compounding factors, keyed by the identity of the fixing time-series.
+   * An entry is removed once the time-series is no longer referenced elsewhere.
+   */
+  private final Cache<LocalDateDoubleTimeSeries, ConcurrentMap<Pair<OvernightIndex, HolidayCalendar>, OvernightCompoundingFactors>>
+      factorsCache = CacheBuilder.newBuilder().weakKeys().build();
+
   /**
    * Creates an instance.
    */
@@ -53,7 +73,7 @@ public class ForwardOvernightCompoundedRateComputationFn
       RatesProvider provider) {
 
     OvernightIndexRates rates = provider.overnightIndexRates(computation.getIndex());
-    ObservationDetails details = new ObservationDetails(computation, rates);
+    ObservationDetails details = new ObservationDetails(computation, rates, this);
     return details.calculateRate();
   }
 
@@ -65,10 +85,24 @@ public class ForwardOvernightCompoundedRateComputationFn
       RatesProvider provider) {
 
     OvernightIndexRates rates = provider.overnightIndexRates(computation.getIndex());
-    ObservationDetails details = new ObservationDetails(computation, rates);
+    ObservationDetails details = new ObservationDetails(computation, rates, this);
     return details.calculateRateSensitivity();
   }
 
+  @Override
+  public void rateParameterSensitivity(
+      OvernightCompoundedRateComputation computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      double rateBar,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    OvernightIndexRates rates = provider.overnightIndexRates(computation.getIndex());
+    ObservationDetails details = new ObservationDetails(computation, rates, this);
+    details.calculateRateParameterSensitivity(provider, rateBar, accumulator);
+  }
+
   @Override
   public double explainRate(
       OvernightCompoundedRateComputation computation,
@@ -82,12 +116,24 @@ public class ForwardOvernightCompoundedRateComputationFn
     return rate;
   }
 
+  // obtains the cumulative compounding factors of the fixings, computing them if necessary
+  private OvernightCompoundingFactors compoundingFactors(
+      OvernightCompoundedRateComputation computation,
+      LocalDateDoubleTimeSeries fixings) {
+
+    Pair<OvernightIndex, HolidayCalendar> key = Pair.of(computation.getIndex(), computation.getFixingCalendar());
+    return factorsCache.asMap()
+        .computeIfAbsent(fixings, ts -> new ConcurrentHashMap<>())
+        .computeIfAbsent(key, k -> OvernightCompoundingFactors.of(computation, fixings));
+  }
+
   //-------------------------------------------------------------------------
   // Internal class. Observation details stored in a separate class to clarify the construction.
   private static final class ObservationDetails {
 
     private final OvernightCompoundedRateComputation computation;
     private final OvernightIndexRates rates;
+    private final ForwardOvernightCompoundedRateComputationFn fn;
     private final LocalDateDoubleTimeSeries indexFixingDateSeries;
     private final DayCount dayCount;
     private final int cutoffOffset;
@@ -99,9 +145,14 @@ public class ForwardOvernightCompoundedRateComputationFn
     private final double[] accrualFactorCutoff; // Accrual factors for the sub-periods using the cutoff rate.
     private LocalDate nextFixing; // Running variable through the different methods: next fixing date to be analyzed
 
-    private ObservationDetails(OvernightCompoundedRateComputation computation, OvernightIndexRates rates) {
+    private ObservationDetails(
+        OvernightCompoundedRateComputation computation,
+        OvernightIndexRates rates,
+        ForwardOvernightCompoundedRateComputationFn fn) {
+
       this.computation = computation;
       this.rates = rates;
+      this.fn = fn;
       this.indexFixingDateSeries = rates.getFixings();
       this.dayCount = computation.getIndex().getDayCount();
       // Details of the cutoff period
@@ -128,6 +179,21 @@ public class ForwardOvernightCompoundedRateComputationFn
       double compositionFactor = 1.0d;
       LocalDate currentFixing = firstFixing;
       LocalDate currentPublication = computation.calculatePublicationFromFixing(currentFixing);
+      if (currentFixing.isBefore(lastFixingNonCutoff) && rates.getValuationDate().isAfter(currentPublication)) {
+        OvernightCompoundingFactors factors = fn.compoundingFactors(computation, indexFixingDateSeries);
+        int startIndex = factors.indexOf(currentFixing);
+        if (startIndex >= 0) {
+          LocalDate nextFixingCached = pastFixingEnd(factors, startIndex);
+          if (nextFixingCached != null) {
+            int endIndex = factors.indexOf(nextFixingCached);
+            endIndex = endIndex >= 0 ? endIndex : factors.size();
+            compositionFactor = factors.compositionFactor(startIndex, endIndex);
+            currentFixing = nextFixingCached;
+            currentPublication = computation.calculatePublicationFromFixing(currentFixing);
+          }
+        }
+      }
+      // walk the remaining fixings, which also reports any missing fixing
       while ((currentFixing.isBefore(lastFixingNonCutoff)) && // fixing in the non-cutoff period
           rates.getValuationDate().isAfter(currentPublication)) { // publication before valuation
         LocalDate effectiveDate = computation.calculateEffectiveFromFixing(currentFixing);
@@ -153,6 +219,34 @@ public class ForwardOvernightCompoundedRateComputationFn
       return compositionFactor;
     }
 
+    // Finds the first fixing, from the start index, that is not in the non-cutoff period or not published before valuation
+    // Returns null if any fixing before that is missing, leaving the error to be reported by the walk
+    private LocalDate pastFixingEnd(OvernightCompoundingFactors factors, int startIndex) {
+      // the fixings are in the non-cutoff period before this index
+      int limitIndex = factors.indexOf(lastFixingNonCutoff);
+      limitIndex = Math.max(limitIndex >= 0 ? limitIndex : -limitIndex - 1, startIndex);
+      // publication is in date order, so binary search for the first fixing not published before valuation
+      int low = startIndex;
+      int high = limitIndex;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        LocalDate publication = computation.calculatePublicationFromFixing(factors.fixingDate(mid));
+        if (rates.getValuationDate().isAfter(publication)) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      if (!factors.isComplete(startIndex, low)) {
+        return null;
+      }
+      if (low < factors.size()) {
+        return factors.fixingDate(low);
+      }
+      // all fixings in the time-series are used, the walk continues from the next fixing
+      return computation.getFixingCalendar().next(factors.fixingDate(low - 1));
+    }
+
     // Composition - publication on valuation date: Check if a fixing is available on current date
     private double valuationCompositionFactor() {
       LocalDate currentFixing = nextFixing;
@@ -246,21 +340,57 @@ public class ForwardOvernightCompoundedRateComputationFn
           compositionFactorNonCutoff() * compositionFactorCutoff() - 1.0d) / accrualFactorTotal;
     }
 
-    // Calculate the total rate sensitivity
-    private PointSensitivityBuilder calculateRateSensitivity() {
+    // Calculate the rate sensitivities of the forward parts, each with its multiplier in the total rate sensitivity
+    private List<ObjDoublePair<PointSensitivityBuilder>> rateSensitivities() {
       double factor = pastCompositionFactor() * valuationCompositionFactor() / accrualFactorTotal;
       ObjDoublePair<PointSensitivityBuilder> compositionFactorAndSensitivityNonCutoff =
           compositionFactorAndSensitivityNonCutoff();
       ObjDoublePair<PointSensitivityBuilder> compositionFactorAndSensitivityCutoff = compositionFactorAndSensitivityCutoff();
 
-      PointSensitivityBuilder combinedPointSensitivity = compositionFactorAndSensitivityNonCutoff.getFirst()
-          .multipliedBy(compositionFactorAndSensitivityCutoff.getSecond() * factor);
-      combinedPointSensitivity = combinedPointSensitivity.combinedWith(compositionFactorAndSensitivityCutoff
-          .getFirst().multipliedBy(compositionFactorAndSensitivityNonCutoff.getSecond() * factor));
+      return ImmutableList.of(
+          ObjDoublePair.of(
+              compositionFactorAndSensitivityNonCutoff.getFirst(),
+              compositionFactorAndSensitivityCutoff.getSecond() * factor),
+          ObjDoublePair.of(
+              compositionFactorAndSensitivityCutoff.getFirst(),
+              compositionFactorAndSensitivityNonCutoff.getSecond() * factor));
+    }
 
+    // Calculate the total rate sensitivity
+    private PointSensitivityBuilder calculateRateSensitivity() {
+      PointSensitivityBuilder combinedPointSensitivity = PointSensitivityBuilder.none();
+      for (ObjDoublePair<PointSensitivityBuilder> rateSensitivity : rateSensitivities()) {
+        combinedPointSensitivity = combinedPointSensitivity.combinedWith(
+            rateSensitivity.getFirst().multipliedBy(rateSensitivity.getSecond()));
+      }
       return combinedPointSensitivity;
     }
 
+    // Add the total rate sensitivity, multiplied by the rate bar, to the parameter sensitivity
+    private void calculateRateParameterSensitivity(
+        RatesProvider provider,
+        double rateBar,
+        CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+      for (ObjDoublePair<PointSensitivityBuilder> rateSensitivity : rateSensitivities()) {
+        addParameterSensitivity(rateSensitivity.getFirst(), rateSensitivity.getSecond() * rateBar, provider, accumulator);
+      }
+    }
+
+    // Add the parameter sensitivity of a rate point sensitivity, multiplied by the factor
+    private void addParameterSensitivity(
+        PointSensitivityBuilder pointSens,
+        double factor,
+        RatesProvider provider,
+        CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+      if (pointSens instanceof OvernightRateSensitivity) {
+        rates.parameterSensitivity(((OvernightRateSensitivity) pointSens).multipliedBy(factor), accumulator);
+      } else if (!pointSens.equals(PointSensitivityBuilder.none())) {
+        provider.parameterSensitivity(pointSens.multipliedBy(factor).build(), accumulator);
+      }
+    }
+
     // Check that the fixing is present. Throws an exception if not and return the rate as double.
     private static double checkedFixing(
         LocalDate currentFixingTs,
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.OptionalDouble;
+
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.product.rate.OvernightRateComputation;
+
+/**
+ * Cumulative compounding factors of the fixings of an overnight index.
+ * <p>
+ * The factors are computed once for each fixing date of the time-series that is a business day
+ * of the fixing calendar. The compounded factor of any run of consecutive fixing dates
+ * is then obtained from two lookups and a division, rather than a walk along the calendar.
+ * <p>
+ * The factors depend only on the index, the fixing calendar and the time-series.
+ */
+final class OvernightCompoundingFactors {
+
+  /**
+   * The fixing dates, as epoch-days, one for each business day from the first to the last fixing.
+   */
+  private final int[] epochDays;
+  /**
+   * The cumulative compounding factor before each fixing date, with one additional element for the end.
+   */
+  private final double[] cumulativeFactors;
+  /**
+   * The cumulative number of missing fixings before each fixing date, with one additional element for the end.
+   */
+  private final int[] cumulativeMissing;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the factors for the fixings of the computation's index.
+   * <p>
+   * Only the index and fixing calendar of the computation are used.
+   *
+   * @param computation  the computation, defining the index and fixing calendar
+   * @param fixings  the fixings of the index
+   * @return the factors
+   */
+  static OvernightCompoundingFactors of(OvernightRateComputation computation, LocalDateDoubleTimeSeries fixings) {
+    if (fixings.isEmpty()) {
+      return new OvernightCompoundingFactors(new int[0], new double[] {1d}, new int[] {0});
+    }
+    HolidayCalendar calendar = computation.getFixingCalendar();
+    DayCount dayCount = computation.getIndex().getDayCount();
+    LocalDate first = calendar.nextOrSame(fixings.getEarliestDate());
+    LocalDate last = fixings.getLatestDate();
+    int capacity = (int) Math.max(last.toEpochDay() - first.toEpochDay() + 1, 0);
+    int[] epochDays = new int[capacity];
+    double[] cumulativeFactors = new double[capacity + 1];
+    int[] cumulativeMissing = new int[capacity + 1];
+    cumulativeFactors[0] = 1d;
+    int size = 0;
+    for (LocalDate fixing = first; !fixing.isAfter(last); fixing = calendar.next(fixing)) {
+      epochDays[size] = (int) fixing.toEpochDay();
+      OptionalDouble rate = fixings.get(fixing);
+      if (rate.isPresent()) {
+        LocalDate effectiveDate = computation.calculateEffectiveFromFixing(fixing);
+        LocalDate maturityDate = computation.calculateMaturityFromEffective(effectiveDate);
+        double accrualFactor = dayCount.yearFraction(effectiveDate, maturityDate);
+        cumulativeFactors[size + 1] = cumulativeFactors[size] * (1d + accrualFactor * rate.getAsDouble());
+        cumulativeMissing[size + 1] = cumulativeMissing[size];
+      } else {
+        cumulativeFactors[size + 1] = cumulativeFactors[size];
+        cumulativeMissing[size + 1] = cumulativeMissing[size] + 1;
+      }
+      size++;
+    }
+    return new OvernightCompoundingFactors(
+        Arrays.copyOf(epochDays, size),
+        Arrays.copyOf(cumulativeFactors, size + 1),
+        Arrays.copyOf(cumulativeMissing, size + 1));
+  }
+
+  // restricted constructor
+  private OvernightCompoundingFactors(int[] epochDays, double[] cumulativeFactors, int[] cumulativeMissing) {
+    this.epochDays = epochDays;
+    this.cumulativeFactors = cumulativeFactors;
+    this.cumulativeMissing = cumulativeMissing;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of fixing dates.
+   *
+   * @return the number of fixing dates
+   */
+  int size() {
+    return epochDays.length;
+  }
+
+  /**
+   * Gets the fixing date at the specified index.
+   *
+   * @param index  the index, from zero to size exclusive
+   * @return the fixing date
+   */
+  LocalDate fixingDate(int index) {
+    return LocalDate.ofEpochDay(epochDays[index]);
+  }
+
+  /**
+   * Finds the index of the fixing date.
+   * <p>
+   * This follows the contract of {@link Arrays#binarySearch(int[], int)}.
+   * A negative result indicates that the date is not a fixing date, or is outside the range of the fixings.
+   *
+   * @param fixingDate  the fixing date
+   * @return the index of the date if found, otherwise {@code -(insertion point) - 1}
+   */
+  int indexOf(LocalDate fixingDate) {
+    return Arrays.binarySearch(epochDays, (int) fixingDate.toEpochDay());
+  }
+
+  /**
+   * Checks if the fixings of all fixing dates from the start index inclusive to the end index exclusive are present.
+   *
+   * @param startIndex  the start index, inclusive
+   * @param endIndex  the end index, exclusive
+   * @return true if all the fixings are present
+   */
+  boolean isComplete(int startIndex, int endIndex) {
+    return cumulativeMissing[endIndex] == cumulativeMissing[startIndex];
+  }
+
+  /**
+   * Calculates the compounded factor of the fixing dates from the start index inclusive to the end index exclusive.
+   * <p>
+   * The result is only meaningful if {@link #isComplete(int, int)} returns true.
+   *
+   * @param startIndex  the start index, inclusive
+   * @param endIndex  the end index, exclusive
+   * @return the compounded factor
+   */
+  double compositionFactor(int startIndex, int endIndex) {
+    return cumulativeFactors[endIndex] / cumulativeFactors[startIndex];
+  }
+
+}
@@ -17,6 +17,7 @@ import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.fx.FxIndexRates;
@@ -387,6 +388,131 @@ public class DiscountingRatePaymentPeriodPricer
     return sensi.multipliedBy(notionalAccrued);
   }
 
+  //-------------------------------------------------------------------------
+  // the adjoint algorithmic differentiation of the present value
+  // a forward sweep computes the intermediate values, then a backward sweep propagates
+  // the sensitivity to each intermediate value ('bar') down to the curve parameters
+  @Override
+  public void addPresentValueSensitivity(
+      RatePaymentPeriod period,
+      RatesProvider provider,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    DiscountFactors discountFactors = provider.discountFactors(period.getCurrency());
+    LocalDate paymentDate = period.getPaymentDate();
+    double df = discountFactors.discountFactor(paymentDate);
+    double forecastValue = forecastValue(period, provider);
+    // backward sweep
+    double forecastValueBar = df;
+    double dfBar = forecastValue;
+    addForecastValueSensitivity(period, provider, forecastValueBar, accumulator);
+    discountFactors.parameterSensitivity(
+        discountFactors.zeroRatePointSensitivity(paymentDate).multipliedBy(dfBar), accumulator);
+  }
+
+  // adds the parameter sensitivity of the forecast value, given the sensitivity to the forecast value
+  private void addForecastValueSensitivity(
+      RatePaymentPeriod period,
+      RatesProvider provider,
+      double forecastValueBar,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    // historic payments have zero sensi
+    if (period.getPaymentDate().isBefore(provider.getValuationDate())) {
+      return;
+    }
+    double notional = period.getNotional() * fxRate(period, provider);
+    if (period.getFxReset().isPresent()) {
+      FxReset fxReset = period.getFxReset().get();
+      FxIndexRates rates = provider.fxIndexRates(fxReset.getObservation().getIndex());
+      double fxRateBar = forecastValueBar * accrualWithNotional(period, period.getNotional(), provider);
+      PointSensitivityBuilder fxSens = rates.ratePointSensitivity(fxReset.getObservation(), fxReset.getReferenceCurrency());
+      provider.parameterSensitivity(fxSens.multipliedBy(fxRateBar).build(), accumulator);
+    }
+    double accrualBar = forecastValueBar * notional;
+    if (period.isCompoundingApplicable()) {
+      switch (period.getCompoundingMethod()) {
+        case STRAIGHT:
+          addCompoundedSensitivity(period, provider, true, accrualBar, accumulator);
+          return;
+        case FLAT:
+          addCompoundedFlatSensitivity(period, provider, accrualBar, accumulator);
+          return;
+        case SPREAD_EXCLUSIVE:
+          addCompoundedSensitivity(period, provider, false, accrualBar, accumulator);
+          return;
+        default:
+          break;
+      }
+    }
+    for (RateAccrualPeriod accrualPeriod : period.getAccrualPeriods()) {
+      addUnitNotionalSensitivityAccrual(accrualPeriod, provider, accrualBar, accumulator);
+    }
+  }
+
+  // straight or spread exclusive compounding, the accrual is the product of the invest factors
+  private void addCompoundedSensitivity(
+      RatePaymentPeriod paymentPeriod,
+      RatesProvider provider,
+      boolean includeSpread,
+      double accrualBar,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    ImmutableList<RateAccrualPeriod> accrualPeriods = paymentPeriod.getAccrualPeriods();
+    double[] investFactors = new double[accrualPeriods.size()];
+    double notionalAccrued = 1d;
+    for (int i = 0; i < investFactors.length; i++) {
+      RateAccrualPeriod accrualPeriod = accrualPeriods.get(i);
+      double spread = includeSpread ? accrualPeriod.getSpread() : 0d;
+      investFactors[i] = 1d + unitNotionalAccrual(accrualPeriod, spread, provider);
+      notionalAccrued *= investFactors[i];
+    }
+    // backward sweep
+    double notionalAccruedBar = accrualBar;
+    for (int i = investFactors.length - 1; i >= 0; i--) {
+      double investFactorBar = notionalAccruedBar * notionalAccrued / investFactors[i];
+      addUnitNotionalSensitivityAccrual(accrualPeriods.get(i), provider, investFactorBar, accumulator);
+    }
+  }
+
+  // flat compounding, the accrual is built up recursively
+  private void addCompoundedFlatSensitivity(
+      RatePaymentPeriod paymentPeriod,
+      RatesProvider provider,
+      double accrualBar,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    ImmutableList<RateAccrualPeriod> accrualPeriods = paymentPeriod.getAccrualPeriods();
+    double[] cpaAccumulated = new double[accrualPeriods.size()];
+    double[] accrualZeroSpread = new double[accrualPeriods.size()];
+    double cpa = 0d;
+    for (int i = 0; i < cpaAccumulated.length; i++) {
+      RateAccrualPeriod accrualPeriod = accrualPeriods.get(i);
+      double rate = rawRate(accrualPeriod, provider);
+      cpaAccumulated[i] = cpa;
+      accrualZeroSpread[i] = unitNotionalAccrualRaw(accrualPeriod, rate, 0);
+      cpa += cpa * accrualZeroSpread[i] + unitNotionalAccrualRaw(accrualPeriod, rate, accrualPeriod.getSpread());
+    }
+    // backward sweep
+    double cpaBar = accrualBar;
+    for (int i = cpaAccumulated.length - 1; i >= 0; i--) {
+      addUnitNotionalSensitivityAccrual(accrualPeriods.get(i), provider, cpaBar * (1d + cpaAccumulated[i]), accumulator);
+      cpaBar *= 1d + accrualZeroSpread[i];
+    }
+  }
+
+  // adds the parameter sensitivity of the accrual period rate, given the sensitivity to the unit notional accrual
+  private void addUnitNotionalSensitivityAccrual(
+      RateAccrualPeriod period,
+      RatesProvider provider,
+      double accrualBar,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    double rateBar = accrualBar * period.getGearing() * period.getYearFraction();
+    rateComputationFn.rateParameterSensitivity(
+        period.getRateComputation(), period.getStartDate(), period.getEndDate(), provider, rateBar, accumulator);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public void explainPresentValue(RatePaymentPeriod paymentPeriod, RatesProvider provider, ExplainMapBuilder builder) {
@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer.impl.swap;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.SwapPaymentPeriodPricer;
@@ -77,6 +78,23 @@ public class DispatchingSwapPaymentPeriodPricer
     }
   }
 
+  @Override
+  public void addPresentValueSensitivity(
+      SwapPaymentPeriod paymentPeriod,
+      RatesProvider provider,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    // dispatch by runtime type
+    if (paymentPeriod instanceof RatePaymentPeriod) {
+      ratePaymentPeriodPricer.addPresentValueSensitivity((RatePaymentPeriod) paymentPeriod, provider, accumulator);
+    } else if (paymentPeriod instanceof KnownAmountSwapPaymentPeriod) {
+      knownAmountPaymentPeriodPricer.addPresentValueSensitivity(
+          (KnownAmountSwapPaymentPeriod) paymentPeriod, provider, accumulator);
+    } else {
+      throw new IllegalArgumentException("Unknown PaymentPeriod type: " + paymentPeriod.getClass().getSimpleName());
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public double forecastValue(SwapPaymentPeriod paymentPeriod, RatesProvider provider) {
@@ -36,6 +36,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
@@ -230,6 +231,16 @@ public final class DiscountOvernightIndexRates
   //-------------------------------------------------------------------------
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(OvernightRateSensitivity pointSensitivity) {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    parameterSensitivity(pointSensitivity, accumulator);
+    return accumulator.build();
+  }
+
+  @Override
+  public void parameterSensitivity(
+      OvernightRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
     OvernightIndex index = pointSensitivity.getIndex();
     LocalDate startDate = pointSensitivity.getObservation().getEffectiveDate();
     LocalDate endDate = pointSensitivity.getEndDate();
@@ -241,9 +252,8 @@ public final class DiscountOvernightIndexRates
     double dfEndBar = -forwardBar * dfForwardStart / (accrualFactor * dfForwardEnd * dfForwardEnd);
     ZeroRateSensitivity zrsStart = discountFactors.zeroRatePointSensitivity(startDate, pointSensitivity.getCurrency());
     ZeroRateSensitivity zrsEnd = discountFactors.zeroRatePointSensitivity(endDate, pointSensitivity.getCurrency());
-    CurrencyParameterSensitivities psStart = discountFactors.parameterSensitivity(zrsStart).multipliedBy(dfStartBar);
-    CurrencyParameterSensitivities psEnd = discountFactors.parameterSensitivity(zrsEnd).multipliedBy(dfEndBar);
-    return psStart.combinedWith(psEnd);
+    discountFactors.parameterSensitivity(zrsStart.multipliedBy(dfStartBar), accumulator);
+    discountFactors.parameterSensitivity(zrsEnd.multipliedBy(dfEndBar), accumulator);
   }
 
   @Override
@@ -15,6 +15,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
@@ -101,6 +103,19 @@ public final class ImmutableRatesProvider
    */
   @PropertyDefinition(validate = "notNull")
   private final ImmutableMap<Index, LocalDateDoubleTimeSeries> timeSeries;
+  /**
+   * The cache of discount factors, keyed by currency.
+   */
+  private final transient ConcurrentMap<Currency, DiscountFactors> discountFactorsCache = new ConcurrentHashMap<>();  // derived
+  /**
+   * The cache of Ibor index rates, keyed by index.
+   */
+  private final transient ConcurrentMap<IborIndex, IborIndexRates> iborIndexRatesCache = new ConcurrentHashMap<>();  // derived
+  /**
+   * The cache of Overnight index rates, keyed by index.
+   */
+  private final transient ConcurrentMap<OvernightIndex, OvernightIndexRates> overnightIndexRatesCache =
+      new ConcurrentHashMap<>();  // derived
 
   //-------------------------------------------------------------------------
   @ImmutableDefaults
@@ -108,6 +123,11 @@ public final class ImmutableRatesProvider
     builder.fxRateProvider = FxMatrix.empty();
   }
 
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new ImmutableRatesProvider(valuationDate, fxRateProvider, discountCurves, indexCurves, timeSeries);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Combines a number of rates providers.
@@ -223,6 +243,12 @@ public final class ImmutableRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public DiscountFactors discountFactors(Currency currency) {
+    DiscountFactors cached = discountFactorsCache.get(currency);
+    return cached != null ? cached : discountFactorsCache.computeIfAbsent(currency, this::createDiscountFactors);
+  }
+
+  // creates the discount factors, called once per currency
+  private DiscountFactors createDiscountFactors(Currency currency) {
     Curve curve = discountCurves.get(currency);
     if (curve == null) {
       throw new IllegalArgumentException("Unable to find discount curve: " + currency);
@@ -249,6 +275,12 @@ public final class ImmutableRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public IborIndexRates iborIndexRates(IborIndex index) {
+    IborIndexRates cached = iborIndexRatesCache.get(index);
+    return cached != null ? cached : iborIndexRatesCache.computeIfAbsent(index, this::createIborIndexRates);
+  }
+
+  // creates the Ibor index rates, called once per index
+  private IborIndexRates createIborIndexRates(IborIndex index) {
     Curve curve = indexCurves.get(index);
     if (curve == null) {
       return historicCurve(index);
@@ -268,6 +300,12 @@ public final class ImmutableRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public OvernightIndexRates overnightIndexRates(OvernightIndex index) {
+    OvernightIndexRates cached = overnightIndexRatesCache.get(index);
+    return cached != null ? cached : overnightIndexRatesCache.computeIfAbsent(index, this::createOvernightIndexRates);
+  }
+
+  // creates the Overnight index rates, called once per index
+  private OvernightIndexRates createOvernightIndexRates(OvernightIndex index) {
     Curve curve = indexCurves.get(index);
     if (curve == null) {
       return historicCurve(index);
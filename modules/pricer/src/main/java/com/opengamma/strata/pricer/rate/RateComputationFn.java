@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer.rate;
 import java.time.LocalDate;
 
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.impl.rate.DispatchingRateComputationFn;
 import com.opengamma.strata.product.rate.RateComputation;
@@ -71,6 +72,35 @@ public interface RateComputationFn<T extends RateComputation> {
       LocalDate endDate,
       RatesProvider provider);
 
+  /**
+   * Adds the parameter sensitivity of the rate computation to an accumulator.
+   * <p>
+   * This is the adjoint of {@link #rate(RateComputation, LocalDate, LocalDate, RatesProvider)}.
+   * Given the sensitivity of a value to the rate, {@code rateBar}, it adds the sensitivity of
+   * that value to the parameters of the curves used to determine each forward rate.
+   * <p>
+   * The default implementation projects {@link #rateSensitivity} onto the curve parameters.
+   * Implementations may override this to add to the accumulator directly.
+   * 
+   * @param computation  the computation definition
+   * @param startDate  the start date of the accrual period
+   * @param endDate  the end date of the accrual period
+   * @param provider  the rates provider
+   * @param rateBar  the sensitivity of the value to the rate
+   * @param accumulator  the accumulator to add the parameter sensitivity to
+   */
+  public default void rateParameterSensitivity(
+      T computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      double rateBar,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    PointSensitivityBuilder pointSens = rateSensitivity(computation, startDate, endDate, provider);
+    provider.parameterSensitivity(pointSens.multipliedBy(rateBar).build(), accumulator);
+  }
+
   /**
    * Explains the calculation of the applicable rate.
    * <p>
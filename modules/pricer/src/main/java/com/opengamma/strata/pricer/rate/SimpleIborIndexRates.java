@@ -42,7 +42,7 @@ import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
-import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.UnitParameterSensitivity;
@@ -247,12 +247,20 @@ public final class SimpleIborIndexRates
   //-------------------------------------------------------------------------
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(IborRateSensitivity pointSensitivity) {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    parameterSensitivity(pointSensitivity, accumulator);
+    return accumulator.build();
+  }
+
+  @Override
+  public void parameterSensitivity(
+      IborRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
     LocalDate maturityDate = pointSensitivity.getObservation().getMaturityDate();
     double relativeYearFraction = relativeYearFraction(maturityDate);
     UnitParameterSensitivity unitSensitivity = curve.yValueParameterSensitivity(relativeYearFraction);
-    CurrencyParameterSensitivity sensitivity =
-        unitSensitivity.multipliedBy(pointSensitivity.getCurrency(), pointSensitivity.getSensitivity());
-    return CurrencyParameterSensitivities.of(sensitivity);
+    accumulator.add(unitSensitivity, pointSensitivity.getCurrency(), pointSensitivity.getSensitivity());
   }
 
   @Override
@@ -6,6 +6,8 @@
 package com.opengamma.strata.pricer.swap;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
 
@@ -21,6 +23,9 @@ import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.swap.KnownAmountSwapPaymentPeriod;
@@ -244,6 +249,45 @@ public class DiscountingSwapLegPricer {
         paymentEventPricer::forecastValueSensitivity);
   }
 
+  /**
+   * Calculates the present value parameter sensitivity of the swap leg.
+   * <p>
+   * The present value parameter sensitivity of the leg is the sensitivity of the present value to
+   * the parameters of the underlying curves.
+   * <p>
+   * The result is the same as projecting {@link #presentValueSensitivity(ResolvedSwapLeg, RatesProvider)}
+   * onto the curve parameters using {@link RatesProvider#parameterSensitivity(PointSensitivities)}.
+   * However, each payment period is differentiated in a single backward sweep, adding directly
+   * to the parameter sensitivity rather than creating point sensitivities.
+   * 
+   * @param leg  the leg
+   * @param provider  the rates provider
+   * @return the present value parameter sensitivity of the swap leg
+   */
+  public CurrencyParameterSensitivities presentValueParameterSensitivity(ResolvedSwapLeg leg, RatesProvider provider) {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    addPresentValueSensitivity(leg, provider, accumulator);
+    return accumulator.build();
+  }
+
+  // adds the present value parameter sensitivity of the leg to the accumulator
+  void addPresentValueSensitivity(
+      ResolvedSwapLeg leg,
+      RatesProvider provider,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+      if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
+        paymentPeriodPricer.addPresentValueSensitivity(period, provider, accumulator);
+      }
+    }
+    for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+      if (!event.getPaymentDate().isBefore(provider.getValuationDate())) {
+        provider.parameterSensitivity(paymentEventPricer.presentValueSensitivity(event, provider).build(), accumulator);
+      }
+    }
+  }
+
   // calculate present or forecast value sensitivity for a leg
   private PointSensitivityBuilder legValueSensitivity(
       ResolvedSwapLeg leg,
@@ -525,6 +569,17 @@ public class DiscountingSwapLegPricer {
 
   // calculates the present value of the periods composing the leg in the currency of the swap leg
   double presentValuePeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
+    if (paymentPeriodPricer == SwapPaymentPeriodPricer.standard()) {
+      // the standard pricer values each period as the forecast value multiplied by the discount factor
+      // this allows the discount factors of all periods to be obtained from the curve at once
+      List<SwapPaymentPeriod> periods = futurePaymentPeriods(leg, provider);
+      DoubleArray discountFactors = discountFactors(leg.getCurrency(), periods, provider);
+      double total = 0d;
+      for (int i = 0; i < periods.size(); i++) {
+        total += paymentPeriodPricer.forecastValue(periods.get(i), provider) * discountFactors.get(i);
+      }
+      return total;
+    }
     double total = 0d;
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
       if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
@@ -559,19 +614,23 @@ public class DiscountingSwapLegPricer {
   //-------------------------------------------------------------------------
   // calculates the cash flow of the periods composing the leg in the currency of the swap leg
   CashFlows cashFlowPeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
-    ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
-    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
-      if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
-        double forecastValue = paymentPeriodPricer.forecastValue(period, provider);
-        if (forecastValue != 0d) {
-          Currency currency = period.getCurrency();
-          LocalDate paymentDate = period.getPaymentDate();
-          double discountFactor = provider.discountFactor(currency, paymentDate);
-          CashFlow singleCashFlow = CashFlow.ofForecastValue(paymentDate, currency, forecastValue, discountFactor);
-          builder.add(singleCashFlow);
-        }
+    List<SwapPaymentPeriod> periods = new ArrayList<>();
+    List<Double> forecastValues = new ArrayList<>();
+    for (SwapPaymentPeriod period : futurePaymentPeriods(leg, provider)) {
+      double forecastValue = paymentPeriodPricer.forecastValue(period, provider);
+      if (forecastValue != 0d) {
+        periods.add(period);
+        forecastValues.add(forecastValue);
       }
     }
+    DoubleArray discountFactors = discountFactors(leg.getCurrency(), periods, provider);
+    ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    for (int i = 0; i < periods.size(); i++) {
+      SwapPaymentPeriod period = periods.get(i);
+      CashFlow singleCashFlow = CashFlow.ofForecastValue(
+          period.getPaymentDate(), period.getCurrency(), forecastValues.get(i), discountFactors.get(i));
+      builder.add(singleCashFlow);
+    }
     return CashFlows.of(builder.build());
   }
 
@@ -593,6 +652,31 @@ public class DiscountingSwapLegPricer {
     return CashFlows.of(builder.build());
   }
 
+  //-------------------------------------------------------------------------
+  // the periods that are paid on or after the valuation date
+  private static List<SwapPaymentPeriod> futurePaymentPeriods(ResolvedSwapLeg leg, RatesProvider provider) {
+    List<SwapPaymentPeriod> periods = new ArrayList<>(leg.getPaymentPeriods().size());
+    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+      if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
+        periods.add(period);
+      }
+    }
+    return periods;
+  }
+
+  // the discount factors of the payment dates of the periods, obtained from the curve at once
+  private static DoubleArray discountFactors(
+      Currency currency,
+      List<SwapPaymentPeriod> periods,
+      RatesProvider provider) {
+
+    List<LocalDate> paymentDates = new ArrayList<>(periods.size());
+    for (SwapPaymentPeriod period : periods) {
+      paymentDates.add(period.getPaymentDate());
+    }
+    return provider.discountFactors(currency, paymentDates);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Explain present value builder used to build large explain map from the individual legs.
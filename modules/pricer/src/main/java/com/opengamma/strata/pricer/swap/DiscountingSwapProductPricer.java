@@ -23,6 +23,9 @@ import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.rate.FixedOvernightCompoundedAnnualRateComputation;
@@ -326,6 +329,29 @@ public class DiscountingSwapProductPricer {
     return swapValueSensitivity(swap, provider, legPricer::presentValueSensitivity);
   }
 
+  /**
+   * Calculates the present value parameter sensitivity of the swap product.
+   * <p>
+   * The present value parameter sensitivity of the product is the sensitivity of the present value to
+   * the parameters of the underlying curves.
+   * <p>
+   * The result is the same as projecting {@link #presentValueSensitivity(ResolvedSwap, RatesProvider)}
+   * onto the curve parameters using {@link RatesProvider#parameterSensitivity(PointSensitivities)}.
+   * However, each payment period is differentiated in a single backward sweep, adding directly
+   * to the parameter sensitivity rather than creating point sensitivities.
+   * 
+   * @param swap  the product
+   * @param provider  the rates provider
+   * @return the present value parameter sensitivity of the swap product
+   */
+  public CurrencyParameterSensitivities presentValueParameterSensitivity(ResolvedSwap swap, RatesProvider provider) {
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    for (ResolvedSwapLeg leg : swap.getLegs()) {
+      legPricer.addPresentValueSensitivity(leg, provider, accumulator);
+    }
+    return accumulator.build();
+  }
+
   /**
    * Calculates the present value sensitivity of the swap product converted in a given currency.
    * <p>
@@ -11,6 +11,7 @@ import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainMap;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.swap.ResolvedSwap;
@@ -113,6 +114,23 @@ public class DiscountingSwapTradePricer {
     return productPricer.presentValueSensitivity(trade.getProduct(), provider).build();
   }
 
+  /**
+   * Calculates the present value parameter sensitivity of the swap trade.
+   * <p>
+   * The present value parameter sensitivity of the trade is the sensitivity of the present value to
+   * the parameters of the underlying curves.
+   * <p>
+   * The result is the same as projecting {@link #presentValueSensitivity(ResolvedSwapTrade, RatesProvider)}
+   * onto the curve parameters, but is calculated without creating point sensitivities.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @return the present value parameter sensitivity of the swap trade
+   */
+  public CurrencyParameterSensitivities presentValueParameterSensitivity(ResolvedSwapTrade trade, RatesProvider provider) {
+    return productPricer.presentValueParameterSensitivity(trade.getProduct(), provider);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the forecast value of the swap trade.
@@ -7,6 +7,7 @@ package com.opengamma.strata.pricer.swap;
 
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.impl.swap.DispatchingSwapPaymentPeriodPricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -62,6 +63,27 @@ public interface SwapPaymentPeriodPricer<T extends SwapPaymentPeriod> {
    */
   public abstract PointSensitivityBuilder presentValueSensitivity(T period, RatesProvider provider);
 
+  /**
+   * Calculates the present value parameter sensitivity of a single payment period, adding it to an accumulator.
+   * <p>
+   * This adds the sensitivity of the present value to the parameters of the underlying curves.
+   * The result is equivalent to projecting {@link #presentValueSensitivity} onto the curve parameters,
+   * which is what the default implementation does.
+   * Implementations may override this to compute the sensitivity in a single backward sweep
+   * without creating point sensitivities.
+   * 
+   * @param period  the period
+   * @param provider  the rates provider
+   * @param accumulator  the accumulator to add the parameter sensitivity to
+   */
+  public default void addPresentValueSensitivity(
+      T period,
+      RatesProvider provider,
+      CurrencyParameterSensitivitiesAccumulator accumulator) {
+
+    provider.parameterSensitivity(presentValueSensitivity(period, provider).build(), accumulator);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the forecast value of a single payment period.
@@ -32,6 +32,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 
 /**
@@ -104,6 +105,17 @@ public class SimpleDiscountFactorsTest {
     assertThat(test.discountFactor(DATE_AFTER)).isEqualTo(expected);
   }
 
+  @Test
+  public void test_discountFactors() {
+    SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    DoubleArray yearFractions = DoubleArray.of(
+        test.relativeYearFraction(DATE_BEFORE),
+        test.relativeYearFraction(DATE_VAL),
+        test.relativeYearFraction(DATE_AFTER),
+        test.relativeYearFraction(DATE_AFTER.plusYears(1)));
+    assertThat(test.discountFactors(yearFractions)).isEqualTo(yearFractions.map(test::discountFactor));
+  }
+
   @Test
   public void test_discountFactor_beforeValDate() {
     SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -333,7 +345,7 @@ public class SimpleDiscountFactorsTest {
         CURVE.yValueParameterSensitivity(relativeYearFraction)
             .multipliedBy(-1d / discountFactor / relativeYearFraction)
             .multipliedBy(sens.getCurrency(), sens.getSensitivity()));
-    assertThat(test.parameterSensitivity(sens)).isEqualTo(expected);
+    assertThat(test.parameterSensitivity(sens).equalWithTolerance(expected, TOL)).isTrue();
   }
 
   @Test
@@ -373,6 +385,17 @@ public class SimpleDiscountFactorsTest {
     assertThat(test.parameterSensitivity(point).size()).isEqualTo(1);
   }
 
+  @Test
+  public void test_parameterSensitivity_accumulator() {
+    SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    ZeroRateSensitivity point = ZeroRateSensitivity.of(GBP, 1.5d, 25d);
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    test.parameterSensitivity(point, accumulator);
+    test.parameterSensitivity(point, accumulator);
+    CurrencyParameterSensitivities expected = test.parameterSensitivity(point).multipliedBy(2d);
+    assertThat(accumulator.build().equalWithTolerance(expected, 1e-10)).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_createParameterSensitivity() {
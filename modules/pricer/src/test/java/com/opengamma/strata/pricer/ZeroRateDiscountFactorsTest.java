@@ -32,6 +32,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 
 /**
  * Test {@link ZeroRateDiscountFactors}.
@@ -102,6 +103,17 @@ public class ZeroRateDiscountFactorsTest {
     assertThat(test.discountFactor(DATE_AFTER)).isEqualTo(expected);
   }
 
+  @Test
+  public void test_discountFactors() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    DoubleArray yearFractions = DoubleArray.of(
+        test.relativeYearFraction(DATE_BEFORE),
+        test.relativeYearFraction(DATE_VAL),
+        test.relativeYearFraction(DATE_AFTER),
+        test.relativeYearFraction(DATE_AFTER.plusYears(1)));
+    assertThat(test.discountFactors(yearFractions)).isEqualTo(yearFractions.map(test::discountFactor));
+  }
+
   @Test
   public void test_discountFactor_beforeValDate() {
     ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -344,6 +356,17 @@ public class ZeroRateDiscountFactorsTest {
     assertThat(test.parameterSensitivity(point).size()).isEqualTo(1);
   }
 
+  @Test
+  public void test_parameterSensitivity_accumulator() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    ZeroRateSensitivity point = ZeroRateSensitivity.of(GBP, 1.5d, 25d);
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    test.parameterSensitivity(point, accumulator);
+    test.parameterSensitivity(point, accumulator);
+    CurrencyParameterSensitivities expected = test.parameterSensitivity(point).multipliedBy(2d);
+    assertThat(accumulator.build().equalWithTolerance(expected, 1e-10)).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_createParameterSensitivity() {
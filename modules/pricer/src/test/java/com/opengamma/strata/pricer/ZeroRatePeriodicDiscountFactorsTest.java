@@ -33,6 +33,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 
 /**
@@ -137,6 +138,17 @@ public class ZeroRatePeriodicDiscountFactorsTest {
     assertThat(test.discountFactor(DATE_AFTER)).isEqualTo(expected);
   }
 
+  @Test
+  public void test_discountFactors() {
+    ZeroRatePeriodicDiscountFactors test = ZeroRatePeriodicDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    DoubleArray yearFractions = DoubleArray.of(
+        test.relativeYearFraction(DATE_BEFORE),
+        test.relativeYearFraction(DATE_VAL),
+        test.relativeYearFraction(DATE_AFTER),
+        test.relativeYearFraction(DATE_AFTER.plusYears(1)));
+    assertThat(test.discountFactors(yearFractions)).isEqualTo(yearFractions.map(test::discountFactor));
+  }
+
   @Test
   public void test_discountFactor_beforeValDate() {
     ZeroRatePeriodicDiscountFactors test = ZeroRatePeriodicDiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -384,6 +396,17 @@ public class ZeroRatePeriodicDiscountFactorsTest {
     assertThat(sensi1.getCurrency()).isEqualTo(GBP);
   }
 
+  @Test
+  public void test_parameterSensitivity_accumulator() {
+    ZeroRatePeriodicDiscountFactors test = ZeroRatePeriodicDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    ZeroRateSensitivity point = test.zeroRatePointSensitivity(DATE_AFTER).multipliedBy(25d);
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    test.parameterSensitivity(point, accumulator);
+    test.parameterSensitivity(point, accumulator);
+    CurrencyParameterSensitivities expected = test.parameterSensitivity(point).multipliedBy(2d);
+    assertThat(accumulator.build().equalWithTolerance(expected, 1e-10)).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_parameterSensitivity_full() {
@@ -9,10 +9,15 @@ import static com.opengamma.strata.basics.currency.Currency.EUR;
 import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
 import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.Test;
 
@@ -294,4 +299,84 @@ public class FastCreditCurveCalibratorTest extends IsdaCompliantCreditCurveCalib
     testJacobian(BUILDER_MARKIT, ccMf, ratesProvider, nodes, quotes, ONE_PC, EPS);
   }
 
+  @Test
+  public void calibrateAllTest() throws Exception {
+    LocalDate valuationDate = LocalDate.of(2013, 2, 27);
+    DoubleArray ycTime = DoubleArray.of(0.5123287671232877, 1.010958904109589, 2.008219178082192, 5.008219178082192,
+        10.01095890410959);
+    DoubleArray ycRate = DoubleArray.of(0.004599628230463427, 0.0075703969168129295, 0.003965128877560435,
+        0.009361825469323602, 0.020289623737560873);
+    IsdaCreditDiscountFactors yc =
+        IsdaCreditDiscountFactors.of(EUR, valuationDate, CurveName.of("yc_usd"), ycTime, ycRate, ACT_365F);
+    LocalDate startDate = LocalDate.of(2012, 12, 20);
+    LocalDate[] pillarDates = new LocalDate[] {
+        LocalDate.of(2013, 9, 20), LocalDate.of(2015, 3, 20), LocalDate.of(2018, 3, 20), LocalDate.of(2023, 3, 20)};
+    double[] quotes = new double[] {0.006485, 0.011763, 0.021905, 0.027549};
+    int nPillars = pillarDates.length;
+    int nNames = 5;
+    ImmutableMarketDataBuilder builderCredit = ImmutableMarketData.builder(valuationDate);
+    ImmutableMap.Builder<StandardId, RecoveryRates> recoveryRates = ImmutableMap.builder();
+    List<IsdaCreditCurveDefinition> curveDefinitions = new ArrayList<>(nNames);
+    CdsConvention conv = ImmutableCdsConvention.of("conv", EUR, ACT_360, Frequency.P3M, BUS_ADJ, CDS_SETTLE_STD);
+    for (int j = 0; j < nNames; ++j) {
+      StandardId legalEntity = StandardId.of("OG", "ABC" + j);
+      recoveryRates.put(legalEntity, ConstantRecoveryRates.of(legalEntity, valuationDate, 0.25 + 0.05 * j));
+      List<CdsIsdaCreditCurveNode> nodes = new ArrayList<>(nPillars);
+      for (int i = 0; i < nPillars; ++i) {
+        CdsTemplate temp = DatesCdsTemplate.of(startDate, pillarDates[i], conv);
+        QuoteId id = QuoteId.of(StandardId.of("OG", legalEntity.getValue() + pillarDates[i].toString()));
+        nodes.add(CdsIsdaCreditCurveNode.ofParSpread(temp, id, legalEntity));
+        builderCredit.addValue(id, quotes[i] * (1d + 0.1 * j));
+      }
+      curveDefinitions.add(IsdaCreditCurveDefinition.of(
+          CurveName.of("cc" + j), EUR, valuationDate, ACT_365F, nodes, j % 2 == 0, false));
+    }
+    ImmutableMarketData marketData = builderCredit.build();
+    ImmutableCreditRatesProvider ratesProvider = ImmutableCreditRatesProvider.builder()
+        .valuationDate(valuationDate)
+        .discountCurves(ImmutableMap.of(EUR, yc))
+        .recoveryRateCurves(recoveryRates.build())
+        .creditCurves(ImmutableMap.of())
+        .build();
+    List<LegalEntitySurvivalProbabilities> computed =
+        BUILDER_ISDA.calibrateAll(curveDefinitions, marketData, ratesProvider, REF_DATA);
+    assertThat(computed).hasSize(nNames);
+    for (int j = 0; j < nNames; ++j) {
+      LegalEntitySurvivalProbabilities expected =
+          BUILDER_ISDA.calibrate(curveDefinitions.get(j), marketData, ratesProvider, REF_DATA);
+      assertThat(computed.get(j)).isEqualTo(expected);
+    }
+    assertThatExceptionOfType(RejectedExecutionException.class)
+        .isThrownBy(() -> BUILDER_ISDA.calibrateAll(curveDefinitions, marketData, ratesProvider, REF_DATA, task -> {
+          throw new RejectedExecutionException();
+        }));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<LegalEntitySurvivalProbabilities> computedParallel =
+          BUILDER_ISDA.calibrateAll(curveDefinitions, marketData, ratesProvider, REF_DATA, executor);
+      assertThat(computedParallel).isEqualTo(computed);
+      // the curves have the same knots, thus share the integration schedule across threads
+      DoubleArray knots = ((IsdaCreditDiscountFactors) computed.get(0).getSurvivalProbabilities()).getCurve().getXValues();
+      double end = knots.get(nPillars - 1);
+      List<Future<IsdaIntegrationSchedule>> schedules = new ArrayList<>(nNames);
+      for (int j = 0; j < nNames; ++j) {
+        schedules.add(executor.submit(() -> IsdaIntegrationSchedule.of(yc, knots, 0d, end)));
+      }
+      IsdaIntegrationSchedule schedule = schedules.get(0).get();
+      for (int j = 0; j < nNames; ++j) {
+        LegalEntitySurvivalProbabilities creditCurve = computed.get(j);
+        assertThat(((IsdaCreditDiscountFactors) creditCurve.getSurvivalProbabilities()).getCurve().getXValues())
+            .isEqualTo(knots);
+        assertThat(schedules.get(j).get()).isSameAs(schedule);
+        double[] survivalRt = schedule.survivalRt(creditCurve);
+        for (int i = 0; i < schedule.size(); ++i) {
+          double t = schedule.getPoints().get(i);
+          assertThat(survivalRt[i]).isEqualTo(creditCurve.zeroRate(t) * t);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.credit;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.DefaultCurveMetadata;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+
+/**
+ * Test {@link IsdaIntegrationSchedule}.
+ */
+public class IsdaIntegrationScheduleTest {
+
+  private static final LocalDate VALUATION_DATE = LocalDate.of(2014, 1, 3);
+  private static final StandardId LEGAL_ENTITY = StandardId.of("OG", "ABC");
+  private static final DoubleArray TIME_YC = DoubleArray.of(0.25, 0.5, 1d, 2d, 5d, 10d);
+  private static final DoubleArray RATE_YC = DoubleArray.of(0.001, 0.002, 0.004, 0.008, 0.012, 0.015);
+  private static final DoubleArray TIME_CC = DoubleArray.of(0.5, 1.2, 3.7, 5.7, 10.7);
+  private static final DoubleArray RATE_CC = DoubleArray.of(0.010, 0.012, 0.017, 0.023, 0.029);
+  private static final CreditDiscountFactors YIELD_CRVE = curve("yield", TIME_YC, RATE_YC);
+  private static final LegalEntitySurvivalProbabilities CREDIT_CRVE =
+      LegalEntitySurvivalProbabilities.of(LEGAL_ENTITY, curve("credit", TIME_CC, RATE_CC));
+
+  private static CreditDiscountFactors curve(String name, DoubleArray times, DoubleArray rates) {
+    DefaultCurveMetadata metadata = DefaultCurveMetadata.builder()
+        .xValueType(ValueType.YEAR_FRACTION)
+        .yValueType(ValueType.ZERO_RATE)
+        .curveName(name)
+        .dayCount(ACT_365F)
+        .build();
+    InterpolatedNodalCurve nodal = InterpolatedNodalCurve.of(metadata, times, rates,
+        CurveInterpolators.PRODUCT_LINEAR, CurveExtrapolators.FLAT, CurveExtrapolators.PRODUCT_LINEAR);
+    return IsdaCreditDiscountFactors.of(USD, VALUATION_DATE, nodal);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    IsdaIntegrationSchedule test = IsdaIntegrationSchedule.of(YIELD_CRVE, TIME_CC, 0.1, 6.3);
+    DoubleArray expected = DoublesScheduleGenerator.getIntegrationsPoints(0.1, 6.3, TIME_YC, TIME_CC);
+    assertThat(test.getPoints()).isEqualTo(expected);
+    assertThat(test.size()).isEqualTo(expected.size());
+    double[] survivalRt = test.survivalRt(CREDIT_CRVE);
+    for (int i = 0; i < expected.size(); i++) {
+      double t = expected.get(i);
+      assertThat(test.discountRt(i)).isEqualTo(YIELD_CRVE.zeroRate(t) * t);
+      assertThat(test.discountRt(YIELD_CRVE, t)).isEqualTo(YIELD_CRVE.zeroRate(t) * t);
+      assertThat(survivalRt[i]).isEqualTo(CREDIT_CRVE.zeroRate(t) * t);
+      assertThat(test.survivalRt(CREDIT_CRVE, survivalRt, t)).isEqualTo(CREDIT_CRVE.zeroRate(t) * t);
+    }
+    // off the schedule
+    assertThat(test.discountRt(YIELD_CRVE, 3.3)).isEqualTo(YIELD_CRVE.zeroRate(3.3) * 3.3);
+    assertThat(test.survivalRt(CREDIT_CRVE, survivalRt, 3.3)).isEqualTo(CREDIT_CRVE.zeroRate(3.3) * 3.3);
+  }
+
+  @Test
+  public void test_cache() {
+    IsdaIntegrationSchedule base = IsdaIntegrationSchedule.of(YIELD_CRVE, TIME_CC, 0.1, 6.3);
+    assertThat(IsdaIntegrationSchedule.of(YIELD_CRVE, DoubleArray.copyOf(TIME_CC.toArray()), 0.1, 6.3)).isSameAs(base);
+    assertThat(base.survivalRt(CREDIT_CRVE)).isSameAs(base.survivalRt(CREDIT_CRVE));
+    // curves compared by value
+    assertThat(IsdaIntegrationSchedule.of(curve("yield", TIME_YC, RATE_YC), TIME_CC, 0.1, 6.3)).isSameAs(base);
+    LegalEntitySurvivalProbabilities equalCredit =
+        LegalEntitySurvivalProbabilities.of(LEGAL_ENTITY, curve("credit", TIME_CC, RATE_CC));
+    assertThat(base.survivalRt(equalCredit)).isSameAs(base.survivalRt(CREDIT_CRVE));
+    // different window or curves
+    assertThat(IsdaIntegrationSchedule.of(YIELD_CRVE, TIME_CC, 0.1, 7.3)).isNotSameAs(base);
+    assertThat(IsdaIntegrationSchedule.of(curve("yield", TIME_YC, RATE_YC.multipliedBy(2d)), TIME_CC, 0.1, 6.3))
+        .isNotSameAs(base);
+    LegalEntitySurvivalProbabilities other =
+        LegalEntitySurvivalProbabilities.of(LEGAL_ENTITY, curve("credit", TIME_CC, RATE_CC.multipliedBy(2d)));
+    assertThat(base.survivalRt(other)).isNotEqualTo(base.survivalRt(CREDIT_CRVE));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of cached schedules and credit curve values.
+   * <p>
+   * This is used by tests of the calculation engine, which prices each trade using new curve instances.
+   *
+   * @return the number of cache entries
+   */
+  public static long cacheSize() {
+    return IsdaIntegrationSchedule.cacheSize();
+  }
+
+}
@@ -10,6 +10,7 @@ import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
 import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
 import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
@@ -20,10 +21,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
@@ -35,7 +39,9 @@ import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.data.ImmutableMarketData;
 import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataNotFoundException;
 import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupName;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
@@ -53,6 +59,7 @@ import com.opengamma.strata.market.curve.node.IborFixingDepositCurveNode;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.pricer.deposit.DiscountingIborFixingDepositProductPricer;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
 import com.opengamma.strata.product.ResolvedTrade;
@@ -211,6 +218,40 @@ public class CalibrationDiscountingSimple1Test {
     }
   }
 
+  @Test
+  public void calibration_scenarios() {
+    ImmutableRatesProvider base = CALIBRATOR.calibrate(CURVE_GROUP_DEFN, ALL_QUOTES, REF_DATA);
+    List<MarketData> scenarios = new ArrayList<>();
+    for (int scenario = 0; scenario < 3; scenario++) {
+      ImmutableMarketDataBuilder builder = ImmutableMarketData.builder(VAL_DATE);
+      for (int i = 0; i < FWD3_NB_NODES; i++) {
+        builder.addValue(QuoteId.of(StandardId.of(SCHEME, FWD3_ID_VALUE[i])), FWD3_MARKET_QUOTES[i] + scenario * 0.0001);
+      }
+      scenarios.add(builder.build());
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      List<ImmutableRatesProvider> test = CALIBRATOR.calibrateScenarios(
+          CURVE_GROUP_DEFN, base, scenarios, REF_DATA, executor);
+      assertThat(test).hasSize(3);
+      for (int scenario = 0; scenario < 3; scenario++) {
+        Curve expected = CALIBRATOR.calibrate(CURVE_GROUP_DEFN, scenarios.get(scenario), REF_DATA)
+            .findData(ALL_CURVE_NAME).get();
+        Curve curve = test.get(scenario).findData(ALL_CURVE_NAME).get();
+        for (int i = 0; i < expected.getParameterCount(); i++) {
+          assertThat(curve.getParameter(i)).isCloseTo(expected.getParameter(i), offset(1e-8));
+        }
+      }
+      // missing market data in one scenario causes the whole calibration to fail
+      List<MarketData> missing = ImmutableList.of(ALL_QUOTES, MarketData.empty(VAL_DATE));
+      assertThatExceptionOfType(MarketDataNotFoundException.class)
+          .isThrownBy(() -> CALIBRATOR.calibrateScenarios(
+              CURVE_GROUP_DEFN, base, missing, REF_DATA, executor));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Disabled
   void performance() {
@@ -33,6 +33,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
@@ -48,12 +49,15 @@ import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.DefaultCurveMetadata;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
 import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
@@ -394,6 +398,61 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
     calibration_market_quote_sensitivity_check(calibrator, shift);
   }
 
+  @Test
+  public void recalibration_threeGroups() {
+    List<RatesCurveGroupDefinition> groups = ImmutableList.of(GROUP_1, GROUP_2, GROUP_3);
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(groups, KNOWN_DATA, ALL_QUOTES, REF_DATA);
+    // no change reuses all curves
+    ImmutableRatesProvider unchanged =
+        CALIBRATOR.recalibrate(groups, previous, KNOWN_DATA, ALL_QUOTES, ImmutableSet.of(), REF_DATA);
+    assertThat(unchanged).isEqualTo(previous);
+    // change in the last group only solves the last group
+    QuoteId fwd6Id = QuoteId.of(StandardId.of(SCHEME, FWD6_ID_VALUE[2]));
+    ImmutableMarketData fwd6Changed = ALL_QUOTES.toBuilder().addValue(fwd6Id, FWD6_MARKET_QUOTES[2] + 0.0001).build();
+    ImmutableRatesProvider test1 =
+        CALIBRATOR.recalibrate(groups, previous, KNOWN_DATA, fwd6Changed, ImmutableSet.of(fwd6Id), REF_DATA);
+    ImmutableRatesProvider expected1 = CALIBRATOR.calibrate(groups, KNOWN_DATA, fwd6Changed, REF_DATA);
+    assertThat(test1.findData(DSCON_CURVE_NAME)).isEqualTo(previous.findData(DSCON_CURVE_NAME));
+    assertThat(test1.findData(FWD3_CURVE_NAME)).isEqualTo(previous.findData(FWD3_CURVE_NAME));
+    assertCurveParameters(test1, expected1, FWD6_CURVE_NAME);
+    assertPresentValue(test1, fwd6Changed);
+    // change in the first group solves all groups
+    QuoteId dscId = QuoteId.of(StandardId.of(SCHEME, DSC_ID_VALUE[3]));
+    ImmutableMarketData dscChanged = ALL_QUOTES.toBuilder().addValue(dscId, DSC_MARKET_QUOTES[3] + 0.0001).build();
+    ImmutableRatesProvider test2 =
+        CALIBRATOR.recalibrate(groups, previous, KNOWN_DATA, dscChanged, ImmutableSet.of(dscId), REF_DATA);
+    ImmutableRatesProvider expected2 = CALIBRATOR.calibrate(groups, KNOWN_DATA, dscChanged, REF_DATA);
+    assertCurveParameters(test2, expected2, DSCON_CURVE_NAME);
+    assertCurveParameters(test2, expected2, FWD3_CURVE_NAME);
+    assertCurveParameters(test2, expected2, FWD6_CURVE_NAME);
+    assertPresentValue(test2, dscChanged);
+    assertThat(test2.findData(FWD6_CURVE_NAME).get().getMetadata().findInfo(CurveInfoType.JACOBIAN)).isPresent();
+  }
+
+  @Test
+  public void recalibration_oneGroup() {
+    ImmutableRatesProvider previousProvider = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA);
+    RatesCurveGroup previous = RatesCurveGroup.of(
+        CURVE_GROUP_NAME, previousProvider.getDiscountCurves(), previousProvider.getIndexCurves());
+    QuoteId fwd3Id = QuoteId.of(StandardId.of(SCHEME, FWD3_ID_VALUE[4]));
+    ImmutableMarketData changed = ALL_QUOTES.toBuilder().addValue(fwd3Id, FWD3_MARKET_QUOTES[4] - 0.0002).build();
+    ImmutableRatesProvider test =
+        CALIBRATOR.recalibrate(CURVE_GROUP_CONFIG, previous, changed, ImmutableSet.of(fwd3Id), REF_DATA);
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, changed, REF_DATA);
+    assertCurveParameters(test, expected, DSCON_CURVE_NAME);
+    assertCurveParameters(test, expected, FWD3_CURVE_NAME);
+    assertCurveParameters(test, expected, FWD6_CURVE_NAME);
+    assertPresentValue(test, changed);
+  }
+
+  private static void assertCurveParameters(RatesProvider test, RatesProvider expected, CurveName name) {
+    Curve testCurve = test.findData(name).get();
+    Curve expectedCurve = expected.findData(name).get();
+    for (int i = 0; i < expectedCurve.getParameterCount(); i++) {
+      assertThat(testCurve.getParameter(i)).isCloseTo(expectedCurve.getParameter(i), offset(1e-8));
+    }
+  }
+
   private void calibration_market_quote_sensitivity_check(
       Function<MarketData, RatesProvider> calibrator,
       double shift) {
@@ -437,11 +496,15 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
   }
 
   private void assertPresentValue(RatesProvider result) {
+    assertPresentValue(result, ALL_QUOTES);
+  }
+
+  private void assertPresentValue(RatesProvider result, MarketData marketData) {
     // Test PV Dsc
     CurveNode[] dscNodes = CURVES_NODES.get(0).get(0);
     List<ResolvedTrade> dscTrades = new ArrayList<>();
     for (int i = 0; i < dscNodes.length; i++) {
-      dscTrades.add(dscNodes[i].resolvedTrade(1d, ALL_QUOTES, REF_DATA));
+      dscTrades.add(dscNodes[i].resolvedTrade(1d, marketData, REF_DATA));
     }
     // Depo
     for (int i = 0; i < DSC_NB_DEPO_NODES; i++) {
@@ -459,7 +522,7 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
     CurveNode[] fwd3Nodes = CURVES_NODES.get(1).get(0);
     List<ResolvedTrade> fwd3Trades = new ArrayList<>();
     for (int i = 0; i < fwd3Nodes.length; i++) {
-      fwd3Trades.add(fwd3Nodes[i].resolvedTrade(1d, ALL_QUOTES, REF_DATA));
+      fwd3Trades.add(fwd3Nodes[i].resolvedTrade(1d, marketData, REF_DATA));
     }
     // Fixing 
     CurrencyAmount pvFixing3 = FIXING_PRICER.presentValue(
@@ -481,7 +544,7 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
     CurveNode[] fwd6Nodes = CURVES_NODES.get(2).get(0);
     List<ResolvedTrade> fwd6Trades = new ArrayList<>();
     for (int i = 0; i < fwd6Nodes.length; i++) {
-      fwd6Trades.add(fwd6Nodes[i].resolvedTrade(1d, ALL_QUOTES, REF_DATA));
+      fwd6Trades.add(fwd6Nodes[i].resolvedTrade(1d, marketData, REF_DATA));
     }
     // Fixing 
     CurrencyAmount pvFixing6 = FIXING_PRICER.presentValue(
@@ -551,6 +551,18 @@ public class DiscountingFraProductPricerTest {
         .build();
   }
 
+  @Test
+  public void test_presentValueParameterSensitivity() {
+    for (ResolvedFra fra : ImmutableList.of(RFRA, RFRA_NONE, RFRA_AFMA)) {
+      CurrencyParameterSensitivities computed = DEFAULT_PRICER.presentValueParameterSensitivity(fra, IMM_PROV);
+      CurrencyParameterSensitivities expected =
+          IMM_PROV.parameterSensitivity(DEFAULT_PRICER.presentValueSensitivity(fra, IMM_PROV));
+      assertThat(computed.equalWithTolerance(expected, TOLERANCE * Math.abs(fra.getNotional()))).isTrue();
+    }
+    assertThat(DEFAULT_TRADE_PRICER.presentValueParameterSensitivity(RFRA_TRADE, IMM_PROV))
+        .isEqualTo(DEFAULT_PRICER.presentValueParameterSensitivity(RFRA, IMM_PROV));
+  }
+
   /**
    * Test par spread sensitivity for ISDA FRA Discounting method.
    */
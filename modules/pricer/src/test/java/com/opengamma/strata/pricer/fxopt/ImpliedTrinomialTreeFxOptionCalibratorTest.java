@@ -17,6 +17,7 @@ import java.time.ZonedDateTime;
 import org.junit.jupiter.api.Test;
 
 import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.FxMatrix;
 import com.opengamma.strata.pricer.fx.RatesProviderFxDataSets;
 import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
 import com.opengamma.strata.pricer.impl.tree.EuropeanVanillaOptionFunction;
@@ -89,4 +90,22 @@ public class ImpliedTrinomialTreeFxOptionCalibratorTest {
     }
   }
 
+  @Test
+  public void test_cache() {
+    assertThat(CALIB.calibrateTrinomialTree(CALL, RATE_PROVIDER, VOLS)).isSameAs(TREE_DATA);
+    assertThat(CALIB.calibrateTrinomialTree(CALL, RATE_PROVIDER, VOLS_MRKT)).isSameAs(TREE_DATA_MRKT);
+    // the rates provider and volatilities are compared by value
+    assertThat(CALIB.calibrateTrinomialTree(CALL, RATE_PROVIDER.toBuilder().build(), VOLS.toBuilder().build()))
+        .isSameAs(TREE_DATA);
+    RecombiningTrinomialTreeData otherProvider = CALIB.calibrateTrinomialTree(
+        CALL, RatesProviderFxDataSets.createProviderEurUsdFlat(VAL_DATE).toBuilder().build(), VOLS);
+    assertThat(otherProvider).isSameAs(TREE_DATA);
+    RecombiningTrinomialTreeData otherFxRate = CALIB.calibrateTrinomialTree(
+        CALL, RATE_PROVIDER.toBuilder().fxRateProvider(FxMatrix.of(EUR, USD, 1.5d)).build(), VOLS);
+    assertThat(otherFxRate).isNotEqualTo(TREE_DATA);
+    RecombiningTrinomialTreeData otherCalibrator =
+        new ImpliedTrinomialTreeFxOptionCalibrator(39).calibrateTrinomialTree(CALL, RATE_PROVIDER, VOLS);
+    assertThat(otherCalibrator).isNotSameAs(TREE_DATA).isEqualTo(TREE_DATA);
+  }
+
 }
@@ -7,6 +7,8 @@ package com.opengamma.strata.pricer.impl.rate;
 
 import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
 import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_6M;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_6M;
 import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
 import static com.opengamma.strata.basics.index.PriceIndices.US_CPI_U;
 import static com.opengamma.strata.collect.TestHelper.date;
@@ -31,6 +33,9 @@ import com.opengamma.strata.basics.index.IborIndexObservation;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.impl.MockRatesProvider;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -467,4 +472,28 @@ public class DispatchingRateComputationFnTest {
     ignoreThrows(() -> test.explainRate(mock, ACCRUAL_START_DATE, ACCRUAL_END_DATE, MOCK_PROV, explain));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_rateParameterSensitivity() {
+    DispatchingRateComputationFn test = DispatchingRateComputationFn.DEFAULT;
+    RatesProvider prov = RatesProviderDataSets.MULTI_USD;
+    double rateBar = 2.5;
+    List<RateComputation> computations = ImmutableList.of(
+        FixedRateComputation.of(0.0123d),
+        IborRateComputation.of(USD_LIBOR_3M, FIXING_DATE, REF_DATA),
+        IborInterpolatedRateComputation.of(USD_LIBOR_3M, USD_LIBOR_6M, FIXING_DATE, REF_DATA),
+        OvernightCompoundedRateComputation.of(USD_FED_FUND, ACCRUAL_START_DATE, ACCRUAL_END_DATE, 2, REF_DATA),
+        OvernightAveragedRateComputation.of(USD_FED_FUND, ACCRUAL_START_DATE, ACCRUAL_END_DATE, 0, REF_DATA));
+    for (RateComputation computation : computations) {
+      CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+      test.rateParameterSensitivity(computation, ACCRUAL_START_DATE, ACCRUAL_END_DATE, prov, rateBar, accumulator);
+      CurrencyParameterSensitivities expected = prov.parameterSensitivity(
+          test.rateSensitivity(computation, ACCRUAL_START_DATE, ACCRUAL_END_DATE, prov).multipliedBy(rateBar).build());
+      assertThat(accumulator.build().equalWithTolerance(expected, 1e-12)).isTrue();
+    }
+    assertThatIllegalArgumentException().isThrownBy(() -> test.rateParameterSensitivity(
+        mock(RateComputation.class), ACCRUAL_START_DATE, ACCRUAL_END_DATE, prov, rateBar,
+        CurrencyParameterSensitivities.accumulator()));
+  }
+
 }
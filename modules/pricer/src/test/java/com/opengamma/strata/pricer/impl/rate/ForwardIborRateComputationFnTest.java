@@ -6,6 +6,7 @@
 package com.opengamma.strata.pricer.impl.rate;
 
 import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -21,8 +22,12 @@ import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.rate.IborIndexRates;
 import com.opengamma.strata.pricer.rate.IborRateSensitivity;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.SimpleRatesProvider;
 import com.opengamma.strata.product.rate.IborRateComputation;
 
@@ -80,4 +85,23 @@ public class ForwardIborRateComputationFnTest {
     assertThat(obsFn.rateSensitivity(GBP_LIBOR_3M_COMP, ACCRUAL_START_DATE, ACCRUAL_END_DATE, prov)).isEqualTo(SENSITIVITY);
   }
 
+  @Test
+  public void test_rateParameterSensitivity() {
+    ForwardIborRateComputationFn obsFn = ForwardIborRateComputationFn.DEFAULT;
+    double rateBar = 2.5;
+    LocalDate[] fixingDates = {date(2014, 1, 10), date(2014, 1, 22), date(2014, 6, 30)};
+    LocalDateDoubleTimeSeries timeSeries = LocalDateDoubleTimeSeries.of(date(2014, 1, 10), RATE);
+    ImmutableRatesProvider prov = RatesProviderDataSets.MULTI_USD.toBuilder()
+        .timeSeries(USD_LIBOR_3M, timeSeries)
+        .build();
+    for (LocalDate fixingDate : fixingDates) {
+      IborRateComputation comp = IborRateComputation.of(USD_LIBOR_3M, fixingDate, REF_DATA);
+      CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+      obsFn.rateParameterSensitivity(comp, ACCRUAL_START_DATE, ACCRUAL_END_DATE, prov, rateBar, accumulator);
+      CurrencyParameterSensitivities expected = prov.parameterSensitivity(
+          obsFn.rateSensitivity(comp, ACCRUAL_START_DATE, ACCRUAL_END_DATE, prov).multipliedBy(rateBar).build());
+      assertThat(accumulator.build().equalWithTolerance(expected, 1e-12)).isTrue();
+    }
+  }
+
 }
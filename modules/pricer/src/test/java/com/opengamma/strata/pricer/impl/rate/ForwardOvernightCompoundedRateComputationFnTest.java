@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
@@ -35,6 +36,7 @@ import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.PricingException;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
@@ -1037,6 +1039,48 @@ public class ForwardOvernightCompoundedRateComputationFnTest {
         PricingException.class);
   }
 
+  /** Long fixing history, shared by many periods. Test the cumulative compounding against the explicit product. */
+  @Test
+  public void rateFedFund0CutOffLongHistory() {
+    LocalDate valuationDate = date(2017, 1, 3);
+    OvernightIndexRates mockRates = mock(OvernightIndexRates.class);
+    when(mockRates.getIndex()).thenReturn(USD_FED_FUND);
+    when(mockRates.getValuationDate()).thenReturn(valuationDate);
+    SimpleRatesProvider simpleProv = new SimpleRatesProvider(valuationDate, mockRates);
+    HolidayCalendar calendar = REF_DATA.getValue(USD_FED_FUND.getFixingCalendar());
+    LocalDate missingFixing = date(2016, 6, 1);
+    LocalDateDoubleTimeSeriesBuilder tsb = LocalDateDoubleTimeSeries.builder();
+    for (LocalDate fixing = date(2015, 1, 2); fixing.isBefore(valuationDate); fixing = calendar.next(fixing)) {
+      if (!fixing.equals(missingFixing)) {
+        tsb.put(fixing, 0.001 + fixing.getDayOfYear() * 1.0E-5);
+      }
+    }
+    LocalDateDoubleTimeSeries fixings = tsb.build();
+    when(mockRates.getFixings()).thenReturn(fixings);
+    for (int month = 1; month < 12; month++) {
+      LocalDate start = calendar.nextOrSame(date(2015, month, 10));
+      LocalDate end = calendar.nextOrSame(start.plusMonths(3));
+      OvernightCompoundedRateComputation ro =
+          OvernightCompoundedRateComputation.of(USD_FED_FUND, start, end, 0, REF_DATA);
+      double investmentFactor = 1.0;
+      double afTotal = 0.0;
+      for (LocalDate fixing = start; fixing.isBefore(end); fixing = calendar.next(fixing)) {
+        LocalDate endDate = USD_FED_FUND.calculateMaturityFromEffective(fixing, REF_DATA);
+        double af = USD_FED_FUND.getDayCount().yearFraction(fixing, endDate);
+        afTotal += af;
+        investmentFactor *= 1.0d + af * fixings.get(fixing).getAsDouble();
+      }
+      double rateExpected = (investmentFactor - 1.0d) / afTotal;
+      double rateComputed = OBS_FWD_ONCMP.rate(ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, simpleProv);
+      assertThat(rateComputed).isCloseTo(rateExpected, offset(TOLERANCE_RATE));
+    }
+    OvernightCompoundedRateComputation roMissing =
+        OvernightCompoundedRateComputation.of(USD_FED_FUND, date(2016, 5, 2), date(2016, 8, 1), 0, REF_DATA);
+    assertThrows(
+        () -> OBS_FWD_ONCMP.rate(roMissing, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, simpleProv),
+        PricingException.class);
+  }
+
   //-------------------------------------------------------------------------
   private static final CurveInterpolator INTERPOLATOR = CurveInterpolators.DOUBLE_QUADRATIC;
   private static final LocalDateDoubleTimeSeries TIME_SERIES;
@@ -1102,4 +1146,31 @@ public class ForwardOvernightCompoundedRateComputationFnTest {
     }
   }
 
+  /** Test the parameter sensitivity added to the accumulator against the projected point sensitivity. */
+  @Test
+  public void rateParameterSensitivityAccumulator() {
+    LocalDate[] valuationDate = {date(2015, 1, 1), date(2015, 1, 8), date(2015, 1, 12), date(2015, 1, 14)};
+    DoubleArray timeUsd = DoubleArray.of(0.0, 0.5, 1.0, 2.0, 5.0, 10.0);
+    DoubleArray rateUsd = DoubleArray.of(0.0100, 0.0110, 0.0115, 0.0130, 0.0135, 0.0135);
+    double rateBar = 2.5;
+    for (int cutoff = 0; cutoff < 3; cutoff++) {
+      OvernightCompoundedRateComputation ro =
+          OvernightCompoundedRateComputation.of(USD_FED_FUND, FIXING_START_DATE, FIXING_END_DATE, cutoff, REF_DATA);
+      for (int loopvaldate = 0; loopvaldate < valuationDate.length; loopvaldate++) {
+        Curve fedFundCurve = InterpolatedNodalCurve.of(
+            Curves.zeroRates("USD-Fed-Fund", ACT_ACT_ISDA), timeUsd, rateUsd, INTERPOLATOR);
+        ImmutableRatesProvider prov = ImmutableRatesProvider.builder(valuationDate[loopvaldate])
+            .overnightIndexCurve(USD_FED_FUND, fedFundCurve, TIME_SERIES)
+            .build();
+        CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+        OBS_FWD_ONCMP.rateParameterSensitivity(
+            ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, prov, rateBar, accumulator);
+        CurrencyParameterSensitivities expected = prov.parameterSensitivity(
+            OBS_FWD_ONCMP.rateSensitivity(ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, prov)
+                .multipliedBy(rateBar).build());
+        assertThat(accumulator.build().equalWithTolerance(expected, TOLERANCE_RATE)).isTrue();
+      }
+    }
+  }
+
 }
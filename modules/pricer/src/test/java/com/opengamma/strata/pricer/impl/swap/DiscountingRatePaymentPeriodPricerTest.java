@@ -46,6 +46,7 @@ import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
@@ -592,6 +593,33 @@ public class DiscountingRatePaymentPeriodPricerTest {
         sensiExpectedGBP, EPS_FD * PAYMENT_PERIOD_FULL_GS_FX_GBP.getNotional())).isTrue();
   }
 
+  //-------------------------------------------------------------------------
+  public static Object[][] data_presentValueSensitivity_accumulator() {
+    return new Object[][] {
+        {PAYMENT_PERIOD_1},
+        {PAYMENT_PERIOD_FULL_GS},
+        {PAYMENT_PERIOD_FULL_GS_FX_USD},
+        {PAYMENT_PERIOD_FULL_GS_FX_GBP},
+        {PAYMENT_PERIOD_FLOATING},
+        {PAYMENT_PERIOD_COMPOUNDING_STRAIGHT},
+        {PAYMENT_PERIOD_COMPOUNDING_FLAT},
+        {PAYMENT_PERIOD_COMPOUNDING_EXCLUSIVE},
+    };
+  }
+
+  @ParameterizedTest
+  @MethodSource("data_presentValueSensitivity_accumulator")
+  public void test_presentValueSensitivity_accumulator(RatePaymentPeriod period) {
+    DiscountingRatePaymentPeriodPricer pricer = DiscountingRatePaymentPeriodPricer.DEFAULT;
+    ImmutableRatesProvider provider = MULTI_GBP_USD;
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    pricer.addPresentValueSensitivity(period, provider, accumulator);
+    CurrencyParameterSensitivities computed = accumulator.build();
+    CurrencyParameterSensitivities expected =
+        provider.parameterSensitivity(pricer.presentValueSensitivity(period, provider).build());
+    assertThat(computed.equalWithTolerance(expected, TOLERANCE_PV)).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   @SuppressWarnings("null")
   private List<IborRateSensitivity> futureFwdSensitivityFD(RatesProvider provider, RatePaymentPeriod payment,
@@ -34,6 +34,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
 
@@ -211,6 +212,17 @@ public class DiscountIborIndexRatesTest {
     assertThat(test.parameterSensitivity(point).size()).isEqualTo(1);
   }
 
+  @Test
+  public void test_parameterSensitivity_accumulator() {
+    DiscountIborIndexRates test = DiscountIborIndexRates.of(GBP_LIBOR_3M, DFCURVE, SERIES);
+    IborRateSensitivity point = IborRateSensitivity.of(GBP_LIBOR_3M_AFTER, GBP, 25d);
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    test.parameterSensitivity(point, accumulator);
+    test.parameterSensitivity(point, accumulator);
+    CurrencyParameterSensitivities expected = test.parameterSensitivity(point).multipliedBy(2d);
+    assertThat(accumulator.build().equalWithTolerance(expected, 1e-10)).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_createParameterSensitivity() {
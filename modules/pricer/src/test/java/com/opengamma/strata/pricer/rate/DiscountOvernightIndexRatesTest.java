@@ -33,6 +33,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAccumulator;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
 
@@ -270,6 +271,17 @@ public class DiscountOvernightIndexRatesTest {
     OvernightRateSensitivity point = OvernightRateSensitivity.ofPeriod(EUR_EONIA_AFTER, DATE_AFTER_END, EUR, 1d);
     assertThat(test.parameterSensitivity(point).size()).isEqualTo(1);
   }
+
+  @Test
+  public void test_parameterSensitivity_accumulator() {
+    DiscountOvernightIndexRates test = DiscountOvernightIndexRates.of(EUR_EONIA, DFCURVE, SERIES);
+    OvernightRateSensitivity point = OvernightRateSensitivity.ofPeriod(EUR_EONIA_AFTER, DATE_AFTER_END, EUR, 25d);
+    CurrencyParameterSensitivitiesAccumulator accumulator = CurrencyParameterSensitivities.accumulator();
+    test.parameterSensitivity(point, accumulator);
+    test.parameterSensitivity(point, accumulator);
+    CurrencyParameterSensitivities expected = test.parameterSensitivity(point).multipliedBy(2d);
+    assertThat(accumulator.build().equalWithTolerance(expected, 1e-10)).isTrue();
+  }
   
   //-------------------------------------------------------------------------
   @Test
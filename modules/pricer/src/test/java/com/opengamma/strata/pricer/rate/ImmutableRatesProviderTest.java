@@ -18,6 +18,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.time.LocalDate;
 
 import org.joda.beans.Bean;
@@ -90,6 +94,7 @@ public class ImmutableRatesProviderTest {
         .discountCurve(USD, DISCOUNT_CURVE_USD)
         .build();
     assertThat(test.discountFactors(GBP).getCurrency()).isEqualTo(GBP);
+    assertThat(test.discountFactors(GBP)).isSameAs(test.discountFactors(GBP));
   }
 
   @Test
@@ -161,6 +166,7 @@ public class ImmutableRatesProviderTest {
         .build();
     assertThat(test.iborIndexRates(USD_LIBOR_3M).getIndex()).isEqualTo(USD_LIBOR_3M);
     assertThat(test.iborIndexRates(USD_LIBOR_3M).getFixings()).isEqualTo(ts);
+    assertThat(test.iborIndexRates(USD_LIBOR_3M)).isSameAs(test.iborIndexRates(USD_LIBOR_3M));
     assertThat(test.indices()).containsOnly(USD_LIBOR_3M);
     assertThat(test.getIborIndices()).containsOnly(USD_LIBOR_3M);
     assertThat(test.getTimeSeriesIndices()).containsOnly(USD_LIBOR_3M);
@@ -206,6 +212,7 @@ public class ImmutableRatesProviderTest {
         .build();
     assertThat(test.overnightIndexRates(USD_FED_FUND).getIndex()).isEqualTo(USD_FED_FUND);
     assertThat(test.overnightIndexRates(USD_FED_FUND).getFixings()).isEqualTo(ts);
+    assertThat(test.overnightIndexRates(USD_FED_FUND)).isSameAs(test.overnightIndexRates(USD_FED_FUND));
     assertThat(test.indices()).containsOnly(USD_FED_FUND);
     assertThat(test.getOvernightIndices()).containsOnly(USD_FED_FUND);
     assertThat(test.getTimeSeriesIndices()).containsOnly(USD_FED_FUND);
@@ -338,6 +345,23 @@ public class ImmutableRatesProviderTest {
     cycleBean(ImmutableRatesProvider.builder(VAL_DATE).build());
   }
   
+  @Test
+  public void testSerializeDeserialize_java() throws Exception {
+    ImmutableRatesProvider test = ImmutableRatesProvider.builder(VAL_DATE)
+        .discountCurve(GBP, DISCOUNT_CURVE_GBP)
+        .build();
+    test.discountFactors(GBP);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+      oos.writeObject(test);
+    }
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+      ImmutableRatesProvider cycled = (ImmutableRatesProvider) ois.readObject();
+      assertThat(cycled).isEqualTo(test);
+      assertThat(cycled.discountFactors(GBP)).isEqualTo(test.discountFactors(GBP));
+    }
+  }
+
   private void cycleBean(Bean bean) {
     JodaBeanSer ser = JodaBeanSer.COMPACT;
     String result = ser.xmlWriter().write(bean);
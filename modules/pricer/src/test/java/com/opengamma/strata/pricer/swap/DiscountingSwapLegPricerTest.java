@@ -152,6 +152,9 @@ public class DiscountingSwapLegPricerTest {
     double df2 = 0.98d;
     when(mockProv.discountFactor(USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate()))
         .thenReturn(df2);
+    when(mockProv.discountFactors(USD, ImmutableList.of(
+        FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate(), FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate())))
+        .thenReturn(DoubleArray.of(df1, df2));
     when(mockProv.getValuationDate()).thenReturn(RatesProviderDataSets.VAL_DATE_2014_01_22);
     double pvbp = PRICER_LEG.pvbp(leg, mockProv);
     double ceExpected = PRICER_LEG.presentValuePeriodsInternal(leg, mockProv) / pvbp;
@@ -203,6 +206,8 @@ public class DiscountingSwapLegPricerTest {
     double df1 = 0.99d;
     when(mockProv.discountFactor(GBP, p.getPaymentDate()))
         .thenReturn(df1);
+    when(mockProv.discountFactors(GBP, ImmutableList.of(p.getPaymentDate())))
+        .thenReturn(DoubleArray.of(df1));
     double spread = 1.0E-6;
     RateAccrualPeriod ap1 = FIXED_RATE_ACCRUAL_PERIOD.toBuilder().spread(spread).build();
     RateAccrualPeriod ap2 = FIXED_RATE_ACCRUAL_PERIOD_2.toBuilder().spread(spread).build();
@@ -799,6 +804,9 @@ public class DiscountingSwapLegPricerTest {
     when(mockProv.discountFactor(expSwapLeg.getCurrency(), period1.getPaymentDate())).thenReturn(df1);
     when(mockProv.discountFactor(expSwapLeg.getCurrency(), period2.getPaymentDate())).thenReturn(df2);
     when(mockProv.discountFactor(expSwapLeg.getCurrency(), event.getPaymentDate())).thenReturn(df);
+    when(mockProv.discountFactors(
+        expSwapLeg.getCurrency(), ImmutableList.of(period1.getPaymentDate(), period2.getPaymentDate())))
+        .thenReturn(DoubleArray.of(df1, df2));
     DiscountingSwapLegPricer pricer = new DiscountingSwapLegPricer(mockPeriod, eventPricer);
 
     CashFlows computed = pricer.cashFlows(expSwapLeg, mockProv);
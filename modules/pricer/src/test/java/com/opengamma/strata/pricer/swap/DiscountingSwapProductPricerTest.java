@@ -814,6 +814,25 @@ public class DiscountingSwapProductPricerTest {
     assertThat(psComputed.equalWithTolerance(psExpected, TOLERANCE_PV_PS)).isTrue();
   }
 
+  @Test
+  public void test_presentValueParameterSensitivity() {
+    DiscountingSwapProductPricer pricerSwap = DiscountingSwapProductPricer.DEFAULT;
+    ResolvedSwap swap = SWAP_USD_FIXED_6M_LIBOR_3M_5Y.resolve(REF_DATA).getProduct();
+    CurrencyParameterSensitivities psComputed = pricerSwap.presentValueParameterSensitivity(swap, MULTI_USD);
+    CurrencyParameterSensitivities psExpected =
+        MULTI_USD.parameterSensitivity(pricerSwap.presentValueSensitivity(swap, MULTI_USD).build());
+    assertThat(psComputed.equalWithTolerance(psExpected, TOLERANCE_PV)).isTrue();
+    // BRL swap, with overnight compounding
+    CurrencyParameterSensitivities psComputedBrl = pricerSwap.presentValueParameterSensitivity(BRL_SWAP, BRL_DSCON);
+    CurrencyParameterSensitivities psExpectedBrl =
+        BRL_DSCON.parameterSensitivity(pricerSwap.presentValueSensitivity(BRL_SWAP, BRL_DSCON).build());
+    assertThat(psComputedBrl.equalWithTolerance(psExpectedBrl, TOLERANCE_PV)).isTrue();
+    // via the trade pricer
+    ResolvedSwapTrade trade = SWAP_USD_FIXED_6M_LIBOR_3M_5Y.resolve(REF_DATA);
+    assertThat(DiscountingSwapTradePricer.DEFAULT.presentValueParameterSensitivity(trade, MULTI_USD))
+        .isEqualTo(psComputed);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_forecastValueSensitivity() {
@@ -892,6 +911,10 @@ public class DiscountingSwapProductPricerTest {
         IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getPaymentDate())).thenReturn(df1);
     when(mockProv.discountFactor(FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getCurrency(),
         FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate())).thenReturn(df2);
+    when(mockProv.discountFactors(IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getCurrency(),
+        ImmutableList.of(IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getPaymentDate()))).thenReturn(DoubleArray.of(df1));
+    when(mockProv.discountFactors(FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getCurrency(),
+        ImmutableList.of(FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate()))).thenReturn(DoubleArray.of(df2));
     SwapPaymentEventPricer<SwapPaymentEvent> mockEvent = mock(SwapPaymentEventPricer.class);
     DiscountingSwapLegPricer pricerLeg = new DiscountingSwapLegPricer(mockPeriod, mockEvent);
     DiscountingSwapProductPricer pricerSwap = new DiscountingSwapProductPricer(pricerLeg);
@@ -8,8 +8,13 @@ package com.opengamma.strata.report.framework.expression;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.joda.beans.Bean;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -38,9 +43,18 @@ import com.opengamma.strata.market.amount.LegAmounts;
  * the remaining tokens do not include the property token. If the token doesn't match the property, the property value
  * is returned but the token isn't consumed. i.e. the remaining tokens returned from {@link #evaluate} include
  * the first token.
+ * <p>
+ * For immutable beans, the property matching each token is resolved once per bean type and cached,
+ * and the value is then obtained directly from the meta-property.
  */
 public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
 
+  /**
+   * The resolved properties of immutable beans, keyed by meta-bean and then by token.
+   */
+  private static final ConcurrentMap<MetaBean, ConcurrentMap<String, Optional<MetaProperty<?>>>> PROPERTIES =
+      new ConcurrentHashMap<>();
+
   @Override
   public Class<Bean> getTargetType() {
     return Bean.class;
@@ -69,12 +83,10 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
       String firstToken,
       List<String> remainingTokens) {
 
-    Optional<String> propertyName = bean.propertyNames().stream()
-        .filter(p -> p.equalsIgnoreCase(firstToken))
-        .findFirst();
+    Optional<MetaProperty<?>> property = findProperty(bean, firstToken);
 
-    if (propertyName.isPresent()) {
-      Object propertyValue = bean.property(propertyName.get()).get();
+    if (property.isPresent()) {
+      Object propertyValue = property.get().get(bean);
 
       return propertyValue != null ?
           EvaluationResult.success(propertyValue, remainingTokens) :
@@ -95,4 +107,28 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
     return invalidTokenFailure(bean, firstToken);
   }
 
+  // finds the property matching the token, ignoring case
+  // the set of properties of an immutable bean is fixed by its meta-bean, thus the match can be cached
+  private static Optional<MetaProperty<?>> findProperty(Bean bean, String token) {
+    if (!(bean instanceof ImmutableBean)) {
+      return matchProperty(bean, token);
+    }
+    ConcurrentMap<String, Optional<MetaProperty<?>>> properties =
+        PROPERTIES.computeIfAbsent(bean.metaBean(), metaBean -> new ConcurrentHashMap<>());
+    Optional<MetaProperty<?>> cached = properties.get(token);
+    if (cached == null) {
+      cached = matchProperty(bean, token);
+      properties.putIfAbsent(token, cached);
+    }
+    return cached;
+  }
+
+  // matches the token against the property names of the bean
+  private static Optional<MetaProperty<?>> matchProperty(Bean bean, String token) {
+    return bean.propertyNames().stream()
+        .filter(p -> p.equalsIgnoreCase(token))
+        .findFirst()
+        .map(p -> bean.property(p).metaProperty());
+  }
+
 }
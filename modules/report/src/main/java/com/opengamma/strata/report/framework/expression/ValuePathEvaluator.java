@@ -11,6 +11,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.IntStream;
 
 import com.google.common.base.Joiner;
@@ -53,6 +55,12 @@ public final class ValuePathEvaluator {
       new BeanTokenEvaluator(),
       new IterableTokenEvaluator());
 
+  /**
+   * The evaluator to use for each target type, resolved once per type.
+   */
+  private static final ConcurrentMap<Class<?>, Optional<TokenEvaluator<Object>>> EVALUATORS_BY_TYPE =
+      new ConcurrentHashMap<>();
+
   //-------------------------------------------------------------------------
   /**
    * Gets the measure encoded in a value path, if present.
@@ -143,8 +151,14 @@ public final class ValuePathEvaluator {
     return ImmutableList.copyOf(tokens);
   }
 
-  @SuppressWarnings("unchecked")
   private static Optional<TokenEvaluator<Object>> getEvaluator(Class<?> targetClass) {
+    Optional<TokenEvaluator<Object>> cached = EVALUATORS_BY_TYPE.get(targetClass);
+    return cached != null ? cached : EVALUATORS_BY_TYPE.computeIfAbsent(targetClass, ValuePathEvaluator::findEvaluator);
+  }
+
+  // finds the first evaluator that can handle the type
+  @SuppressWarnings("unchecked")
+  private static Optional<TokenEvaluator<Object>> findEvaluator(Class<?> targetClass) {
     return EVALUATORS.stream()
         .filter(e -> e.getTargetType().isAssignableFrom(targetClass))
         .map(e -> (TokenEvaluator<Object>) e)
@@ -8,8 +8,8 @@ package com.opengamma.strata.report.trade;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableTable;
 import com.opengamma.strata.calc.Column;
@@ -65,9 +65,9 @@ public final class TradeReportRunner
       if (reportColumn.getValue().isPresent()) {
         columnResults = ValuePathEvaluator.evaluate(reportColumn.getValue().get(), results);
       } else {
-        columnResults = IntStream.range(0, results.getTargets().size())
-            .mapToObj(i -> Result.failure(FailureReason.INVALID, "No value specified in report template"))
-            .collect(toImmutableList());
+        columnResults = Collections.nCopies(
+            results.getTargets().size(),
+            Result.failure(FailureReason.INVALID, "No value specified in report template"));
       }
       int rowCount = results.getCalculationResults().getRowCount();
 
@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Set;
 
 import org.joda.beans.Bean;
+import org.joda.beans.impl.flexi.FlexiBean;
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
@@ -45,6 +46,30 @@ public class BeanTokenEvaluatorTest {
     assertThat(notional2.getResult()).hasValue(1_000_000d);
   }
 
+  @Test
+  public void evaluate_sameTypeDifferentBeans() {
+    Fra bean1 = (Fra) bean();
+    Fra bean2 = bean1.toBuilder().notional(2_000_000).build();
+    BeanTokenEvaluator evaluator = new BeanTokenEvaluator();
+
+    assertThat(evaluator.evaluate(bean1, FUNCTIONS, "notional", ImmutableList.of()).getResult()).hasValue(1_000_000d);
+    assertThat(evaluator.evaluate(bean2, FUNCTIONS, "NOTIONAL", ImmutableList.of()).getResult()).hasValue(2_000_000d);
+    assertThat(evaluator.evaluate(bean1, FUNCTIONS, "notional", ImmutableList.of()).getResult()).hasValue(1_000_000d);
+    assertThat(evaluator.evaluate(bean2, FUNCTIONS, "foo", ImmutableList.of()).getResult().isFailure()).isTrue();
+    assertThat(evaluator.evaluate(bean2, FUNCTIONS, "foo", ImmutableList.of()).getResult().isFailure()).isTrue();
+  }
+
+  @Test
+  public void evaluate_mutableBean() {
+    FlexiBean bean = new FlexiBean();
+    bean.put("foo", "bar");
+    BeanTokenEvaluator evaluator = new BeanTokenEvaluator();
+
+    assertThat(evaluator.evaluate(bean, FUNCTIONS, "Foo", ImmutableList.of()).getResult()).hasValue("bar");
+    bean.put("baz", 3);
+    assertThat(evaluator.evaluate(bean, FUNCTIONS, "baz", ImmutableList.of()).getResult()).hasValue(3);
+  }
+
   @Test
   public void tokens() {
     Bean bean = bean();